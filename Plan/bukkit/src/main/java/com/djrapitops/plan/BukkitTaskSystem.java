@@ -18,11 +18,15 @@ package com.djrapitops.plan;
 
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.ExtensionServerMethodCallerTask;
+import com.djrapitops.plan.gathering.BukkitSensor;
 import com.djrapitops.plan.gathering.ShutdownHook;
+import com.djrapitops.plan.gathering.listeners.bukkit.BukkitAFKListener;
 import com.djrapitops.plan.gathering.timed.BukkitPingCounter;
+import com.djrapitops.plan.gathering.timed.BukkitWorldCounter;
 import com.djrapitops.plan.gathering.timed.ServerTPSCounter;
 import com.djrapitops.plan.gathering.timed.SystemUsageBuffer;
 import com.djrapitops.plan.gathering.timed.TPSCounter;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
@@ -48,10 +52,14 @@ public class BukkitTaskSystem extends TaskSystem {
 
     private final Plan plugin;
     private final PlanConfig config;
+    private final ServerInfo serverInfo;
     private final ShutdownHook shutdownHook;
     private final JSONCache.CleanTask jsonCacheCleanTask;
     private final LogsFolderCleanTask logsFolderCleanTask;
     private final BukkitPingCounter pingCounter;
+    private final BukkitSensor sensor;
+    private final BukkitWorldCounter worldCounter;
+    private final BukkitAFKListener afkListener;
     private final ConfigStoreTask configStoreTask;
     private final DBCleanTask dbCleanTask;
     private final ExtensionServerMethodCallerTask extensionServerMethodCallerTask;
@@ -65,9 +73,13 @@ public class BukkitTaskSystem extends TaskSystem {
             PlanConfig config,
             ShutdownHook shutdownHook,
             RunnableFactory runnableFactory,
+            ServerInfo serverInfo,
 
             ServerTPSCounter<World> tpsCounter,
             BukkitPingCounter pingCounter,
+            BukkitSensor sensor,
+            BukkitWorldCounter worldCounter,
+            BukkitAFKListener afkListener,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask,
 
             LogsFolderCleanTask logsFolderCleanTask,
@@ -80,11 +92,15 @@ public class BukkitTaskSystem extends TaskSystem {
         super(runnableFactory);
         this.plugin = plugin;
         this.config = config;
+        this.serverInfo = serverInfo;
         this.shutdownHook = shutdownHook;
         this.jsonCacheCleanTask = jsonCacheCleanTask;
 
         this.tpsCounter = tpsCounter;
         this.pingCounter = pingCounter;
+        this.sensor = sensor;
+        this.worldCounter = worldCounter;
+        this.afkListener = afkListener;
         this.extensionServerMethodCallerTask = extensionServerMethodCallerTask;
 
         this.logsFolderCleanTask = logsFolderCleanTask;
@@ -96,8 +112,10 @@ public class BukkitTaskSystem extends TaskSystem {
 
     @Override
     public void enable() {
+        registerWorldCounter();
         registerTPSCounter();
         registerPingCounter();
+        registerAFKTimeAccrualTask();
         registerExtensionDataGatheringTask();
         registerUpkeepTasks();
 
@@ -106,11 +124,13 @@ public class BukkitTaskSystem extends TaskSystem {
 
     private void registerUpkeepTasks() {
         // +40 ticks / 2 seconds so that update check task runs first.
-        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40;
+        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40
+                + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(1L, TimeUnit.MINUTES));
         registerTask(configStoreTask).runTaskLaterAsynchronously(storeDelay);
         registerTask(logsFolderCleanTask).runTaskLaterAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS));
+        // Offset up to 10 minutes so that servers of a network do not clean the database at the same time.
         registerTask(dbCleanTask).runTaskTimerAsynchronously(
-                TimeAmount.toTicks(20, TimeUnit.SECONDS),
+                TimeAmount.toTicks(20, TimeUnit.SECONDS) + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(10, TimeUnit.MINUTES)),
                 TimeAmount.toTicks(config.get(TimeSettings.CLEAN_DATABASE_PERIOD), TimeUnit.MILLISECONDS)
         );
         long minute = TimeAmount.toTicks(1, TimeUnit.MINUTES);
@@ -121,9 +141,20 @@ public class BukkitTaskSystem extends TaskSystem {
         long halfSecondTicks = TimeAmount.toTicks(500L, TimeUnit.MILLISECONDS);
         long secondTicks = TimeAmount.toTicks(1L, TimeUnit.SECONDS);
         long minuteTicks = TimeAmount.toTicks(1L, TimeUnit.MINUTES);
-        registerTask(tpsCounter).runTaskTimer(minuteTicks, secondTicks);
-        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks, secondTicks);
-        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks, minuteTicks);
+        // Offset within the minute so that servers of a network do not store their TPS at the same time.
+        long phaseOffset = getPhaseOffset(serverInfo.getServerUUID(), minuteTicks);
+        registerTask(tpsCounter).runTaskTimer(minuteTicks + phaseOffset, secondTicks);
+        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks + phaseOffset, secondTicks);
+        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks + phaseOffset, minuteTicks);
+    }
+
+    private void registerWorldCounter() {
+        if (sensor.isCountingIncrementally()) {
+            plugin.registerListener(worldCounter);
+            worldCounter.countLoadedWorlds(plugin.getServer().getWorlds());
+            long secondTicks = TimeAmount.toTicks(1L, TimeUnit.SECONDS);
+            registerTask(worldCounter).runTaskTimer(secondTicks, secondTicks);
+        }
     }
 
     private void registerPingCounter() {
@@ -131,14 +162,19 @@ public class BukkitTaskSystem extends TaskSystem {
             Long pingDelay = config.get(TimeSettings.PING_SERVER_ENABLE_DELAY);
             if (pingDelay < TimeUnit.HOURS.toMillis(1L) && config.isTrue(DataGatheringSettings.PING)) {
                 plugin.registerListener(pingCounter);
-                long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS);
-                registerTask(pingCounter).runTaskTimer(startDelay, 40L);
+                long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS) + getPhaseOffset(serverInfo.getServerUUID(), 40L);
+                registerTask(pingCounter).runTaskTimerAsynchronously(startDelay, 40L);
             }
         } catch (ExceptionInInitializerError | NoClassDefFoundError ignore) {
             // Running CraftBukkit
         }
     }
 
+    private void registerAFKTimeAccrualTask() {
+        long tenSecondTicks = TimeAmount.toTicks(10L, TimeUnit.SECONDS);
+        registerTask(afkListener.createAccrualTask()).runTaskTimerAsynchronously(tenSecondTicks, tenSecondTicks);
+    }
+
     private void registerExtensionDataGatheringTask() {
         long extensionRefreshPeriod = TimeAmount.toTicks(config.get(TimeSettings.EXTENSION_DATA_REFRESH_PERIOD), TimeUnit.MILLISECONDS);
         registerTask(extensionServerMethodCallerTask).runTaskTimerAsynchronously(
@@ -150,5 +186,6 @@ public class BukkitTaskSystem extends TaskSystem {
     public void disable() {
         super.disable();
         Bukkit.getScheduler().cancelTasks(plugin);
+        pingCounter.storeAggregates();
     }
 }
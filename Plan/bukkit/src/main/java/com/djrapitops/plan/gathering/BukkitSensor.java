@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering;
 
 import com.djrapitops.plan.Plan;
+import com.djrapitops.plan.gathering.timed.BukkitWorldCounter;
 import com.djrapitops.plugin.api.Check;
 import org.bukkit.Server;
 import org.bukkit.World;
@@ -28,6 +29,7 @@ import javax.inject.Singleton;
 public class BukkitSensor implements ServerSensor<World> {
 
     private final Plan plugin;
+    private final BukkitWorldCounter worldCounter;
 
     private final boolean hasTPSMethod;
     private final boolean hasEntityCountMethod;
@@ -35,9 +37,11 @@ public class BukkitSensor implements ServerSensor<World> {
 
     @Inject
     public BukkitSensor(
-            Plan plugin
+            Plan plugin,
+            BukkitWorldCounter worldCounter
     ) {
         this.plugin = plugin;
+        this.worldCounter = worldCounter;
         boolean hasPaper = Check.isPaperAvailable();
         hasTPSMethod = hasPaper && hasPaperMethod(Server.class, "getTPS");
         hasEntityCountMethod = hasPaper && hasPaperMethod(World.class, "getEntityCount");
@@ -66,6 +70,28 @@ public class BukkitSensor implements ServerSensor<World> {
         return getChunkCountSpigotWay(world);
     }
 
+    /**
+     * Check if chunks or entities are counted incrementally with {@link BukkitWorldCounter}.
+     * <p>
+     * Paper can count them without allocating arrays of every loaded chunk and entity,
+     * so the counter is only needed when Paper methods are not available.
+     *
+     * @return true if the world counter should be registered.
+     */
+    public boolean isCountingIncrementally() {
+        return !hasChunkCountMethod || !hasEntityCountMethod;
+    }
+
+    @Override
+    public int getChunkCount() {
+        return hasChunkCountMethod ? ServerSensor.super.getChunkCount() : worldCounter.getChunkCount();
+    }
+
+    @Override
+    public int getEntityCount() {
+        return hasEntityCountMethod ? ServerSensor.super.getEntityCount() : worldCounter.getEntityCount();
+    }
+
     private int getChunkCountSpigotWay(World world) {
         return world.getLoadedChunks().length;
     }
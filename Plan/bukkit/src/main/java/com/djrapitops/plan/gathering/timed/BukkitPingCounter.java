@@ -23,17 +23,16 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
 import com.djrapitops.plan.utilities.java.Reflection;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -47,6 +46,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -82,10 +82,13 @@ public class BukkitPingCounter extends AbsRunnable implements Listener {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.runnableFactory = runnableFactory;
-        playerHistory = new HashMap<>();
+        playerHistory = new ConcurrentHashMap<>();
+        aggregates = new HashMap<>();
     }
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<Player, PingBuffer> playerHistory;
+    private final Map<UUID, List<Ping>> aggregates;
+    private int samplingRounds;
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
@@ -136,40 +139,49 @@ public class BukkitPingCounter extends AbsRunnable implements Listener {
     }
 
     @Override
-    public void run() {
+    public synchronized void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null) {
-                int ping = getPing(player);
-                if (ping < -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
-            } else {
-                iterator.remove();
+
+        // Players are removed on quit, so the server's player list is not accessed outside the server thread.
+        for (Map.Entry<Player, PingBuffer> entry : playerHistory.entrySet()) {
+            Player player = entry.getKey();
+            PingBuffer history = entry.getValue();
+            int ping = getPing(player);
+            if (ping < -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
+                // Don't accept bad values
+                continue;
             }
+            if (history.add(time, ping)) {
+                aggregates.computeIfAbsent(player.getUniqueId(), key -> new ArrayList<>()).add(history.aggregate(serverInfo.getServerUUID()));
+            }
+        }
+
+        samplingRounds++;
+        if (samplingRounds >= PingBuffer.SAMPLE_COUNT) {
+            storeAggregates();
+        }
+    }
+
+    /**
+     * Store the finished ping aggregates that have not been stored yet.
+     * <p>
+     * Called when the task is cancelled so that up to a minute of ping data is not lost on shutdown.
+     */
+    public synchronized void storeAggregates() {
+        samplingRounds = 0;
+        if (aggregates.isEmpty()) {
+            return;
         }
+        dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(new HashMap<>(aggregates)));
+        aggregates.clear();
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player, new PingBuffer());
     }
 
     public void removePlayer(Player player) {
-        playerHistory.remove(player.getUniqueId());
+        playerHistory.remove(player);
     }
 
     private int getPing(Player player) {
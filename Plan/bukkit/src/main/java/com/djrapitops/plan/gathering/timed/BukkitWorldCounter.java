@@ -0,0 +1,188 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plugin.task.AbsRunnable;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+
+/**
+ * Keeps count of loaded chunks and entities on Bukkit servers without going through every world at once.
+ * <p>
+ * Chunks are counted from load and unload events. Entities are counted per chunk when the chunk loads,
+ * and the loaded chunks are recounted a few at a time so that each chunk is recounted about once a minute.
+ * <p>
+ * Events and the recount task are run on the server thread.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class BukkitWorldCounter extends AbsRunnable implements Listener {
+
+    private static final int RECOUNT_RUNS_PER_CYCLE = 60;
+
+    private final Map<UUID, Map<Long, ChunkCount>> chunksByWorld;
+    private final Queue<ChunkCount> recountQueue;
+
+    private volatile int chunkCount;
+    private volatile int entityCount;
+
+    @Inject
+    public BukkitWorldCounter() {
+        chunksByWorld = new HashMap<>();
+        recountQueue = new ArrayDeque<>();
+    }
+
+    static long getChunkKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Count chunks and entities of worlds that were loaded before the events were listened to.
+     *
+     * @param worlds Currently loaded worlds.
+     */
+    public void countLoadedWorlds(Iterable<World> worlds) {
+        for (World world : worlds) {
+            countWorld(world);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        countWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        forgetWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        chunkLoaded(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        chunkUnloaded(event.getChunk());
+    }
+
+    private void countWorld(World world) {
+        forgetWorld(world);
+        for (Chunk chunk : world.getLoadedChunks()) {
+            chunkLoaded(chunk);
+        }
+    }
+
+    private void forgetWorld(World world) {
+        Map<Long, ChunkCount> chunks = chunksByWorld.remove(world.getUID());
+        if (chunks == null) return;
+        for (ChunkCount count : chunks.values()) {
+            forget(count);
+        }
+    }
+
+    private void chunkLoaded(Chunk chunk) {
+        World world = chunk.getWorld();
+        Map<Long, ChunkCount> chunks = chunksByWorld.computeIfAbsent(world.getUID(), uid -> new HashMap<>());
+        ChunkCount count = new ChunkCount(world, chunk.getX(), chunk.getZ());
+        ChunkCount previous = chunks.put(getChunkKey(count.x, count.z), count);
+        if (previous != null) {
+            forget(previous);
+        }
+
+        chunkCount++;
+        count.entities = chunk.getEntities().length;
+        entityCount += count.entities;
+        recountQueue.add(count);
+    }
+
+    private void chunkUnloaded(Chunk chunk) {
+        Map<Long, ChunkCount> chunks = chunksByWorld.get(chunk.getWorld().getUID());
+        if (chunks == null) return;
+        ChunkCount count = chunks.remove(getChunkKey(chunk.getX(), chunk.getZ()));
+        if (count != null) {
+            forget(count);
+        }
+    }
+
+    private void forget(ChunkCount count) {
+        // Forgotten counts are left in the recount queue and dropped when they come up.
+        count.loaded = false;
+        chunkCount--;
+        entityCount -= count.entities;
+    }
+
+    /**
+     * Recount entities in the next chunks of the recount queue.
+     */
+    @Override
+    public void run() {
+        int toRecount = Math.min(recountQueue.size(), (chunkCount + RECOUNT_RUNS_PER_CYCLE - 1) / RECOUNT_RUNS_PER_CYCLE);
+        for (int i = 0; i < toRecount; i++) {
+            ChunkCount count = recountQueue.poll();
+            if (count == null || !count.loaded) continue;
+            if (!count.world.isChunkLoaded(count.x, count.z)) {
+                // Unload event was missed
+                Map<Long, ChunkCount> chunks = chunksByWorld.get(count.world.getUID());
+                if (chunks != null) chunks.remove(getChunkKey(count.x, count.z));
+                forget(count);
+                continue;
+            }
+
+            int entities = count.world.getChunkAt(count.x, count.z).getEntities().length;
+            entityCount += entities - count.entities;
+            count.entities = entities;
+            recountQueue.add(count);
+        }
+    }
+
+    private static class ChunkCount {
+        final World world;
+        final int x;
+        final int z;
+        int entities;
+        boolean loaded;
+
+        ChunkCount(World world, int x, int z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+            this.loaded = true;
+        }
+    }
+}
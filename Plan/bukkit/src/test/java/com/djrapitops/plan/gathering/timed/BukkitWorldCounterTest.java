@@ -0,0 +1,117 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link BukkitWorldCounter}.
+ *
+ * @author Rsl1122
+ */
+class BukkitWorldCounterTest {
+
+    private World world;
+    private BukkitWorldCounter underTest;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        underTest = new BukkitWorldCounter();
+    }
+
+    private Chunk mockChunk(int x, int z, int entities) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.getWorld()).thenReturn(world);
+        when(chunk.getX()).thenReturn(x);
+        when(chunk.getZ()).thenReturn(z);
+        when(chunk.getEntities()).thenReturn(new Entity[entities]);
+        return chunk;
+    }
+
+    @Test
+    void loadedWorldsAreCounted() {
+        when(world.getLoadedChunks()).thenReturn(new Chunk[]{mockChunk(0, 0, 3), mockChunk(0, 1, 2)});
+
+        underTest.countLoadedWorlds(Collections.singletonList(world));
+
+        assertEquals(2, underTest.getChunkCount());
+        assertEquals(5, underTest.getEntityCount());
+    }
+
+    @Test
+    void chunkLoadsAndUnloadsAreCounted() {
+        Chunk chunk = mockChunk(5, -5, 4);
+        underTest.onChunkLoad(new ChunkLoadEvent(chunk, false));
+        underTest.onChunkLoad(new ChunkLoadEvent(mockChunk(6, -5, 1), false));
+
+        assertEquals(2, underTest.getChunkCount());
+        assertEquals(5, underTest.getEntityCount());
+
+        underTest.onChunkUnload(new ChunkUnloadEvent(chunk));
+
+        assertEquals(1, underTest.getChunkCount());
+        assertEquals(1, underTest.getEntityCount());
+    }
+
+    @Test
+    void sameChunkIsNotCountedTwice() {
+        underTest.onChunkLoad(new ChunkLoadEvent(mockChunk(1, 1, 4), false));
+        underTest.onChunkLoad(new ChunkLoadEvent(mockChunk(1, 1, 4), false));
+
+        assertEquals(1, underTest.getChunkCount());
+        assertEquals(4, underTest.getEntityCount());
+    }
+
+    @Test
+    void entitiesAreRecounted() {
+        Chunk chunk = mockChunk(2, 3, 4);
+        underTest.onChunkLoad(new ChunkLoadEvent(chunk, false));
+
+        when(chunk.getEntities()).thenReturn(new Entity[10]);
+        when(world.isChunkLoaded(2, 3)).thenReturn(true);
+        when(world.getChunkAt(2, 3)).thenReturn(chunk);
+        underTest.run();
+
+        assertEquals(1, underTest.getChunkCount());
+        assertEquals(10, underTest.getEntityCount());
+    }
+
+    @Test
+    void chunksUnloadedWithoutEventAreForgottenOnRecount() {
+        underTest.onChunkLoad(new ChunkLoadEvent(mockChunk(2, 3, 4), false));
+
+        when(world.isChunkLoaded(2, 3)).thenReturn(false);
+        underTest.run();
+
+        assertEquals(0, underTest.getChunkCount());
+        assertEquals(0, underTest.getEntityCount());
+    }
+}
@@ -22,6 +22,7 @@ import com.djrapitops.plan.gathering.timed.BungeePingCounter;
 import com.djrapitops.plan.gathering.timed.ProxyTPSCounter;
 import com.djrapitops.plan.gathering.timed.SystemUsageBuffer;
 import com.djrapitops.plan.gathering.timed.TPSCounter;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
@@ -45,6 +46,7 @@ public class BungeeTaskSystem extends TaskSystem {
 
     private final PlanBungee plugin;
     private final PlanConfig config;
+    private final ServerInfo serverInfo;
     private final TPSCounter tpsCounter;
     private final BungeePingCounter pingCounter;
     private final LogsFolderCleanTask logsFolderCleanTask;
@@ -60,6 +62,7 @@ public class BungeeTaskSystem extends TaskSystem {
             PlanBungee plugin,
             PlanConfig config,
             RunnableFactory runnableFactory,
+            ServerInfo serverInfo,
             ProxyTPSCounter tpsCounter,
             BungeePingCounter pingCounter,
             LogsFolderCleanTask logsFolderCleanTask,
@@ -73,6 +76,7 @@ public class BungeeTaskSystem extends TaskSystem {
         super(runnableFactory);
         this.plugin = plugin;
         this.config = config;
+        this.serverInfo = serverInfo;
         this.tpsCounter = tpsCounter;
 
         this.pingCounter = pingCounter;
@@ -94,9 +98,11 @@ public class BungeeTaskSystem extends TaskSystem {
         long halfSecondTicks = TimeAmount.toTicks(500L, TimeUnit.MILLISECONDS);
         long secondTicks = TimeAmount.toTicks(1L, TimeUnit.SECONDS);
         long minuteTicks = TimeAmount.toTicks(1L, TimeUnit.MINUTES);
-        registerTask(tpsCounter).runTaskTimer(minuteTicks, secondTicks);
-        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks, secondTicks);
-        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks, minuteTicks);
+        // Offset within the minute so that servers of a network do not store their TPS at the same time.
+        long phaseOffset = getPhaseOffset(serverInfo.getServerUUID(), minuteTicks);
+        registerTask(tpsCounter).runTaskTimer(minuteTicks + phaseOffset, secondTicks);
+        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks + phaseOffset, secondTicks);
+        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks + phaseOffset, minuteTicks);
     }
 
     private void registerTasks() {
@@ -106,16 +112,18 @@ public class BungeeTaskSystem extends TaskSystem {
         Long pingDelay = config.get(TimeSettings.PING_SERVER_ENABLE_DELAY);
         if (pingDelay < TimeUnit.HOURS.toMillis(1L) && config.isTrue(DataGatheringSettings.PING)) {
             plugin.registerListener(pingCounter);
-            long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS);
+            long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS) + getPhaseOffset(serverInfo.getServerUUID(), 40L);
             registerTask(pingCounter).runTaskTimer(startDelay, 40L);
         }
 
         // +40 ticks / 2 seconds so that update check task runs first.
-        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40;
+        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40
+                + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(1L, TimeUnit.MINUTES));
         registerTask(networkConfigStoreTask).runTaskLaterAsynchronously(storeDelay);
 
+        // Offset up to 10 minutes so that servers of a network do not clean the database at the same time.
         registerTask(dbCleanTask).runTaskTimerAsynchronously(
-                TimeAmount.toTicks(20, TimeUnit.SECONDS),
+                TimeAmount.toTicks(20, TimeUnit.SECONDS) + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(10, TimeUnit.MINUTES)),
                 TimeAmount.toTicks(config.get(TimeSettings.CLEAN_DATABASE_PERIOD), TimeUnit.MILLISECONDS)
         );
         long minute = TimeAmount.toTicks(1, TimeUnit.MINUTES);
@@ -126,4 +134,10 @@ public class BungeeTaskSystem extends TaskSystem {
                 TimeAmount.toTicks(30, TimeUnit.SECONDS), extensionRefreshPeriod
         );
     }
+
+    @Override
+    public void disable() {
+        super.disable();
+        pingCounter.storeAggregates();
+    }
 }
@@ -22,18 +22,14 @@ import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.gathering.PlayerJoinQueue;
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.PlayerJoin;
 import com.djrapitops.plan.gathering.domain.Session;
-import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
-import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.events.GeoInfoStoreTransaction;
-import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
@@ -46,7 +42,6 @@ import net.md_5.bungee.event.EventHandler;
 import net.md_5.bungee.event.EventPriority;
 
 import javax.inject.Inject;
-import java.net.InetAddress;
 import java.util.UUID;
 
 /**
@@ -58,10 +53,9 @@ public class PlayerOnlineListener implements Listener {
 
     private final PlanConfig config;
     private final Processing processing;
-    private final DBSystem dbSystem;
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
-    private final GeolocationCache geolocationCache;
+    private final PlayerJoinQueue joinQueue;
     private final SessionCache sessionCache;
     private final ServerInfo serverInfo;
     private final ErrorLogger errorLogger;
@@ -70,19 +64,17 @@ public class PlayerOnlineListener implements Listener {
     public PlayerOnlineListener(
             PlanConfig config,
             Processing processing,
-            DBSystem dbSystem,
             ExtensionSvc extensionService,
-            Exporter exporter, GeolocationCache geolocationCache,
+            Exporter exporter, PlayerJoinQueue joinQueue,
             SessionCache sessionCache,
             ServerInfo serverInfo,
             ErrorLogger errorLogger
     ) {
         this.config = config;
         this.processing = processing;
-        this.dbSystem = dbSystem;
         this.extensionService = extensionService;
         this.exporter = exporter;
-        this.geolocationCache = geolocationCache;
+        this.joinQueue = joinQueue;
         this.sessionCache = sessionCache;
         this.serverInfo = serverInfo;
         this.errorLogger = errorLogger;
@@ -101,23 +93,14 @@ public class PlayerOnlineListener implements Listener {
         ProxiedPlayer player = event.getPlayer();
         UUID playerUUID = player.getUniqueId();
         String playerName = player.getName();
-        InetAddress address = player.getAddress().getAddress();
+        String address = player.getAddress().getAddress().getHostAddress();
         long time = System.currentTimeMillis();
 
         Session session = new Session(playerUUID, serverInfo.getServerUUID(), time, null, null);
         session.putRawData(SessionKeys.NAME, playerName);
         session.putRawData(SessionKeys.SERVER_NAME, "Proxy Server");
         sessionCache.cacheSession(playerUUID, session);
-        Database database = dbSystem.getDatabase();
-
-        boolean gatheringGeolocations = config.isTrue(DataGatheringSettings.GEOLOCATIONS);
-        if (gatheringGeolocations) {
-            database.executeTransaction(
-                    new GeoInfoStoreTransaction(playerUUID, address, time, geolocationCache::getCountry)
-            );
-        }
-
-        database.executeTransaction(new PlayerRegisterTransaction(playerUUID, () -> time, playerName));
+        joinQueue.queue(new PlayerJoin(playerUUID, playerName, () -> time, time).fromAddress(address));
         processing.submitNonCritical(() -> extensionService.updatePlayerValues(playerUUID, playerName, CallEvents.PLAYER_JOIN));
         if (config.isTrue(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
             processing.submitNonCritical(() -> exporter.exportPlayerPage(playerUUID, playerName));
@@ -152,6 +135,7 @@ public class PlayerOnlineListener implements Listener {
         String playerName = player.getName();
         UUID playerUUID = player.getUniqueId();
 
+        joinQueue.storeQueued(); // Join of the player is stored before the session
         sessionCache.endSession(playerUUID, System.currentTimeMillis());
         if (config.isTrue(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
             processing.submitNonCritical(() -> exporter.exportPlayerPage(playerUUID, playerName));
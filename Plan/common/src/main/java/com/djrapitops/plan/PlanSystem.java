@@ -25,6 +25,7 @@ import com.djrapitops.plan.delivery.webserver.NonProxyWebserverDisableChecker;
 import com.djrapitops.plan.delivery.webserver.WebServerSystem;
 import com.djrapitops.plan.extension.ExtensionService;
 import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.gathering.PlayerJoinQueue;
 import com.djrapitops.plan.gathering.cache.CacheSystem;
 import com.djrapitops.plan.gathering.importing.ImportSystem;
 import com.djrapitops.plan.gathering.listeners.ListenerSystem;
@@ -69,6 +70,7 @@ public class PlanSystem implements SubSystem {
     private final TaskSystem taskSystem;
     private final ServerInfo serverInfo;
     private final WebServerSystem webServerSystem;
+    private final PlayerJoinQueue playerJoinQueue;
 
     private final Processing processing;
 
@@ -96,6 +98,7 @@ public class PlanSystem implements SubSystem {
             TaskSystem taskSystem,
             ServerInfo serverInfo,
             WebServerSystem webServerSystem,
+            PlayerJoinQueue playerJoinQueue,
             Processing processing,
             ImportSystem importSystem,
             ExportSystem exportSystem,
@@ -120,6 +123,7 @@ public class PlanSystem implements SubSystem {
         this.taskSystem = taskSystem;
         this.serverInfo = serverInfo;
         this.webServerSystem = webServerSystem;
+        this.playerJoinQueue = playerJoinQueue;
         this.processing = processing;
         this.importSystem = importSystem;
         this.exportSystem = exportSystem;
@@ -198,6 +202,7 @@ public class PlanSystem implements SubSystem {
     @Override
     public void disable() {
         enabled = false;
+        storeQueuedJoins();
         disableSystems(
                 taskSystem,
                 cacheSystem,
@@ -215,6 +220,15 @@ public class PlanSystem implements SubSystem {
         );
     }
 
+    private void storeQueuedJoins() {
+        // Store task of the queue is cancelled when TaskSystem is disabled.
+        try {
+            playerJoinQueue.storeQueued();
+        } catch (Exception e) {
+            errorLogger.log(L.WARN, e, ErrorContext.builder().related("Storing queued player joins").build());
+        }
+    }
+
     private void disableSystems(SubSystem... systems) {
         for (SubSystem system : systems) {
             try {
@@ -20,6 +20,8 @@ import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.PluginRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
 
+import java.util.UUID;
+
 /**
  * TaskSystem that registers tasks that were previously registered inside Plugin classes.
  *
@@ -44,6 +46,22 @@ public abstract class TaskSystem implements SubSystem {
         return runnableFactory.create(name, runnable);
     }
 
+    /**
+     * Get a stable offset for the first run of a periodic task on this server.
+     * <p>
+     * Servers in a network start at the same time after a restart, and would otherwise run their periodic database
+     * tasks at the same time. The offset is derived from the server UUID so that it stays the same between restarts.
+     *
+     * @param serverUUID UUID of the server the task runs on.
+     * @param period     Period of the task in any unit.
+     * @return Offset between 0 (inclusive) and period (exclusive), in the same unit as the period.
+     */
+    public static long getPhaseOffset(UUID serverUUID, long period) {
+        if (serverUUID == null || period <= 1L) return 0L;
+        long hash = serverUUID.getMostSignificantBits() ^ serverUUID.getLeastSignificantBits();
+        return Math.floorMod(hash ^ (hash >>> 32), period);
+    }
+
     @Override
     public void disable() {
         runnableFactory.cancelAllKnownTasks();
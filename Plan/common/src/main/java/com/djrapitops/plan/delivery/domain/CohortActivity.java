@@ -0,0 +1,139 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration date of a player on a server and the days they played on during the first {@link #TRACKED_DAYS} days.
+ * <p>
+ * Bit {@code i} of the activity is set if the player had a session during the {@code i}th day (UTC) after the day
+ * they registered on, day 0 being the registration day.
+ *
+ * @author Rsl1122
+ */
+public class CohortActivity {
+
+    public static final int TRACKED_DAYS = Long.SIZE;
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+
+    private final UUID playerUUID;
+    private final UUID serverUUID;
+    private final long registered;
+    private final long activity;
+
+    public CohortActivity(UUID playerUUID, UUID serverUUID, long registered, long activity) {
+        this.playerUUID = playerUUID;
+        this.serverUUID = serverUUID;
+        this.registered = registered;
+        this.activity = activity;
+    }
+
+    /**
+     * Get the day number of a date.
+     *
+     * @param date Epoch ms.
+     * @return Days since epoch in UTC.
+     */
+    public static long getDay(long date) {
+        return Math.floorDiv(date, DAY_MS);
+    }
+
+    /**
+     * Calculate activity bits of a session.
+     *
+     * @param registered   Epoch ms the player registered on the server.
+     * @param sessionStart Epoch ms the session started.
+     * @param sessionEnd   Epoch ms the session ended.
+     * @return Bits of the tracked days the session overlaps, 0 if it is outside the tracked days.
+     */
+    public static long activityBits(long registered, long sessionStart, long sessionEnd) {
+        long registerDay = getDay(registered);
+        return daysMask(getDay(sessionStart) - registerDay, getDay(sessionEnd) - registerDay);
+    }
+
+    private static long daysMask(long fromDay, long toDay) {
+        long from = Math.max(fromDay, 0L);
+        long to = Math.min(toDay, TRACKED_DAYS - 1L);
+        if (to < from) return 0L;
+        long upToTo = to == TRACKED_DAYS - 1L ? -1L : (1L << (to + 1)) - 1L;
+        return upToTo & (-1L << from);
+    }
+
+    public CohortActivity withSession(long sessionStart, long sessionEnd) {
+        return new CohortActivity(playerUUID, serverUUID, registered, activity | activityBits(registered, sessionStart, sessionEnd));
+    }
+
+    /**
+     * Check if the player played on any day overlapping a date range.
+     * <p>
+     * Only the tracked days after registration are known, so ranges more than {@link #TRACKED_DAYS} days after
+     * registration are never active.
+     *
+     * @param after  Epoch ms.
+     * @param before Epoch ms.
+     * @return true if the player had a session during a day that overlaps the range.
+     */
+    public boolean isActiveBetween(long after, long before) {
+        long registerDay = getDay(registered);
+        return (activity & daysMask(getDay(after) - registerDay, getDay(before) - registerDay)) != 0L;
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public UUID getServerUUID() {
+        return serverUUID;
+    }
+
+    public long getRegistered() {
+        return registered;
+    }
+
+    public long getActivity() {
+        return activity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CohortActivity that = (CohortActivity) o;
+        return registered == that.registered &&
+                activity == that.activity &&
+                Objects.equals(playerUUID, that.playerUUID) &&
+                Objects.equals(serverUUID, that.serverUUID);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerUUID, serverUUID, registered, activity);
+    }
+
+    @Override
+    public String toString() {
+        return "CohortActivity{" +
+                "playerUUID=" + playerUUID +
+                ", serverUUID=" + serverUUID +
+                ", registered=" + registered +
+                ", activity=" + Long.toBinaryString(activity) +
+                '}';
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.*;
+
+/**
+ * Top players of a {@link LeaderboardMetric}, bounded to a fixed amount of entries.
+ * <p>
+ * Values are kept in a min-heap so that offering a value that does not make it to the board is a single comparison.
+ * Each metric only grows for a player, so a new value for a player on the board replaces their old entry.
+ * Reads return an immutable list that is only rebuilt when the board changes.
+ *
+ * @author Rsl1122
+ */
+public class Leaderboard {
+
+    private static final Comparator<Entry> LOWEST_FIRST = Comparator.comparingLong(Entry::getValue)
+            .thenComparing(Entry::getPlayerName, Comparator.reverseOrder());
+
+    private final int size;
+    private final PriorityQueue<Entry> heap;
+    private final Map<UUID, Entry> byPlayer;
+
+    private volatile List<Entry> ranking;
+
+    public Leaderboard(int size) {
+        this.size = Math.max(size, 1);
+        heap = new PriorityQueue<>(this.size, LOWEST_FIRST);
+        byPlayer = new HashMap<>();
+        ranking = Collections.emptyList();
+    }
+
+    /**
+     * Offer a new value of a player to the board.
+     *
+     * @param playerUUID UUID of the player.
+     * @param playerName Name of the player.
+     * @param value      Current value of the metric for the player.
+     * @return true if the board changed.
+     */
+    public synchronized boolean offer(UUID playerUUID, String playerName, long value) {
+        Entry previous = byPlayer.get(playerUUID);
+        if (previous != null) {
+            if (previous.value == value && previous.playerName.equals(playerName)) {
+                return false;
+            }
+            heap.remove(previous);
+            byPlayer.remove(playerUUID);
+        } else if (heap.size() >= size) {
+            Entry lowest = heap.peek();
+            if (lowest == null || value <= lowest.value) {
+                return false;
+            }
+            heap.poll();
+            byPlayer.remove(lowest.playerUUID);
+        }
+        Entry entry = new Entry(playerUUID, playerName, value);
+        heap.add(entry);
+        byPlayer.put(playerUUID, entry);
+        updateRanking();
+        return true;
+    }
+
+    /**
+     * Replace the whole board, used when the board is calculated from scratch.
+     *
+     * @param entries Entries in any order, only the highest values that fit the board are kept.
+     */
+    public synchronized void replaceWith(Collection<Entry> entries) {
+        heap.clear();
+        byPlayer.clear();
+        for (Entry entry : entries) {
+            Entry previous = byPlayer.get(entry.playerUUID);
+            if (previous != null && previous.value >= entry.value) continue;
+            if (previous != null) heap.remove(previous);
+            heap.add(entry);
+            byPlayer.put(entry.playerUUID, entry);
+            if (heap.size() > size) {
+                byPlayer.remove(heap.poll().playerUUID);
+            }
+        }
+        updateRanking();
+    }
+
+    private void updateRanking() {
+        List<Entry> sorted = new ArrayList<>(heap);
+        sorted.sort(LOWEST_FIRST.reversed());
+        ranking = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Get the entries of the board.
+     *
+     * @return Immutable list, highest value first.
+     */
+    public List<Entry> getRanking() {
+        return ranking;
+    }
+
+    /**
+     * Get entry at a rank.
+     *
+     * @param rank Rank starting from 1.
+     * @return The entry, or empty if there is no player at that rank.
+     */
+    public Optional<Entry> getEntry(int rank) {
+        List<Entry> current = ranking;
+        return rank >= 1 && rank <= current.size() ? Optional.of(current.get(rank - 1)) : Optional.empty();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public static class Entry {
+        private final UUID playerUUID;
+        private final String playerName;
+        private final long value;
+
+        public Entry(UUID playerUUID, String playerName, long value) {
+            this.playerUUID = playerUUID;
+            this.playerName = playerName != null ? playerName : playerUUID.toString();
+            this.value = value;
+        }
+
+        public UUID getPlayerUUID() {
+            return playerUUID;
+        }
+
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Entry entry = (Entry) o;
+            return value == entry.value &&
+                    Objects.equals(playerUUID, entry.playerUUID) &&
+                    Objects.equals(playerName, entry.playerName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerUUID, playerName, value);
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" + playerName + '=' + value + '}';
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Optional;
+
+/**
+ * Values players are ranked by in a {@link Leaderboard}.
+ *
+ * @author Rsl1122
+ */
+public enum LeaderboardMetric {
+    PLAYTIME("playtime", true),
+    ACTIVE_PLAYTIME("active_playtime", true),
+    PLAYER_KILLS("player_kills", false),
+    SESSIONS("sessions", false);
+
+    private final String name;
+    private final boolean timeAmount;
+
+    LeaderboardMetric(String name, boolean timeAmount) {
+        this.name = name;
+        this.timeAmount = timeAmount;
+    }
+
+    public static Optional<LeaderboardMetric> getForName(String name) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.name.equalsIgnoreCase(name)) {
+                return Optional.of(metric);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Check if the values of this metric are time amounts in milliseconds.
+     *
+     * @return true if values should be formatted as time amounts, false if they are counts.
+     */
+    public boolean isTimeAmount() {
+        return timeAmount;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cohort retention matrix calculated from {@link CohortActivity}.
+ * <p>
+ * Players are grouped into cohorts by the period they registered on, and for each cohort the matrix contains the
+ * amount of players who played during each period after their registration.
+ * Periods are relative to the registration day of each player, periods that have not ended for every player of a
+ * cohort are included as they are.
+ *
+ * @author Rsl1122
+ */
+public class RetentionMatrix {
+
+    private final int periodDays;
+    private final int periodCount;
+    private final NavigableMap<Long, Cohort> cohorts;
+
+    private RetentionMatrix(int periodDays, int periodCount, NavigableMap<Long, Cohort> cohorts) {
+        this.periodDays = periodDays;
+        this.periodCount = periodCount;
+        this.cohorts = cohorts;
+    }
+
+    /**
+     * Calculate the matrix.
+     *
+     * @param activities Activity of players, each one is placed in the cohort of their registration date.
+     * @param periodDays Length of a cohort and a period in days, for example 1 or 7.
+     * @return The matrix.
+     */
+    public static RetentionMatrix calculate(Collection<CohortActivity> activities, int periodDays) {
+        if (periodDays < 1 || periodDays > CohortActivity.TRACKED_DAYS) {
+            throw new IllegalArgumentException("Period length must be between 1 and " + CohortActivity.TRACKED_DAYS + " days");
+        }
+        int periodCount = CohortActivity.TRACKED_DAYS / periodDays;
+
+        NavigableMap<Long, Cohort> cohorts = new TreeMap<>();
+        for (CohortActivity activity : activities) {
+            long cohortDay = Math.floorDiv(CohortActivity.getDay(activity.getRegistered()), periodDays) * periodDays;
+            Cohort cohort = cohorts.computeIfAbsent(cohortDay, day -> new Cohort(day, periodCount));
+            cohort.size++;
+            long registerDayStart = TimeUnit.DAYS.toMillis(CohortActivity.getDay(activity.getRegistered()));
+            for (int period = 0; period < periodCount; period++) {
+                long periodStart = registerDayStart + TimeUnit.DAYS.toMillis((long) period * periodDays);
+                if (activity.isActiveBetween(periodStart, periodStart + TimeUnit.DAYS.toMillis(periodDays) - 1L)) {
+                    cohort.activePlayers[period]++;
+                }
+            }
+        }
+        return new RetentionMatrix(periodDays, periodCount, cohorts);
+    }
+
+    public int getPeriodDays() {
+        return periodDays;
+    }
+
+    public int getPeriodCount() {
+        return periodCount;
+    }
+
+    /**
+     * Get the cohorts.
+     *
+     * @return Cohorts in order of registration.
+     */
+    public Collection<Cohort> getCohorts() {
+        return Collections.unmodifiableCollection(cohorts.values());
+    }
+
+    public static class Cohort {
+        private final long day;
+        private final int[] activePlayers;
+        private int size;
+
+        Cohort(long day, int periodCount) {
+            this.day = day;
+            this.activePlayers = new int[periodCount];
+        }
+
+        /**
+         * Get the date of the first day of the cohort.
+         *
+         * @return Epoch ms of the start of the day in UTC.
+         */
+        public long getStart() {
+            return TimeUnit.DAYS.toMillis(day);
+        }
+
+        /**
+         * Get the amount of players who registered during the cohort.
+         *
+         * @return Player count.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Get the amount of players who played during a period after registering.
+         *
+         * @param period Index of the period, 0 is the period that starts on the registration day.
+         * @return Player count.
+         */
+        public int getActivePlayers(int period) {
+            return activePlayers[period];
+        }
+
+        public double getRetention(int period) {
+            return size != 0 ? (double) activePlayers[period] / size : 0.0;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sessions of a server stored in primitive arrays for fast range calculations.
+ * <p>
+ * Instances are immutable, {@link #merge(SessionColumns, long, int)} creates a new instance.
+ * Every session that ended after {@link #getRetainedAfter()} is included, so ranges starting after it
+ * give the same results as the equivalent SQL queries.
+ * <p>
+ * Ranges use the same rules as the queries they replace:
+ * sums and counts include sessions that overlap the range,
+ * unique players and per player averages only include sessions fully inside the range.
+ *
+ * @author Rsl1122
+ */
+public class SessionColumns {
+
+    private final int size;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] afkTimes;
+    private final int[] playerIndexes;
+    private final int[] mobKills;
+    private final int[] deaths;
+    private final UUID[] players;
+
+    private final int maxId;
+    private final long retainedAfter;
+
+    private SessionColumns(Builder builder, long retainedAfter) {
+        size = builder.size;
+        starts = Arrays.copyOf(builder.starts, size);
+        ends = Arrays.copyOf(builder.ends, size);
+        afkTimes = Arrays.copyOf(builder.afkTimes, size);
+        playerIndexes = Arrays.copyOf(builder.playerIndexes, size);
+        mobKills = Arrays.copyOf(builder.mobKills, size);
+        deaths = Arrays.copyOf(builder.deaths, size);
+        players = builder.players.toArray(new UUID[0]);
+        maxId = builder.maxId;
+        this.retainedAfter = retainedAfter;
+    }
+
+    public static Builder builder() {
+        return new Builder(64);
+    }
+
+    public static SessionColumns empty() {
+        return builder().build(Long.MAX_VALUE);
+    }
+
+    /**
+     * Drop old sessions.
+     *
+     * @param retainAfter Epoch ms, sessions ending before this are dropped.
+     * @param maxSessions Maximum number of sessions to keep, sessions that ended first are dropped over the limit.
+     * @return New instance with the remaining sessions.
+     */
+    public SessionColumns retain(long retainAfter, int maxSessions) {
+        return merge(empty(), retainAfter, maxSessions);
+    }
+
+    /**
+     * Combine with sessions fetched later and drop old sessions.
+     *
+     * @param newer       Sessions with higher IDs than the sessions in this instance.
+     * @param retainAfter Epoch ms, sessions ending before this are dropped.
+     * @param maxSessions Maximum number of sessions to keep, sessions that ended first are dropped over the limit.
+     * @return New instance with the sessions of both.
+     */
+    public SessionColumns merge(SessionColumns newer, long retainAfter, int maxSessions) {
+        // Sessions dropped earlier can not be brought back
+        long cutoff = Math.max(retainAfter, retainedAfter);
+        int retained = countEndingAfter(cutoff) + newer.countEndingAfter(cutoff);
+        if (retained > maxSessions) {
+            long[] retainedEnds = new long[retained];
+            int i = copyEndsAfter(cutoff, retainedEnds, 0);
+            newer.copyEndsAfter(cutoff, retainedEnds, i);
+            Arrays.sort(retainedEnds);
+            cutoff = maxSessions > 0 ? retainedEnds[retained - maxSessions - 1] + 1 : Long.MAX_VALUE;
+        }
+
+        Builder builder = new Builder(Math.min(retained, Math.max(maxSessions, 1)));
+        builder.maxId = Math.max(maxId, newer.maxId);
+        addEndingAfter(cutoff, builder);
+        newer.addEndingAfter(cutoff, builder);
+        return builder.build(cutoff);
+    }
+
+    private int countEndingAfter(long cutoff) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (ends[i] >= cutoff) count++;
+        }
+        return count;
+    }
+
+    private int copyEndsAfter(long cutoff, long[] to, int offset) {
+        int index = offset;
+        for (int i = 0; i < size; i++) {
+            if (ends[i] >= cutoff) to[index++] = ends[i];
+        }
+        return index;
+    }
+
+    private void addEndingAfter(long cutoff, Builder builder) {
+        for (int i = 0; i < size; i++) {
+            if (ends[i] >= cutoff) {
+                builder.add(players[playerIndexes[i]], starts[i], ends[i], afkTimes[i], mobKills[i], deaths[i]);
+            }
+        }
+    }
+
+    /**
+     * Check if a range starting from a date can be calculated from these sessions.
+     *
+     * @param after Epoch ms, start of the range.
+     * @return true if every session that could be in the range is included.
+     */
+    public boolean covers(long after) {
+        return after >= retainedAfter;
+    }
+
+    public long getRetainedAfter() {
+        return retainedAfter;
+    }
+
+    public int getMaxId() {
+        return maxId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean overlaps(int i, long after, long before) {
+        return ends[i] >= after && starts[i] <= before;
+    }
+
+    private boolean isWithin(int i, long after, long before) {
+        return starts[i] >= after && ends[i] <= before;
+    }
+
+    public long sessionCount(long after, long before) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (overlaps(i, after, before)) count++;
+        }
+        return count;
+    }
+
+    public long playtime(long after, long before) {
+        long playtime = 0;
+        for (int i = 0; i < size; i++) {
+            if (overlaps(i, after, before)) playtime += ends[i] - starts[i];
+        }
+        return playtime;
+    }
+
+    public long afkTime(long after, long before) {
+        long afkTime = 0;
+        for (int i = 0; i < size; i++) {
+            if (overlaps(i, after, before)) afkTime += afkTimes[i];
+        }
+        return afkTime;
+    }
+
+    public long mobKillCount(long after, long before) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (overlaps(i, after, before)) count += mobKills[i];
+        }
+        return count;
+    }
+
+    public long deathCount(long after, long before) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (overlaps(i, after, before)) count += deaths[i];
+        }
+        return count;
+    }
+
+    public int uniquePlayerCount(long after, long before) {
+        BitSet seen = new BitSet(players.length);
+        for (int i = 0; i < size; i++) {
+            if (isWithin(i, after, before)) seen.set(playerIndexes[i]);
+        }
+        return seen.cardinality();
+    }
+
+    public long averagePlaytimePerPlayer(long after, long before) {
+        BitSet seen = new BitSet(players.length);
+        long playtime = 0;
+        for (int i = 0; i < size; i++) {
+            if (isWithin(i, after, before)) {
+                seen.set(playerIndexes[i]);
+                playtime += ends[i] - starts[i];
+            }
+        }
+        return average(playtime, seen.cardinality());
+    }
+
+    public long averageAfkPerPlayer(long after, long before) {
+        BitSet seen = new BitSet(players.length);
+        long afkTime = 0;
+        for (int i = 0; i < size; i++) {
+            if (isWithin(i, after, before)) {
+                seen.set(playerIndexes[i]);
+                afkTime += afkTimes[i];
+            }
+        }
+        return average(afkTime, seen.cardinality());
+    }
+
+    /**
+     * Calculate activity index of each player who played during the three weeks before a date.
+     * <p>
+     * Same as {@code ActivityIndexQueries#selectActivityIndexSQL()}, a session counts towards each week it overlaps.
+     *
+     * @param date      Epoch ms, date of the index.
+     * @param threshold Activity index playtime threshold in ms.
+     * @return Activity index of each player with sessions during the weeks, other players have index 0.
+     */
+    public Map<UUID, Double> activityIndexes(long date, long threshold) {
+        long week = TimeUnit.DAYS.toMillis(7L);
+        long[][] activePlaytime = new long[3][players.length];
+        BitSet seen = new BitSet(players.length);
+        for (int i = 0; i < size; i++) {
+            for (int w = 0; w < 3; w++) {
+                long weekEnd = date - w * week;
+                if (overlaps(i, weekEnd - week, weekEnd)) {
+                    activePlaytime[w][playerIndexes[i]] += ends[i] - starts[i] - afkTimes[i];
+                    seen.set(playerIndexes[i]);
+                }
+            }
+        }
+
+        Map<UUID, Double> indexes = new HashMap<>();
+        for (int player = seen.nextSetBit(0); player >= 0; player = seen.nextSetBit(player + 1)) {
+            double inactivity = 0.0;
+            for (int w = 0; w < 3; w++) {
+                inactivity += 1.0 / (Math.PI / 2.0 * ((double) activePlaytime[w][player] / threshold) + 1.0);
+            }
+            indexes.put(players[player], 5.0 - 5.0 * inactivity / 3.0);
+        }
+        return indexes;
+    }
+
+    private long average(long total, int playerCount) {
+        return playerCount != 0 ? (long) ((double) total / playerCount) : 0L;
+    }
+
+    /**
+     * Builder for appending sessions one by one.
+     */
+    public static class Builder {
+        private int size;
+        private long[] starts;
+        private long[] ends;
+        private long[] afkTimes;
+        private int[] playerIndexes;
+        private int[] mobKills;
+        private int[] deaths;
+        private final List<UUID> players;
+        private final Map<UUID, Integer> playerIndexByUUID;
+        private int maxId = -1;
+
+        Builder(int capacity) {
+            int initial = Math.max(capacity, 16);
+            starts = new long[initial];
+            ends = new long[initial];
+            afkTimes = new long[initial];
+            playerIndexes = new int[initial];
+            mobKills = new int[initial];
+            deaths = new int[initial];
+            players = new ArrayList<>();
+            playerIndexByUUID = new HashMap<>();
+        }
+
+        public Builder add(int id, UUID playerUUID, long start, long end, long afkTime, int mobKills, int deaths) {
+            maxId = Math.max(maxId, id);
+            return add(playerUUID, start, end, afkTime, mobKills, deaths);
+        }
+
+        private Builder add(UUID playerUUID, long start, long end, long afkTime, int mobKillCount, int deathCount) {
+            if (size == starts.length) grow();
+            Integer playerIndex = playerIndexByUUID.get(playerUUID);
+            if (playerIndex == null) {
+                playerIndex = players.size();
+                players.add(playerUUID);
+                playerIndexByUUID.put(playerUUID, playerIndex);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            afkTimes[size] = afkTime;
+            playerIndexes[size] = playerIndex;
+            mobKills[size] = mobKillCount;
+            deaths[size] = deathCount;
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            afkTimes = Arrays.copyOf(afkTimes, capacity);
+            playerIndexes = Arrays.copyOf(playerIndexes, capacity);
+            mobKills = Arrays.copyOf(mobKills, capacity);
+            deaths = Arrays.copyOf(deaths, capacity);
+        }
+
+        /**
+         * Build the columns.
+         *
+         * @param retainedAfter Epoch ms, every session of the server that ended after this has been added.
+         * @return Immutable columns.
+         */
+        public SessionColumns build(long retainedAfter) {
+            return new SessionColumns(this, retainedAfter);
+        }
+    }
+}
@@ -87,6 +87,15 @@ public class DynamicDataContainer implements DataContainer {
         }
     }
 
+    /**
+     * Copy the raw data of this container to another container, suppliers are not copied.
+     *
+     * @param other Container to copy to.
+     */
+    protected void copyRawDataTo(DynamicDataContainer other) {
+        other.rawDataContainer.putAll(rawDataContainer);
+    }
+
     @Override
     public void clear() {
         rawDataContainer.clear();
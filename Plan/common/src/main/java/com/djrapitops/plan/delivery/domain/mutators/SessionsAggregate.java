@@ -0,0 +1,227 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.mutators;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.WorldTimes;
+
+import java.util.*;
+
+/**
+ * Statistics of a player's sessions for the last 7 days, last 30 days, all time and each server, calculated in a single pass.
+ * <p>
+ * Per server values only include sessions fetched from the database, like the sessions of a {@link com.djrapitops.plan.delivery.domain.container.PerServerContainer}.
+ * <p>
+ * Gives the same values as the equivalent {@link SessionsMutator} and {@link PerServerMutator} methods,
+ * without filtering or streaming the session list separately for each value.
+ *
+ * @author Rsl1122
+ */
+public class SessionsAggregate {
+
+    private final Totals total;
+    private final Totals last30d;
+    private final Totals last7d;
+    private final Map<UUID, Totals> perServer;
+    private final Map<UUID, WorldTimes> worldTimesPerServer;
+
+    private SessionsAggregate(int sessionCount) {
+        total = new Totals(sessionCount);
+        last30d = new Totals(16);
+        last7d = new Totals(16);
+        perServer = new HashMap<>();
+        worldTimesPerServer = new HashMap<>();
+    }
+
+    /**
+     * Aggregate sessions of a player.
+     *
+     * @param sessions  Sessions of the player, including the active session.
+     * @param monthAgo  Epoch ms, sessions ending after this are included in {@link #last30d()}.
+     * @param weekAgo   Epoch ms, sessions ending after this are included in {@link #last7d()}.
+     * @param now       Epoch ms, sessions starting after this are only included in {@link #total()}.
+     * @return Aggregated statistics.
+     */
+    public static SessionsAggregate aggregate(List<Session> sessions, long monthAgo, long weekAgo, long now) {
+        SessionsAggregate aggregate = new SessionsAggregate(sessions.size());
+        for (Session session : sessions) {
+            aggregate.add(session, monthAgo, weekAgo, now);
+        }
+        return aggregate;
+    }
+
+    private void add(Session session, long monthAgo, long weekAgo, long now) {
+        long start = session.getUnsafe(SessionKeys.START);
+        long length = session.getLength();
+        long end = start + length;
+        long lastSeen = Math.max(start, session.getValue(SessionKeys.END).orElse(now));
+        long afkTime = session.getValue(SessionKeys.AFK_TIME).orElse(0L);
+        int mobKills = session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0);
+        int deaths = session.getValue(SessionKeys.DEATH_COUNT).orElse(0);
+        int playerKills = session.getValue(SessionKeys.PLAYER_KILLS).map(List::size).orElse(0);
+
+        total.add(length, lastSeen, afkTime, mobKills, deaths, playerKills);
+        if (start <= now && end >= monthAgo) {
+            last30d.add(length, lastSeen, afkTime, mobKills, deaths, playerKills);
+            if (end >= weekAgo) {
+                last7d.add(length, lastSeen, afkTime, mobKills, deaths, playerKills);
+            }
+        }
+        // Active session is not part of per server data
+        Optional<UUID> serverUUID = session.getValue(SessionKeys.SERVER_UUID);
+        if (session.isFetchedFromDB() && serverUUID.isPresent()) {
+            perServer.computeIfAbsent(serverUUID.get(), key -> new Totals(16))
+                    .add(length, lastSeen, afkTime, mobKills, deaths, playerKills);
+            session.getValue(SessionKeys.WORLD_TIMES).ifPresent(worldTimes ->
+                    worldTimesPerServer.computeIfAbsent(serverUUID.get(), key -> new WorldTimes()).add(worldTimes));
+        }
+    }
+
+    public Totals total() {
+        return total;
+    }
+
+    public Totals last30d() {
+        return last30d;
+    }
+
+    public Totals last7d() {
+        return last7d;
+    }
+
+    /**
+     * Get the server the player has played on the most.
+     *
+     * @return Same as {@link PerServerMutator#favoriteServer()}.
+     */
+    public Optional<UUID> favoriteServer() {
+        long max = 0;
+        UUID maxServer = null;
+        for (Map.Entry<UUID, Totals> entry : perServer.entrySet()) {
+            long playtime = entry.getValue().toPlaytime();
+            if (playtime > max) {
+                max = playtime;
+                maxServer = entry.getKey();
+            }
+        }
+        return Optional.ofNullable(maxServer);
+    }
+
+    /**
+     * Get the sums of sessions on a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Same values as a {@link SessionsMutator} of the server's sessions, all zero if there are none.
+     */
+    public Totals ofServer(UUID serverUUID) {
+        return perServer.getOrDefault(serverUUID, new Totals(1));
+    }
+
+    /**
+     * Get the world times of each server.
+     *
+     * @return Same as {@link PerServerMutator#worldTimesPerServer()} for servers the player has sessions on.
+     */
+    public Map<UUID, WorldTimes> worldTimesPerServer() {
+        return worldTimesPerServer;
+    }
+
+    /**
+     * Sums of sessions within a time range.
+     */
+    public static class Totals {
+        private int count;
+        private long playtime;
+        private long afkTime;
+        private long longestSession = -1L;
+        private long lastSeen = -1L;
+        private int mobKills;
+        private int deaths;
+        private int playerKills;
+        private long[] lengths;
+
+        Totals(int expectedCount) {
+            lengths = new long[Math.max(expectedCount, 1)];
+        }
+
+        void add(long length, long lastSeen, long afkTime, int mobKills, int deaths, int playerKills) {
+            if (count == lengths.length) {
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            lengths[count++] = length;
+            this.playtime += length;
+            this.afkTime += afkTime;
+            this.longestSession = Math.max(longestSession, length);
+            this.lastSeen = Math.max(this.lastSeen, lastSeen);
+            this.mobKills += mobKills;
+            this.deaths += deaths;
+            this.playerKills += playerKills;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long toPlaytime() {
+            return playtime;
+        }
+
+        public long toAfkTime() {
+            return afkTime;
+        }
+
+        public long toActivePlaytime() {
+            return playtime - afkTime;
+        }
+
+        public long toLongestSessionLength() {
+            return longestSession;
+        }
+
+        public long toLastSeen() {
+            return lastSeen;
+        }
+
+        public long toAverageSessionLength() {
+            return count > 0 ? (long) ((double) playtime / count) : 0L;
+        }
+
+        public long toMedianSessionLength() {
+            if (count == 0) return -1L;
+            long[] sorted = Arrays.copyOf(lengths, count);
+            Arrays.sort(sorted);
+            int half = count / 2;
+            if (count % 2 == 0) {
+                return (long) ((sorted[half] + (double) sorted[half - 1]) / 2);
+            }
+            return sorted[half];
+        }
+
+        public int toMobKillCount() {
+            return mobKills;
+        }
+
+        public int toDeathCount() {
+            return deaths;
+        }
+
+        public int toPlayerKillCount() {
+            return playerKills;
+        }
+    }
+}
@@ -16,10 +16,10 @@
  */
 package com.djrapitops.plan.delivery.export;
 
-import org.apache.commons.lang3.StringUtils;
+import com.djrapitops.plan.utilities.MultiPatternReplacer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Export utility that takes care of path replacement for different resources referenced in other files.
@@ -28,25 +28,27 @@ import java.util.List;
  */
 public class ExportPaths {
 
-    private final List<String> replace;
-    private final List<String> with;
+    private final Map<String, String> replace;
+    private MultiPatternReplacer replacer;
 
     public ExportPaths() {
-        replace = new ArrayList<>();
-        with = new ArrayList<>();
+        replace = new LinkedHashMap<>();
     }
 
     public String resolveExportPaths(String original) {
-        return StringUtils.replaceEach(original, replace.toArray(new String[0]), with.toArray(new String[0]));
+        if (replacer == null) {
+            replacer = MultiPatternReplacer.of(replace);
+        }
+        return replacer.replace(original);
     }
 
     public void put(String replace, String with) {
-        this.replace.add(replace);
-        this.with.add(with);
+        this.replace.putIfAbsent(replace, with);
+        replacer = null;
     }
 
     public void clear() {
         this.replace.clear();
-        this.with.clear();
+        replacer = null;
     }
 }
\ No newline at end of file
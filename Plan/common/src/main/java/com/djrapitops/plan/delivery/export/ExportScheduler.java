@@ -17,11 +17,15 @@
 package com.djrapitops.plan.delivery.export;
 
 import com.djrapitops.plan.TaskSystem;
+import com.djrapitops.plan.exceptions.ExportException;
 import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.upkeep.MaintenanceLease;
+import com.djrapitops.plan.utilities.java.ThrowingConsumer;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.api.TimeAmount;
 
@@ -42,6 +46,8 @@ public class ExportScheduler {
     private final PlanConfig config;
     private final DBSystem dbSystem;
     private final TaskSystem taskSystem;
+    private final ServerInfo serverInfo;
+    private final MaintenanceLease maintenanceLease;
 
     private final Exporter exporter;
     private final ErrorLogger errorLogger;
@@ -51,12 +57,16 @@ public class ExportScheduler {
             PlanConfig config,
             DBSystem dbSystem,
             TaskSystem taskSystem,
+            ServerInfo serverInfo,
+            MaintenanceLease maintenanceLease,
             Exporter exporter,
             ErrorLogger errorLogger
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
         this.taskSystem = taskSystem;
+        this.serverInfo = serverInfo;
+        this.maintenanceLease = maintenanceLease;
         this.exporter = exporter;
         this.errorLogger = errorLogger;
     }
@@ -69,8 +79,23 @@ public class ExportScheduler {
     private void schedulePlayersPageExport() {
         long period = TimeAmount.toTicks(config.get(ExportSettings.EXPORT_PERIOD), TimeUnit.MILLISECONDS);
         taskSystem.registerTask("Players page export",
-                new ExportTask(exporter, Exporter::exportPlayersPage, errorLogger)
-        ).runTaskTimerAsynchronously(0L, period);
+                new ExportTask(exporter, leased(Exporter::exportPlayersPage), errorLogger)
+        ).runTaskTimerAsynchronously(getPhaseOffset(period), period);
+    }
+
+    private long getPhaseOffset(long period) {
+        return TaskSystem.getPhaseOffset(serverInfo.getServerUUID(), period);
+    }
+
+    private ThrowingConsumer<Exporter, ExportException> leased(ThrowingConsumer<Exporter, ExportException> exportAction) {
+        return same -> {
+            Optional<MaintenanceLease.Lease> lease = maintenanceLease.acquire("export", TimeUnit.MINUTES.toMillis(10L));
+            if (!lease.isPresent()) return; // Other servers are exporting, this server exports on next period.
+
+            try (MaintenanceLease.Lease held = lease.get()) {
+                exportAction.accept(same);
+            }
+        };
     }
 
     private void scheduleServerPageExport() {
@@ -82,21 +107,22 @@ public class ExportScheduler {
 
         long period = TimeAmount.toTicks(config.get(ExportSettings.EXPORT_PERIOD), TimeUnit.MILLISECONDS);
         long offset = period / serverCount;
+        long phaseOffset = getPhaseOffset(offset);
 
         Optional<Server> proxy = servers.stream().filter(Server::isProxy).findFirst();
         proxy.ifPresent(mainServer -> taskSystem.registerTask("Network export",
-                new ExportTask(exporter, same -> same.exportServerPage(mainServer), errorLogger))
-                .runTaskTimerAsynchronously(0L, period)
+                new ExportTask(exporter, leased(same -> same.exportServerPage(mainServer)), errorLogger))
+                .runTaskTimerAsynchronously(phaseOffset, period)
         );
 
         int offsetMultiplier = proxy.isPresent() ? 1 : 0; // Delay first server export if on a network.
         for (Server server : servers) {
             taskSystem.registerTask("Server export",
-                    new ExportTask(exporter, same -> {
+                    new ExportTask(exporter, leased(same -> {
                         same.exportServerPage(server);
                         same.exportServerJSON(server);
-                    }, errorLogger))
-                    .runTaskTimerAsynchronously(offset * offsetMultiplier, period);
+                    }), errorLogger))
+                    .runTaskTimerAsynchronously(phaseOffset + offset * offsetMultiplier, period);
             offsetMultiplier++;
         }
     }
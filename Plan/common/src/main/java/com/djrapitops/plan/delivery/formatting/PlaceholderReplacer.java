@@ -16,22 +16,115 @@
  */
 package com.djrapitops.plan.delivery.formatting;
 
-import org.apache.commons.text.StringSubstitutor;
+import com.djrapitops.plan.utilities.MultiPatternReplacer;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.*;
+import java.util.function.BiFunction;
 
 /**
  * Formatter for replacing ${placeholder} values inside strings.
+ * <p>
+ * Every modification goes through {@link #put}, {@link #remove}, {@link #clear} or {@link #replaceAll},
+ * so the compiled replacer is never used with outdated values. Views of the map only support clearing.
  *
  * @author Rsl1122
  */
-public class PlaceholderReplacer extends HashMap<String, Serializable> implements Formatter<String> {
+public class PlaceholderReplacer extends AbstractMap<String, Serializable> implements Formatter<String> {
+
+    // Values can contain placeholders for other values, this limits how deep they are replaced.
+    private static final int MAX_DEPTH = 5;
+
+    private final Map<String, Serializable> placeholders = new HashMap<>();
+    private MultiPatternReplacer replacer;
 
     @Override
     public String apply(String string) {
-        StringSubstitutor sub = new StringSubstitutor(this);
-        sub.setEnableSubstitutionInVariables(true);
-        return sub.replace(string);
+        if (string == null || isEmpty() || !string.contains("${")) {
+            return string;
+        }
+        if (replacer == null) {
+            replacer = createReplacer();
+        }
+        return replacer.replace(string);
+    }
+
+    private MultiPatternReplacer createReplacer() {
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, Serializable> entry : placeholders.entrySet()) {
+            if (entry.getValue() != null) {
+                values.put("${" + entry.getKey() + '}', entry.getValue().toString());
+            }
+        }
+
+        MultiPatternReplacer created = MultiPatternReplacer.of(values);
+        for (int depth = 0; depth < MAX_DEPTH; depth++) {
+            boolean replacedPlaceholdersInValues = false;
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                String value = entry.getValue();
+                if (value.contains("${")) {
+                    String replaced = created.replace(value);
+                    if (!replaced.equals(value)) {
+                        entry.setValue(replaced);
+                        replacedPlaceholdersInValues = true;
+                    }
+                }
+            }
+            if (!replacedPlaceholdersInValues) {
+                return created;
+            }
+            created = MultiPatternReplacer.of(values);
+        }
+        return created;
+    }
+
+    @Override
+    public Serializable get(Object key) {
+        return placeholders.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return placeholders.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return placeholders.size();
+    }
+
+    @Override
+    public Set<Entry<String, Serializable>> entrySet() {
+        return Collections.unmodifiableMap(placeholders).entrySet();
+    }
+
+    @Override
+    public Serializable put(String key, Serializable value) {
+        replacer = null;
+        return placeholders.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Serializable> m) {
+        replacer = null;
+        placeholders.putAll(m);
+    }
+
+    @Override
+    public Serializable remove(Object key) {
+        replacer = null;
+        return placeholders.remove(key);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Serializable, ? extends Serializable> function) {
+        replacer = null;
+        placeholders.replaceAll(function);
+    }
+
+    @Override
+    public void clear() {
+        replacer = null;
+        placeholders.clear();
     }
-}
\ No newline at end of file
+}
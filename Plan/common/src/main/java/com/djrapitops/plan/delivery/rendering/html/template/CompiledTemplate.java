@@ -0,0 +1,136 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.html.template;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Html template that has been split into static segments and ${placeholder} slots.
+ * <p>
+ * Transformations that do not depend on the request (theme colors, locale) are applied to the static segments once
+ * when compiling, and rendering only fills the slots.
+ *
+ * @author Rsl1122
+ */
+public class CompiledTemplate {
+
+    // Private use characters that no theme or locale replacement can match.
+    private static final char SLOT_MARKER = '\uE000';
+    private static final char SLOT_INDEX_OFFSET = '\uE001';
+    private static final int MAX_SLOTS = '\uF8FF' - SLOT_INDEX_OFFSET;
+
+    private final String[] segments;
+    private final String[] slots;
+    private final int staticLength;
+
+    private CompiledTemplate(String[] segments, String[] slots) {
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * Compile a template.
+     *
+     * @param source          Template html with ${placeholder} slots.
+     * @param staticTransform Transformation to apply to everything except the slots, like locale translation.
+     * @return Compiled template.
+     */
+    public static CompiledTemplate compile(String source, UnaryOperator<String> staticTransform) {
+        List<String> slotNames = new ArrayList<>();
+        StringBuilder marked = new StringBuilder(source.length());
+        int from = 0;
+        int start;
+        while ((start = source.indexOf("${", from)) != -1) {
+            int end = source.indexOf('}', start + 2);
+            if (end == -1 || slotNames.size() >= MAX_SLOTS) break;
+            marked.append(source, from, start);
+            marked.append(SLOT_MARKER).append((char) (SLOT_INDEX_OFFSET + slotNames.size()));
+            slotNames.add(source.substring(start + 2, end));
+            from = end + 1;
+        }
+        marked.append(source, from, source.length());
+
+        String transformed = staticTransform.apply(marked.toString());
+
+        List<String> segments = new ArrayList<>();
+        String[] slots = new String[slotNames.size()];
+        int slotCount = 0;
+        from = 0;
+        int marker;
+        while ((marker = transformed.indexOf(SLOT_MARKER, from)) != -1 && marker + 1 < transformed.length()) {
+            segments.add(transformed.substring(from, marker));
+            slots[slotCount++] = slotNames.get(transformed.charAt(marker + 1) - SLOT_INDEX_OFFSET);
+            from = marker + 2;
+        }
+        segments.add(transformed.substring(from));
+
+        String[] usedSlots = new String[slotCount];
+        System.arraycopy(slots, 0, usedSlots, 0, slotCount);
+        return new CompiledTemplate(segments.toArray(new String[0]), usedSlots);
+    }
+
+    /**
+     * Fill the slots of the template.
+     * <p>
+     * Values that contain placeholders are filled with the same values, like {@link com.djrapitops.plan.delivery.formatting.PlaceholderReplacer}.
+     * Slots without a value are left as ${placeholder}.
+     *
+     * @param placeholders Values of the slots.
+     * @return Rendered html.
+     */
+    public String render(Map<String, ? extends Serializable> placeholders) {
+        StringBuilder rendered = new StringBuilder(staticLength + slots.length * 16);
+        for (int i = 0; i < slots.length; i++) {
+            rendered.append(segments[i]);
+            appendSlot(rendered, slots[i], placeholders, 0);
+        }
+        rendered.append(segments[slots.length]);
+        return rendered.toString();
+    }
+
+    private static void appendSlot(StringBuilder rendered, String slot, Map<String, ? extends Serializable> placeholders, int depth) {
+        Serializable value = placeholders.get(slot);
+        if (value == null || depth > 8) {
+            rendered.append("${").append(slot).append('}');
+            return;
+        }
+        String asString = value.toString();
+        int from = 0;
+        int start;
+        while ((start = asString.indexOf("${", from)) != -1) {
+            int end = asString.indexOf('}', start + 2);
+            if (end == -1) break;
+            rendered.append(asString, from, start);
+            appendSlot(rendered, asString.substring(start + 2, end), placeholders, depth + 1);
+            from = end + 1;
+        }
+        rendered.append(asString, from, asString.length());
+    }
+
+    public int getSlotCount() {
+        return slots.length;
+    }
+}
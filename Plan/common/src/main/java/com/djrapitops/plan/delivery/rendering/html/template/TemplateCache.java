@@ -0,0 +1,140 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.html.template;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.settings.theme.Theme;
+import com.djrapitops.plan.settings.upkeep.FileWatcher;
+import com.djrapitops.plan.settings.upkeep.WatchedFile;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In charge of compiling page templates and caching them by template, locale and theme.
+ * <p>
+ * Customized templates are invalidated when the file in the customization folder is modified.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class TemplateCache {
+
+    private final PlanFiles files;
+    private final PlanConfig config;
+    private final Locale locale;
+    private final Theme theme;
+    private final ErrorLogger errorLogger;
+
+    private final Cache<String, CachedTemplate> compiledTemplates;
+    private final Set<String> watchedTemplates;
+    private FileWatcher watcher;
+
+    @Inject
+    public TemplateCache(
+            PlanFiles files,
+            PlanConfig config,
+            Locale locale,
+            Theme theme,
+            ErrorLogger errorLogger
+    ) {
+        this.files = files;
+        this.config = config;
+        this.locale = locale;
+        this.theme = theme;
+        this.errorLogger = errorLogger;
+
+        compiledTemplates = Caffeine.newBuilder()
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .build();
+        watchedTemplates = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Start watching the customization folder for modifications.
+     */
+    public void enable() {
+        Path customizationDirectory = files.getCustomizationDirectory();
+        if (watcher == null && customizationDirectory.toFile().isDirectory()) {
+            watcher = new FileWatcher(customizationDirectory, errorLogger);
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+    }
+
+    public void disable() {
+        if (watcher != null) {
+            watcher.interrupt();
+            watcher = null;
+        }
+        watchedTemplates.clear();
+        compiledTemplates.invalidateAll();
+    }
+
+    /**
+     * Get a compiled version of a template with theme colors and locale applied.
+     *
+     * @param templateName Name of the template file, for example "server.html".
+     * @param source       Current contents of the template, a cached template is only used if it was compiled from the same source.
+     * @return Compiled template.
+     */
+    public CompiledTemplate getCompiled(String templateName, String source) {
+        String key = templateName + ':' + locale.getLangCode().name() + ':' + config.get(DisplaySettings.THEME);
+        CachedTemplate cached = compiledTemplates.getIfPresent(key);
+        if (cached == null || !cached.source.equals(source)) {
+            CompiledTemplate compiled = CompiledTemplate.compile(theme.replaceThemeColors(source), locale::replaceLanguageInHtml);
+            cached = new CachedTemplate(source, compiled);
+            compiledTemplates.put(key, cached);
+            watchCustomized(templateName);
+        }
+        return cached.compiled;
+    }
+
+    private void watchCustomized(String templateName) {
+        if (watcher != null && watchedTemplates.add(templateName)) {
+            Path customized = files.getCustomizationDirectory().resolve(templateName);
+            // Every locale and theme of the template is compiled from the same file
+            String keyPrefix = templateName + ':';
+            watcher.addToWatchlist(new WatchedFile(customized,
+                    () -> compiledTemplates.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix))));
+        }
+    }
+
+    public void invalidateAll() {
+        compiledTemplates.invalidateAll();
+    }
+
+    private static class CachedTemplate {
+        final String source;
+        final CompiledTemplate compiled;
+
+        CachedTemplate(String source, CompiledTemplate compiled) {
+            this.source = source;
+            this.compiled = compiled;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
+import com.djrapitops.plan.delivery.rendering.json.network.NetworkAggregationExecutor;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerPlayerDataTableQuery;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.Ping;
@@ -39,13 +40,16 @@ import com.djrapitops.plan.settings.locale.lang.HtmlLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.UniquePlayerSketchQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Factory with different JSON creation methods placed to a single class.
@@ -61,6 +65,7 @@ public class JSONFactory {
     private final ServerInfo serverInfo;
     private final Graphs graphs;
     private final Formatters formatters;
+    private final NetworkAggregationExecutor networkAggregationExecutor;
 
     @Inject
     public JSONFactory(
@@ -69,7 +74,8 @@ public class JSONFactory {
             DBSystem dbSystem,
             ServerInfo serverInfo,
             Graphs graphs,
-            Formatters formatters
+            Formatters formatters,
+            NetworkAggregationExecutor networkAggregationExecutor
     ) {
         this.config = config;
         this.locale = locale;
@@ -77,6 +83,7 @@ public class JSONFactory {
         this.serverInfo = serverInfo;
         this.graphs = graphs;
         this.formatters = formatters;
+        this.networkAggregationExecutor = networkAggregationExecutor;
     }
 
     public String serverPlayersTableJSON(UUID serverUUID) {
@@ -171,12 +178,35 @@ public class JSONFactory {
                 .findFirst()
                 .map(Server::getUuid).orElse(null);
 
-        Map<UUID, List<TPS>> tpsData = db.query(
+        List<UUID> gameServerUUIDs = serverInformation.values().stream()
+                .filter(Server::isNotProxy)
+                .map(Server::getUuid)
+                .collect(Collectors.toList());
+
+        CompletableFuture<Map<UUID, List<TPS>>> tpsDataQuery = networkAggregationExecutor.query(
                 TPSQueries.fetchTPSDataOfAllServersBut(weekAgo, now, proxyUUID)
         );
-        Map<UUID, Integer> totalPlayerCounts = db.query(PlayerCountQueries.newPlayerCounts(0, now));
-        Map<UUID, Integer> newPlayerCounts = db.query(PlayerCountQueries.newPlayerCounts(weekAgo, now));
-        Map<UUID, Integer> uniquePlayerCounts = db.query(PlayerCountQueries.uniquePlayerCounts(weekAgo, now));
+        CompletableFuture<Map<UUID, Integer>> totalPlayerCountsQuery = networkAggregationExecutor.query(PlayerCountQueries.newPlayerCounts(0, now));
+        CompletableFuture<Map<UUID, Integer>> newPlayerCountsQuery = networkAggregationExecutor.query(PlayerCountQueries.newPlayerCounts(weekAgo, now));
+        CompletableFuture<Map<UUID, Integer>> uniquePlayerCountsQuery = networkAggregationExecutor.query(
+                config.isTrue(DisplaySettings.EXACT_UNIQUE_PLAYER_COUNTS)
+                        ? PlayerCountQueries.uniquePlayerCounts(weekAgo, now)
+                        : UniquePlayerSketchQueries.estimatedUniquePlayerCounts(weekAgo, now)
+        );
+        long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
+        CompletableFuture<Map<UUID, Optional<DateObj<Integer>>>> recentPeaksQuery = networkAggregationExecutor.queryEachServer(
+                gameServerUUIDs, serverUUID -> TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo)
+        );
+        CompletableFuture<Map<UUID, Optional<DateObj<Integer>>>> allTimePeaksQuery = networkAggregationExecutor.queryEachServer(
+                gameServerUUIDs, TPSQueries::fetchAllTimePeakPlayerCount
+        );
+
+        Map<UUID, List<TPS>> tpsData = NetworkAggregationExecutor.join(tpsDataQuery);
+        Map<UUID, Integer> totalPlayerCounts = NetworkAggregationExecutor.join(totalPlayerCountsQuery);
+        Map<UUID, Integer> newPlayerCounts = NetworkAggregationExecutor.join(newPlayerCountsQuery);
+        Map<UUID, Integer> uniquePlayerCounts = NetworkAggregationExecutor.join(uniquePlayerCountsQuery);
+        Map<UUID, Optional<DateObj<Integer>>> recentPeaks = NetworkAggregationExecutor.join(recentPeaksQuery);
+        Map<UUID, Optional<DateObj<Integer>>> allTimePeaks = NetworkAggregationExecutor.join(allTimePeaksQuery);
 
         List<Map<String, Object>> servers = new ArrayList<>();
         serverInformation.entrySet()
@@ -188,8 +218,8 @@ public class JSONFactory {
                     Map<String, Object> server = new HashMap<>();
                     server.put("name", entry.getValue().getIdentifiableName());
 
-                    Optional<DateObj<Integer>> recentPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, now - TimeUnit.DAYS.toMillis(2L)));
-                    Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+                    Optional<DateObj<Integer>> recentPeak = recentPeaks.getOrDefault(serverUUID, Optional.empty());
+                    Optional<DateObj<Integer>> allTimePeak = allTimePeaks.getOrDefault(serverUUID, Optional.empty());
                     server.put("last_peak_date", recentPeak.map(DateObj::getDate).map(year).orElse("-"));
                     server.put("best_peak_date", allTimePeak.map(DateObj::getDate).map(year).orElse("-"));
                     server.put("last_peak_players", recentPeak.map(DateObj::getValue).orElse(0));
@@ -23,6 +23,7 @@ import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.webserver.cache.RecentSessionsCache;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
@@ -30,6 +31,7 @@ import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.CohortQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
@@ -53,6 +55,7 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
+    private final RecentSessionsCache recentSessions;
 
     private final Formatter<Long> timeAmountFormatter;
     private final Formatter<Double> decimalFormatter;
@@ -62,10 +65,12 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
     public OnlineActivityOverviewJSONCreator(
             PlanConfig config,
             DBSystem dbSystem,
+            RecentSessionsCache recentSessions,
             Formatters formatters
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
+        this.recentSessions = recentSessions;
 
         timeAmountFormatter = formatters.timeAmount();
         decimalFormatter = formatters.decimals();
@@ -91,14 +96,14 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
 
         Map<String, Object> numbers = new HashMap<>();
 
-        numbers.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now, serverUUID)));
+        numbers.put("unique_players_30d", db.query(recentSessions.uniquePlayerCount(monthAgo, now, serverUUID)));
         numbers.put("unique_players_30d_trend", new Trend(
-                db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, halfMonthAgo, serverUUID)),
-                db.query(PlayerCountQueries.uniquePlayerCount(halfMonthAgo, now, serverUUID)),
+                db.query(recentSessions.uniquePlayerCount(monthAgo, halfMonthAgo, serverUUID)),
+                db.query(recentSessions.uniquePlayerCount(halfMonthAgo, now, serverUUID)),
                 false
         ));
-        numbers.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        numbers.put("unique_players_24h", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now, serverUUID)));
+        numbers.put("unique_players_7d", db.query(recentSessions.uniquePlayerCount(weekAgo, now, serverUUID)));
+        numbers.put("unique_players_24h", db.query(recentSessions.uniquePlayerCount(dayAgo, now, serverUUID)));
 
         numbers.put("unique_players_30d_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
         numbers.put("unique_players_30d_avg_trend", new Trend(
@@ -130,8 +135,8 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         numbers.put("new_players_7d_avg", db.query(PlayerCountQueries.averageNewPlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
         numbers.put("new_players_24h_avg", db.query(PlayerCountQueries.averageNewPlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
 
-        int retained30d = db.query(PlayerCountQueries.retainedPlayerCount(monthAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        int retained30d = db.query(CohortQueries.retainedPlayerCount(monthAgo, now, serverUUID));
+        int retained7d = db.query(CohortQueries.retainedPlayerCount(weekAgo, now, serverUUID));
         double retentionPerc30d = new30d != 0 ? (double) retained30d / new30d : -1;
         double retentionPerc7d = new7d != 0 ? (double) retained7d / new7d : -1;
         numbers.put("new_players_retention_30d", retained30d);
@@ -139,20 +144,21 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         numbers.put("new_players_retention_7d", retained7d);
         numbers.put("new_players_retention_7d_perc", percentageFormatter.apply(retentionPerc7d));
 
+        Map<UUID, Double> activityIndexes30d = db.query(recentSessions.activityIndexOfNewPlayers(monthAgo, now, serverUUID, playThreshold));
         int prediction1d = RetentionData.countRetentionPrediction(
                 db.query(ActivityIndexQueries.activityIndexForNewPlayers(dayAgo, now, serverUUID, playThreshold)),
-                db.query(ActivityIndexQueries.averageActivityIndexForRetainedPlayers(monthAgo, now, serverUUID, playThreshold)),
-                db.query(ActivityIndexQueries.averageActivityIndexForNonRetainedPlayers(monthAgo, now, serverUUID, playThreshold))
+                db.query(CohortQueries.averageActivityIndexForRetainedPlayers(monthAgo, now, serverUUID, activityIndexes30d)),
+                db.query(CohortQueries.averageActivityIndexForNonRetainedPlayers(monthAgo, now, serverUUID, activityIndexes30d))
         );
         double retentionPerc1d = new1d != 0 ? (double) prediction1d / new1d : -1;
         numbers.put("new_players_retention_24h", prediction1d);
         numbers.put("new_players_retention_24h_perc", percentageFormatter.apply(retentionPerc1d));
 
-        Long playtimeMonth = db.query(SessionQueries.playtime(monthAgo, now, serverUUID));
-        Long playtimeWeek = db.query(SessionQueries.playtime(weekAgo, now, serverUUID));
-        Long playtimeDay = db.query(SessionQueries.playtime(dayAgo, now, serverUUID));
-        Long playtimeBefore = db.query(SessionQueries.playtime(monthAgo, halfMonthAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(halfMonthAgo, now, serverUUID));
+        Long playtimeMonth = db.query(recentSessions.playtime(monthAgo, now, serverUUID));
+        Long playtimeWeek = db.query(recentSessions.playtime(weekAgo, now, serverUUID));
+        Long playtimeDay = db.query(recentSessions.playtime(dayAgo, now, serverUUID));
+        Long playtimeBefore = db.query(recentSessions.playtime(monthAgo, halfMonthAgo, serverUUID));
+        Long playtimeAfter = db.query(recentSessions.playtime(halfMonthAgo, now, serverUUID));
         numbers.put("playtime_30d", timeAmountFormatter.apply(playtimeMonth));
         numbers.put("playtime_30d_trend", new Trend(playtimeBefore, playtimeAfter, false, timeAmountFormatter));
         numbers.put("playtime_7d", timeAmountFormatter.apply(playtimeWeek));
@@ -166,13 +172,13 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
                 timeAmountFormatter
         ));
         numbers.put("playtime_7d_avg", timeAmountFormatter.apply(db.query(SessionQueries.averagePlaytimePerDay(weekAgo, now, timeZoneOffset, serverUUID))));
-        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(db.query(SessionQueries.playtime(dayAgo, now, serverUUID))));
+        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(db.query(recentSessions.playtime(dayAgo, now, serverUUID))));
 
-        Long sessionsMonth = db.query(SessionQueries.sessionCount(monthAgo, now, serverUUID));
-        Long sessionsWeek = db.query(SessionQueries.sessionCount(weekAgo, now, serverUUID));
-        Long sessionsDay = db.query(SessionQueries.sessionCount(dayAgo, now, serverUUID));
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(monthAgo, halfMonthAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(halfMonthAgo, now, serverUUID));
+        Long sessionsMonth = db.query(recentSessions.sessionCount(monthAgo, now, serverUUID));
+        Long sessionsWeek = db.query(recentSessions.sessionCount(weekAgo, now, serverUUID));
+        Long sessionsDay = db.query(recentSessions.sessionCount(dayAgo, now, serverUUID));
+        Long sessionsBefore = db.query(recentSessions.sessionCount(monthAgo, halfMonthAgo, serverUUID));
+        Long sessionsAfter = db.query(recentSessions.sessionCount(halfMonthAgo, now, serverUUID));
         numbers.put("sessions_30d", sessionsMonth);
         numbers.put("sessions_30d_trend", new Trend(sessionsBefore, sessionsAfter, false));
         numbers.put("sessions_7d", sessionsWeek);
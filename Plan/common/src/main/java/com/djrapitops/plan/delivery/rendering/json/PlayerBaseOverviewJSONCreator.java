@@ -18,13 +18,13 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.webserver.cache.RecentSessionsCache;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
-import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -43,6 +43,7 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
+    private final RecentSessionsCache recentSessions;
 
     private final Formatter<Long> timeAmount;
     private final Formatter<Double> percentage;
@@ -51,10 +52,12 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
     public PlayerBaseOverviewJSONCreator(
             PlanConfig config,
             DBSystem dbSystem,
+            RecentSessionsCache recentSessions,
             Formatters formatters
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
+        this.recentSessions = recentSessions;
 
         timeAmount = formatters.timeAmount();
         percentage = formatters.percentage();
@@ -88,14 +91,14 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
         trends.put("regular_players_now", regularAfter);
         trends.put("regular_players_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long avgPlaytimeBefore = db.query(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgPlaytimeAfter = db.query(SessionQueries.averagePlaytimePerPlayer(monthAgo, now, serverUUID));
+        Long avgPlaytimeBefore = db.query(recentSessions.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo, serverUUID));
+        Long avgPlaytimeAfter = db.query(recentSessions.averagePlaytimePerPlayer(monthAgo, now, serverUUID));
         trends.put("playtime_avg_then", timeAmount.apply(avgPlaytimeBefore));
         trends.put("playtime_avg_now", timeAmount.apply(avgPlaytimeAfter));
         trends.put("playtime_avg_trend", new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount));
 
-        Long avgAfkBefore = db.query(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgAfkAfter = db.query(SessionQueries.averageAfkPerPlayer(monthAgo, now, serverUUID));
+        Long avgAfkBefore = db.query(recentSessions.averageAfkPerPlayer(twoMonthsAgo, monthAgo, serverUUID));
+        Long avgAfkAfter = db.query(recentSessions.averageAfkPerPlayer(monthAgo, now, serverUUID));
         double afkPercBefore = avgPlaytimeBefore != 0 ? (double) avgAfkBefore / avgPlaytimeBefore : 0;
         double afkPercAfter = avgPlaytimeAfter != 0 ? (double) avgAfkAfter / avgPlaytimeAfter : 0;
         trends.put("afk_then", percentage.apply(afkPercBefore));
@@ -91,16 +91,19 @@ public class PlayerJSONCreator {
 
         PlayerContainer player = db.query(new PlayerContainerQuery(playerUUID));
         SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
-        Map<UUID, WorldTimes> worldTimesPerServer = PerServerMutator.forContainer(player).worldTimesPerServer();
-        List<Map<String, Object>> serverAccordion = new ServerAccordion(player, serverNames, graphs, year, timeAmount, locale.getString(GenericLang.UNKNOWN)).asMaps();
+        long now = System.currentTimeMillis();
+        SessionsAggregate sessionsAggregate = SessionsAggregate.aggregate(sessionsMutator.all(),
+                now - TimeUnit.DAYS.toMillis(30L), now - TimeUnit.DAYS.toMillis(7L), now);
+        Map<UUID, WorldTimes> worldTimesPerServer = sessionsAggregate.worldTimesPerServer();
+        List<Map<String, Object>> serverAccordion = new ServerAccordion(player, sessionsAggregate, serverNames, graphs, year, timeAmount, locale.getString(GenericLang.UNKNOWN)).asMaps();
         List<PlayerKill> kills = player.getValue(PlayerKeys.PLAYER_KILLS).orElse(Collections.emptyList());
         List<PlayerKill> deaths = player.getValue(PlayerKeys.PLAYER_DEATHS_KILLS).orElse(Collections.emptyList());
 
         PingMutator.forContainer(player).addPingToSessions(sessionsMutator.all());
 
         Map<String, Object> data = new HashMap<>();
-        data.put("info", createInfoJSONMap(player, serverNames));
-        data.put("online_activity", createOnlineActivityJSONMap(sessionsMutator));
+        data.put("info", createInfoJSONMap(player, sessionsAggregate, serverNames));
+        data.put("online_activity", createOnlineActivityJSONMap(sessionsAggregate));
         data.put("kill_data", createPvPPvEMap(player));
 
         data.put("nicknames", player.getValue(PlayerKeys.NICKNAMES)
@@ -125,12 +128,9 @@ public class PlayerJSONCreator {
         return data;
     }
 
-    private Map<String, Object> createOnlineActivityJSONMap(SessionsMutator sessionsMutator) {
-        long now = System.currentTimeMillis();
-        long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
-        SessionsMutator sessions30d = sessionsMutator.filterSessionsBetween(monthAgo, now);
-        SessionsMutator sessions7d = sessions30d.filterSessionsBetween(weekAgo, now);
+    private Map<String, Object> createOnlineActivityJSONMap(SessionsAggregate sessionsAggregate) {
+        SessionsAggregate.Totals sessions30d = sessionsAggregate.last30d();
+        SessionsAggregate.Totals sessions7d = sessionsAggregate.last7d();
 
         Map<String, Object> onlineActivity = new HashMap<>();
 
@@ -157,10 +157,9 @@ public class PlayerJSONCreator {
         return onlineActivity;
     }
 
-    private Map<String, Object> createInfoJSONMap(PlayerContainer player, Map<UUID, String> serverNames) {
-        SessionsMutator sessions = SessionsMutator.forContainer(player);
+    private Map<String, Object> createInfoJSONMap(PlayerContainer player, SessionsAggregate sessionsAggregate, Map<UUID, String> serverNames) {
+        SessionsAggregate.Totals sessions = sessionsAggregate.total();
         ActivityIndex activityIndex = player.getActivityIndex(System.currentTimeMillis(), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD));
-        PerServerMutator perServer = PerServerMutator.forContainer(player);
         PingMutator ping = PingMutator.forContainer(player);
 
         Map<String, Object> info = new HashMap<>();
@@ -170,8 +169,8 @@ public class PlayerJSONCreator {
         info.put("banned", player.getValue(PlayerKeys.BANNED).orElse(false));
         info.put("kick_count", player.getValue(PlayerKeys.KICK_COUNT).orElse(0));
         info.put("player_kill_count", player.getValue(PlayerKeys.PLAYER_KILL_COUNT).orElse(0));
-        info.put("mob_kill_count", player.getValue(PlayerKeys.MOB_KILL_COUNT).orElse(0));
-        info.put("death_count", player.getValue(PlayerKeys.DEATH_COUNT).orElse(0));
+        info.put("mob_kill_count", sessions.toMobKillCount());
+        info.put("death_count", sessions.toDeathCount());
         info.put("playtime", timeAmount.apply(sessions.toPlaytime()));
         info.put("active_playtime", timeAmount.apply(sessions.toActivePlaytime()));
         info.put("afk_time", timeAmount.apply(sessions.toAfkTime()));
@@ -180,7 +179,7 @@ public class PlayerJSONCreator {
         info.put("session_median", timeAmount.apply(sessions.toMedianSessionLength()));
         info.put("activity_index", decimals.apply(activityIndex.getValue()));
         info.put("activity_index_group", activityIndex.getGroup());
-        info.put("favorite_server", perServer.favoriteServer().map(favoriteServer -> serverNames.getOrDefault(favoriteServer, favoriteServer.toString())).orElse(locale.getString(GenericLang.UNKNOWN)));
+        info.put("favorite_server", sessionsAggregate.favoriteServer().map(favoriteServer -> serverNames.getOrDefault(favoriteServer, favoriteServer.toString())).orElse(locale.getString(GenericLang.UNKNOWN)));
         double averagePing = ping.average();
         int worstPing = ping.max();
         int bestPing = ping.min();
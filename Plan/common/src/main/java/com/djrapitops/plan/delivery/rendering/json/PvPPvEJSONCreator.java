@@ -18,6 +18,7 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.webserver.cache.RecentSessionsCache;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
@@ -36,15 +37,18 @@ import java.util.concurrent.TimeUnit;
 public class PvPPvEJSONCreator implements ServerTabJSONCreator<Map<String, Object>> {
 
     private final DBSystem dbSystem;
+    private final RecentSessionsCache recentSessions;
 
     private final Formatter<Double> decimals;
 
     @Inject
     public PvPPvEJSONCreator(
             DBSystem dbSystem,
+            RecentSessionsCache recentSessions,
             Formatters formatters
     ) {
         this.dbSystem = dbSystem;
+        this.recentSessions = recentSessions;
 
         decimals = formatters.decimals();
     }
@@ -74,16 +78,16 @@ public class PvPPvEJSONCreator implements ServerTabJSONCreator<Map<String, Objec
         numbers.put("player_kdr_avg_30d", decimals.apply(db.query(KillQueries.averageKDR(monthAgo, now, serverUUID))));
         numbers.put("player_kdr_avg_7d", decimals.apply(db.query(KillQueries.averageKDR(weekAgo, now, serverUUID))));
 
-        Long mobKills = db.query(KillQueries.mobKillCount(0L, now, serverUUID));
-        Long mobKills30d = db.query(KillQueries.mobKillCount(monthAgo, now, serverUUID));
-        Long mobKills7d = db.query(KillQueries.mobKillCount(weekAgo, now, serverUUID));
+        Long mobKills = db.query(recentSessions.mobKillCount(0L, now, serverUUID));
+        Long mobKills30d = db.query(recentSessions.mobKillCount(monthAgo, now, serverUUID));
+        Long mobKills7d = db.query(recentSessions.mobKillCount(weekAgo, now, serverUUID));
         numbers.put("mob_kills_total", mobKills);
         numbers.put("mob_kills_30d", mobKills30d);
         numbers.put("mob_kills_7d", mobKills7d);
 
-        Long deaths = db.query(KillQueries.deathCount(0L, now, serverUUID));
-        Long deaths30d = db.query(KillQueries.deathCount(monthAgo, now, serverUUID));
-        Long deaths7d = db.query(KillQueries.deathCount(weekAgo, now, serverUUID));
+        Long deaths = db.query(recentSessions.deathCount(0L, now, serverUUID));
+        Long deaths30d = db.query(recentSessions.deathCount(monthAgo, now, serverUUID));
+        Long deaths7d = db.query(recentSessions.deathCount(weekAgo, now, serverUUID));
         numbers.put("deaths_total", deaths);
         numbers.put("deaths_30d", deaths30d);
         numbers.put("deaths_7d", deaths7d);
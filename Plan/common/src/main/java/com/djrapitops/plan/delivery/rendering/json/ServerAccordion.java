@@ -21,7 +21,7 @@ import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.keys.PerServerKeys;
 import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
-import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.djrapitops.plan.delivery.domain.mutators.SessionsAggregate;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
@@ -38,6 +38,7 @@ public class ServerAccordion {
 
     private final Map<UUID, String> serverNames;
     private final PerServerContainer perServer;
+    private final SessionsAggregate sessionsAggregate;
     private final String unknown;
 
     private final Graphs graphs;
@@ -45,7 +46,7 @@ public class ServerAccordion {
     private final Formatter<Long> timeAmount;
 
     public ServerAccordion(
-            PlayerContainer container, Map<UUID, String> serverNames,
+            PlayerContainer container, SessionsAggregate sessionsAggregate, Map<UUID, String> serverNames,
             Graphs graphs,
             Formatter<Long> year,
             Formatter<Long> timeAmount,
@@ -58,6 +59,7 @@ public class ServerAccordion {
         this.serverNames = serverNames;
         perServer = container.getValue(PlayerKeys.PER_SERVER)
                 .orElse(new PerServerContainer());
+        this.sessionsAggregate = sessionsAggregate;
         this.unknown = unknown;
     }
 
@@ -70,25 +72,25 @@ public class ServerAccordion {
             Map<String, Object> server = new HashMap<>();
 
             String serverName = serverNames.getOrDefault(serverUUID, unknown);
-            WorldTimes worldTimes = ofServer.getValue(PerServerKeys.WORLD_TIMES).orElse(new WorldTimes());
-            SessionsMutator sessionsMutator = SessionsMutator.forContainer(ofServer);
+            WorldTimes worldTimes = sessionsAggregate.worldTimesPerServer().getOrDefault(serverUUID, new WorldTimes());
+            SessionsAggregate.Totals sessions = sessionsAggregate.ofServer(serverUUID);
 
             server.put("server_name", serverName);
 
             server.put("banned", ofServer.getValue(PerServerKeys.BANNED).orElse(false));
             server.put("operator", ofServer.getValue(PerServerKeys.OPERATOR).orElse(false));
             server.put("registered", year.apply(ofServer.getValue(PerServerKeys.REGISTERED).orElse(0L)));
-            server.put("last_seen", year.apply(sessionsMutator.toLastSeen()));
+            server.put("last_seen", year.apply(sessions.toLastSeen()));
 
-            server.put("session_count", sessionsMutator.count());
-            server.put("playtime", timeAmount.apply(sessionsMutator.toPlaytime()));
-            server.put("afk_time", timeAmount.apply(sessionsMutator.toAfkTime()));
-            server.put("session_median", timeAmount.apply(sessionsMutator.toMedianSessionLength()));
-            server.put("longest_session_length", timeAmount.apply(sessionsMutator.toLongestSessionLength()));
+            server.put("session_count", sessions.count());
+            server.put("playtime", timeAmount.apply(sessions.toPlaytime()));
+            server.put("afk_time", timeAmount.apply(sessions.toAfkTime()));
+            server.put("session_median", timeAmount.apply(sessions.toMedianSessionLength()));
+            server.put("longest_session_length", timeAmount.apply(sessions.toLongestSessionLength()));
 
-            server.put("mob_kills", sessionsMutator.toMobKillCount());
-            server.put("player_kills", sessionsMutator.toPlayerKillCount());
-            server.put("deaths", sessionsMutator.toDeathCount());
+            server.put("mob_kills", sessions.toMobKillCount());
+            server.put("player_kills", sessions.toPlayerKillCount());
+            server.put("deaths", sessions.toDeathCount());
 
             WorldPie worldPie = graphs.pie().worldPie(worldTimes);
             server.put("world_pie_series", worldPie.getSlices());
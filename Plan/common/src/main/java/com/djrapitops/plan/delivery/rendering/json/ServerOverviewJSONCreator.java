@@ -33,6 +33,7 @@ import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.ServerAggregateQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.CohortQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
@@ -107,7 +108,7 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         sevenDays.put("unique_players_day", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID)));
 
         int new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        int retained7d = db.query(CohortQueries.retainedPlayerCount(weekAgo, now, serverUUID));
         double retentionPerc7d = new7d != 0 ? (double) retained7d / new7d : -1;
 
         sevenDays.put("new_players", new7d);
@@ -19,11 +19,11 @@ package com.djrapitops.plan.delivery.rendering.json;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.webserver.cache.RecentSessionsCache;
 import com.djrapitops.plan.gathering.domain.GMTimes;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 import org.apache.commons.text.WordUtils;
@@ -42,6 +42,7 @@ import java.util.concurrent.TimeUnit;
 public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<String, Object>> {
 
     private final DBSystem dbSystem;
+    private final RecentSessionsCache recentSessions;
 
     private final Formatter<Long> timeAmount;
     private final Formatter<Double> percentage;
@@ -49,9 +50,11 @@ public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<Str
     @Inject
     public SessionsOverviewJSONCreator(
             DBSystem dbSystem,
+            RecentSessionsCache recentSessions,
             Formatters formatters
     ) {
         this.dbSystem = dbSystem;
+        this.recentSessions = recentSessions;
 
         timeAmount = formatters.timeAmount();
         percentage = formatters.percentage();
@@ -76,8 +79,8 @@ public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<Str
         insights.put("server_occupied", timeAmount.apply(occupied));
         insights.put("server_occupied_perc", uptime != 0 ? percentage.apply(1.0 * occupied / uptime) : "-");
 
-        Long playtime = db.query(SessionQueries.playtime(monthAgo, now, serverUUID));
-        Long afkTime = db.query(SessionQueries.afkTime(monthAgo, now, serverUUID));
+        Long playtime = db.query(recentSessions.playtime(monthAgo, now, serverUUID));
+        Long afkTime = db.query(recentSessions.afkTime(monthAgo, now, serverUUID));
         insights.put("total_playtime", timeAmount.apply(playtime));
         insights.put("afk_time", timeAmount.apply(afkTime));
         insights.put("afk_time_perc", playtime != 0 ? percentage.apply(1.0 * afkTime / playtime) : "-");
@@ -78,6 +78,17 @@ public class GraphJSONCreator {
     }
 
     public String performanceGraphJSON(UUID serverUUID) {
+        return performanceGraphJSON(serverUUID, graphs.line().getPointLimit());
+    }
+
+    /**
+     * Create performance tab graph JSON.
+     *
+     * @param serverUUID UUID of the server.
+     * @param pointLimit Maximum amount of points per series, 0 or less for full resolution.
+     * @return JSON String
+     */
+    public String performanceGraphJSON(UUID serverUUID, int pointLimit) {
         Database db = dbSystem.getDatabase();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
@@ -85,13 +96,13 @@ public class GraphJSONCreator {
         TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(serverUUID)))
                 .filterDataBetween(halfYearAgo, now);
         return '{' +
-                "\"playersOnline\":" + lineGraphs.playersOnlineGraph(tpsMutator).toHighChartsSeries() +
-                ",\"tps\":" + lineGraphs.tpsGraph(tpsMutator).toHighChartsSeries() +
-                ",\"cpu\":" + lineGraphs.cpuGraph(tpsMutator).toHighChartsSeries() +
-                ",\"ram\":" + lineGraphs.ramGraph(tpsMutator).toHighChartsSeries() +
-                ",\"entities\":" + lineGraphs.entityGraph(tpsMutator).toHighChartsSeries() +
-                ",\"chunks\":" + lineGraphs.chunkGraph(tpsMutator).toHighChartsSeries() +
-                ",\"disk\":" + lineGraphs.diskGraph(tpsMutator).toHighChartsSeries() +
+                "\"playersOnline\":" + lineGraphs.playersOnlineGraph(tpsMutator, pointLimit).toHighChartsSeries() +
+                ",\"tps\":" + lineGraphs.tpsGraph(tpsMutator, pointLimit).toHighChartsSeries() +
+                ",\"cpu\":" + lineGraphs.cpuGraph(tpsMutator, pointLimit).toHighChartsSeries() +
+                ",\"ram\":" + lineGraphs.ramGraph(tpsMutator, pointLimit).toHighChartsSeries() +
+                ",\"entities\":" + lineGraphs.entityGraph(tpsMutator, pointLimit).toHighChartsSeries() +
+                ",\"chunks\":" + lineGraphs.chunkGraph(tpsMutator, pointLimit).toHighChartsSeries() +
+                ",\"disk\":" + lineGraphs.diskGraph(tpsMutator, pointLimit).toHighChartsSeries() +
                 ",\"colors\":{" +
                 "\"playersOnline\":\"" + theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE) + "\"," +
                 "\"cpu\":\"" + theme.getValue(ThemeVal.GRAPH_CPU) + "\"," +
@@ -110,6 +121,10 @@ public class GraphJSONCreator {
     }
 
     public String playersOnlineGraph(UUID serverUUID) {
+        return playersOnlineGraph(serverUUID, graphs.line().getPointLimit());
+    }
+
+    public String playersOnlineGraph(UUID serverUUID, int pointLimit) {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
@@ -117,7 +132,7 @@ public class GraphJSONCreator {
         List<Point> points = Lists.map(db.query(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, serverUUID)),
                 point -> new Point(point.getDate(), point.getValue())
         );
-        return "{\"playersOnline\":" + graphs.line().lineGraph(points).toHighChartsSeries() +
+        return "{\"playersOnline\":" + graphs.line().lineGraph(points, pointLimit).toHighChartsSeries() +
                 ",\"color\":\"" + theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE) + "\"}";
     }
 
@@ -243,14 +258,21 @@ public class GraphJSONCreator {
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
-        DateMap<Map<String, Integer>> activityData = new DateMap<>();
-        for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
-        }
+        DateMap<Map<String, Integer>> activityData = db.query(
+                ActivityIndexQueries.fetchActivityIndexGroupingsOn(getActivityGraphDates(date), serverUUID, threshold)
+        );
 
         return createActivityGraphJSON(activityData);
     }
 
+    private List<Long> getActivityGraphDates(long date) {
+        List<Long> dates = new ArrayList<>();
+        for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
+            dates.add(time);
+        }
+        return dates;
+    }
+
     public Map<String, Object> createActivityGraphJSON(DateMap<Map<String, Integer>> activityData) {
         Map.Entry<Long, Map<String, Integer>> lastActivityEntry = activityData.lastEntry();
         Pie activityPie = graphs.pie().activityPie(lastActivityEntry != null ? lastActivityEntry.getValue() : Collections.emptyMap());
@@ -268,10 +290,9 @@ public class GraphJSONCreator {
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
-        DateMap<Map<String, Integer>> activityData = new DateMap<>();
-        for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold)));
-        }
+        DateMap<Map<String, Integer>> activityData = db.query(
+                NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(getActivityGraphDates(date), threshold)
+        );
 
         return createActivityGraphJSON(activityData);
     }
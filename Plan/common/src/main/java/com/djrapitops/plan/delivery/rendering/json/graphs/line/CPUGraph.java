@@ -27,7 +27,7 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  */
 class CPUGraph extends LineGraph {
 
-    CPUGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.cpuPoints(), displayGaps);
+    CPUGraph(TPSMutator mutator, boolean displayGaps, int pointLimit) {
+        super(mutator.cpuPoints(), displayGaps, pointLimit);
     }
 }
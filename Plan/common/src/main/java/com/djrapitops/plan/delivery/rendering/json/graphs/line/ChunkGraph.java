@@ -27,7 +27,7 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  */
 class ChunkGraph extends LineGraph {
 
-    ChunkGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.chunkPoints(), displayGaps);
+    ChunkGraph(TPSMutator mutator, boolean displayGaps, int pointLimit) {
+        super(mutator.chunkPoints(), displayGaps, pointLimit);
     }
 }
@@ -27,7 +27,7 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  */
 class DiskGraph extends LineGraph {
 
-    DiskGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.freeDiskPoints(), displayGaps);
+    DiskGraph(TPSMutator mutator, boolean displayGaps, int pointLimit) {
+        super(mutator.freeDiskPoints(), displayGaps, pointLimit);
     }
 }
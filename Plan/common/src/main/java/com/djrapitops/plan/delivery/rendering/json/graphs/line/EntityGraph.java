@@ -27,7 +27,7 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  */
 class EntityGraph extends LineGraph {
 
-    EntityGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.entityPoints(), displayGaps);
+    EntityGraph(TPSMutator mutator, boolean displayGaps, int pointLimit) {
+        super(mutator.entityPoints(), displayGaps, pointLimit);
     }
 }
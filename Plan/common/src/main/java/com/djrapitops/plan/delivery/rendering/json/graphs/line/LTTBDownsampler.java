@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs.line;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reduces the amount of points in a line graph series with Largest-Triangle-Three-Buckets algorithm.
+ * <p>
+ * The first and last point are always kept, the rest of the points are split into buckets and from each bucket the
+ * point forming the largest triangle with the previously selected point and the average of the next bucket is kept.
+ * This preserves spikes and the visual shape of the series while sending far fewer points to the browser.
+ * <p>
+ * Points with null y value are treated as 0 when calculating triangle areas.
+ *
+ * @author Rsl1122
+ */
+public class LTTBDownsampler {
+
+    private LTTBDownsampler() {
+        /* Static method class */
+    }
+
+    /**
+     * Downsample a series of points.
+     *
+     * @param points    Points sorted by x value.
+     * @param threshold Maximum amount of points in the result, values below 3 disable downsampling.
+     * @return Downsampled list, or the original list if it already fits the threshold.
+     */
+    public static List<Point> downsample(List<Point> points, int threshold) {
+        int size = points.size();
+        if (threshold < 3 || size <= threshold) {
+            return points;
+        }
+
+        List<Point> sampled = new ArrayList<>(threshold);
+        // Buckets exclude the first and last point, which are always selected.
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+
+        int selectedIndex = 0;
+        sampled.add(points.get(selectedIndex));
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int bucketStart = (int) Math.floor(bucket * bucketSize) + 1;
+            int bucketEnd = Math.min((int) Math.floor((bucket + 1) * bucketSize) + 1, size - 1);
+
+            int nextBucketStart = bucketEnd;
+            int nextBucketEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            int nextBucketLength = Math.max(nextBucketEnd - nextBucketStart, 1);
+            for (int i = nextBucketStart; i < nextBucketStart + nextBucketLength; i++) {
+                Point point = points.get(i);
+                averageX += point.getX();
+                averageY += yOf(point);
+            }
+            averageX /= nextBucketLength;
+            averageY /= nextBucketLength;
+
+            Point selected = points.get(selectedIndex);
+            double selectedX = selected.getX();
+            double selectedY = yOf(selected);
+
+            double maxArea = -1;
+            int maxAreaIndex = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                Point point = points.get(i);
+                // Twice the triangle area, constant factor does not matter for comparison
+                double area = Math.abs(
+                        (selectedX - averageX) * (yOf(point) - selectedY)
+                                - (selectedX - point.getX()) * (averageY - selectedY)
+                );
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxAreaIndex = i;
+                }
+            }
+
+            sampled.add(points.get(maxAreaIndex));
+            selectedIndex = maxAreaIndex;
+        }
+
+        sampled.add(points.get(size - 1));
+        return sampled;
+    }
+
+    private static double yOf(Point point) {
+        Double y = point.getY();
+        return y != null ? y : 0.0;
+    }
+}
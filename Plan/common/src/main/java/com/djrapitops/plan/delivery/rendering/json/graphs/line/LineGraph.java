@@ -29,12 +29,30 @@ import java.util.concurrent.TimeUnit;
  */
 public class LineGraph implements HighChart {
 
+    private static final long GAP_THRESHOLD = TimeUnit.MINUTES.toMillis(3L);
+
     private final boolean displayGaps;
     private final List<Point> points;
+    private final long gapThreshold;
 
     public LineGraph(List<Point> points, boolean displayGaps) {
-        this.points = points;
+        this(points, displayGaps, 0);
+    }
+
+    /**
+     * Create a new LineGraph with limited resolution.
+     *
+     * @param points      Points of the graph, sorted by x value.
+     * @param displayGaps Should data gaps be displayed.
+     * @param pointLimit  Maximum amount of points in the series, 0 or less to send every point.
+     * @see LTTBDownsampler
+     */
+    public LineGraph(List<Point> points, boolean displayGaps, int pointLimit) {
+        this.points = LTTBDownsampler.downsample(points, pointLimit);
         this.displayGaps = displayGaps;
+        // Downsampled points are further apart, so gaps need to be wider to count as missing data.
+        int pointsPerSample = this.points.isEmpty() ? 1 : (int) Math.ceil((double) points.size() / this.points.size());
+        this.gapThreshold = GAP_THRESHOLD * pointsPerSample;
     }
 
     @Override
@@ -48,7 +66,7 @@ public class LineGraph implements HighChart {
             Double y = point.getY();
             long date = (long) point.getX();
 
-            if (displayGaps && lastX != null && date - lastX > TimeUnit.MINUTES.toMillis(3L)) {
+            if (displayGaps && lastX != null && date - lastX > gapThreshold) {
                 addMissingPoints(arrayBuilder, lastX, date);
             }
             lastX = date;
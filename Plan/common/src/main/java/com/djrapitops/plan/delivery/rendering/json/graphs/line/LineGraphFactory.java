@@ -44,24 +44,44 @@ public class LineGraphFactory {
     }
 
     public LineGraph lineGraph(List<Point> points) {
+        return lineGraph(points, getPointLimit());
+    }
+
+    public LineGraph lineGraph(List<Point> points, int pointLimit) {
         points.sort(new PointComparator());
-        return new LineGraph(points, shouldDisplayGapsInData());
+        return new LineGraph(points, shouldDisplayGapsInData(), pointLimit);
     }
 
     public LineGraph chunkGraph(TPSMutator mutator) {
-        return new ChunkGraph(mutator, shouldDisplayGapsInData());
+        return chunkGraph(mutator, getPointLimit());
+    }
+
+    public LineGraph chunkGraph(TPSMutator mutator, int pointLimit) {
+        return new ChunkGraph(mutator, shouldDisplayGapsInData(), pointLimit);
     }
 
     public LineGraph cpuGraph(TPSMutator mutator) {
-        return new CPUGraph(mutator, shouldDisplayGapsInData());
+        return cpuGraph(mutator, getPointLimit());
+    }
+
+    public LineGraph cpuGraph(TPSMutator mutator, int pointLimit) {
+        return new CPUGraph(mutator, shouldDisplayGapsInData(), pointLimit);
     }
 
     public LineGraph entityGraph(TPSMutator mutator) {
-        return new EntityGraph(mutator, shouldDisplayGapsInData());
+        return entityGraph(mutator, getPointLimit());
+    }
+
+    public LineGraph entityGraph(TPSMutator mutator, int pointLimit) {
+        return new EntityGraph(mutator, shouldDisplayGapsInData(), pointLimit);
     }
 
     public LineGraph playersOnlineGraph(TPSMutator mutator) {
-        return new PlayersOnlineGraph(mutator, shouldDisplayGapsInData());
+        return playersOnlineGraph(mutator, getPointLimit());
+    }
+
+    public LineGraph playersOnlineGraph(TPSMutator mutator, int pointLimit) {
+        return new PlayersOnlineGraph(mutator, shouldDisplayGapsInData(), pointLimit);
     }
 
     public PingGraph pingGraph(List<Ping> pingList) {
@@ -69,15 +89,36 @@ public class LineGraphFactory {
     }
 
     public LineGraph ramGraph(TPSMutator mutator) {
-        return new RamGraph(mutator, shouldDisplayGapsInData());
+        return ramGraph(mutator, getPointLimit());
+    }
+
+    public LineGraph ramGraph(TPSMutator mutator, int pointLimit) {
+        return new RamGraph(mutator, shouldDisplayGapsInData(), pointLimit);
     }
 
     public LineGraph tpsGraph(TPSMutator mutator) {
-        return new TPSGraph(mutator, shouldDisplayGapsInData());
+        return tpsGraph(mutator, getPointLimit());
+    }
+
+    public LineGraph tpsGraph(TPSMutator mutator, int pointLimit) {
+        return new TPSGraph(mutator, shouldDisplayGapsInData(), pointLimit);
     }
 
     public LineGraph diskGraph(TPSMutator mutator) {
-        return new DiskGraph(mutator, shouldDisplayGapsInData());
+        return diskGraph(mutator, getPointLimit());
+    }
+
+    public LineGraph diskGraph(TPSMutator mutator, int pointLimit) {
+        return new DiskGraph(mutator, shouldDisplayGapsInData(), pointLimit);
+    }
+
+    /**
+     * Get the configured maximum amount of points sent per graph series.
+     *
+     * @return Point limit, 0 or less if series should not be downsampled.
+     */
+    public int getPointLimit() {
+        return config.get(DisplaySettings.GRAPH_POINT_LIMIT);
     }
 
     private boolean shouldDisplayGapsInData() {
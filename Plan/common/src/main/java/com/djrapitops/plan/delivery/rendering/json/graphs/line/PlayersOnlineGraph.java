@@ -27,7 +27,7 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  */
 class PlayersOnlineGraph extends LineGraph {
 
-    PlayersOnlineGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.playersOnlinePoints(), displayGaps);
+    PlayersOnlineGraph(TPSMutator mutator, boolean displayGaps, int pointLimit) {
+        super(mutator.playersOnlinePoints(), displayGaps, pointLimit);
     }
 }
@@ -27,7 +27,7 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  */
 class RamGraph extends LineGraph {
 
-    RamGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.ramUsagePoints(), displayGaps);
+    RamGraph(TPSMutator mutator, boolean displayGaps, int pointLimit) {
+        super(mutator.ramUsagePoints(), displayGaps, pointLimit);
     }
 }
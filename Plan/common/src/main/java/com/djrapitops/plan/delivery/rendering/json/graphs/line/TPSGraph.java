@@ -27,7 +27,7 @@ import com.djrapitops.plan.gathering.timed.TPSCounter;
  */
 class TPSGraph extends LineGraph {
 
-    TPSGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.tpsPoints(), displayGaps);
+    TPSGraph(TPSMutator mutator, boolean displayGaps, int pointLimit) {
+        super(mutator.tpsPoints(), displayGaps, pointLimit);
     }
 }
@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.network;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+
+import java.util.*;
+
+/**
+ * Merges partial results of per-server queries into network wide results.
+ * <p>
+ * Kept separate from {@link NetworkAggregationExecutor} so that the merging can be tested without a database.
+ *
+ * @author Rsl1122
+ */
+public class NetworkAggregation {
+
+    private NetworkAggregation() {
+        /* Static method class */
+    }
+
+    public static long sum(Collection<? extends Number> partials) {
+        long sum = 0L;
+        for (Number partial : partials) {
+            if (partial != null) sum += partial.longValue();
+        }
+        return sum;
+    }
+
+    /**
+     * Find the highest of the partial peaks.
+     *
+     * @param partials Peak of each server, empty if the server had no data.
+     * @return The highest peak, the earliest one if there are multiple peaks with the same value.
+     */
+    public static Optional<DateObj<Integer>> max(Collection<Optional<DateObj<Integer>>> partials) {
+        DateObj<Integer> max = null;
+        for (Optional<DateObj<Integer>> partial : partials) {
+            if (!partial.isPresent()) continue;
+            DateObj<Integer> peak = partial.get();
+            if (max == null
+                    || peak.getValue() > max.getValue()
+                    || peak.getValue().equals(max.getValue()) && peak.getDate() < max.getDate()) {
+                max = peak;
+            }
+        }
+        return Optional.ofNullable(max);
+    }
+
+    /**
+     * Add together counts of each bucket.
+     *
+     * @param partials Histogram of each server.
+     * @param <K>      Type of the bucket, for example day or geolocation.
+     * @return Histogram with the sum of each bucket, sorted if the partials are sorted.
+     */
+    public static <K> Map<K, Integer> histogram(Collection<? extends Map<K, Integer>> partials) {
+        Map<K, Integer> merged = null;
+        for (Map<K, Integer> partial : partials) {
+            if (merged == null) {
+                merged = partial instanceof SortedMap ? new TreeMap<>(((SortedMap<K, Integer>) partial).comparator()) : new HashMap<>();
+            }
+            for (Map.Entry<K, Integer> bucket : partial.entrySet()) {
+                merged.merge(bucket.getKey(), bucket.getValue(), Integer::sum);
+            }
+        }
+        return merged != null ? merged : new HashMap<>();
+    }
+
+    /**
+     * Count players who were seen on any of the servers.
+     * <p>
+     * Counts of unique players can not be summed since the same player can play on multiple servers.
+     *
+     * @param partials Players of each server.
+     * @return Amount of distinct players.
+     */
+    public static int uniqueCount(Collection<? extends Collection<UUID>> partials) {
+        return union(partials).size();
+    }
+
+    public static Set<UUID> union(Collection<? extends Collection<UUID>> partials) {
+        Set<UUID> union = new HashSet<>();
+        for (Collection<UUID> partial : partials) {
+            union.addAll(partial);
+        }
+        return union;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.network;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Runs independent queries of network JSON in parallel.
+ * <p>
+ * At most {@link WebserverSettings#PARALLEL_NETWORK_QUERIES} queries run at the same time so that the network page
+ * can not take every connection of the connection pool. Only MySQL has a connection pool, SQLite and H2 share a single
+ * connection, so queries are run on the calling thread.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class NetworkAggregationExecutor {
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+
+    private ExecutorService executor;
+
+    @Inject
+    public NetworkAggregationExecutor(
+            PlanConfig config,
+            DBSystem dbSystem
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+    }
+
+    /**
+     * Start a query.
+     *
+     * @param query Query to run.
+     * @param <T>   Type of the result.
+     * @return Future that completes with the result, {@link CompletableFuture#join()} to wait for it.
+     */
+    public <T> CompletableFuture<T> query(Query<T> query) {
+        Database db = dbSystem.getDatabase();
+        Optional<ExecutorService> parallel = getExecutor(db);
+        if (!parallel.isPresent()) {
+            return CompletableFuture.completedFuture(db.query(query));
+        }
+        return CompletableFuture.supplyAsync(() -> db.query(query), parallel.get());
+    }
+
+    /**
+     * Run the same query for each server in parallel.
+     *
+     * @param serverUUIDs    Servers to query.
+     * @param perServerQuery Function that creates the query of a server.
+     * @param <T>            Type of the result of one server.
+     * @return Future that completes with the result of each server when every server has been queried.
+     */
+    public <T> CompletableFuture<Map<UUID, T>> queryEachServer(Collection<UUID> serverUUIDs, Function<UUID, Query<T>> perServerQuery) {
+        Map<UUID, CompletableFuture<T>> pending = new HashMap<>();
+        for (UUID serverUUID : serverUUIDs) {
+            pending.put(serverUUID, query(perServerQuery.apply(serverUUID)));
+        }
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture[0]))
+                .thenApply(allDone -> {
+                    Map<UUID, T> partials = new HashMap<>();
+                    for (Map.Entry<UUID, CompletableFuture<T>> entry : pending.entrySet()) {
+                        partials.put(entry.getKey(), entry.getValue().join());
+                    }
+                    return partials;
+                });
+    }
+
+    /**
+     * Run the same query for each server in the database in parallel.
+     *
+     * @param perServerQuery Function that creates the query of a server.
+     * @param <T>            Type of the result of one server.
+     * @return Future that completes with the result of each server, merge them with {@link NetworkAggregation}.
+     */
+    public <T> CompletableFuture<Map<UUID, T>> queryEachServer(Function<UUID, Query<T>> perServerQuery) {
+        return query(ServerQueries.fetchServerNames())
+                .thenCompose(serverNames -> queryEachServer(serverNames.keySet(), perServerQuery));
+    }
+
+    /**
+     * Wait for a query started with this executor.
+     *
+     * @param query Future of the query.
+     * @param <T>   Type of the result.
+     * @return Result of the query.
+     * @throws RuntimeException The exception thrown by the query, such as {@link com.djrapitops.plan.exceptions.database.DBOpException}.
+     */
+    public static <T> T join(CompletableFuture<T> query) {
+        try {
+            return query.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized Optional<ExecutorService> getExecutor(Database db) {
+        int parallelQueries = config.get(WebserverSettings.PARALLEL_NETWORK_QUERIES);
+        if (parallelQueries <= 1 || db.getType() != DBType.MYSQL) {
+            return Optional.empty();
+        }
+        if (executor == null || executor.isShutdown()) {
+            ThreadPoolExecutor created = new ThreadPoolExecutor(
+                    parallelQueries, parallelQueries, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new BasicThreadFactory.Builder()
+                            .namingPattern("Plan Network Query Thread-%d")
+                            .daemon(true)
+                            .build()
+            );
+            created.allowCoreThreadTimeOut(true);
+            executor = created;
+        }
+        return Optional.of(executor);
+    }
+
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+}
@@ -24,11 +24,12 @@ import com.djrapitops.plan.delivery.rendering.json.Trend;
 import com.djrapitops.plan.gathering.ServerSensor;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.UniquePlayerSketchQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 
@@ -38,6 +39,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -50,7 +52,7 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
 
     private final Formatter<Long> day;
     private final PlanConfig config;
-    private final DBSystem dbSystem;
+    private final NetworkAggregationExecutor executor;
     private final ServerInfo serverInfo;
     private final ServerSensor<?> serverSensor;
     private final Formatter<Long> timeAmount;
@@ -59,13 +61,13 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
     @Inject
     public NetworkOverviewJSONCreator(
             PlanConfig config,
-            DBSystem dbSystem,
+            NetworkAggregationExecutor executor,
             ServerInfo serverInfo,
             ServerSensor<?> serverSensor,
             Formatters formatters
     ) {
         this.config = config;
-        this.dbSystem = dbSystem;
+        this.executor = executor;
         this.serverInfo = serverInfo;
         this.serverSensor = serverSensor;
 
@@ -83,48 +85,66 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
     }
 
     private Map<String, Object> createPlayersMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
+        CompletableFuture<Integer> unique1d = executor.query(uniquePlayerCount(dayAgo, now));
+        CompletableFuture<Integer> unique7d = executor.query(uniquePlayerCount(weekAgo, now));
+        CompletableFuture<Integer> unique30d = executor.query(uniquePlayerCount(monthAgo, now));
+        CompletableFuture<Integer> new1d = executor.query(PlayerCountQueries.newPlayerCount(dayAgo, now));
+        CompletableFuture<Integer> new7d = executor.query(PlayerCountQueries.newPlayerCount(weekAgo, now));
+        CompletableFuture<Integer> new30d = executor.query(PlayerCountQueries.newPlayerCount(monthAgo, now));
+
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players_1d", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now)));
-        sevenDays.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now)));
-        sevenDays.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now)));
+        sevenDays.put("unique_players_1d", NetworkAggregationExecutor.join(unique1d));
+        sevenDays.put("unique_players_7d", NetworkAggregationExecutor.join(unique7d));
+        sevenDays.put("unique_players_30d", NetworkAggregationExecutor.join(unique30d));
 
-        sevenDays.put("new_players_1d", db.query(PlayerCountQueries.newPlayerCount(dayAgo, now)));
-        sevenDays.put("new_players_7d", db.query(PlayerCountQueries.newPlayerCount(weekAgo, now)));
-        sevenDays.put("new_players_30d", db.query(PlayerCountQueries.newPlayerCount(monthAgo, now)));
+        sevenDays.put("new_players_1d", NetworkAggregationExecutor.join(new1d));
+        sevenDays.put("new_players_7d", NetworkAggregationExecutor.join(new7d));
+        sevenDays.put("new_players_30d", NetworkAggregationExecutor.join(new30d));
 
         return sevenDays;
     }
 
+    private Query<Integer> uniquePlayerCount(long after, long before) {
+        return config.isTrue(DisplaySettings.EXACT_UNIQUE_PLAYER_COUNTS)
+                ? PlayerCountQueries.uniquePlayerCount(after, before)
+                : UniquePlayerSketchQueries.estimatedUniquePlayerCount(after, before);
+    }
+
     private Map<String, Object> createNumbersMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        UUID serverUUID = serverInfo.getServerUUID();
+
+        CompletableFuture<Integer> userCountQuery = executor.query(PlayerCountQueries.newPlayerCount(0L, now));
+        CompletableFuture<Integer> regularCount = executor.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        CompletableFuture<Optional<DateObj<Integer>>> lastPeakQuery = executor.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        CompletableFuture<Optional<DateObj<Integer>>> allTimePeakQuery = executor.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        CompletableFuture<Map<UUID, Long>> playtimeQuery = executor.queryEachServer(server -> SessionQueries.playtime(0L, now, server));
+        CompletableFuture<Map<UUID, Long>> sessionCountQuery = executor.queryEachServer(server -> SessionQueries.sessionCount(0L, now, server));
 
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(PlayerCountQueries.newPlayerCount(0L, now));
+        Integer userCount = NetworkAggregationExecutor.join(userCountQuery);
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold)));
+        numbers.put("regular_players", NetworkAggregationExecutor.join(regularCount));
         numbers.put("online_players", serverSensor.getOnlinePlayerCount());
-        UUID serverUUID = serverInfo.getServerUUID();
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Optional<DateObj<Integer>> lastPeak = NetworkAggregationExecutor.join(lastPeakQuery);
+        Optional<DateObj<Integer>> allTimePeak = NetworkAggregationExecutor.join(allTimePeakQuery);
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now));
+        long totalPlaytime = NetworkAggregation.sum(NetworkAggregationExecutor.join(playtimeQuery).values());
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        Long sessionCount = db.query(SessionQueries.sessionCount(0L, now));
+        long sessionCount = NetworkAggregation.sum(NetworkAggregationExecutor.join(sessionCountQuery).values());
         numbers.put("sessions", sessionCount);
         numbers.put("session_length_avg", sessionCount != 0 ? timeAmount.apply(totalPlaytime / sessionCount) : "-");
 
@@ -132,40 +152,50 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
     }
 
     private Map<String, Object> createWeeksMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long oneWeekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long twoWeeksAgo = now - TimeUnit.DAYS.toMillis(14L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        CompletableFuture<Integer> uniqueBeforeQuery = executor.query(uniquePlayerCount(twoWeeksAgo, oneWeekAgo));
+        CompletableFuture<Integer> uniqueAfterQuery = executor.query(uniquePlayerCount(oneWeekAgo, now));
+        CompletableFuture<Integer> newBeforeQuery = executor.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo));
+        CompletableFuture<Integer> newAfterQuery = executor.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now));
+        CompletableFuture<Integer> regularBeforeQuery = executor.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
+        CompletableFuture<Integer> regularAfterQuery = executor.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        CompletableFuture<Map<UUID, Long>> playtimeBeforeQuery = executor.queryEachServer(server -> SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, server));
+        CompletableFuture<Map<UUID, Long>> playtimeAfterQuery = executor.queryEachServer(server -> SessionQueries.playtime(oneWeekAgo, now, server));
+        CompletableFuture<Map<UUID, Long>> sessionsBeforeQuery = executor.queryEachServer(server -> SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, server));
+        CompletableFuture<Map<UUID, Long>> sessionsAfterQuery = executor.queryEachServer(server -> SessionQueries.sessionCount(oneWeekAgo, now, server));
+
         Map<String, Object> weeks = new HashMap<>();
 
         weeks.put("start", day.apply(twoWeeksAgo));
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now));
+        Integer uniqueBefore = NetworkAggregationExecutor.join(uniqueBeforeQuery);
+        Integer uniqueAfter = NetworkAggregationExecutor.join(uniqueAfterQuery);
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now));
+        Integer newBefore = NetworkAggregationExecutor.join(newBeforeQuery);
+        Integer newAfter = NetworkAggregationExecutor.join(newAfterQuery);
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
-        int regularAfter = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        int regularBefore = NetworkAggregationExecutor.join(regularBeforeQuery);
+        int regularAfter = NetworkAggregationExecutor.join(regularAfterQuery);
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now));
+        long playtimeBefore = NetworkAggregation.sum(NetworkAggregationExecutor.join(playtimeBeforeQuery).values());
+        long playtimeAfter = NetworkAggregation.sum(NetworkAggregationExecutor.join(playtimeAfterQuery).values());
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -173,8 +203,8 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now));
+        long sessionsBefore = NetworkAggregation.sum(NetworkAggregationExecutor.join(sessionsBeforeQuery).values());
+        long sessionsAfter = NetworkAggregation.sum(NetworkAggregationExecutor.join(sessionsAfterQuery).values());
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
@@ -189,4 +219,4 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
 
         return weeks;
     }
-}
\ No newline at end of file
+}
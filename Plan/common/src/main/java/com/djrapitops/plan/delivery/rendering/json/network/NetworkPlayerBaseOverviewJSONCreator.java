@@ -21,8 +21,6 @@ import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.json.Trend;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
@@ -31,6 +29,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,7 +41,7 @@ import java.util.concurrent.TimeUnit;
 public class NetworkPlayerBaseOverviewJSONCreator implements NetworkTabJSONCreator<Map<String, Object>> {
 
     private final PlanConfig config;
-    private final DBSystem dbSystem;
+    private final NetworkAggregationExecutor executor;
 
     private final Formatter<Long> timeAmount;
     private final Formatter<Double> percentage;
@@ -50,11 +49,11 @@ public class NetworkPlayerBaseOverviewJSONCreator implements NetworkTabJSONCreat
     @Inject
     public NetworkPlayerBaseOverviewJSONCreator(
             PlanConfig config,
-            DBSystem dbSystem,
+            NetworkAggregationExecutor executor,
             Formatters formatters
     ) {
         this.config = config;
-        this.dbSystem = dbSystem;
+        this.executor = executor;
 
         timeAmount = formatters.timeAmount();
         percentage = formatters.percentage();
@@ -68,54 +67,68 @@ public class NetworkPlayerBaseOverviewJSONCreator implements NetworkTabJSONCreat
     }
 
     private Map<String, Object> createTrendsMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
         long twoMonthsAgo = now - TimeUnit.DAYS.toMillis(60L);
         Long playThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        CompletableFuture<Integer> playersBeforeQuery = executor.query(PlayerCountQueries.newPlayerCount(0L, monthAgo));
+        CompletableFuture<Integer> playersAfterQuery = executor.query(PlayerCountQueries.newPlayerCount(0L, now));
+        CompletableFuture<Integer> regularBeforeQuery = executor.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(monthAgo, playThreshold));
+        CompletableFuture<Integer> regularAfterQuery = executor.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playThreshold));
+        CompletableFuture<Long> avgPlaytimeBeforeQuery = executor.query(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo));
+        CompletableFuture<Long> avgPlaytimeAfterQuery = executor.query(SessionQueries.averagePlaytimePerPlayer(monthAgo, now));
+        CompletableFuture<Long> avgAfkBeforeQuery = executor.query(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo));
+        CompletableFuture<Long> avgAfkAfterQuery = executor.query(SessionQueries.averageAfkPerPlayer(monthAgo, now));
+        CompletableFuture<Long> avgRegularPlaytimeBeforeQuery = executor.query(NetworkActivityIndexQueries.averagePlaytimePerRegularPlayer(twoMonthsAgo, monthAgo, playThreshold));
+        CompletableFuture<Long> avgRegularPlaytimeAfterQuery = executor.query(NetworkActivityIndexQueries.averagePlaytimePerRegularPlayer(monthAgo, now, playThreshold));
+        CompletableFuture<Long> avgRegularSessionLengthBeforeQuery = executor.query(NetworkActivityIndexQueries.averageSessionLengthPerRegularPlayer(twoMonthsAgo, monthAgo, playThreshold));
+        CompletableFuture<Long> avgRegularSessionLengthAfterQuery = executor.query(NetworkActivityIndexQueries.averageSessionLengthPerRegularPlayer(monthAgo, now, playThreshold));
+        CompletableFuture<Long> avgRegularAfkBeforeQuery = executor.query(NetworkActivityIndexQueries.averageAFKPerRegularPlayer(twoMonthsAgo, monthAgo, playThreshold));
+        CompletableFuture<Long> avgRegularAfkAfterQuery = executor.query(NetworkActivityIndexQueries.averageAFKPerRegularPlayer(monthAgo, now, playThreshold));
+
         Map<String, Object> trends = new HashMap<>();
 
-        Integer playersBefore = db.query(PlayerCountQueries.newPlayerCount(0L, monthAgo));
-        Integer playersAfter = db.query(PlayerCountQueries.newPlayerCount(0L, now));
+        Integer playersBefore = NetworkAggregationExecutor.join(playersBeforeQuery);
+        Integer playersAfter = NetworkAggregationExecutor.join(playersAfterQuery);
         trends.put("total_players_then", playersBefore);
         trends.put("total_players_now", playersAfter);
         trends.put("total_players_trend", new Trend(playersBefore, playersAfter, false));
 
-        Integer regularBefore = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(monthAgo, playThreshold));
-        Integer regularAfter = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playThreshold));
+        Integer regularBefore = NetworkAggregationExecutor.join(regularBeforeQuery);
+        Integer regularAfter = NetworkAggregationExecutor.join(regularAfterQuery);
         trends.put("regular_players_then", regularBefore);
         trends.put("regular_players_now", regularAfter);
         trends.put("regular_players_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long avgPlaytimeBefore = db.query(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo));
-        Long avgPlaytimeAfter = db.query(SessionQueries.averagePlaytimePerPlayer(monthAgo, now));
+        Long avgPlaytimeBefore = NetworkAggregationExecutor.join(avgPlaytimeBeforeQuery);
+        Long avgPlaytimeAfter = NetworkAggregationExecutor.join(avgPlaytimeAfterQuery);
         trends.put("playtime_avg_then", timeAmount.apply(avgPlaytimeBefore));
         trends.put("playtime_avg_now", timeAmount.apply(avgPlaytimeAfter));
         trends.put("playtime_avg_trend", new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount));
 
-        Long avgAfkBefore = db.query(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo));
-        Long avgAfkAfter = db.query(SessionQueries.averageAfkPerPlayer(monthAgo, now));
+        Long avgAfkBefore = NetworkAggregationExecutor.join(avgAfkBeforeQuery);
+        Long avgAfkAfter = NetworkAggregationExecutor.join(avgAfkAfterQuery);
         double afkPercBefore = avgPlaytimeBefore != 0 ? (double) avgAfkBefore / avgPlaytimeBefore : 0;
         double afkPercAfter = avgPlaytimeAfter != 0 ? (double) avgAfkAfter / avgPlaytimeAfter : 0;
         trends.put("afk_then", percentage.apply(afkPercBefore));
         trends.put("afk_now", percentage.apply(afkPercAfter));
         trends.put("afk_trend", new Trend(afkPercBefore, afkPercAfter, Trend.REVERSED, percentage));
 
-        Long avgRegularPlaytimeBefore = db.query(NetworkActivityIndexQueries.averagePlaytimePerRegularPlayer(twoMonthsAgo, monthAgo, playThreshold));
-        Long avgRegularPlaytimeAfter = db.query(NetworkActivityIndexQueries.averagePlaytimePerRegularPlayer(monthAgo, now, playThreshold));
+        Long avgRegularPlaytimeBefore = NetworkAggregationExecutor.join(avgRegularPlaytimeBeforeQuery);
+        Long avgRegularPlaytimeAfter = NetworkAggregationExecutor.join(avgRegularPlaytimeAfterQuery);
         trends.put("regular_playtime_avg_then", timeAmount.apply(avgRegularPlaytimeBefore));
         trends.put("regular_playtime_avg_now", timeAmount.apply(avgRegularPlaytimeAfter));
         trends.put("regular_playtime_avg_trend", new Trend(avgRegularPlaytimeBefore, avgRegularPlaytimeAfter, false, timeAmount));
 
-        Long avgRegularSessionLengthBefore = db.query(NetworkActivityIndexQueries.averageSessionLengthPerRegularPlayer(twoMonthsAgo, monthAgo, playThreshold));
-        Long avgRegularSessionLengthAfter = db.query(NetworkActivityIndexQueries.averageSessionLengthPerRegularPlayer(monthAgo, now, playThreshold));
+        Long avgRegularSessionLengthBefore = NetworkAggregationExecutor.join(avgRegularSessionLengthBeforeQuery);
+        Long avgRegularSessionLengthAfter = NetworkAggregationExecutor.join(avgRegularSessionLengthAfterQuery);
         trends.put("regular_session_avg_then", timeAmount.apply(avgRegularSessionLengthBefore));
         trends.put("regular_session_avg_now", timeAmount.apply(avgRegularSessionLengthAfter));
         trends.put("regular_session_avg_trend", new Trend(avgRegularSessionLengthBefore, avgRegularSessionLengthAfter, false, timeAmount));
 
-        Long avgRegularAfkBefore = db.query(NetworkActivityIndexQueries.averageAFKPerRegularPlayer(twoMonthsAgo, monthAgo, playThreshold));
-        Long avgRegularAfkAfter = db.query(NetworkActivityIndexQueries.averageAFKPerRegularPlayer(monthAgo, now, playThreshold));
+        Long avgRegularAfkBefore = NetworkAggregationExecutor.join(avgRegularAfkBeforeQuery);
+        Long avgRegularAfkAfter = NetworkAggregationExecutor.join(avgRegularAfkAfterQuery);
         double afkRegularPercBefore = avgRegularPlaytimeBefore != 0 ? (double) avgRegularAfkBefore / avgRegularPlaytimeBefore : 0;
         double afkRegularPercAfter = avgRegularPlaytimeAfter != 0 ? (double) avgRegularAfkAfter / avgRegularPlaytimeAfter : 0;
         trends.put("regular_afk_avg_then", percentage.apply(afkRegularPercBefore));
@@ -126,23 +139,29 @@ public class NetworkPlayerBaseOverviewJSONCreator implements NetworkTabJSONCreat
     }
 
     private Map<String, Object> createInsightsMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long halfMonthAgo = now - TimeUnit.DAYS.toMillis(15L);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
         Long playThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        CompletableFuture<Integer> newToRegularQuery = executor.query(NetworkActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, now, playThreshold));
+        CompletableFuture<Integer> newToRegularBeforeQuery = executor.query(NetworkActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, halfMonthAgo, playThreshold));
+        CompletableFuture<Integer> newToRegularAfterQuery = executor.query(NetworkActivityIndexQueries.countNewPlayersTurnedRegular(halfMonthAgo, now, playThreshold));
+        CompletableFuture<Integer> regularToInactiveQuery = executor.query(NetworkActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, now, playThreshold));
+        CompletableFuture<Integer> regularToInactiveBeforeQuery = executor.query(NetworkActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, halfMonthAgo, playThreshold));
+        CompletableFuture<Integer> regularToInactiveAfterQuery = executor.query(NetworkActivityIndexQueries.countRegularPlayersTurnedInactive(halfMonthAgo, now, playThreshold));
+
         Map<String, Object> insights = new HashMap<>();
 
-        int newToRegular = db.query(NetworkActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, now, playThreshold));
-        Integer newToRegularBefore = db.query(NetworkActivityIndexQueries.countNewPlayersTurnedRegular(monthAgo, halfMonthAgo, playThreshold));
-        Integer newToRegularAfter = db.query(NetworkActivityIndexQueries.countNewPlayersTurnedRegular(halfMonthAgo, now, playThreshold));
+        int newToRegular = NetworkAggregationExecutor.join(newToRegularQuery);
+        Integer newToRegularBefore = NetworkAggregationExecutor.join(newToRegularBeforeQuery);
+        Integer newToRegularAfter = NetworkAggregationExecutor.join(newToRegularAfterQuery);
         insights.put("new_to_regular", newToRegular);
         insights.put("new_to_regular_trend", new Trend(newToRegularBefore, newToRegularAfter, false));
 
-        Integer regularToInactive = db.query(NetworkActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, now, playThreshold));
-        Integer regularToInactiveBefore = db.query(NetworkActivityIndexQueries.countRegularPlayersTurnedInactive(monthAgo, halfMonthAgo, playThreshold));
-        Integer regularToInactiveAfter = db.query(NetworkActivityIndexQueries.countRegularPlayersTurnedInactive(halfMonthAgo, now, playThreshold));
+        Integer regularToInactive = NetworkAggregationExecutor.join(regularToInactiveQuery);
+        Integer regularToInactiveBefore = NetworkAggregationExecutor.join(regularToInactiveBeforeQuery);
+        Integer regularToInactiveAfter = NetworkAggregationExecutor.join(regularToInactiveAfterQuery);
         insights.put("regular_to_inactive", regularToInactive);
         insights.put("regular_to_inactive_trend", new Trend(regularToInactiveBefore, regularToInactiveAfter, Trend.REVERSED));
 
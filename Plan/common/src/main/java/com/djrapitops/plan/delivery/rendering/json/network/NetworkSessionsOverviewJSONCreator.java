@@ -18,8 +18,6 @@ package com.djrapitops.plan.delivery.rendering.json.network;
 
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 
 import javax.inject.Inject;
@@ -27,6 +25,8 @@ import javax.inject.Singleton;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -37,17 +37,17 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class NetworkSessionsOverviewJSONCreator implements NetworkTabJSONCreator<Map<String, Object>> {
 
-    private final DBSystem dbSystem;
+    private final NetworkAggregationExecutor executor;
 
     private final Formatter<Long> timeAmount;
     private final Formatter<Double> percentage;
 
     @Inject
     public NetworkSessionsOverviewJSONCreator(
-            DBSystem dbSystem,
+            NetworkAggregationExecutor executor,
             Formatters formatters
     ) {
-        this.dbSystem = dbSystem;
+        this.executor = executor;
 
         timeAmount = formatters.timeAmount();
         percentage = formatters.percentage();
@@ -58,14 +58,16 @@ public class NetworkSessionsOverviewJSONCreator implements NetworkTabJSONCreator
     }
 
     private Map<String, Object> createInsightsMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
+        CompletableFuture<Map<UUID, Long>> playtimeQuery = executor.queryEachServer(server -> SessionQueries.playtime(monthAgo, now, server));
+        CompletableFuture<Map<UUID, Long>> afkTimeQuery = executor.queryEachServer(server -> SessionQueries.afkTime(monthAgo, now, server));
+
         Map<String, Object> insights = new HashMap<>();
 
-        Long playtime = db.query(SessionQueries.playtime(monthAgo, now));
-        Long afkTime = db.query(SessionQueries.afkTime(monthAgo, now));
+        long playtime = NetworkAggregation.sum(NetworkAggregationExecutor.join(playtimeQuery).values());
+        long afkTime = NetworkAggregation.sum(NetworkAggregationExecutor.join(afkTimeQuery).values());
         insights.put("total_playtime", timeAmount.apply(playtime));
         insights.put("afk_time", timeAmount.apply(afkTime));
         insights.put("afk_time_perc", playtime != 0 ? percentage.apply(1.0 * afkTime / playtime) : "-");
@@ -24,6 +24,8 @@ import com.djrapitops.plan.delivery.rendering.html.Contributors;
 import com.djrapitops.plan.delivery.rendering.html.Html;
 import com.djrapitops.plan.delivery.rendering.html.icon.Icon;
 import com.djrapitops.plan.delivery.rendering.html.structure.TabsElement;
+import com.djrapitops.plan.delivery.webserver.AdmissionControl;
+import com.djrapitops.plan.delivery.webserver.auth.VerifiedCredentialCache;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.Session;
@@ -42,6 +44,7 @@ import com.djrapitops.plugin.logging.debug.DebugLogger;
 import com.djrapitops.plugin.logging.debug.MemoryDebugLogger;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Html String generator for /debug page.
@@ -57,6 +60,7 @@ public class DebugPage implements Page {
     private final CombineDebugLogger debugLogger;
     private final Timings timings;
     private final ErrorLogger errorLogger;
+    private final AdmissionControl admissionControl;
 
     private final Formatter<Long> yearFormatter;
 
@@ -69,7 +73,8 @@ public class DebugPage implements Page {
             VersionChecker versionChecker,
             DebugLogger debugLogger,
             Timings timings,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            AdmissionControl admissionControl
     ) {
         this.template = htmlTemplate;
 
@@ -79,6 +84,7 @@ public class DebugPage implements Page {
         this.debugLogger = (CombineDebugLogger) debugLogger;
         this.timings = timings;
         this.errorLogger = errorLogger;
+        this.admissionControl = admissionControl;
 
         this.yearFormatter = formatters.yearLong();
     }
@@ -121,6 +127,7 @@ public class DebugPage implements Page {
         appendResourceCache(content);
         appendJSONCache(content);
         appendSessionCache(content);
+        appendAuthenticationCache(content);
         return content.toString();
     }
 
@@ -177,6 +184,31 @@ public class DebugPage implements Page {
         }
     }
 
+    private void appendAuthenticationCache(StringBuilder content) {
+        try {
+            content.append("<pre>### Basic Authentication:<br><br>")
+                    .append("Cached credentials used: ").append(VerifiedCredentialCache.getCacheHits()).append("<br>")
+                    .append("Passwords verified: ").append(VerifiedCredentialCache.getVerifications()).append("<br>")
+                    .append("Average verification time: ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(VerifiedCredentialCache.getAverageVerificationNanos())).append(" ms<br>")
+                    .append("</pre>");
+        } catch (Exception e) {
+            errorLogger.log(L.WARN, e, ErrorContext.builder().related("/debug page access, Authentication cache").build());
+        }
+    }
+
+    private void appendWebserverLoad(StringBuilder content) {
+        content.append("<pre>### Webserver requests:<br><br>")
+                .append("Category | Active | Queued <br>")
+                .append("-- | -- | -- <br>");
+        for (AdmissionControl.Category category : AdmissionControl.Category.values()) {
+            content.append(category.name()).append(" | ")
+                    .append(admissionControl.getActiveCount(category)).append(" | ")
+                    .append(admissionControl.getQueuedCount(category)).append("<br>");
+        }
+        content.append("</pre>");
+    }
+
     private String createDebugLogContent() {
         StringBuilder content = new StringBuilder();
         appendDebugLog(content);
@@ -193,6 +225,7 @@ public class DebugPage implements Page {
         StringBuilder content = new StringBuilder();
 
         appendServerInformation(content);
+        appendWebserverLoad(content);
         appendBenchmarks(content);
 
         return content.toString();
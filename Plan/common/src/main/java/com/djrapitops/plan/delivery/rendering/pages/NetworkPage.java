@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.container.CachingSupplier;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.delivery.rendering.html.Contributors;
+import com.djrapitops.plan.delivery.rendering.html.template.CompiledTemplate;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.implementation.results.ExtensionData;
@@ -31,7 +32,6 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.utilities.java.UnaryChain;
 import com.djrapitops.plan.version.VersionChecker;
 import org.apache.commons.lang3.StringUtils;
 
@@ -45,7 +45,7 @@ import java.util.UUID;
  */
 public class NetworkPage implements Page {
 
-    private final String templateHtml;
+    private final CompiledTemplate template;
     private final DBSystem dbSystem;
 
     private final VersionChecker versionChecker;
@@ -56,7 +56,7 @@ public class NetworkPage implements Page {
     private final Formatters formatters;
 
     NetworkPage(
-            String templateHtml,
+            CompiledTemplate template,
 
             DBSystem dbSystem,
             VersionChecker versionChecker,
@@ -66,7 +66,7 @@ public class NetworkPage implements Page {
             ServerInfo serverInfo,
             Formatters formatters
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.dbSystem = dbSystem;
         this.versionChecker = versionChecker;
         this.config = config;
@@ -95,7 +95,7 @@ public class NetworkPage implements Page {
         placeholders.put("timeZone", config.getTimeZoneOffsetHours());
 
         placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
+        placeholders.put("updateModal", locale.replaceLanguageInHtml(versionChecker.getUpdateModal()));
         placeholders.put("contributors", Contributors.generateContributorHtml());
 
         CachingSupplier<ServerPluginTabs> pluginTabs = new CachingSupplier<>(() -> {
@@ -106,18 +106,10 @@ public class NetworkPage implements Page {
         String nav = JSONCache.getOrCacheString(DataID.EXTENSION_NAV, serverUUID, () -> pluginTabs.get().getNav());
         String tabs = JSONCache.getOrCacheString(DataID.EXTENSION_TABS, serverUUID, () -> pluginTabs.get().getTabs());
 
-        PlaceholderReplacer pluginPlaceholders = new PlaceholderReplacer();
-        pluginPlaceholders.put("networkDisplayName", config.get(ProxySettings.NETWORK_NAME));
-        pluginPlaceholders.put("serverName", config.get(ProxySettings.NETWORK_NAME));
-        pluginPlaceholders.put("serverUUID", serverUUID.toString());
-        pluginPlaceholders.put("navPluginsTabs", nav);
-        pluginPlaceholders.put("tabsPlugins", StringUtils.remove(tabs, "${backButton}"));
+        // Plugin tabs contain placeholders and text that needs to be translated
+        placeholders.put("navPluginsTabs", locale.replaceLanguageInHtml(placeholders.apply(nav)));
+        placeholders.put("tabsPlugins", locale.replaceLanguageInHtml(placeholders.apply(StringUtils.remove(tabs, "${backButton}"))));
 
-        return UnaryChain.of(templateHtml)
-                .chain(theme::replaceThemeColors)
-                .chain(placeholders::apply)
-                .chain(pluginPlaceholders::apply)
-                .chain(locale::replaceLanguageInHtml)
-                .apply();
+        return template.render(placeholders);
     }
 }
\ No newline at end of file
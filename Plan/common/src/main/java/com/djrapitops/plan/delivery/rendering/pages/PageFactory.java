@@ -19,8 +19,11 @@ package com.djrapitops.plan.delivery.rendering.pages;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.html.icon.Icon;
+import com.djrapitops.plan.delivery.rendering.html.template.CompiledTemplate;
+import com.djrapitops.plan.delivery.rendering.html.template.TemplateCache;
 import com.djrapitops.plan.delivery.web.ResourceService;
 import com.djrapitops.plan.delivery.web.resolver.exception.NotFoundException;
+import com.djrapitops.plan.delivery.webserver.AdmissionControl;
 import com.djrapitops.plan.extension.implementation.results.ExtensionData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
 import com.djrapitops.plan.identification.Server;
@@ -64,6 +67,8 @@ public class PageFactory {
     private final Lazy<DebugLogger> debugLogger;
     private final Lazy<Timings> timings;
     private final Lazy<ErrorLogger> errorLogger;
+    private final Lazy<AdmissionControl> admissionControl;
+    private final Lazy<TemplateCache> templateCache;
 
     @Inject
     public PageFactory(
@@ -77,7 +82,9 @@ public class PageFactory {
             Lazy<Formatters> formatters,
             Lazy<DebugLogger> debugLogger,
             Lazy<Timings> timings,
-            Lazy<ErrorLogger> errorLogger
+            Lazy<ErrorLogger> errorLogger,
+            Lazy<AdmissionControl> admissionControl,
+            Lazy<TemplateCache> templateCache
     ) {
         this.versionChecker = versionChecker;
         this.files = files;
@@ -90,19 +97,21 @@ public class PageFactory {
         this.debugLogger = debugLogger;
         this.timings = timings;
         this.errorLogger = errorLogger;
+        this.admissionControl = admissionControl;
+        this.templateCache = templateCache;
     }
 
     public DebugPage debugPage() throws IOException {
         return new DebugPage(
                 getResource("error.html"),
                 dbSystem.get().getDatabase(), serverInfo.get(), formatters.get(), versionChecker.get(),
-                debugLogger.get(), timings.get(), errorLogger.get()
+                debugLogger.get(), timings.get(), errorLogger.get(), admissionControl.get()
         );
     }
 
     public PlayersPage playersPage() throws IOException {
-        return new PlayersPage(getResource("players.html"), versionChecker.get(),
-                config.get(), locale.get(), theme.get(), serverInfo.get());
+        return new PlayersPage(getTemplate("players.html"), versionChecker.get(),
+                config.get(), locale.get(), serverInfo.get());
     }
 
     /**
@@ -117,7 +126,7 @@ public class PageFactory {
         Server server = dbSystem.get().getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
                 .orElseThrow(() -> new NotFoundException("Server not found in the database"));
         return new ServerPage(
-                getResource("server.html"),
+                getTemplate("server.html"),
                 server,
                 config.get(),
                 theme.get(),
@@ -133,7 +142,7 @@ public class PageFactory {
         Database db = dbSystem.get().getDatabase();
         PlayerContainer player = db.query(ContainerFetchQueries.fetchPlayerContainer(playerUUID));
         return new PlayerPage(
-                getResource("player.html"), player,
+                getTemplate("player.html"), player,
                 versionChecker.get(),
                 config.get(), this, theme.get(), locale.get(),
                 formatters.get(), serverInfo.get()
@@ -174,7 +183,7 @@ public class PageFactory {
     }
 
     public NetworkPage networkPage() throws IOException {
-        return new NetworkPage(getResource("network.html"),
+        return new NetworkPage(getTemplate("network.html"),
                 dbSystem.get(),
                 versionChecker.get(),
                 config.get(), theme.get(), locale.get(),
@@ -215,6 +224,10 @@ public class PageFactory {
         }
     }
 
+    private CompiledTemplate getTemplate(String name) throws IOException {
+        return templateCache.get().getCompiled(name, getResource(name));
+    }
+
     public Page loginPage() throws IOException {
         return new LoginPage(getResource("login.html"), serverInfo.get());
     }
@@ -23,12 +23,12 @@ import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.delivery.rendering.html.Contributors;
 import com.djrapitops.plan.delivery.rendering.html.Html;
+import com.djrapitops.plan.delivery.rendering.html.template.CompiledTemplate;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
-import com.djrapitops.plan.utilities.java.UnaryChain;
 import com.djrapitops.plan.version.VersionChecker;
 
 import java.util.UUID;
@@ -40,7 +40,7 @@ import java.util.UUID;
  */
 public class PlayerPage implements Page {
 
-    private final String templateHtml;
+    private final CompiledTemplate template;
     private final PlayerContainer player;
 
     private final VersionChecker versionChecker;
@@ -55,7 +55,7 @@ public class PlayerPage implements Page {
     private final Formatter<Long> secondLongFormatter;
 
     PlayerPage(
-            String templateHtml,
+            CompiledTemplate template,
             PlayerContainer player,
             VersionChecker versionChecker,
             PlanConfig config,
@@ -65,7 +65,7 @@ public class PlayerPage implements Page {
             Formatters formatters,
             ServerInfo serverInfo
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.player = player;
         this.versionChecker = versionChecker;
         this.config = config;
@@ -95,7 +95,7 @@ public class PlayerPage implements Page {
         placeholders.put("refresh", clockLongFormatter.apply(now));
         placeholders.put("refreshFull", secondLongFormatter.apply(now));
         placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
+        placeholders.put("updateModal", locale.replaceLanguageInHtml(versionChecker.getUpdateModal()));
 
         String playerName = player.getValue(PlayerKeys.NAME).orElse(playerUUID.toString());
         placeholders.put("playerName", playerName);
@@ -105,19 +105,14 @@ public class PlayerPage implements Page {
 
         placeholders.put("contributors", Contributors.generateContributorHtml());
 
-        PlaceholderReplacer pluginPlaceholders = new PlaceholderReplacer();
         PlayerPluginTab pluginTabs = pageFactory.inspectPluginTabs(playerUUID);
 
-        pluginPlaceholders.put("playerName", playerName);
-        pluginPlaceholders.put("backButton", (serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK : Html.BACK_BUTTON_SERVER).create());
-        pluginPlaceholders.put("navPluginsTabs", pluginTabs.getNav());
-        pluginPlaceholders.put("pluginsTabs", pluginTabs.getTab());
-
-        return UnaryChain.of(templateHtml)
-                .chain(theme::replaceThemeColors)
-                .chain(placeholders::apply)
-                .chain(pluginPlaceholders::apply)
-                .chain(locale::replaceLanguageInHtml)
-                .apply();
+        String backButton = (serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK : Html.BACK_BUTTON_SERVER).create();
+        placeholders.put("backButton", locale.replaceLanguageInHtml(backButton));
+        // Plugin tabs contain placeholders and text that needs to be translated
+        placeholders.put("navPluginsTabs", locale.replaceLanguageInHtml(placeholders.apply(pluginTabs.getNav())));
+        placeholders.put("pluginsTabs", locale.replaceLanguageInHtml(placeholders.apply(pluginTabs.getTab())));
+
+        return template.render(placeholders);
     }
 }
@@ -18,12 +18,12 @@ package com.djrapitops.plan.delivery.rendering.pages;
 
 import com.djrapitops.plan.delivery.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.delivery.rendering.html.Contributors;
+import com.djrapitops.plan.delivery.rendering.html.template.CompiledTemplate;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.ProxySettings;
 import com.djrapitops.plan.settings.locale.Locale;
-import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.version.VersionChecker;
 
 /**
@@ -33,26 +33,23 @@ import com.djrapitops.plan.version.VersionChecker;
  */
 public class PlayersPage implements Page {
 
-    private final String templateHtml;
+    private final CompiledTemplate template;
     private final VersionChecker versionChecker;
     private final PlanConfig config;
     private final Locale locale;
-    private final Theme theme;
     private final ServerInfo serverInfo;
 
     PlayersPage(
-            String templateHtml,
+            CompiledTemplate template,
             VersionChecker versionChecker,
             PlanConfig config,
             Locale locale,
-            Theme theme,
             ServerInfo serverInfo
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.versionChecker = versionChecker;
         this.config = config;
         this.locale = locale;
-        this.theme = theme;
         this.serverInfo = serverInfo;
     }
 
@@ -61,7 +58,7 @@ public class PlayersPage implements Page {
         PlaceholderReplacer placeholders = new PlaceholderReplacer();
 
         placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
+        placeholders.put("updateModal", locale.replaceLanguageInHtml(versionChecker.getUpdateModal()));
         placeholders.put("contributors", Contributors.generateContributorHtml());
         if (serverInfo.getServer().isProxy()) {
             placeholders.put("networkName", config.get(ProxySettings.NETWORK_NAME));
@@ -69,6 +66,6 @@ public class PlayersPage implements Page {
             placeholders.put("networkName", config.get(PluginSettings.SERVER_NAME));
         }
 
-        return locale.replaceLanguageInHtml(placeholders.apply(theme.replaceThemeColors(templateHtml)));
+        return template.render(placeholders);
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.delivery.rendering.html.Contributors;
 import com.djrapitops.plan.delivery.rendering.html.Html;
+import com.djrapitops.plan.delivery.rendering.html.template.CompiledTemplate;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.implementation.results.ExtensionData;
@@ -32,7 +33,6 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.utilities.java.UnaryChain;
 import com.djrapitops.plan.version.VersionChecker;
 
 import java.util.List;
@@ -45,7 +45,7 @@ import java.util.UUID;
  */
 public class ServerPage implements Page {
 
-    private final String templateHtml;
+    private final CompiledTemplate template;
     private final Server server;
     private final PlanConfig config;
     private final Theme theme;
@@ -56,7 +56,7 @@ public class ServerPage implements Page {
     private final Formatters formatters;
 
     ServerPage(
-            String templateHtml, Server server,
+            CompiledTemplate template, Server server,
             PlanConfig config,
             Theme theme,
             Locale locale,
@@ -65,7 +65,7 @@ public class ServerPage implements Page {
             ServerInfo serverInfo,
             Formatters formatters
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.server = server;
         this.config = config;
         this.theme = theme;
@@ -90,7 +90,7 @@ public class ServerPage implements Page {
 
         placeholders.put("contributors", Contributors.generateContributorHtml());
         placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
+        placeholders.put("updateModal", locale.replaceLanguageInHtml(versionChecker.getUpdateModal()));
 
         CachingSupplier<ServerPluginTabs> pluginTabs = new CachingSupplier<>(() -> {
             List<ExtensionData> extensionData = dbSystem.getDatabase().query(new ExtensionServerDataQuery(serverUUID));
@@ -100,19 +100,12 @@ public class ServerPage implements Page {
         String nav = JSONCache.getOrCacheString(DataID.EXTENSION_NAV, serverUUID, () -> pluginTabs.get().getNav());
         String tabs = JSONCache.getOrCacheString(DataID.EXTENSION_TABS, serverUUID, () -> pluginTabs.get().getTabs());
 
-        PlaceholderReplacer pluginPlaceholders = new PlaceholderReplacer();
-        pluginPlaceholders.put("serverUUID", serverUUID.toString());
-        pluginPlaceholders.put("serverName", server.getIdentifiableName());
-        pluginPlaceholders.put("serverDisplayName", server.getName());
-        pluginPlaceholders.put("backButton", serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK.create() : "");
-        pluginPlaceholders.put("navPluginsTabs", nav);
-        pluginPlaceholders.put("tabsPlugins", tabs);
+        String backButton = serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK.create() : "";
+        placeholders.put("backButton", locale.replaceLanguageInHtml(backButton));
+        // Plugin tabs contain placeholders and text that needs to be translated
+        placeholders.put("navPluginsTabs", locale.replaceLanguageInHtml(placeholders.apply(nav)));
+        placeholders.put("tabsPlugins", locale.replaceLanguageInHtml(placeholders.apply(tabs)));
 
-        return UnaryChain.of(templateHtml)
-                .chain(theme::replaceThemeColors)
-                .chain(placeholders::apply)
-                .chain(pluginPlaceholders::apply)
-                .chain(locale::replaceLanguageInHtml)
-                .apply();
+        return template.render(placeholders);
     }
 }
\ No newline at end of file
@@ -17,6 +17,8 @@
 package com.djrapitops.plan.delivery.web;
 
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -26,6 +28,10 @@ import java.util.regex.Pattern;
 
 /**
  * ResolverService Implementation.
+ * <p>
+ * Registered resolvers are compiled into an immutable {@link RoutingTable} that is rebuilt on registration.
+ * Targets of {@link #registerResolver} are stored in a prefix trie so that lookup walks the target only once,
+ * and matched routes are cached per target since the same targets (eg. static resources) are requested repeatedly.
  *
  * @author Rsl1122
  */
@@ -35,10 +41,13 @@ public class ResolverSvc implements ResolverService {
     private final List<Container> basicResolvers;
     private final List<Container> regexResolvers;
 
+    private volatile RoutingTable routingTable;
+
     @Inject
     public ResolverSvc() {
         basicResolvers = new ArrayList<>();
         regexResolvers = new ArrayList<>();
+        routingTable = new RoutingTable(basicResolvers, regexResolvers);
     }
 
     public void register() {
@@ -46,48 +55,33 @@ public class ResolverSvc implements ResolverService {
     }
 
     @Override
-    public void registerResolver(String pluginName, String start, Resolver resolver) {
+    public synchronized void registerResolver(String pluginName, String start, Resolver resolver) {
         basicResolvers.add(new Container(pluginName, checking -> checking.startsWith(start), resolver, start));
         Collections.sort(basicResolvers);
+        routingTable = new RoutingTable(basicResolvers, regexResolvers);
     }
 
     @Override
-    public void registerResolverForMatches(String pluginName, Pattern pattern, Resolver resolver) {
+    public synchronized void registerResolverForMatches(String pluginName, Pattern pattern, Resolver resolver) {
         regexResolvers.add(new Container(pluginName, pattern.asPredicate(), resolver, pattern.pattern()));
         Collections.sort(regexResolvers);
+        routingTable = new RoutingTable(basicResolvers, regexResolvers);
     }
 
     @Override
     public Optional<Resolver> getResolver(String target) {
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.resolver);
-        }
-        for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.resolver);
-        }
-        return Optional.empty();
+        List<Resolver> resolvers = getResolvers(target);
+        return resolvers.isEmpty() ? Optional.empty() : Optional.of(resolvers.get(0));
     }
 
     @Override
     public List<Resolver> getResolvers(String target) {
-        List<Resolver> resolvers = new ArrayList<>();
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) resolvers.add(container.resolver);
-        }
-        for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) resolvers.add(container.resolver);
-        }
-        return resolvers;
+        return routingTable.route(target).resolvers;
     }
 
     public Optional<String> getPluginInChargeOf(String target) {
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.plugin);
-        }
-        for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.plugin);
-        }
-        return Optional.empty();
+        List<Container> matching = routingTable.route(target).containers;
+        return matching.isEmpty() ? Optional.empty() : Optional.of(matching.get(0).plugin);
     }
 
     private static class Container implements Comparable<Container> {
@@ -125,4 +119,87 @@ public class ResolverSvc implements ResolverService {
             return Objects.hash(plugin, matcher, resolver, sortBy);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolvers matching a single target, in priority order.
+     */
+    private static class Route {
+        final List<Container> containers;
+        final List<Resolver> resolvers;
+
+        Route(List<Container> containers) {
+            this.containers = Collections.unmodifiableList(containers);
+            List<Resolver> matchingResolvers = new ArrayList<>(containers.size());
+            for (Container container : containers) {
+                matchingResolvers.add(container.resolver);
+            }
+            this.resolvers = Collections.unmodifiableList(matchingResolvers);
+        }
+    }
+
+    /**
+     * Node of the prefix trie, contains resolvers registered for the path leading to the node.
+     */
+    private static class TrieNode {
+        final Map<Character, TrieNode> children = new HashMap<>();
+        final List<Container> containers = new ArrayList<>();
+
+        TrieNode getOrCreateChild(char c) {
+            return children.computeIfAbsent(c, key -> new TrieNode());
+        }
+    }
+
+    /**
+     * Immutable snapshot of the registered resolvers.
+     */
+    private static class RoutingTable {
+        private static final int MAX_CACHED_ROUTES = 1000;
+
+        private final TrieNode root;
+        private final List<Container> regexResolvers;
+        private final Cache<String, Route> routeCache;
+
+        RoutingTable(List<Container> basicResolvers, List<Container> regexResolvers) {
+            root = new TrieNode();
+            for (Container container : basicResolvers) {
+                TrieNode node = root;
+                for (char c : container.sortBy.toCharArray()) {
+                    node = node.getOrCreateChild(c);
+                }
+                node.containers.add(container);
+            }
+            this.regexResolvers = new ArrayList<>(regexResolvers);
+            routeCache = Caffeine.newBuilder()
+                    .maximumSize(MAX_CACHED_ROUTES)
+                    .build();
+        }
+
+        Route route(String target) {
+            return routeCache.get(target, this::findRoute);
+        }
+
+        private Route findRoute(String target) {
+            List<Container> matching = new ArrayList<>();
+            matchPrefixes(target, matching);
+            for (Container container : regexResolvers) {
+                if (container.matcher.test(target)) matching.add(container);
+            }
+            return new Route(matching);
+        }
+
+        private void matchPrefixes(String target, List<Container> matching) {
+            // Prefixes are visited shortest first, but longest prefix has the highest priority.
+            Deque<List<Container>> matchedPrefixes = new ArrayDeque<>();
+            TrieNode node = root;
+            if (!node.containers.isEmpty()) matchedPrefixes.push(node.containers);
+            for (int i = 0; i < target.length(); i++) {
+                node = node.children.get(target.charAt(i));
+                if (node == null) break;
+                if (!node.containers.isEmpty()) matchedPrefixes.push(node.containers);
+            }
+            for (List<Container> containers : matchedPrefixes) {
+                matching.addAll(containers);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits how many requests of each {@link Category} are handled at the same time.
+ * <p>
+ * Requests over the limit wait in a bounded queue, and are refused when the queue is full so that
+ * slow data requests can not occupy every webserver thread and starve cheap static resource requests.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class AdmissionControl {
+
+    static final long RETRY_AFTER_SECONDS = 5L;
+    private static final long MAX_WAIT_SECONDS = 10L;
+
+    private final PlanConfig config;
+
+    private volatile Map<Category, Pool> pools;
+    private final Cache<String, TokenBucket> rateLimits;
+
+    @Inject
+    public AdmissionControl(PlanConfig config) {
+        this.config = config;
+        pools = Collections.emptyMap();
+        rateLimits = Caffeine.newBuilder()
+                .expireAfterAccess(1, TimeUnit.MINUTES)
+                .maximumSize(10000)
+                .build();
+    }
+
+    private Map<Category, Pool> getPools() {
+        Map<Category, Pool> prepared = pools;
+        if (prepared.isEmpty()) {
+            synchronized (this) {
+                prepared = pools;
+                if (prepared.isEmpty()) {
+                    prepared = prepare();
+                    pools = prepared;
+                }
+            }
+        }
+        return prepared;
+    }
+
+    private Map<Category, Pool> prepare() {
+        int queueSize = config.get(WebserverSettings.REQUEST_QUEUE_SIZE);
+        Map<Category, Pool> created = new EnumMap<>(Category.class);
+        created.put(Category.STATIC, new Pool(config.get(WebserverSettings.STATIC_REQUEST_LIMIT), queueSize));
+        created.put(Category.DATA, new Pool(config.get(WebserverSettings.DATA_REQUEST_LIMIT), queueSize));
+        created.put(Category.EXPENSIVE, new Pool(config.get(WebserverSettings.EXPENSIVE_REQUEST_LIMIT), queueSize));
+        return created;
+    }
+
+    /**
+     * Get the maximum amount of requests that can be active or waiting at the same time.
+     *
+     * @return Total capacity of all pools.
+     */
+    public int getCapacity() {
+        int capacity = 0;
+        for (Pool pool : getPools().values()) {
+            capacity += pool.concurrencyLimit + pool.queueSize;
+        }
+        return capacity;
+    }
+
+    /**
+     * Attempt to take a slot for handling a request.
+     * <p>
+     * If the category is at its limit, waits for a slot as long as the queue is not full.
+     *
+     * @param category Category of the request.
+     * @return true if the request can be handled, {@link #release(Category)} must be called afterwards.
+     * false if the request should be refused.
+     */
+    public boolean admit(Category category) {
+        Pool pool = getPool(category);
+        if (pool.permits.tryAcquire()) {
+            return true;
+        }
+        if (pool.waiting.incrementAndGet() > pool.queueSize) {
+            pool.waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return pool.permits.tryAcquire(MAX_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            pool.waiting.decrementAndGet();
+        }
+    }
+
+    public void release(Category category) {
+        getPool(category).permits.release();
+    }
+
+    /**
+     * Check per IP rate limit.
+     *
+     * @param accessor IP address of the requester.
+     * @return false if the requester has sent too many requests recently.
+     */
+    public boolean isWithinRateLimit(String accessor) {
+        int requestsPerSecond = config.get(WebserverSettings.RATE_LIMIT_PER_IP);
+        if (requestsPerSecond <= 0) return true;
+
+        TokenBucket bucket = rateLimits.get(accessor, ip -> new TokenBucket(requestsPerSecond));
+        return bucket.tryConsume(System.nanoTime());
+    }
+
+    public int getActiveCount(Category category) {
+        Pool pool = getPool(category);
+        return pool.concurrencyLimit - pool.permits.availablePermits();
+    }
+
+    public int getQueuedCount(Category category) {
+        return getPool(category).waiting.get();
+    }
+
+    private Pool getPool(Category category) {
+        return getPools().get(category);
+    }
+
+    /**
+     * Category of a request, requests of each category have separate limits.
+     */
+    public enum Category {
+        STATIC,
+        DATA,
+        EXPENSIVE;
+
+        private static final String[] EXPENSIVE_TARGETS = {"/v1/players", "/v1/network", "/v1/sessions", "/v1/kills"};
+
+        public static Category of(String target) {
+            if (StringUtils.startsWithAny(target, EXPENSIVE_TARGETS)) {
+                return EXPENSIVE;
+            }
+            if (StringUtils.containsAny(target, "/vendor/", "/css/", "/js/", "/img/")
+                    || "/favicon.ico".equals(target) || "/robots.txt".equals(target)) {
+                return STATIC;
+            }
+            return DATA;
+        }
+    }
+
+    private static class Pool {
+        final int concurrencyLimit;
+        final int queueSize;
+        final Semaphore permits;
+        final AtomicInteger waiting;
+
+        Pool(int concurrencyLimit, int queueSize) {
+            this.concurrencyLimit = Math.max(concurrencyLimit, 1);
+            this.queueSize = Math.max(queueSize, 0);
+            this.permits = new Semaphore(this.concurrencyLimit, true);
+            this.waiting = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Token bucket that refills at a constant rate up to a burst of one second worth of tokens.
+     */
+    static class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int tokensPerSecond) {
+            this.tokensPerNano = tokensPerSecond / (double) TimeUnit.SECONDS.toNanos(1L);
+            this.capacity = tokensPerSecond;
+            this.tokens = tokensPerSecond;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.djrapitops.plan.delivery.webserver.auth.Authentication;
 import com.djrapitops.plan.delivery.webserver.auth.BasicAuthentication;
 import com.djrapitops.plan.delivery.webserver.auth.CookieAuthentication;
 import com.djrapitops.plan.delivery.webserver.auth.FailReason;
+import com.djrapitops.plan.delivery.webserver.http.InternalRequest;
 import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
@@ -38,9 +39,6 @@ import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.utilities.Verify;
-import com.sun.net.httpserver.Headers;
-import com.sun.net.httpserver.HttpExchange;
-import com.sun.net.httpserver.HttpHandler;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.TextStringBuilder;
 
@@ -49,12 +47,12 @@ import javax.inject.Singleton;
 import java.util.*;
 
 /**
- * HttpHandler for WebServer request management.
+ * Handles WebServer requests independent of the server implementation.
  *
  * @author Rsl1122
  */
 @Singleton
-public class RequestHandler implements HttpHandler {
+public class RequestHandler {
 
     private final Locale locale;
     private final PlanConfig config;
@@ -62,6 +60,7 @@ public class RequestHandler implements HttpHandler {
     private final Addresses addresses;
     private final ResponseResolver responseResolver;
     private final ResponseFactory responseFactory;
+    private final AdmissionControl admissionControl;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
@@ -76,6 +75,7 @@ public class RequestHandler implements HttpHandler {
             Addresses addresses,
             ResponseResolver responseResolver,
             ResponseFactory responseFactory,
+            AdmissionControl admissionControl,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -85,51 +85,89 @@ public class RequestHandler implements HttpHandler {
         this.addresses = addresses;
         this.responseResolver = responseResolver;
         this.responseFactory = responseFactory;
+        this.admissionControl = admissionControl;
         this.logger = logger;
         this.errorLogger = errorLogger;
 
         bruteForceGuard = new PassBruteForceGuard();
     }
 
-    @Override
-    public void handle(HttpExchange exchange) {
+    /**
+     * Handle a request received by any {@link com.djrapitops.plan.delivery.webserver.http.WebServerBackend}.
+     *
+     * @param internalRequest The request.
+     * @return Response to send, with CORS and redirect headers set.
+     */
+    public Response getResponse(InternalRequest internalRequest) {
+        Response response = getAdmittedResponse(internalRequest);
+        Map<String, String> headers = response.getHeaders();
+        headers.putIfAbsent("Access-Control-Allow-Origin", config.get(WebserverSettings.CORS_ALLOW_ORIGIN));
+        headers.putIfAbsent("Access-Control-Allow-Methods", "GET, OPTIONS");
+        headers.putIfAbsent("Access-Control-Allow-Credentials", "true");
+        headers.putIfAbsent("X-Robots-Tag", "noindex, nofollow");
+        correctRedirect(headers);
+        return response;
+    }
+
+    private void correctRedirect(Map<String, String> responseHeaders) {
+        String redirect = responseHeaders.get("Location");
+        if (redirect != null) {
+            if (redirect.startsWith("http") || !redirect.startsWith("/")) return;
+            addresses.getAccessAddress().ifPresent(address -> responseHeaders.put("Location", address + redirect));
+        }
+    }
+
+    /**
+     * Log an error that occurred while handling or sending a response.
+     * <p>
+     * These are usually caused by the client closing the connection, so they are only logged in dev mode.
+     *
+     * @param internalRequest The request.
+     * @param e               The error.
+     */
+    public void logRequestError(InternalRequest internalRequest, Exception e) {
+        if (config.isTrue(PluginSettings.DEV_MODE)) {
+            logger.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
+            errorLogger.log(L.WARN, e, ErrorContext.builder()
+                    .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
+                    .related(internalRequest)
+                    .build());
+        }
+    }
+
+    private Response getAdmittedResponse(InternalRequest internalRequest) {
+        String accessor = internalRequest.getAccessorAddress();
+        if (!admissionControl.isWithinRateLimit(accessor)) {
+            return responseFactory.tooManyRequests429(AdmissionControl.RETRY_AFTER_SECONDS);
+        }
+
+        AdmissionControl.Category category = AdmissionControl.Category.of(internalRequest.getPath());
+        if (!admissionControl.admit(category)) {
+            return responseFactory.serviceUnavailable503(AdmissionControl.RETRY_AFTER_SECONDS);
+        }
         try {
-            Response response = getResponse(exchange);
-            response.getHeaders().putIfAbsent("Access-Control-Allow-Origin", config.get(WebserverSettings.CORS_ALLOW_ORIGIN));
-            response.getHeaders().putIfAbsent("Access-Control-Allow-Methods", "GET, OPTIONS");
-            response.getHeaders().putIfAbsent("Access-Control-Allow-Credentials", "true");
-            response.getHeaders().putIfAbsent("X-Robots-Tag", "noindex, nofollow");
-            ResponseSender sender = new ResponseSender(addresses, exchange, response);
-            sender.send();
-        } catch (Exception e) {
-            if (config.isTrue(PluginSettings.DEV_MODE)) {
-                logger.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
-                errorLogger.log(L.WARN, e, ErrorContext.builder()
-                        .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
-                        .related(exchange.getRequestMethod(), exchange.getRemoteAddress(), exchange.getRequestHeaders(), exchange.getResponseHeaders(), exchange.getRequestURI())
-                        .build());
-            }
+            return resolveResponse(internalRequest);
         } finally {
-            exchange.close();
+            admissionControl.release(category);
         }
     }
 
-    public Response getResponse(HttpExchange exchange) {
+    private Response resolveResponse(InternalRequest internalRequest) {
         if (ipWhitelist == null) {
             ipWhitelist = config.isTrue(WebserverSettings.IP_WHITELIST)
                     ? config.get(WebserverSettings.WHITELIST)
                     : Collections.emptyList();
         }
-        String accessor = exchange.getRemoteAddress().getAddress().getHostAddress();
+        String accessor = internalRequest.getAccessorAddress();
         Request request = null;
         Response response;
         try {
-            request = buildRequest(exchange);
+            request = buildRequest(internalRequest);
             if (bruteForceGuard.shouldPreventRequest(accessor)) {
                 response = responseFactory.failedLoginAttempts403();
             } else if (!ipWhitelist.isEmpty() && !ipWhitelist.contains(accessor)) {
                 response = responseFactory.ipWhitelist403(accessor);
-                logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_IP_WHITELIST_BLOCK, accessor, exchange.getRequestURI().toString()));
+                logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_IP_WHITELIST_BLOCK, accessor, internalRequest.getRequestedURIString()));
             } else {
                 response = responseResolver.getResponse(request);
             }
@@ -139,7 +177,7 @@ public class RequestHandler implements HttpHandler {
                 bruteForceGuard.increaseAttemptCountOnFailedLogin(accessor);
                 response = responseFactory.badRequest(failReason.getReason(), "/auth/login");
             } else {
-                String from = exchange.getRequestURI().toASCIIString();
+                String from = internalRequest.getRequestedURIString();
                 response = Response.builder()
                         .redirectTo(StringUtils.startsWithAny(from, "/auth/", "/login") ? "/login" : "/login?from=." + from)
                         .setHeader("Set-Cookie", "auth=expired; Path=/; Max-Age=1; SameSite=Lax; Secure;")
@@ -159,38 +197,29 @@ public class RequestHandler implements HttpHandler {
         return response;
     }
 
-    private Request buildRequest(HttpExchange exchange) {
-        String requestMethod = exchange.getRequestMethod();
-        URIPath path = new URIPath(exchange.getRequestURI().getPath());
-        URIQuery query = new URIQuery(exchange.getRequestURI().getRawQuery());
-        WebUser user = getWebUser(exchange);
-        Map<String, String> headers = getRequestHeaders(exchange);
+    private Request buildRequest(InternalRequest internalRequest) {
+        String requestMethod = internalRequest.getMethod();
+        URIPath path = new URIPath(internalRequest.getPath());
+        URIQuery query = new URIQuery(internalRequest.getRawQuery());
+        WebUser user = getWebUser(internalRequest);
+        Map<String, String> headers = internalRequest.getHeaders();
         return new Request(requestMethod, path, query, user, headers);
     }
 
-    private WebUser getWebUser(HttpExchange exchange) {
-        return getAuthentication(exchange.getRequestHeaders())
+    private WebUser getWebUser(InternalRequest internalRequest) {
+        return getAuthentication(internalRequest)
                 .map(Authentication::getUser) // Can throw WebUserAuthException
                 .map(User::toWebUser)
                 .orElse(null);
     }
 
-    private Map<String, String> getRequestHeaders(HttpExchange exchange) {
-        Map<String, String> headers = new HashMap<>();
-        for (Map.Entry<String, List<String>> e : exchange.getResponseHeaders().entrySet()) {
-            List<String> value = e.getValue();
-            headers.put(e.getKey(), new TextStringBuilder().appendWithSeparators(value, ";").build());
-        }
-        return headers;
-    }
-
-    private Optional<Authentication> getAuthentication(Headers requestHeaders) {
+    private Optional<Authentication> getAuthentication(InternalRequest internalRequest) {
         if (config.isTrue(WebserverSettings.DISABLED_AUTHENTICATION)) {
             return Optional.empty();
         }
 
-        List<String> cookies = requestHeaders.get("Cookie");
-        if (cookies != null && !cookies.isEmpty()) {
+        List<String> cookies = internalRequest.getHeaders("Cookie");
+        if (!cookies.isEmpty()) {
             for (String cookie : new TextStringBuilder().appendWithSeparators(cookies, ";").build().split(";")) {
                 String[] split = cookie.trim().split("=", 2);
                 String name = split[0];
@@ -201,7 +230,7 @@ public class RequestHandler implements HttpHandler {
             }
         }
 
-        List<String> authorization = requestHeaders.get("Authorization");
+        List<String> authorization = internalRequest.getHeaders("Authorization");
         if (Verify.isEmpty(authorization)) return Optional.empty();
 
         String authLine = authorization.get(0);
@@ -369,6 +369,26 @@ public class ResponseFactory {
                 .build();
     }
 
+    public Response serviceUnavailable503(long retryAfterSeconds) {
+        return Response.builder()
+                .setMimeType(MimeType.HTML)
+                .setContent("<h1>503 Service Unavailable</h1>" +
+                        "<p>Webserver is handling too many requests right now, please try again in a moment.</p>")
+                .setStatus(503)
+                .setHeader("Retry-After", retryAfterSeconds)
+                .build();
+    }
+
+    public Response tooManyRequests429(long retryAfterSeconds) {
+        return Response.builder()
+                .setMimeType(MimeType.HTML)
+                .setContent("<h1>429 Too Many Requests</h1>" +
+                        "<p>You have sent too many requests, please try again in a moment.</p>")
+                .setStatus(429)
+                .setHeader("Retry-After", retryAfterSeconds)
+                .build();
+    }
+
     public Response basicAuth() {
         try {
             String tips = "<br>- Ensure you have registered a user with <b>/plan register</b><br>"
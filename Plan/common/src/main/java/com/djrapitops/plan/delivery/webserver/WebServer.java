@@ -17,8 +17,11 @@
 package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.delivery.webserver.http.JettyWebServerBackend;
+import com.djrapitops.plan.delivery.webserver.http.SunWebServerBackend;
+import com.djrapitops.plan.delivery.webserver.http.WebServerBackend;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
 import com.djrapitops.plan.settings.config.PlanConfig;
-import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
@@ -27,15 +30,11 @@ import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
-import com.sun.net.httpserver.HttpServer;
-import com.sun.net.httpserver.HttpsConfigurator;
-import com.sun.net.httpserver.HttpsParameters;
-import com.sun.net.httpserver.HttpsServer;
-import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import javax.net.ssl.*;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
 import java.io.*;
 import java.net.BindException;
 import java.net.InetSocketAddress;
@@ -44,7 +43,7 @@ import java.nio.file.Paths;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
-import java.util.concurrent.*;
+import java.util.Optional;
 
 /**
  * @author Rsl1122
@@ -58,13 +57,15 @@ public class WebServer implements SubSystem {
 
     private final Addresses addresses;
     private final RequestHandler requestHandler;
+    private final AdmissionControl admissionControl;
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
 
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
     private int port;
     private boolean enabled = false;
-    private HttpServer server;
+    private WebServerBackend backend;
 
     private boolean usingHttps = false;
 
@@ -76,7 +77,9 @@ public class WebServer implements SubSystem {
             Addresses addresses,
             PluginLogger logger,
             ErrorLogger errorLogger,
-            RequestHandler requestHandler
+            RequestHandler requestHandler,
+            AdmissionControl admissionControl,
+            LiveUpdateBroadcaster liveUpdateBroadcaster
     ) {
         this.locale = locale;
         this.files = files;
@@ -84,6 +87,8 @@ public class WebServer implements SubSystem {
         this.addresses = addresses;
 
         this.requestHandler = requestHandler;
+        this.admissionControl = admissionControl;
+        this.liveUpdateBroadcaster = liveUpdateBroadcaster;
 
         this.logger = logger;
         this.errorLogger = errorLogger;
@@ -113,7 +118,7 @@ public class WebServer implements SubSystem {
     }
 
     /**
-     * Starts up the WebServer in a new Thread Pool.
+     * Starts up the WebServer with the configured {@link WebServerBackend}.
      */
     private void initServer() {
         if (config.isTrue(WebserverSettings.DISABLED)) {
@@ -127,40 +132,28 @@ public class WebServer implements SubSystem {
         }
 
         try {
-            usingHttps = startHttpsServer();
-
-            logger.debug(usingHttps ? "Https Start Successful." : "Https Start Failed.");
-
-            if (!usingHttps) {
-                logger.log(L.INFO_COLOR, "§e" + locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTP_USER_AUTH));
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
-            } else if (server == null) {
+            Optional<SSLContext> sslContext = Optional.empty();
+            if ("proxy".equalsIgnoreCase(config.get(WebserverSettings.CERTIFICATE_PATH))) {
+                usingHttps = true;
                 logger.log(L.INFO_COLOR, "§e" + locale.getString(PluginLang.WEB_SERVER_NOTIFY_USING_PROXY_MODE));
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
-            } else if (config.isTrue(WebserverSettings.DISABLED_AUTHENTICATION)) {
-                logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTPS_USER_AUTH));
+            } else {
+                sslContext = loadSSLContext();
+                usingHttps = sslContext.isPresent();
+                logger.debug(usingHttps ? "Https Start Successful." : "Https Start Failed.");
+                if (!usingHttps) {
+                    logger.log(L.INFO_COLOR, "§e" + locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTP_USER_AUTH));
+                } else if (config.isTrue(WebserverSettings.DISABLED_AUTHENTICATION)) {
+                    logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTPS_USER_AUTH));
+                }
             }
-            server.createContext("/", requestHandler);
-
-            ExecutorService executor = new ThreadPoolExecutor(
-                    4, 8, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100),
-                    new BasicThreadFactory.Builder()
-                            .namingPattern("Plan WebServer Thread-%d")
-                            .uncaughtExceptionHandler((thread, throwable) -> {
-                                if (config.isTrue(PluginSettings.DEV_MODE)) {
-                                    errorLogger.log(L.WARN, throwable, ErrorContext.builder()
-                                            .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
-                                            .build());
-                                }
-                            }).build()
-            );
-            server.setExecutor(executor);
-            server.start();
+
+            InetSocketAddress address = new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port);
+            startBackend(address, sslContext);
 
             enabled = true;
 
-            String address = addresses.getAccessAddress().orElse(addresses.getFallbackLocalhostAddress());
-            logger.info(locale.getString(PluginLang.ENABLED_WEB_SERVER, server.getAddress().getPort(), address));
+            String accessAddress = addresses.getAccessAddress().orElse(addresses.getFallbackLocalhostAddress());
+            logger.info(locale.getString(PluginLang.ENABLED_WEB_SERVER, backend.getPort(), accessAddress));
 
             boolean usingAlternativeIP = config.isTrue(WebserverSettings.SHOW_ALTERNATIVE_IP);
             if (!usingAlternativeIP && !addresses.getAccessAddress().isPresent()) {
@@ -175,12 +168,25 @@ public class WebServer implements SubSystem {
         }
     }
 
-    private boolean startHttpsServer() throws BindException {
-        String keyStorePath = config.get(WebserverSettings.CERTIFICATE_PATH);
-
-        if ("proxy".equalsIgnoreCase(keyStorePath)) {
-            return true;
+    private void startBackend(InetSocketAddress address, Optional<SSLContext> sslContext) throws IOException {
+        WebServerBackend.Type type = WebServerBackend.Type.getForName(config.get(WebserverSettings.BACKEND))
+                .orElse(WebServerBackend.Type.JETTY);
+        if (type == WebServerBackend.Type.JETTY) {
+            try {
+                backend = new JettyWebServerBackend(requestHandler, admissionControl, liveUpdateBroadcaster, logger);
+                backend.start(address, sslContext);
+                return;
+            } catch (LinkageError e) {
+                // Jetty classes are missing or conflict with another plugin
+                logger.warn("Could not start Jetty webserver (" + e + "), using JDK webserver instead.");
+            }
         }
+        backend = new SunWebServerBackend(requestHandler, admissionControl, liveUpdateBroadcaster, config, logger, errorLogger);
+        backend.start(address, sslContext);
+    }
+
+    private Optional<SSLContext> loadSSLContext() {
+        String keyStorePath = config.get(WebserverSettings.CERTIFICATE_PATH);
 
         try {
             if (!Paths.get(keyStorePath).isAbsolute()) {
@@ -197,7 +203,6 @@ public class WebServer implements SubSystem {
         char[] keypass = config.get(WebserverSettings.CERTIFICATE_KEYPASS).toCharArray();
         String alias = config.get(WebserverSettings.CERTIFICATE_ALIAS);
 
-        boolean startSuccessful = false;
         String keyStoreKind = keyStorePath.endsWith(".p12") ? "PKCS12" : "JKS";
         try (FileInputStream fIn = new FileInputStream(keyStorePath)) {
             KeyStore keystore = KeyStore.getInstance(keyStoreKind);
@@ -214,27 +219,9 @@ public class WebServer implements SubSystem {
             KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance("SunX509");
             keyManagerFactory.init(keystore, keypass);
 
-            TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance("SunX509");
-            trustManagerFactory.init(keystore);
-
-            server = HttpsServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
             SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
-            sslContext.init(keyManagerFactory.getKeyManagers(), null/*trustManagerFactory.getTrustManagers()*/, null);
-
-            ((HttpsServer) server).setHttpsConfigurator(new HttpsConfigurator(sslContext) {
-                @Override
-                public void configure(HttpsParameters params) {
-                    SSLEngine engine = sslContext.createSSLEngine();
-
-                    params.setNeedClientAuth(false);
-                    params.setCipherSuites(engine.getEnabledCipherSuites());
-                    params.setProtocols(engine.getEnabledProtocols());
-
-                    SSLParameters defaultSSLParameters = sslContext.getDefaultSSLParameters();
-                    params.setSSLParameters(defaultSSLParameters);
-                }
-            });
-            startSuccessful = true;
+            sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+            return Optional.of(sslContext);
         } catch (IllegalStateException e) {
             logger.error(e.getMessage());
         } catch (KeyManagementException | NoSuchAlgorithmException e) {
@@ -245,17 +232,15 @@ public class WebServer implements SubSystem {
         } catch (FileNotFoundException e) {
             logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_NO_CERT_FILE, keyStorePath));
             logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTP));
-        } catch (BindException e) {
-            throw e; // Pass to above error handler
         } catch (IOException e) {
-            errorLogger.log(L.ERROR, e, ErrorContext.builder().related(config.get(WebserverSettings.INTERNAL_IP) + ":" + port).build());
+            errorLogger.log(L.ERROR, e, ErrorContext.builder().related(keyStorePath).build());
         } catch (KeyStoreException | CertificateException | UnrecoverableKeyException e) {
             logger.error(locale.getString(PluginLang.WEB_SERVER_FAIL_STORE_LOAD));
             errorLogger.log(L.ERROR, e, ErrorContext.builder()
                     .whatToDo("Make sure the Certificate settings are correct / You can try remaking the keystore without -passin or -passout parameters.")
                     .related(keyStorePath).build());
         }
-        return startSuccessful;
+        return Optional.empty();
     }
 
     /**
@@ -270,30 +255,15 @@ public class WebServer implements SubSystem {
      */
     @Override
     public void disable() {
-        if (server != null) {
-            shutdown();
+        liveUpdateBroadcaster.closeAll();
+        if (backend != null) {
+            backend.stop();
+            backend = null;
             logger.info(locale.getString(PluginLang.DISABLED_WEB_SERVER));
         }
         enabled = false;
     }
 
-    private void shutdown() {
-        server.stop(0);
-        Executor executor = server.getExecutor();
-        if (executor instanceof ExecutorService) {
-            ExecutorService service = (ExecutorService) executor;
-            service.shutdown();
-            try {
-                if (!service.awaitTermination(5, TimeUnit.SECONDS)) {
-                    service.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                logger.error("WebServer ExecutorService shutdown thread interrupted on disable: " + e.getMessage());
-                Thread.currentThread().interrupt();
-            }
-        }
-    }
-
     public String getProtocol() {
         return usingHttps ? "https" : "http";
     }
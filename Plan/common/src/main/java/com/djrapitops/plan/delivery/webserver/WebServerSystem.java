@@ -17,6 +17,8 @@
 package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.delivery.rendering.html.template.TemplateCache;
+import com.djrapitops.plan.delivery.rendering.json.network.NetworkAggregationExecutor;
 import com.djrapitops.plan.delivery.web.ResourceService;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 
@@ -33,18 +35,25 @@ public class WebServerSystem implements SubSystem {
 
     private final Addresses addresses;
     private final WebServer webServer;
+    private final TemplateCache templateCache;
+    private final NetworkAggregationExecutor networkAggregationExecutor;
 
     @Inject
     public WebServerSystem(
             Addresses addresses,
-            WebServer webServer
+            WebServer webServer,
+            TemplateCache templateCache,
+            NetworkAggregationExecutor networkAggregationExecutor
     ) {
         this.addresses = addresses;
         this.webServer = webServer;
+        this.templateCache = templateCache;
+        this.networkAggregationExecutor = networkAggregationExecutor;
     }
 
     @Override
     public void enable() {
+        templateCache.enable();
         webServer.enable();
         if (!webServer.isAuthRequired()) {
             ResourceService.getInstance().addStylesToResource("Plan", "error.html", ResourceService.Position.PRE_CONTENT, "./css/noauth.css");
@@ -58,6 +67,8 @@ public class WebServerSystem implements SubSystem {
     @Override
     public void disable() {
         webServer.disable();
+        templateCache.disable();
+        networkAggregationExecutor.close();
         JSONCache.invalidateAll();
         JSONCache.cleanUp();
     }
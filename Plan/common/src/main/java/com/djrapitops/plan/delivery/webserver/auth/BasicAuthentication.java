@@ -26,6 +26,7 @@ import com.djrapitops.plan.utilities.Base64Util;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * Authentication handling for Basic Auth.
@@ -57,12 +58,19 @@ public class BasicAuthentication implements Authentication {
         String username = userInfo[0];
         String passwordRaw = userInfo[1];
 
+        Optional<User> verified = VerifiedCredentialCache.checkCredentials(username, passwordRaw);
+        if (verified.isPresent()) {
+            return verified.get();
+        }
+
         Database.State dbState = database.getState();
         if (dbState != Database.State.OPEN) {
             throw new WebUserAuthException(FailReason.DATABASE_NOT_OPEN, "State was: " + dbState.name());
         }
 
         try {
+            long start = System.nanoTime();
+            long generation = VerifiedCredentialCache.getGeneration();
             User user = database.query(WebUserQueries.fetchUser(username))
                     .orElseThrow(() -> new WebUserAuthException(FailReason.USER_DOES_NOT_EXIST, username));
 
@@ -70,6 +78,7 @@ public class BasicAuthentication implements Authentication {
             if (!correctPass) {
                 throw new WebUserAuthException(FailReason.USER_PASS_MISMATCH, username);
             }
+            VerifiedCredentialCache.storeVerified(user, passwordRaw, generation, System.nanoTime() - start);
             return user;
         } catch (DBOpException | PassEncryptException e) {
             throw new WebUserAuthException(e);
@@ -0,0 +1,169 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.auth;
+
+import com.djrapitops.plan.delivery.domain.auth.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Short lived cache for Basic Authentication credentials that have already been verified.
+ * <p>
+ * Verifying a password with PBKDF2 is intentionally slow, and Basic Authentication sends the credentials with every
+ * request. Credentials are stored as HMAC digests with a key that is randomly generated on every start, so the
+ * plaintext password is never held in memory after the request.
+ *
+ * @author Rsl1122
+ */
+public class VerifiedCredentialCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY = generateKey();
+
+    private static final Cache<String, VerifiedCredential> CREDENTIALS_BY_USERNAME = Caffeine.newBuilder()
+            .expireAfterWrite(2, TimeUnit.MINUTES)
+            .maximumSize(500)
+            .build();
+
+    // Incremented on every invalidation, so that a verification that started before it is not cached.
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder VERIFICATIONS = new LongAdder();
+    private static final LongAdder VERIFICATION_NANOS = new LongAdder();
+
+    private VerifiedCredentialCache() {
+        // Hide static cache constructor
+    }
+
+    private static byte[] generateKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static byte[] digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(KEY, ALGORITHM));
+            return mac.doFinal((username + ':' + password).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Check if the credentials have been verified recently.
+     *
+     * @param username Username of the user.
+     * @param password Plaintext password given in the request.
+     * @return The User if the same credentials have been verified recently.
+     */
+    public static Optional<User> checkCredentials(String username, String password) {
+        VerifiedCredential cached = CREDENTIALS_BY_USERNAME.getIfPresent(username);
+        if (cached == null || !MessageDigest.isEqual(cached.digest, digest(username, password))) {
+            return Optional.empty();
+        }
+        CACHE_HITS.increment();
+        return Optional.of(cached.user);
+    }
+
+    /**
+     * Get the current generation of the cache, to pass to {@link #storeVerified(User, String, long, long)}.
+     * <p>
+     * Read before the user is fetched from the database.
+     *
+     * @return Generation that changes whenever credentials are invalidated.
+     */
+    public static long getGeneration() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Store credentials after the password has been verified.
+     * <p>
+     * Nothing is stored if credentials were invalidated after the generation was read,
+     * as the password might have been changed or removed while it was being verified.
+     *
+     * @param user                  User the password was verified for.
+     * @param password              Plaintext password given in the request.
+     * @param generation            {@link #getGeneration()} before the user was fetched.
+     * @param verificationTimeNanos How long the verification took, for statistics.
+     */
+    public static void storeVerified(User user, String password, long generation, long verificationTimeNanos) {
+        VERIFICATIONS.increment();
+        VERIFICATION_NANOS.add(verificationTimeNanos);
+        if (GENERATION.get() != generation) return;
+
+        String username = user.getUsername();
+        VerifiedCredential credential = new VerifiedCredential(digest(username, password), user);
+        CREDENTIALS_BY_USERNAME.put(username, credential);
+        if (GENERATION.get() != generation) {
+            // Invalidated between the check and the put
+            CREDENTIALS_BY_USERNAME.asMap().remove(username, credential);
+        }
+    }
+
+    public static void invalidate(String username) {
+        GENERATION.incrementAndGet();
+        CREDENTIALS_BY_USERNAME.invalidate(username);
+    }
+
+    public static void invalidateAll() {
+        GENERATION.incrementAndGet();
+        CREDENTIALS_BY_USERNAME.invalidateAll();
+    }
+
+    public static long getCacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    public static long getVerifications() {
+        return VERIFICATIONS.sum();
+    }
+
+    /**
+     * Get the average time it took to verify a password that was not cached.
+     *
+     * @return Average time in nanoseconds, 0 if no passwords have been verified.
+     */
+    public static long getAverageVerificationNanos() {
+        long verifications = VERIFICATIONS.sum();
+        return verifications > 0 ? VERIFICATION_NANOS.sum() / verifications : 0L;
+    }
+
+    private static class VerifiedCredential {
+        final byte[] digest;
+        final User user;
+
+        VerifiedCredential(byte[] digest, User user) {
+            this.digest = digest;
+            this.user = user;
+        }
+    }
+}
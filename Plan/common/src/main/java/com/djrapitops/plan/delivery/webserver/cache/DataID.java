@@ -54,4 +54,15 @@ public enum DataID {
         return name() + '-' + serverUUID;
     }
 
+    /**
+     * Identifier for a variant of the data, such as a different resolution of a graph.
+     *
+     * @param serverUUID UUID of the server the data is about.
+     * @param variant    Variant of the data.
+     * @return Identifier that is invalidated together with {@link #of(UUID)}.
+     */
+    public String of(UUID serverUUID, String variant) {
+        return of(serverUUID) + '-' + variant;
+    }
+
 }
@@ -29,6 +29,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -43,6 +44,7 @@ public class JSONCache {
     private static final Cache<String, byte[]> cache = Caffeine.newBuilder()
             .expireAfterAccess(2, TimeUnit.MINUTES)
             .build();
+    private static final Map<String, Set<String>> variantsByIdentifier = new ConcurrentHashMap<>();
 
     private JSONCache() {
         // Static class
@@ -86,6 +88,24 @@ public class JSONCache {
                 .build());
     }
 
+    /**
+     * Get or cache a variant of the data, such as a different resolution of a graph.
+     * <p>
+     * Variants are invalidated together with the data with {@link #invalidate(DataID, UUID)}.
+     *
+     * @param dataID           Data the variant is of.
+     * @param serverUUID       UUID of the server the data is of.
+     * @param variant          Variant of the data.
+     * @param responseSupplier Supplier for the response if the variant is not cached.
+     * @return Cached or supplied response.
+     */
+    public static Response getOrCacheVariant(DataID dataID, UUID serverUUID, String variant, Supplier<Response> responseSupplier) {
+        String variantIdentifier = dataID.of(serverUUID, variant);
+        variantsByIdentifier.computeIfAbsent(dataID.of(serverUUID), key -> ConcurrentHashMap.newKeySet())
+                .add(variantIdentifier);
+        return getOrCache(variantIdentifier, responseSupplier);
+    }
+
     public static void invalidate(String identifier) {
         cache.invalidate(identifier);
     }
@@ -96,12 +116,21 @@ public class JSONCache {
 
     public static void invalidate(UUID serverUUID, DataID... dataIDs) {
         for (DataID dataID : dataIDs) {
-            invalidate(dataID.of(serverUUID));
+            invalidate(dataID, serverUUID);
         }
     }
 
     public static void invalidate(DataID dataID, UUID serverUUID) {
-        invalidate(dataID.of(serverUUID));
+        String identifier = dataID.of(serverUUID);
+        invalidate(identifier);
+        invalidateVariantsOf(identifier);
+    }
+
+    private static void invalidateVariantsOf(String identifier) {
+        Set<String> variants = variantsByIdentifier.remove(identifier);
+        if (variants != null) {
+            cache.invalidateAll(variants);
+        }
     }
 
     public static void invalidateMatching(DataID... dataIDs) {
@@ -128,6 +157,7 @@ public class JSONCache {
 
     public static void invalidateAll() {
         cache.invalidateAll();
+        variantsByIdentifier.clear();
     }
 
     public static void cleanUp() {
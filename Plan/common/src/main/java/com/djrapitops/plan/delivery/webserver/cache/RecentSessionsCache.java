@@ -0,0 +1,179 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.domain.SessionColumns;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.analysis.CohortQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Keeps recent sessions of each server in memory as {@link SessionColumns}.
+ * <p>
+ * Sessions stored since the last refresh are fetched by their ID, and everything is reloaded periodically
+ * so that removed sessions are dropped. The query methods return an in-memory calculation when the range is
+ * within the sessions kept in memory, and the regular database query otherwise.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class RecentSessionsCache {
+
+    private static final long REFRESH_MS = TimeUnit.SECONDS.toMillis(10L);
+    private static final long FULL_RELOAD_MS = TimeUnit.HOURS.toMillis(1L);
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+
+    private final Map<UUID, ServerSessions> sessionsByServer;
+
+    @Inject
+    public RecentSessionsCache(PlanConfig config, DBSystem dbSystem) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        sessionsByServer = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get sessions of a server if they cover a range.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param after      Epoch ms, start of the range.
+     * @return Sessions that include everything that could be in the range, or empty if the range should be queried.
+     */
+    public Optional<SessionColumns> getSessions(UUID serverUUID, long after) {
+        int maxSessions = config.get(WebserverSettings.SESSIONS_IN_MEMORY);
+        if (maxSessions <= 0) return Optional.empty();
+
+        SessionColumns sessions = sessionsByServer.computeIfAbsent(serverUUID, ServerSessions::new)
+                .getRefreshed(System.currentTimeMillis(), maxSessions);
+        return sessions.covers(after) ? Optional.of(sessions) : Optional.empty();
+    }
+
+    private <T> Query<T> inMemoryOr(UUID serverUUID, long after, Function<SessionColumns, T> calculation, Query<T> query) {
+        return getSessions(serverUUID, after)
+                .<Query<T>>map(sessions -> db -> calculation.apply(sessions))
+                .orElse(query);
+    }
+
+    public Query<Long> sessionCount(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.sessionCount(after, before),
+                SessionQueries.sessionCount(after, before, serverUUID));
+    }
+
+    public Query<Long> playtime(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.playtime(after, before),
+                SessionQueries.playtime(after, before, serverUUID));
+    }
+
+    public Query<Long> afkTime(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.afkTime(after, before),
+                SessionQueries.afkTime(after, before, serverUUID));
+    }
+
+    public Query<Long> averagePlaytimePerPlayer(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.averagePlaytimePerPlayer(after, before),
+                SessionQueries.averagePlaytimePerPlayer(after, before, serverUUID));
+    }
+
+    public Query<Long> averageAfkPerPlayer(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.averageAfkPerPlayer(after, before),
+                SessionQueries.averageAfkPerPlayer(after, before, serverUUID));
+    }
+
+    public Query<Integer> uniquePlayerCount(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.uniquePlayerCount(after, before),
+                PlayerCountQueries.uniquePlayerCount(after, before, serverUUID));
+    }
+
+    public Query<Long> mobKillCount(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.mobKillCount(after, before),
+                KillQueries.mobKillCount(after, before, serverUUID));
+    }
+
+    public Query<Long> deathCount(long after, long before, UUID serverUUID) {
+        return inMemoryOr(serverUUID, after, sessions -> sessions.deathCount(after, before),
+                KillQueries.deathCount(after, before, serverUUID));
+    }
+
+    /**
+     * Get activity indexes for the retention averages of players who registered within a time range.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms, date of the activity indexes.
+     * @param serverUUID UUID of the Plan server
+     * @param threshold  Activity index playtime threshold
+     * @return Activity indexes that include every player registered within the range who has played recently.
+     */
+    public Query<Map<UUID, Double>> activityIndexOfNewPlayers(long after, long before, UUID serverUUID, long threshold) {
+        return inMemoryOr(serverUUID, before - TimeUnit.DAYS.toMillis(21L), sessions -> sessions.activityIndexes(before, threshold),
+                CohortQueries.activityIndexOfNewPlayers(after, before, serverUUID, threshold));
+    }
+
+    public void clear() {
+        sessionsByServer.clear();
+    }
+
+    private class ServerSessions {
+        private final UUID serverUUID;
+        private volatile SessionColumns sessions;
+        private volatile long lastRefresh;
+        private long lastFullReload;
+
+        ServerSessions(UUID serverUUID) {
+            this.serverUUID = serverUUID;
+            sessions = SessionColumns.empty();
+        }
+
+        SessionColumns getRefreshed(long now, int maxSessions) {
+            if (now - lastRefresh > REFRESH_MS) {
+                refresh(now, maxSessions);
+            }
+            return sessions;
+        }
+
+        private synchronized void refresh(long now, int maxSessions) {
+            if (now - lastRefresh <= REFRESH_MS) return; // Refreshed by another thread
+
+            long retainAfter = now - config.get(WebserverSettings.SESSIONS_IN_MEMORY_FOR);
+            if (now - lastFullReload > FULL_RELOAD_MS) {
+                sessions = dbSystem.getDatabase().query(SessionQueries.fetchSessionColumns(serverUUID, retainAfter, -1))
+                        .retain(retainAfter, maxSessions);
+                lastFullReload = now;
+            } else {
+                SessionColumns current = sessions;
+                SessionColumns stored = dbSystem.getDatabase().query(SessionQueries.fetchSessionColumns(serverUUID, retainAfter, current.getMaxId()));
+                sessions = current.merge(stored, retainAfter, maxSessions);
+            }
+            lastRefresh = now;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a HTTP request independent of the webserver implementation that received it.
+ *
+ * @author Rsl1122
+ */
+public interface InternalRequest {
+
+    String getMethod();
+
+    /**
+     * Get the decoded path of the request.
+     *
+     * @return For example "/player/Rsl1122"
+     */
+    String getPath();
+
+    /**
+     * Get the query part of the request URI without decoding.
+     *
+     * @return Raw query or null if the request had no query.
+     */
+    String getRawQuery();
+
+    /**
+     * Get the requested URI in ASCII form for redirects and logging.
+     *
+     * @return Path and query of the request.
+     */
+    String getRequestedURIString();
+
+    /**
+     * Get the IP address the request was sent from.
+     *
+     * @return IP address as String.
+     */
+    String getAccessorAddress();
+
+    /**
+     * Get values of a request header.
+     *
+     * @param name Name of the header, case insensitive.
+     * @return Values of the header, empty if the header was not present.
+     */
+    List<String> getHeaders(String name);
+
+    /**
+     * Get all request headers.
+     *
+     * @return Map of header name - values joined with ';'.
+     */
+    Map<String, String> getHeaders();
+}
@@ -0,0 +1,90 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import org.apache.commons.text.TextStringBuilder;
+import org.eclipse.jetty.server.Request;
+
+import java.util.*;
+
+/**
+ * {@link InternalRequest} backed by a Jetty {@link Request}.
+ *
+ * @author Rsl1122
+ */
+public class JettyInternalRequest implements InternalRequest {
+
+    private final Request request;
+
+    public JettyInternalRequest(Request request) {
+        this.request = request;
+    }
+
+    @Override
+    public String getMethod() {
+        return request.getMethod();
+    }
+
+    @Override
+    public String getPath() {
+        return request.getHttpURI().getDecodedPath();
+    }
+
+    @Override
+    public String getRawQuery() {
+        return request.getQueryString();
+    }
+
+    @Override
+    public String getRequestedURIString() {
+        String query = request.getQueryString();
+        return query != null ? request.getRequestURI() + '?' + query : request.getRequestURI();
+    }
+
+    @Override
+    public String getAccessorAddress() {
+        return request.getRemoteAddr();
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+        Enumeration<String> values = request.getHeaders(name);
+        return values != null ? Collections.list(values) : Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        Enumeration<String> names = request.getHeaderNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            headers.put(name, new TextStringBuilder().appendWithSeparators(getHeaders(name), ";").build());
+        }
+        return headers;
+    }
+
+    @Override
+    public String toString() {
+        return "JettyInternalRequest{" +
+                "method=" + request.getMethod() +
+                ", uri=" + request.getHttpURI() +
+                ", protocol=" + request.getProtocol() +
+                ", remoteAddress=" + request.getRemoteAddr() +
+                ", headers=" + getHeaders() +
+                '}';
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.webserver.AdmissionControl;
+import com.djrapitops.plan.delivery.webserver.RequestHandler;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateSubscription;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.*;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+import javax.net.ssl.SSLContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WebServerBackend} using embedded Jetty.
+ * <p>
+ * Jetty multiplexes connections with NIO selectors, so idle keep-alive connections do not hold a thread.
+ * HTTP/2 is offered with ALPN over HTTPS (when the JVM supports ALPN) and with h2c over HTTP for reverse proxies.
+ * Responses are gzipped only when the client accepts it.
+ *
+ * @author Rsl1122
+ */
+public class JettyWebServerBackend implements WebServerBackend {
+
+    private static final int ACCEPTORS = 1;
+    private static final int SELECTORS = 2;
+    // Acceptor, selector and reserved threads used by Jetty itself.
+    private static final int JETTY_THREADS = 8;
+
+    private final RequestHandler requestHandler;
+    private final AdmissionControl admissionControl;
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
+    private final PluginLogger logger;
+
+    private Server server;
+    private ServerConnector connector;
+
+    public JettyWebServerBackend(
+            RequestHandler requestHandler,
+            AdmissionControl admissionControl,
+            LiveUpdateBroadcaster liveUpdateBroadcaster,
+            PluginLogger logger
+    ) {
+        this.requestHandler = requestHandler;
+        this.admissionControl = admissionControl;
+        this.liveUpdateBroadcaster = liveUpdateBroadcaster;
+        this.logger = logger;
+    }
+
+    @Override
+    public void start(InetSocketAddress address, Optional<SSLContext> sslContext) throws IOException {
+        QueuedThreadPool threadPool = new QueuedThreadPool(
+                admissionControl.getCapacity() + liveUpdateBroadcaster.getMaxSubscriptions() + JETTY_THREADS, 4, (int) TimeUnit.SECONDS.toMillis(30)
+        );
+        threadPool.setName("Plan WebServer");
+        threadPool.setDaemon(true);
+
+        server = new Server(threadPool);
+        server.setStopAtShutdown(false);
+
+        HttpConfiguration httpConfig = new HttpConfiguration();
+        httpConfig.setSendServerVersion(false);
+        httpConfig.setSendXPoweredBy(false);
+
+        if (sslContext.isPresent()) {
+            httpConfig.addCustomizer(new SecureRequestCustomizer());
+            connector = createHttpsConnector(httpConfig, sslContext.get());
+        } else {
+            connector = new ServerConnector(server, ACCEPTORS, SELECTORS,
+                    new HttpConnectionFactory(httpConfig), new HTTP2CServerConnectionFactory(httpConfig));
+        }
+        connector.setHost(address.getHostString());
+        connector.setPort(address.getPort());
+        connector.setIdleTimeout(TimeUnit.SECONDS.toMillis(30));
+        server.addConnector(connector);
+
+        GzipHandler gzipHandler = new GzipHandler();
+        gzipHandler.setHandler(new PlanHandler());
+        server.setHandler(gzipHandler);
+
+        try {
+            server.start();
+        } catch (IOException e) {
+            stop();
+            if (e.getCause() instanceof BindException) throw (BindException) e.getCause();
+            throw e;
+        } catch (Exception e) {
+            stop();
+            throw new IOException("Failed to start Jetty: " + e.getMessage(), e);
+        }
+    }
+
+    private ServerConnector createHttpsConnector(HttpConfiguration httpConfig, SSLContext sslContext) {
+        SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
+        sslContextFactory.setSslContext(sslContext);
+
+        HttpConnectionFactory http11 = new HttpConnectionFactory(httpConfig);
+        try {
+            ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
+            alpn.setDefaultProtocol(http11.getProtocol());
+            sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+            sslContextFactory.setUseCipherSuitesOrder(true);
+            return new ServerConnector(server, ACCEPTORS, SELECTORS,
+                    new SslConnectionFactory(sslContextFactory, alpn.getProtocol()),
+                    alpn, new HTTP2ServerConnectionFactory(httpConfig), http11);
+        } catch (IllegalStateException noALPNProcessors) {
+            logger.warn("Java version does not support ALPN, HTTP/2 is not available over HTTPS.");
+            return new ServerConnector(server, ACCEPTORS, SELECTORS,
+                    new SslConnectionFactory(sslContextFactory, http11.getProtocol()), http11);
+        }
+    }
+
+    @Override
+    public int getPort() {
+        return connector != null ? connector.getLocalPort() : -1;
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) return;
+        try {
+            server.stop();
+        } catch (Exception e) {
+            logger.error("Failed to stop Jetty: " + e.getMessage());
+        } finally {
+            server = null;
+            connector = null;
+        }
+    }
+
+    private class PlanHandler extends AbstractHandler {
+
+        @Override
+        public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse servletResponse) {
+            InternalRequest internalRequest = new JettyInternalRequest(baseRequest);
+            try {
+                Response response = requestHandler.getResponse(internalRequest);
+                send(baseRequest.getMethod(), response, servletResponse);
+            } catch (Exception e) {
+                requestHandler.logRequestError(internalRequest, e);
+            } finally {
+                baseRequest.setHandled(true);
+            }
+        }
+
+        private void send(String method, Response response, HttpServletResponse servletResponse) throws IOException {
+            servletResponse.setStatus(response.getCode());
+            for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+                servletResponse.setHeader(header.getKey(), header.getValue());
+            }
+            if ("HEAD".equals(method) || response.getCode() == 204) {
+                return;
+            }
+            if (LiveUpdateBroadcaster.isEventStream(response)) {
+                sendEventStream(response, servletResponse);
+                return;
+            }
+
+            byte[] bytes = response.getBytes();
+            servletResponse.setContentLength(bytes.length);
+            try (OutputStream out = servletResponse.getOutputStream()) {
+                out.write(bytes);
+            }
+        }
+
+        private void sendEventStream(Response response, HttpServletResponse servletResponse) throws IOException {
+            Optional<LiveUpdateSubscription> subscription = liveUpdateBroadcaster.subscribe();
+            servletResponse.setHeader("Content-Length", null);
+            servletResponse.setHeader("Accept-Ranges", null);
+            if (!subscription.isPresent()) {
+                servletResponse.setStatus(503);
+                return;
+            }
+            try (OutputStream out = servletResponse.getOutputStream()) {
+                out.write(response.getBytes());
+                out.flush();
+                subscription.get().sendTo(out);
+            } finally {
+                subscription.get().close();
+            }
+        }
+    }
+}
@@ -14,7 +14,7 @@
  *  You should have received a copy of the GNU Lesser General Public License
  *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
  */
-package com.djrapitops.plan.delivery.webserver;
+package com.djrapitops.plan.delivery.webserver.http;
 
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.sun.net.httpserver.Headers;
@@ -33,12 +33,10 @@ import java.util.zip.GZIPOutputStream;
  */
 public class ResponseSender {
 
-    private final Addresses addresses;
     private final HttpExchange exchange;
     private final Response response;
 
-    public ResponseSender(Addresses addresses, HttpExchange exchange, Response response) {
-        this.addresses = addresses;
+    public ResponseSender(HttpExchange exchange, Response response) {
         this.exchange = exchange;
         this.response = response;
     }
@@ -66,22 +64,11 @@ public class ResponseSender {
     private void setResponseHeaders() {
         Headers headers = exchange.getResponseHeaders();
 
-        Map<String, String> responseHeaders = response.getHeaders();
-        correctRedirect(responseHeaders);
-
-        for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
             headers.set(header.getKey(), header.getValue());
         }
     }
 
-    private void correctRedirect(Map<String, String> responseHeaders) {
-        String redirect = responseHeaders.get("Location");
-        if (redirect != null) {
-            if (redirect.startsWith("http") || !redirect.startsWith("/")) return;
-            addresses.getAccessAddress().ifPresent(address -> responseHeaders.put("Location", address + redirect));
-        }
-    }
-
     private void sendCompressed() throws IOException {
         exchange.getResponseHeaders().set("Content-Encoding", "gzip");
         beginSend();
@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.apache.commons.text.TextStringBuilder;
+
+import java.util.*;
+
+/**
+ * {@link InternalRequest} backed by a JDK {@link HttpExchange}.
+ *
+ * @author Rsl1122
+ */
+public class SunInternalRequest implements InternalRequest {
+
+    private final HttpExchange exchange;
+
+    public SunInternalRequest(HttpExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    @Override
+    public String getMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    @Override
+    public String getPath() {
+        return exchange.getRequestURI().getPath();
+    }
+
+    @Override
+    public String getRawQuery() {
+        return exchange.getRequestURI().getRawQuery();
+    }
+
+    @Override
+    public String getRequestedURIString() {
+        return exchange.getRequestURI().toASCIIString();
+    }
+
+    @Override
+    public String getAccessorAddress() {
+        return exchange.getRemoteAddress().getAddress().getHostAddress();
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+        List<String> values = exchange.getRequestHeaders().get(name);
+        return values != null ? values : Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> e : exchange.getRequestHeaders().entrySet()) {
+            headers.put(e.getKey(), new TextStringBuilder().appendWithSeparators(e.getValue(), ";").build());
+        }
+        return headers;
+    }
+
+    @Override
+    public String toString() {
+        return "SunInternalRequest{" +
+                "method=" + exchange.getRequestMethod() +
+                ", uri=" + exchange.getRequestURI() +
+                ", remoteAddress=" + exchange.getRemoteAddress() +
+                ", headers=" + exchange.getRequestHeaders().entrySet() +
+                '}';
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.webserver.AdmissionControl;
+import com.djrapitops.plan.delivery.webserver.RequestHandler;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateSubscription;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.PluginSettings;
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.sun.net.httpserver.*;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * {@link WebServerBackend} using the webserver included in the JDK.
+ * <p>
+ * Every request is handled on its own thread and connections are not multiplexed.
+ *
+ * @author Rsl1122
+ */
+public class SunWebServerBackend implements WebServerBackend, HttpHandler {
+
+    private final RequestHandler requestHandler;
+    private final AdmissionControl admissionControl;
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
+    private final PlanConfig config;
+    private final PluginLogger logger;
+    private final ErrorLogger errorLogger;
+
+    private HttpServer server;
+
+    public SunWebServerBackend(
+            RequestHandler requestHandler,
+            AdmissionControl admissionControl,
+            LiveUpdateBroadcaster liveUpdateBroadcaster,
+            PlanConfig config,
+            PluginLogger logger,
+            ErrorLogger errorLogger
+    ) {
+        this.requestHandler = requestHandler;
+        this.admissionControl = admissionControl;
+        this.liveUpdateBroadcaster = liveUpdateBroadcaster;
+        this.config = config;
+        this.logger = logger;
+        this.errorLogger = errorLogger;
+    }
+
+    @Override
+    public void start(InetSocketAddress address, Optional<SSLContext> sslContext) throws IOException {
+        if (sslContext.isPresent()) {
+            server = createHttpsServer(address, sslContext.get());
+        } else {
+            server = HttpServer.create(address, 10);
+        }
+        server.createContext("/", this);
+
+        // Every admitted or queued request and live update connection gets a thread, AdmissionControl refuses the rest quickly.
+        int threads = admissionControl.getCapacity() + liveUpdateBroadcaster.getMaxSubscriptions();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100),
+                new BasicThreadFactory.Builder()
+                        .namingPattern("Plan WebServer Thread-%d")
+                        .uncaughtExceptionHandler((thread, throwable) -> {
+                            if (config.isTrue(PluginSettings.DEV_MODE)) {
+                                errorLogger.log(L.WARN, throwable, ErrorContext.builder()
+                                        .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
+                                        .build());
+                            }
+                        }).build()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    private HttpsServer createHttpsServer(InetSocketAddress address, SSLContext sslContext) throws IOException {
+        HttpsServer httpsServer = HttpsServer.create(address, 10);
+        httpsServer.setHttpsConfigurator(new HttpsConfigurator(sslContext) {
+            @Override
+            public void configure(HttpsParameters params) {
+                SSLEngine engine = sslContext.createSSLEngine();
+
+                params.setNeedClientAuth(false);
+                params.setCipherSuites(engine.getEnabledCipherSuites());
+                params.setProtocols(engine.getEnabledProtocols());
+
+                SSLParameters defaultSSLParameters = sslContext.getDefaultSSLParameters();
+                params.setSSLParameters(defaultSSLParameters);
+            }
+        });
+        return httpsServer;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) {
+        InternalRequest internalRequest = new SunInternalRequest(exchange);
+        try {
+            Response response = requestHandler.getResponse(internalRequest);
+            if (LiveUpdateBroadcaster.isEventStream(response) && !"HEAD".equals(exchange.getRequestMethod())) {
+                sendEventStream(exchange, response);
+            } else {
+                new ResponseSender(exchange, response).send();
+            }
+        } catch (Exception e) {
+            requestHandler.logRequestError(internalRequest, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sendEventStream(HttpExchange exchange, Response response) throws IOException {
+        Optional<LiveUpdateSubscription> subscription = liveUpdateBroadcaster.subscribe();
+        if (!subscription.isPresent()) {
+            exchange.sendResponseHeaders(503, -1);
+            return;
+        }
+        try {
+            Headers headers = exchange.getResponseHeaders();
+            for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+                headers.set(header.getKey(), header.getValue());
+            }
+            headers.remove("Content-Length");
+            headers.remove("Accept-Ranges");
+            exchange.sendResponseHeaders(200, 0); // Chunked
+            OutputStream out = exchange.getResponseBody();
+            out.write(response.getBytes());
+            out.flush();
+            subscription.get().sendTo(out);
+        } finally {
+            subscription.get().close();
+        }
+    }
+
+    @Override
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) return;
+        server.stop(0);
+        Executor executor = server.getExecutor();
+        if (executor instanceof ExecutorService) {
+            ExecutorService service = (ExecutorService) executor;
+            service.shutdown();
+            try {
+                if (!service.awaitTermination(5, TimeUnit.SECONDS)) {
+                    service.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                logger.error("WebServer ExecutorService shutdown thread interrupted on disable: " + e.getMessage());
+                Thread.currentThread().interrupt();
+            }
+        }
+        server = null;
+    }
+}
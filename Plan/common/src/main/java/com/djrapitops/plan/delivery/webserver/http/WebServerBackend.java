@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+/**
+ * Represents a HTTP server implementation that passes requests to {@link com.djrapitops.plan.delivery.webserver.RequestHandler}.
+ *
+ * @author Rsl1122
+ */
+public interface WebServerBackend {
+
+    /**
+     * Start listening for requests.
+     *
+     * @param address    Address to bind to.
+     * @param sslContext SSLContext to use for HTTPS, or empty for HTTP.
+     * @throws java.net.BindException If the port is in use.
+     * @throws IOException            If the server fails to start for other reasons.
+     */
+    void start(InetSocketAddress address, Optional<SSLContext> sslContext) throws IOException;
+
+    /**
+     * Get the port the server is listening to.
+     *
+     * @return Port number.
+     */
+    int getPort();
+
+    void stop();
+
+    /**
+     * Available {@link WebServerBackend} implementations.
+     */
+    enum Type {
+        /**
+         * Jetty - NIO server with keep-alive, HTTP/2 and gzip negotiation.
+         */
+        JETTY("Jetty"),
+        /**
+         * Webserver included in the JDK (com.sun.net.httpserver).
+         */
+        JDK("JDK");
+
+        private final String configName;
+
+        Type(String configName) {
+            this.configName = configName;
+        }
+
+        public String getConfigName() {
+            return configName;
+        }
+
+        public static Optional<Type> getForName(String name) {
+            for (Type type : values()) {
+                if (type.configName.equalsIgnoreCase(name)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }
+
+        public static boolean exists(String name) {
+            return getForName(name).isPresent();
+        }
+    }
+}
@@ -17,14 +17,18 @@
 package com.djrapitops.plan.delivery.webserver.resolver.json;
 
 import com.djrapitops.plan.delivery.rendering.json.graphs.GraphJSONCreator;
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -40,14 +44,19 @@ import java.util.UUID;
 @Singleton
 public class GraphsJSONResolver implements Resolver {
 
+    private static final int MIN_POINT_LIMIT = 256;
+
+    private final PlanConfig config;
     private final Identifiers identifiers;
     private final GraphJSONCreator graphJSON;
 
     @Inject
     public GraphsJSONResolver(
+            PlanConfig config,
             Identifiers identifiers,
             GraphJSONCreator graphJSON
     ) {
+        this.config = config;
         this.identifiers = identifiers;
         this.graphJSON = graphJSON;
     }
@@ -64,6 +73,7 @@ public class GraphsJSONResolver implements Resolver {
      * @return JSON response.
      * @throws BadRequestException If 'type' parameter is not defined or supported.
      * @throws BadRequestException If 'server' parameter is not defined or server is not found in database.
+     * @throws BadRequestException If 'width' parameter is not a number.
      */
     @Override
     public Optional<Response> resolve(Request request) {
@@ -78,12 +88,58 @@ public class GraphsJSONResolver implements Resolver {
 
         if (request.getQuery().get("server").isPresent()) {
             UUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            if (isDownsampled(dataID)) {
+                return getDownsampledResponse(request, dataID, serverUUID);
+            }
             return JSONCache.getOrCache(dataID, serverUUID, () -> generateGraphDataJSONOfType(dataID, serverUUID));
         }
         // Assume network
         return JSONCache.getOrCache(dataID, () -> generateGraphDataJSONOfType(dataID));
     }
 
+    private boolean isDownsampled(DataID dataID) {
+        return dataID == DataID.GRAPH_PERFORMANCE || dataID == DataID.GRAPH_ONLINE;
+    }
+
+    private Response getDownsampledResponse(Request request, DataID dataID, UUID serverUUID) {
+        int configuredLimit = config.get(DisplaySettings.GRAPH_POINT_LIMIT);
+        int pointLimit = getPointLimit(request.getQuery(), configuredLimit);
+        if (pointLimit == configuredLimit) {
+            return JSONCache.getOrCache(dataID, serverUUID, () -> generateGraphDataJSONOfType(dataID, serverUUID, pointLimit));
+        }
+        String variant = pointLimit > 0 ? "points" + pointLimit : "full";
+        return JSONCache.getOrCacheVariant(dataID, serverUUID, variant, () -> Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(generateGraphDataJSONOfType(dataID, serverUUID, pointLimit))
+                .build());
+    }
+
+    private int getPointLimit(URIQuery query, int configuredLimit) {
+        if (query.get("resolution").filter("full"::equalsIgnoreCase).isPresent()) {
+            return 0;
+        }
+        Optional<String> width = query.get("width");
+        if (configuredLimit <= 0 || !width.isPresent()) {
+            return configuredLimit;
+        }
+        try {
+            // Clamped first so that snapping can not overflow
+            int requestedWidth = Math.min(Integer.parseInt(width.get()), configuredLimit);
+            // Snapped to next power of two to keep the amount of cached variants small
+            int snapped = Math.max(MIN_POINT_LIMIT, Integer.highestOneBit(requestedWidth - 1) << 1);
+            return Math.min(configuredLimit, snapped);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'width' is not a number: " + width.get());
+        }
+    }
+
+    private Object generateGraphDataJSONOfType(DataID id, UUID serverUUID, int pointLimit) {
+        if (id == DataID.GRAPH_PERFORMANCE) {
+            return graphJSON.performanceGraphJSON(serverUUID, pointLimit);
+        }
+        return graphJSON.playersOnlineGraph(serverUUID, pointLimit);
+    }
+
     private DataID getDataID(String type) {
         switch (type) {
             case "performance":
@@ -0,0 +1,106 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.Leaderboard;
+import com.djrapitops.plan.delivery.domain.LeaderboardMetric;
+import com.djrapitops.plan.delivery.formatting.Formatter;
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.gathering.cache.LeaderboardCache;
+import com.djrapitops.plan.identification.Identifiers;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+
+/**
+ * Resolves /v1/leaderboards JSON requests.
+ * <p>
+ * Optional 'server' parameter selects leaderboards of a server instead of the network,
+ * optional 'metric' parameter limits the response to a single {@link LeaderboardMetric}.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class LeaderboardsJSONResolver implements Resolver {
+
+    private final Identifiers identifiers;
+    private final Formatter<Long> timeAmount;
+
+    @Inject
+    public LeaderboardsJSONResolver(
+            Identifiers identifiers,
+            Formatters formatters
+    ) {
+        this.identifiers = identifiers;
+        this.timeAmount = formatters.timeAmount();
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        if (request.getQuery().get("server").isPresent()) {
+            return user.hasPermission("page.server");
+        }
+        return user.hasPermission("page.network");
+    }
+
+    @Override
+    public Optional<Response> resolve(Request request) {
+        return Optional.of(getResponse(request));
+    }
+
+    private Response getResponse(Request request) {
+        UUID serverUUID = request.getQuery().get("server").isPresent()
+                ? identifiers.getServerUUID(request) // Can throw BadRequestException
+                : null;
+
+        Collection<LeaderboardMetric> metrics = request.getQuery().get("metric")
+                .map(name -> Collections.singletonList(LeaderboardMetric.getForName(name)
+                        .orElseThrow(() -> new BadRequestException("Unknown 'metric': '" + name + "'"))))
+                .orElseGet(() -> Arrays.asList(LeaderboardMetric.values()));
+
+        Map<String, Object> json = new HashMap<>();
+        for (LeaderboardMetric metric : metrics) {
+            List<Leaderboard.Entry> ranking = serverUUID != null
+                    ? LeaderboardCache.getRanking(serverUUID, metric)
+                    : LeaderboardCache.getNetworkRanking(metric);
+            json.put(metric.getName(), toJSONMaps(metric, ranking));
+        }
+        return Response.builder().setJSONContent(json).build();
+    }
+
+    private List<Map<String, Object>> toJSONMaps(LeaderboardMetric metric, List<Leaderboard.Entry> ranking) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        int rank = 1;
+        for (Leaderboard.Entry entry : ranking) {
+            Map<String, Object> json = new HashMap<>();
+            json.put("rank", rank++);
+            json.put("player_uuid", entry.getPlayerUUID().toString());
+            json.put("player_name", entry.getPlayerName());
+            json.put("value", entry.getValue());
+            json.put("formatted_value", metric.isTimeAmount() ? timeAmount.apply(entry.getValue()) : Long.toString(entry.getValue()));
+            entries.add(json);
+        }
+        return entries;
+    }
+}
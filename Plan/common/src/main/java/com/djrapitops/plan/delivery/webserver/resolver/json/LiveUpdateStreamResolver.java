@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.delivery.webserver.ResponseFactory;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Resolves /v1/stream, the Server-Sent Events stream of {@link LiveUpdateBroadcaster}.
+ * <p>
+ * Only the headers and the reconnection delay are resolved here,
+ * the webserver backend keeps the connection open and writes the events.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class LiveUpdateStreamResolver implements Resolver {
+
+    private static final long RECONNECT_DELAY_MS = 5000L;
+
+    private final LiveUpdateBroadcaster broadcaster;
+    private final ResponseFactory responseFactory;
+
+    @Inject
+    public LiveUpdateStreamResolver(
+            LiveUpdateBroadcaster broadcaster,
+            ResponseFactory responseFactory
+    ) {
+        this.broadcaster = broadcaster;
+        this.responseFactory = responseFactory;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        return user.hasPermission("page.server") || user.hasPermission("page.network");
+    }
+
+    @Override
+    public Optional<Response> resolve(Request request) {
+        if (!broadcaster.hasCapacity()) {
+            return Optional.of(responseFactory.serviceUnavailable503(RECONNECT_DELAY_MS / 1000L));
+        }
+        return Optional.of(Response.builder()
+                .setMimeType(LiveUpdateBroadcaster.MIME_TYPE)
+                .setContent("retry: " + RECONNECT_DELAY_MS + "\n\n")
+                .setHeader("Cache-Control", "no-cache")
+                .setHeader("X-Accel-Buffering", "no") // Prevent reverse proxies from buffering the stream
+                .build());
+    }
+}
@@ -50,9 +50,11 @@ public class RootJSONResolver {
             PvPPvEJSONCreator pvPPvEJSONCreator,
             PlayerBaseOverviewJSONCreator playerBaseOverviewJSONCreator,
             PerformanceJSONCreator performanceJSONCreator,
+            LeaderboardsJSONResolver leaderboardsJSONResolver,
 
             PlayerJSONResolver playerJSONResolver,
-            NetworkJSONResolver networkJSONResolver
+            NetworkJSONResolver networkJSONResolver,
+            LiveUpdateStreamResolver liveUpdateStreamResolver
     ) {
         this.identifiers = identifiers;
 
@@ -68,8 +70,10 @@ public class RootJSONResolver {
                 .add("playerVersus", forJSON(DataID.PVP_PVE, pvPPvEJSONCreator))
                 .add("playerbaseOverview", forJSON(DataID.PLAYERBASE_OVERVIEW, playerBaseOverviewJSONCreator))
                 .add("performanceOverview", forJSON(DataID.PERFORMANCE_OVERVIEW, performanceJSONCreator))
+                .add("leaderboards", leaderboardsJSONResolver)
                 .add("player", playerJSONResolver)
                 .add("network", networkJSONResolver.getResolver())
+                .add("stream", liveUpdateStreamResolver)
                 .build();
     }
 
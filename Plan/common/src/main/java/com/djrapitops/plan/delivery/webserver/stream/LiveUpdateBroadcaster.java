@@ -0,0 +1,150 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.stream;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.google.gson.Gson;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes small updates from the gathering layer to browsers connected to /v1/stream as Server-Sent Events.
+ * <p>
+ * Each event is serialized once and the same bytes are added to the bounded buffer of every subscription,
+ * so publishing never blocks the gathering thread.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class LiveUpdateBroadcaster {
+
+    public static final String MIME_TYPE = "text/event-stream";
+    static final int BUFFER_SIZE = 64;
+
+    private final PlanConfig config;
+    private final Gson gson;
+    private final Set<LiveUpdateSubscription> subscriptions;
+
+    @Inject
+    public LiveUpdateBroadcaster(PlanConfig config) {
+        this.config = config;
+        gson = new Gson();
+        subscriptions = ConcurrentHashMap.newKeySet();
+    }
+
+    static byte[] format(String event, String json) {
+        return ("event: " + event + "\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static boolean isEventStream(Response response) {
+        return response.getCode() == 200 && StringUtils.startsWith(response.getHeaders().get("Content-Type"), MIME_TYPE);
+    }
+
+    public int getMaxSubscriptions() {
+        return Math.max(config.get(WebserverSettings.LIVE_UPDATE_CONNECTIONS), 0);
+    }
+
+    public boolean hasCapacity() {
+        return subscriptions.size() < getMaxSubscriptions();
+    }
+
+    /**
+     * Start receiving events.
+     *
+     * @return The subscription, or empty if too many clients are connected.
+     */
+    public synchronized Optional<LiveUpdateSubscription> subscribe() {
+        if (!hasCapacity()) return Optional.empty();
+        LiveUpdateSubscription subscription = new LiveUpdateSubscription(BUFFER_SIZE, subscriptions::remove);
+        subscriptions.add(subscription);
+        return Optional.of(subscription);
+    }
+
+    public void publish(String event, Object data) {
+        if (subscriptions.isEmpty()) return;
+        byte[] formatted = format(event, gson.toJson(data));
+        for (LiveUpdateSubscription subscription : subscriptions) {
+            subscription.offer(formatted);
+        }
+    }
+
+    public void playerJoined(Session session, int online) {
+        if (subscriptions.isEmpty()) return;
+        Map<String, Object> data = createSessionEvent(session);
+        data.put("online", online);
+        publish("player-joined", data);
+    }
+
+    public void playerLeft(Session session, int online) {
+        if (subscriptions.isEmpty()) return;
+        Map<String, Object> data = createSessionEvent(session);
+        data.put("end", session.getValue(SessionKeys.END).orElse(System.currentTimeMillis()));
+        data.put("online", online);
+        publish("player-left", data);
+    }
+
+    public void sessionEnded(Session session) {
+        if (subscriptions.isEmpty()) return;
+        Map<String, Object> data = createSessionEvent(session);
+        data.put("end", session.getValue(SessionKeys.END).orElse(System.currentTimeMillis()));
+        data.put("length", session.getLength());
+        data.put("afkTime", session.getValue(SessionKeys.AFK_TIME).orElse(0L));
+        publish("session-ended", data);
+    }
+
+    private Map<String, Object> createSessionEvent(Session session) {
+        Map<String, Object> data = new HashMap<>();
+        session.getValue(SessionKeys.SERVER_UUID).ifPresent(serverUUID -> data.put("serverUUID", serverUUID.toString()));
+        session.getValue(SessionKeys.UUID).ifPresent(playerUUID -> data.put("playerUUID", playerUUID.toString()));
+        data.put("start", session.getDate());
+        return data;
+    }
+
+    public void tpsSaved(UUID serverUUID, TPS tps) {
+        if (subscriptions.isEmpty()) return;
+        Map<String, Object> data = new HashMap<>();
+        data.put("serverUUID", serverUUID.toString());
+        data.put("date", tps.getDate());
+        data.put("tps", tps.getTicksPerSecond());
+        data.put("players", tps.getPlayers());
+        data.put("cpu", tps.getCPUUsage());
+        data.put("ram", tps.getUsedMemory());
+        data.put("entities", tps.getEntityCount());
+        data.put("chunks", tps.getChunksLoaded());
+        publish("tps", data);
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    public void closeAll() {
+        for (LiveUpdateSubscription subscription : new ArrayList<>(subscriptions)) {
+            subscription.close();
+        }
+    }
+}
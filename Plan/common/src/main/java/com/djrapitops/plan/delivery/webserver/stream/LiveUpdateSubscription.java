@@ -0,0 +1,108 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A single client connected to the live update stream.
+ * <p>
+ * Events wait in a bounded buffer until the connection thread writes them.
+ * If the client does not read fast enough for the buffer to empty, the subscription is closed instead of growing,
+ * and the browser reconnects and loads the full data again.
+ *
+ * @author Rsl1122
+ */
+public class LiveUpdateSubscription {
+
+    static final long HEARTBEAT_SECONDS = 15L;
+    static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLOSED = new byte[0];
+
+    private final BlockingQueue<byte[]> buffer;
+    private final Consumer<LiveUpdateSubscription> onClose;
+    private final AtomicBoolean closed;
+
+    LiveUpdateSubscription(int bufferSize, Consumer<LiveUpdateSubscription> onClose) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize + 1); // +1 for the closing marker
+        this.onClose = onClose;
+        this.closed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Add an event to the buffer without blocking.
+     *
+     * @param event Formatted event.
+     * @return false if the buffer was full and the subscription was closed.
+     */
+    boolean offer(byte[] event) {
+        if (closed.get()) return false;
+        if (buffer.remainingCapacity() > 1 && buffer.offer(event)) return true;
+        close();
+        return false;
+    }
+
+    /**
+     * Write events to the connection until the subscription or the connection is closed.
+     * <p>
+     * Blocks the calling thread, a comment line is sent when there are no events to keep the connection alive.
+     *
+     * @param out Output stream of the connection.
+     * @throws IOException If the client closed the connection.
+     */
+    public void sendTo(OutputStream out) throws IOException {
+        try {
+            while (!closed.get()) {
+                byte[] event = buffer.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                if (event == CLOSED) break;
+                out.write(event != null ? event : HEARTBEAT);
+                // Write everything that was buffered before flushing
+                while ((event = buffer.poll()) != null && event != CLOSED) {
+                    out.write(event);
+                }
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+        }
+    }
+
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            buffer.offer(CLOSED);
+            onClose.accept(this);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    int getBufferedCount() {
+        return buffer.size();
+    }
+}
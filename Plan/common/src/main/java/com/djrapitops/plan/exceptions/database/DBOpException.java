@@ -20,6 +20,9 @@ import com.djrapitops.plan.exceptions.ExceptionWithContext;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
 import java.util.Optional;
 
 /**
@@ -153,6 +156,54 @@ public class DBOpException extends IllegalStateException implements ExceptionWit
 
     // Checkstyle.ON: CyclomaticComplexity
 
+    /**
+     * Check if the exception was caused by inserting a row that already exists.
+     *
+     * @return true if a unique or primary key constraint was violated.
+     */
+    public boolean isDuplicateKey() {
+        for (Throwable cause = getCause(); cause != null; cause = cause.getCause()) {
+            if (!(cause instanceof SQLException)) continue;
+            SQLException sqlException = (SQLException) cause;
+            switch (sqlException.getErrorCode()) {
+                case 1062: // MySQL
+                case 23001: // H2
+                case 23505:
+                case 1555: // SQLite primary key
+                case 2067: // SQLite unique
+                    return true;
+                case 19: // SQLite constraint, extended code is only in the message
+                    String message = sqlException.getMessage();
+                    if (message != null && (message.contains("UNIQUE") || message.contains("PRIMARYKEY"))) return true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the exception was caused by the database being unavailable, instead of the executed statement.
+     *
+     * @return true if the connection to the database failed.
+     */
+    public boolean isConnectionFailure() {
+        for (Throwable cause = getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String sqlState = ((SQLException) cause).getSQLState();
+                // SQLState class 08 is 'Connection Exception'
+                if (sqlState != null && sqlState.startsWith("08")) return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public Optional<ErrorContext> getContext() {
         return Optional.ofNullable(context);
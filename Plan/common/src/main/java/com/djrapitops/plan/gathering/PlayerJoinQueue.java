@@ -0,0 +1,113 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.gathering.cache.NicknameCache;
+import com.djrapitops.plan.gathering.domain.PlayerJoin;
+import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.transactions.events.PlayerJoinTransaction;
+import com.djrapitops.plugin.api.TimeAmount;
+import com.djrapitops.plugin.task.AbsRunnable;
+import com.djrapitops.plugin.task.RunnableFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gathers player joins that happen close to each other and stores them with a single {@link PlayerJoinTransaction}.
+ * <p>
+ * When a server restarts, all players reconnect within seconds, and storing each join separately would fill the
+ * transaction queue.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PlayerJoinQueue {
+
+    static final long BATCH_WINDOW_MS = 500L;
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final GeolocationCache geolocationCache;
+    private final NicknameCache nicknameCache;
+    private final RunnableFactory runnableFactory;
+
+    private final List<PlayerJoin> queued;
+    private boolean storeScheduled;
+
+    @Inject
+    public PlayerJoinQueue(
+            PlanConfig config,
+            DBSystem dbSystem,
+            GeolocationCache geolocationCache,
+            NicknameCache nicknameCache,
+            RunnableFactory runnableFactory
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.geolocationCache = geolocationCache;
+        this.nicknameCache = nicknameCache;
+        this.runnableFactory = runnableFactory;
+
+        queued = new ArrayList<>();
+    }
+
+    /**
+     * Queue a join to be stored with other joins that happen shortly after it.
+     *
+     * @param join Join of a player.
+     */
+    public void queue(PlayerJoin join) {
+        join.getDisplayName().ifPresent(displayName -> nicknameCache.updateDisplayName(join.getPlayerUUID(), displayName));
+        synchronized (this) {
+            queued.add(join);
+            if (storeScheduled) return;
+            storeScheduled = true;
+        }
+        runnableFactory.create("Store player joins", new AbsRunnable() {
+            @Override
+            public void run() {
+                storeQueued();
+            }
+        }).runTaskLaterAsynchronously(TimeAmount.toTicks(BATCH_WINDOW_MS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Store queued joins without waiting for the rest of the batch.
+     * <p>
+     * Called when a player leaves so that their join is stored before their session.
+     */
+    public void storeQueued() {
+        List<PlayerJoin> joins;
+        synchronized (this) {
+            storeScheduled = false;
+            if (queued.isEmpty()) return;
+            joins = new ArrayList<>(queued);
+            queued.clear();
+        }
+        boolean gatheringGeolocations = config.isTrue(DataGatheringSettings.GEOLOCATIONS);
+        dbSystem.getDatabase().executeTransaction(new PlayerJoinTransaction(
+                joins, gatheringGeolocations ? geolocationCache::getCountry : null
+        ));
+    }
+}
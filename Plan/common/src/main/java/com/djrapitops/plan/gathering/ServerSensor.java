@@ -55,4 +55,34 @@ public interface ServerSensor<W> {
     default int getEntityCount(W world) {
         return -1;
     }
+
+    /**
+     * Get the amount of loaded chunks on the whole server.
+     * <p>
+     * Sensors that keep count of chunks incrementally can override this to avoid going through every world.
+     *
+     * @return Sum of chunk counts of all worlds.
+     */
+    default int getChunkCount() {
+        int chunkCount = 0;
+        for (W world : getWorlds()) {
+            chunkCount += getChunkCount(world);
+        }
+        return chunkCount;
+    }
+
+    /**
+     * Get the amount of entities on the whole server.
+     * <p>
+     * Sensors that keep count of entities incrementally can override this to avoid going through every world.
+     *
+     * @return Sum of entity counts of all worlds.
+     */
+    default int getEntityCount() {
+        int entityCount = 0;
+        for (W world : getWorlds()) {
+            entityCount += getEntityCount(world);
+        }
+        return entityCount;
+    }
 }
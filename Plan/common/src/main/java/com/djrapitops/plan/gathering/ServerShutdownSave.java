@@ -30,10 +30,12 @@ import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Class in charge of performing save operations when the server shuts down.
@@ -46,20 +48,24 @@ public abstract class ServerShutdownSave {
     private final DBSystem dbSystem;
     private final Locale locale;
     private final ErrorLogger errorLogger;
+    private final UnsavedSessionsFile unsavedSessionsFile;
 
     private boolean shuttingDown = false;
     private boolean startedDatabase = false;
+    private volatile Future<?> sessionsLeftUnsavedSave;
 
     protected ServerShutdownSave(
             Locale locale,
             DBSystem dbSystem,
             PluginLogger logger,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            UnsavedSessionsFile unsavedSessionsFile
     ) {
         this.locale = locale;
         this.dbSystem = dbSystem;
         this.logger = logger;
         this.errorLogger = errorLogger;
+        this.unsavedSessionsFile = unsavedSessionsFile;
     }
 
     protected abstract boolean checkServerShuttingDownStatus();
@@ -73,7 +79,7 @@ public abstract class ServerShutdownSave {
             return Optional.empty();
         }
 
-        Map<UUID, Session> activeSessions = SessionCache.getActiveSessions();
+        Map<UUID, Session> activeSessions = SessionCache.takeSnapshot(System.currentTimeMillis());
         if (activeSessions.isEmpty()) {
             return Optional.empty();
         }
@@ -89,10 +95,15 @@ public abstract class ServerShutdownSave {
     private Optional<Future<?>> attemptSave(Map<UUID, Session> activeSessions) {
         try {
             prepareSessionsForStorage(activeSessions, System.currentTimeMillis());
-            return Optional.of(saveActiveSessions(activeSessions));
+            if (isStoringSessionsLeftUnsaved()) {
+                // The file belongs to the transaction of storeSessionsLeftUnsaved until it finishes.
+                return Optional.of(saveActiveSessions(new ArrayList<>(activeSessions.values()), () -> {}));
+            }
+            List<Session> unsavedSessions = writeToUnsavedSessionsFile(activeSessions.values());
+            return Optional.of(saveActiveSessions(unsavedSessions, unsavedSessionsFile::delete));
         } catch (DBInitException e) {
             errorLogger.log(L.ERROR, e, ErrorContext.builder()
-                    .whatToDo("Find the sessions in the error file and save them manually or ignore. Report & delete the error file after.")
+                    .whatToDo("Sessions will be stored on next enable if they were written to unsaved_sessions.dat, otherwise find the sessions in the error file and save them manually or ignore. Report & delete the error file after.")
                     .related("Shutdown save failed to init database.")
                     .related(activeSessions)
                     .build());
@@ -105,7 +116,84 @@ public abstract class ServerShutdownSave {
         }
     }
 
-    private Future<?> saveActiveSessions(Map<UUID, Session> activeSessions) {
+    /**
+     * Write the sessions to a file before attempting to store them.
+     * <p>
+     * The database might be closed before the transaction finishes, so the file keeps the sessions until the
+     * transaction has been committed. Sessions left in the file by a previous shutdown are stored at the same time.
+     *
+     * @param sessions Ended sessions.
+     * @return All sessions in the file.
+     */
+    private List<Session> writeToUnsavedSessionsFile(Collection<Session> sessions) {
+        List<Session> unsavedSessions = new ArrayList<>(sessions);
+        try {
+            unsavedSessions.addAll(unsavedSessionsFile.read());
+        } catch (IOException e) {
+            logWarning("Could not read sessions left unsaved by previous shutdown: " + e.getMessage());
+        }
+        try {
+            unsavedSessionsFile.write(unsavedSessions);
+        } catch (IOException e) {
+            logWarning("Could not write unsaved sessions to a file: " + e.getMessage());
+        }
+        return unsavedSessions;
+    }
+
+    private void logWarning(String message) {
+        // Logging is not attempted on JVM shutdown, see performSave.
+        if (!shuttingDown) {
+            logger.warn(message);
+        }
+    }
+
+    /**
+     * Wait for the sessions of previous shutdown to be stored, so that they are not read from the file twice.
+     *
+     * @return true if the transaction is still pending and the file should not be touched.
+     */
+    private boolean isStoringSessionsLeftUnsaved() {
+        Future<?> pendingSave = sessionsLeftUnsavedSave;
+        if (pendingSave == null) return false;
+        try {
+            pendingSave.get(5L, TimeUnit.SECONDS);
+            return false;
+        } catch (ExecutionException e) {
+            // Sessions are still in the file if the transaction failed.
+            return false;
+        } catch (TimeoutException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    /**
+     * Store sessions that a previous shutdown wrote to the {@link UnsavedSessionsFile} but could not store.
+     * <p>
+     * The file is removed when the transaction is committed, shutdown saves wait for it before using the file.
+     *
+     * @return Future that is done when the sessions have been stored, empty if there were no sessions to store.
+     */
+    public Optional<Future<?>> storeSessionsLeftUnsaved() {
+        List<Session> unsavedSessions;
+        try {
+            unsavedSessions = unsavedSessionsFile.read();
+        } catch (IOException e) {
+            logger.warn("Could not read sessions left unsaved by previous shutdown: " + e.getMessage());
+            return Optional.empty();
+        }
+        if (unsavedSessions.isEmpty()) {
+            return Optional.empty();
+        }
+        logger.info("Storing " + unsavedSessions.size() + " sessions that were not saved on previous shutdown.");
+        Future<?> save = saveSessions(unsavedSessions, dbSystem.getDatabase(), unsavedSessionsFile::delete);
+        sessionsLeftUnsavedSave = save;
+        return Optional.of(save);
+    }
+
+    private Future<?> saveActiveSessions(List<Session> activeSessions, Runnable afterStore) {
         Database database = dbSystem.getDatabase();
         if (database.getState() == Database.State.CLOSED) {
             // Ensure that database is not closed when performing the transaction.
@@ -113,7 +201,7 @@ public abstract class ServerShutdownSave {
             database.init();
         }
 
-        return saveSessions(activeSessions, database);
+        return saveSessions(activeSessions, database, afterStore);
     }
 
     void prepareSessionsForStorage(Map<UUID, Session> activeSessions, long now) {
@@ -125,8 +213,8 @@ public abstract class ServerShutdownSave {
         }
     }
 
-    private Future<?> saveSessions(Map<UUID, Session> activeSessions, Database database) {
-        return database.executeTransaction(new ServerShutdownTransaction(activeSessions.values()));
+    private Future<?> saveSessions(List<Session> sessions, Database database, Runnable afterStore) {
+        return database.executeTransaction(new ServerShutdownTransaction(sessions, afterStore));
     }
 
     private void closeDatabase(Database database) {
@@ -56,11 +56,15 @@ public class ShutdownHook extends Thread {
         activated = null;
     }
 
+    /**
+     * Register the hook, and store sessions the previous shutdown was not able to.
+     */
     public void register() {
         if (isActivated()) {
             deactivate();
         }
         activate(this);
+        serverShutdownSave.storeSessionsLeftUnsaved();
     }
 
     @Override
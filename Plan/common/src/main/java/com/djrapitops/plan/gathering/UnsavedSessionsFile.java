@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
+import com.djrapitops.plan.storage.file.PlanFiles;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * File that holds sessions ended on shutdown until they have been stored in the database.
+ * <p>
+ * If the database transaction does not finish before the database is closed, the sessions are stored on next enable.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class UnsavedSessionsFile {
+
+    private static final String FILE_NAME = "unsaved_sessions.dat";
+
+    private final PlanFiles files;
+
+    @Inject
+    public UnsavedSessionsFile(PlanFiles files) {
+        this.files = files;
+    }
+
+    private Path getFile() {
+        return files.getDataDirectory().resolve(FILE_NAME);
+    }
+
+    /**
+     * Write sessions to the file, replacing any sessions that were previously written.
+     *
+     * @param sessions Ended sessions.
+     * @throws IOException If the file could not be written.
+     */
+    public synchronized void write(Collection<Session> sessions) throws IOException {
+        Path file = getFile();
+        Path temporary = file.resolveSibling(FILE_NAME + ".tmp");
+        Files.createDirectories(file.getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(sessions.size());
+            for (Session session : sessions) {
+                JournalEntry.session(session).writeTo(out);
+            }
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read sessions that have not been stored in the database.
+     *
+     * @return Sessions in the file, empty list if there is no file.
+     * @throws IOException If the file could not be read or is malformed.
+     */
+    public synchronized List<Session> read() throws IOException {
+        Path file = getFile();
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int count = in.readInt();
+            List<Session> sessions = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                sessions.add(JournalEntry.readFrom(in).toSession());
+            }
+            return sessions;
+        }
+    }
+
+    /**
+     * Remove the file after the sessions have been stored in the database.
+     */
+    public synchronized void delete() {
+        try {
+            Files.deleteIfExists(getFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete " + FILE_NAME, e);
+        }
+    }
+}
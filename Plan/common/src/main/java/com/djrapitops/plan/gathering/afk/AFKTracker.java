@@ -19,25 +19,31 @@ package com.djrapitops.plan.gathering.afk;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plugin.task.AbsRunnable;
 
-import java.util.*;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Actions are recorded on the server thread for every movement, so recording one only swaps the time of the last
+ * action in the state of the player. AFK time is collected in the state and added to the session later by
+ * {@link AccrualTask}, or when the player logs out.
  *
  * @author Rsl1122
  */
 public class AFKTracker {
 
-    private final Set<UUID> usedAFKCommand;
-    private final Map<UUID, Long> lastMovement;
+    private final Map<UUID, PlayerState> states;
     private final PlanConfig config;
     private Long afkThresholdMs;
 
     public AFKTracker(PlanConfig config) {
         this.config = config;
-        usedAFKCommand = new HashSet<>();
-        lastMovement = new HashMap<>();
+        states = new ConcurrentHashMap<>();
     }
 
     public long getAfkThreshold() {
@@ -47,52 +53,112 @@ public class AFKTracker {
         return afkThresholdMs;
     }
 
+    private PlayerState getState(UUID uuid, long time) {
+        PlayerState state = states.get(uuid);
+        if (state == null) {
+            state = new PlayerState(time);
+            PlayerState previous = states.putIfAbsent(uuid, state);
+            if (previous != null) state = previous;
+        }
+        return state;
+    }
+
     public void hasIgnorePermission(UUID uuid) {
-        lastMovement.put(uuid, -1L);
+        getState(uuid, System.currentTimeMillis()).ignored = true;
     }
 
     public void usedAfkCommand(UUID uuid, long time) {
-        usedAFKCommand.add(uuid);
-        lastMovement.put(uuid, time - getAfkThreshold());
+        PlayerState state = getState(uuid, time);
+        state.usedAFKCommand = true;
+        state.lastMovement.set(time - getAfkThreshold());
     }
 
     public void performedAction(UUID uuid, long time) {
-        Long lastMoved = lastMovement.getOrDefault(uuid, time);
+        PlayerState state = getState(uuid, time);
         // Ignore afk permission
-        if (lastMoved == -1) {
+        if (state.ignored) {
             return;
         }
-        lastMovement.put(uuid, time);
-
-        try {
-            if (time - lastMoved < getAfkThreshold()) {
-                // Threshold not crossed, no action required.
-                return;
-            }
-
-            long removeAfkCommandEffect = usedAFKCommand.contains(uuid) ? getAfkThreshold() : 0;
-            long timeAFK = time - lastMoved - removeAfkCommandEffect;
+        long lastMoved = state.lastMovement.getAndSet(time);
+        long afkThreshold = getAfkThreshold();
+        boolean usedAFKCommand = state.usedAFKCommand;
+        if (usedAFKCommand) {
+            state.usedAFKCommand = false;
+        }
 
-            SessionCache.getCachedSession(uuid)
-                    .ifPresent(session -> session.addAFKTime(timeAFK));
-        } finally {
-            usedAFKCommand.remove(uuid);
+        if (time - lastMoved < afkThreshold) {
+            // Threshold not crossed, no action required.
+            return;
         }
+
+        long removeAfkCommandEffect = usedAFKCommand ? afkThreshold : 0;
+        state.afkTime.addAndGet(time - lastMoved - removeAfkCommandEffect);
     }
 
     public void loggedOut(UUID uuid, long time) {
         performedAction(uuid, time);
-        lastMovement.remove(uuid);
-        usedAFKCommand.remove(uuid);
+        PlayerState state = states.remove(uuid);
+        if (state != null) {
+            addAFKTimeToSession(uuid, state);
+        }
+    }
+
+    /**
+     * Add AFK time collected since last call to the sessions of online players.
+     */
+    public void addAFKTimeToSessions() {
+        for (Map.Entry<UUID, PlayerState> entry : states.entrySet()) {
+            addAFKTimeToSession(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void addAFKTimeToSession(UUID uuid, PlayerState state) {
+        long timeAFK = state.afkTime.getAndSet(0L);
+        if (timeAFK > 0L) {
+            SessionCache.getCachedSession(uuid)
+                    .ifPresent(session -> session.addAFKTime(timeAFK));
+        }
     }
 
     public boolean isAfk(UUID uuid) {
         long time = System.currentTimeMillis();
 
-        Long lastMoved = lastMovement.get(uuid);
-        if (lastMoved == null || lastMoved == -1) {
+        PlayerState state = states.get(uuid);
+        if (state == null || state.ignored) {
             return false;
         }
-        return time - lastMoved > getAfkThreshold();
+        return time - state.lastMovement.get() > getAfkThreshold();
+    }
+
+    /**
+     * AFK state of an online player, reused for every action during the session.
+     */
+    private static class PlayerState {
+        final AtomicLong lastMovement;
+        final AtomicLong afkTime;
+        volatile boolean ignored;
+        volatile boolean usedAFKCommand;
+
+        PlayerState(long time) {
+            lastMovement = new AtomicLong(time);
+            afkTime = new AtomicLong();
+        }
+    }
+
+    /**
+     * Task that periodically adds collected AFK time to the sessions of online players.
+     */
+    public static class AccrualTask extends AbsRunnable {
+
+        private final AFKTracker afkTracker;
+
+        public AccrualTask(AFKTracker afkTracker) {
+            this.afkTracker = afkTracker;
+        }
+
+        @Override
+        public void run() {
+            afkTracker.addAFKTimeToSessions();
+        }
     }
-}
\ No newline at end of file
+}
@@ -35,18 +35,21 @@ public class CacheSystem implements SubSystem {
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
     private final GeolocationCache geolocationCache;
+    private final LeaderboardCache leaderboardCache;
 
     @Inject
     public CacheSystem(
             TabCompleteCache tabCompleteCache,
             SessionCache sessionCache,
             NicknameCache nicknameCache,
-            GeolocationCache geolocationCache
+            GeolocationCache geolocationCache,
+            LeaderboardCache leaderboardCache
     ) {
         this.tabCompleteCache = tabCompleteCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
         this.geolocationCache = geolocationCache;
+        this.leaderboardCache = leaderboardCache;
     }
 
     @Override
@@ -54,11 +57,13 @@ public class CacheSystem implements SubSystem {
         nicknameCache.enable();
         geolocationCache.enable();
         tabCompleteCache.enable();
+        leaderboardCache.enable();
     }
 
     @Override
     public void disable() {
         geolocationCache.clearCache();
+        leaderboardCache.disable();
     }
 
     public NicknameCache getNicknameCache() {
@@ -72,4 +77,8 @@ public class CacheSystem implements SubSystem {
     public SessionCache getSessionCache() {
         return sessionCache;
     }
+
+    public LeaderboardCache getLeaderboardCache() {
+        return leaderboardCache;
+    }
 }
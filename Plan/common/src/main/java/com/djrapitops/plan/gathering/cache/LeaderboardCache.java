@@ -0,0 +1,258 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.delivery.domain.Leaderboard;
+import com.djrapitops.plan.delivery.domain.LeaderboardMetric;
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.analysis.LeaderboardQueries;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plugin.api.TimeAmount;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.task.AbsRunnable;
+import com.djrapitops.plugin.task.RunnableFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds top player {@link Leaderboard}s of each server and the whole network in memory.
+ * <p>
+ * Boards are updated with the values of a player whenever their session is saved, and recalculated from the database
+ * periodically to include changes made by other servers and removed players.
+ * The boards are saved to a file on disable so that they are available right after the next enable.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class LeaderboardCache implements SubSystem {
+
+    private static final String SNAPSHOT_FILE = "leaderboards.txt";
+    private static final String NETWORK = "network";
+
+    private static final Map<UUID, Map<LeaderboardMetric, Leaderboard>> SERVER_LEADERBOARDS = new ConcurrentHashMap<>();
+    private static final Map<LeaderboardMetric, Leaderboard> NETWORK_LEADERBOARDS = new ConcurrentHashMap<>();
+    private static volatile int leaderboardSize = 0;
+
+    private final PlanConfig config;
+    private final PlanFiles files;
+    private final DBSystem dbSystem;
+    private final RunnableFactory runnableFactory;
+    private final ErrorLogger errorLogger;
+
+    @Inject
+    public LeaderboardCache(
+            PlanConfig config,
+            PlanFiles files,
+            DBSystem dbSystem,
+            RunnableFactory runnableFactory,
+            ErrorLogger errorLogger
+    ) {
+        this.config = config;
+        this.files = files;
+        this.dbSystem = dbSystem;
+        this.runnableFactory = runnableFactory;
+        this.errorLogger = errorLogger;
+    }
+
+    public static boolean isEnabled() {
+        return leaderboardSize > 0;
+    }
+
+    /**
+     * Offer current values of a player to the leaderboards.
+     *
+     * @param playerUUID      UUID of the player.
+     * @param playerName      Name of the player.
+     * @param valuesPerServer Map: Server UUID - Values of the player on that server.
+     */
+    public static void offer(UUID playerUUID, String playerName, Map<UUID, Map<LeaderboardMetric, Long>> valuesPerServer) {
+        if (!isEnabled()) return;
+
+        Map<LeaderboardMetric, Long> networkValues = new EnumMap<>(LeaderboardMetric.class);
+        for (Map.Entry<UUID, Map<LeaderboardMetric, Long>> ofServer : valuesPerServer.entrySet()) {
+            for (Map.Entry<LeaderboardMetric, Long> value : ofServer.getValue().entrySet()) {
+                getOrCreate(ofServer.getKey(), value.getKey()).offer(playerUUID, playerName, value.getValue());
+                networkValues.merge(value.getKey(), value.getValue(), Long::sum);
+            }
+        }
+        for (Map.Entry<LeaderboardMetric, Long> value : networkValues.entrySet()) {
+            getOrCreate(null, value.getKey()).offer(playerUUID, playerName, value.getValue());
+        }
+    }
+
+    private static Leaderboard getOrCreate(UUID serverUUID, LeaderboardMetric metric) {
+        Map<LeaderboardMetric, Leaderboard> boards = serverUUID != null
+                ? SERVER_LEADERBOARDS.computeIfAbsent(serverUUID, k -> new ConcurrentHashMap<>())
+                : NETWORK_LEADERBOARDS;
+        return boards.computeIfAbsent(metric, k -> new Leaderboard(leaderboardSize));
+    }
+
+    /**
+     * Get top players of a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @param metric     Metric players are ranked by.
+     * @return Ranking, highest value first. Empty if the leaderboard has not been calculated.
+     */
+    public static List<Leaderboard.Entry> getRanking(UUID serverUUID, LeaderboardMetric metric) {
+        Map<LeaderboardMetric, Leaderboard> boards = SERVER_LEADERBOARDS.get(serverUUID);
+        Leaderboard board = boards != null ? boards.get(metric) : null;
+        return board != null ? board.getRanking() : Collections.emptyList();
+    }
+
+    /**
+     * Get top players of the whole network.
+     *
+     * @param metric Metric players are ranked by.
+     * @return Ranking, highest value first. Empty if the leaderboard has not been calculated.
+     */
+    public static List<Leaderboard.Entry> getNetworkRanking(LeaderboardMetric metric) {
+        Leaderboard board = NETWORK_LEADERBOARDS.get(metric);
+        return board != null ? board.getRanking() : Collections.emptyList();
+    }
+
+    public static void clear() {
+        SERVER_LEADERBOARDS.clear();
+        NETWORK_LEADERBOARDS.clear();
+    }
+
+    @Override
+    public void enable() {
+        leaderboardSize = config.get(DisplaySettings.LEADERBOARD_SIZE);
+        if (!isEnabled()) return;
+
+        File snapshot = files.getFileFromPluginFolder(SNAPSHOT_FILE);
+        long period = config.get(TimeSettings.LEADERBOARD_REFRESH_PERIOD);
+        long delay = 0L;
+        if (snapshot.exists() && loadSnapshot(snapshot.toPath())) {
+            long age = System.currentTimeMillis() - snapshot.lastModified();
+            delay = Math.max(period - age, 0L);
+        }
+
+        runnableFactory.create("Leaderboard Recalculation", new AbsRunnable() {
+            @Override
+            public void run() {
+                recalculate();
+            }
+        }).runTaskTimerAsynchronously(
+                TimeAmount.toTicks(delay, TimeUnit.MILLISECONDS),
+                TimeAmount.toTicks(period, TimeUnit.MILLISECONDS)
+        );
+    }
+
+    @Override
+    public void disable() {
+        if (isEnabled()) {
+            saveSnapshot(files.getFileFromPluginFolder(SNAPSHOT_FILE).toPath());
+        }
+    }
+
+    /**
+     * Calculate all leaderboards from the database.
+     */
+    public void recalculate() {
+        int size = leaderboardSize;
+        if (size <= 0) return;
+        try {
+            Database database = dbSystem.getDatabase();
+            Set<UUID> serverUUIDs = database.query(ServerQueries.fetchPlanServerInformation()).keySet();
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                for (UUID serverUUID : serverUUIDs) {
+                    getOrCreate(serverUUID, metric).replaceWith(database.query(LeaderboardQueries.topPlayers(metric, serverUUID, size)));
+                }
+                getOrCreate(null, metric).replaceWith(database.query(LeaderboardQueries.topPlayers(metric, size)));
+            }
+            SERVER_LEADERBOARDS.keySet().retainAll(serverUUIDs);
+        } catch (DBOpException e) {
+            errorLogger.log(L.WARN, e, ErrorContext.builder().related("Recalculating leaderboards").build());
+        }
+    }
+
+    private boolean loadSnapshot(Path snapshot) {
+        // Network leaderboards are stored under null key
+        Map<UUID, Map<LeaderboardMetric, List<Leaderboard.Entry>>> loaded = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(snapshot, StandardCharsets.UTF_8)) {
+                // Format: scope;metric;player uuid;value;player name
+                String[] split = line.split(";", 5);
+                if (split.length < 5) continue;
+                Optional<LeaderboardMetric> metric = LeaderboardMetric.getForName(split[1]);
+                if (!metric.isPresent()) continue;
+                UUID serverUUID = NETWORK.equals(split[0]) ? null : UUID.fromString(split[0]);
+                loaded.computeIfAbsent(serverUUID, k -> new EnumMap<>(LeaderboardMetric.class))
+                        .computeIfAbsent(metric.get(), k -> new ArrayList<>())
+                        .add(new Leaderboard.Entry(UUID.fromString(split[2]), split[4], Long.parseLong(split[3])));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException
+            errorLogger.log(L.WARN, e, ErrorContext.builder()
+                    .whatToDo("Leaderboards are recalculated from the database, the file can be removed")
+                    .related(snapshot).build());
+            return false;
+        }
+
+        for (Map.Entry<UUID, Map<LeaderboardMetric, List<Leaderboard.Entry>>> scope : loaded.entrySet()) {
+            for (Map.Entry<LeaderboardMetric, List<Leaderboard.Entry>> board : scope.getValue().entrySet()) {
+                getOrCreate(scope.getKey(), board.getKey()).replaceWith(board.getValue());
+            }
+        }
+        return true;
+    }
+
+    private void saveSnapshot(Path snapshot) {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<UUID, Map<LeaderboardMetric, Leaderboard>> ofServer : SERVER_LEADERBOARDS.entrySet()) {
+            addLines(ofServer.getKey().toString(), ofServer.getValue(), lines);
+        }
+        addLines(NETWORK, NETWORK_LEADERBOARDS, lines);
+
+        try {
+            Path temporary = snapshot.resolveSibling(SNAPSHOT_FILE + ".tmp");
+            Files.write(temporary, lines, StandardCharsets.UTF_8);
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            errorLogger.log(L.WARN, e, ErrorContext.builder().related(snapshot).build());
+        }
+    }
+
+    private void addLines(String scope, Map<LeaderboardMetric, Leaderboard> boards, List<String> lines) {
+        for (Map.Entry<LeaderboardMetric, Leaderboard> board : boards.entrySet()) {
+            for (Leaderboard.Entry entry : board.getValue().getRanking()) {
+                lines.add(scope + ';' + board.getKey().getName() + ';' + entry.getPlayerUUID() + ';' + entry.getValue() + ';' + entry.getPlayerName());
+            }
+        }
+    }
+}
@@ -27,19 +27,22 @@ import com.djrapitops.plugin.logging.L;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Used for caching nicknames when the player is online.
+ * <p>
+ * Display names are kept in memory for online players so that a nickname change can be detected without a database
+ * transaction whenever the player chats.
  *
  * @author Rsl1122
  */
 @Singleton
 public class NicknameCache implements SubSystem {
 
+    private static final int PRELOAD_PARTITION_SIZE = 500;
+
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final ErrorLogger errorLogger;
@@ -55,12 +58,13 @@ public class NicknameCache implements SubSystem {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.errorLogger = errorLogger;
-        displayNames = new HashMap<>();
+        displayNames = new ConcurrentHashMap<>();
     }
 
     @Override
     public void enable() {
-        // Nothing to enable
+        // Players that are online when the plugin is reloaded keep their sessions.
+        preload(SessionCache.getActivePlayerUUIDs());
     }
 
     @Override
@@ -68,39 +72,55 @@ public class NicknameCache implements SubSystem {
         displayNames.clear();
     }
 
+    private void preload(Collection<UUID> playerUUIDs) {
+        if (playerUUIDs.isEmpty()) return;
+        try {
+            UUID serverUUID = serverInfo.getServerUUID();
+            List<UUID> partition = new ArrayList<>();
+            for (UUID playerUUID : playerUUIDs) {
+                partition.add(playerUUID);
+                if (partition.size() >= PRELOAD_PARTITION_SIZE) {
+                    cacheLastSeen(partition, serverUUID);
+                    partition = new ArrayList<>();
+                }
+            }
+            cacheLastSeen(partition, serverUUID);
+        } catch (DBOpException e) {
+            errorLogger.log(L.ERROR, e);
+        }
+    }
+
+    private void cacheLastSeen(List<UUID> playerUUIDs, UUID serverUUID) {
+        Map<UUID, Nickname> lastSeen = dbSystem.getDatabase()
+                .query(NicknameQueries.fetchLastSeenNicknamesOfPlayers(playerUUIDs, serverUUID));
+        for (Map.Entry<UUID, Nickname> entry : lastSeen.entrySet()) {
+            displayNames.putIfAbsent(entry.getKey(), entry.getValue().getName());
+        }
+    }
+
     public void removeDisplayName(UUID uuid) {
         displayNames.remove(uuid);
     }
 
+    /**
+     * Update the display name of an online player.
+     *
+     * @param uuid        UUID of the player.
+     * @param displayName Current display name of the player.
+     * @return true if the display name is different from the previously cached one, and should be stored.
+     */
+    public boolean updateDisplayName(UUID uuid, String displayName) {
+        if (displayName == null) return false;
+        return !displayName.equals(displayNames.put(uuid, displayName));
+    }
+
     /**
      * Used to get the player display name in the cache.
-     * <p>
-     * If not cached, one from the database will be cached.
      *
      * @param uuid UUID of the player.
-     * @return latest displayName or null if none are saved.
+     * @return latest displayName or empty if the player is not online.
      */
     public Optional<String> getDisplayName(UUID uuid) {
-        String cached = displayNames.get(uuid);
-
-        if (cached == null) {
-            Optional<String> found = getFromDatabase(uuid);
-            if (found.isPresent()) {
-                displayNames.put(uuid, found.get());
-                return found;
-            }
-        }
-        return Optional.empty();
-    }
-
-    private Optional<String> getFromDatabase(UUID uuid) {
-        try {
-            return dbSystem.getDatabase().query(
-                    NicknameQueries.fetchLastSeenNicknameOfPlayer(uuid, serverInfo.getServerUUID())
-            ).map(Nickname::getName);
-        } catch (DBOpException e) {
-            errorLogger.log(L.ERROR, e);
-        }
-        return Optional.empty();
+        return Optional.ofNullable(displayNames.get(uuid));
     }
 }
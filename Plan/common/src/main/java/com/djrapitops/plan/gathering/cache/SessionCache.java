@@ -17,12 +17,15 @@
 package com.djrapitops.plan.gathering.cache;
 
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
 import com.djrapitops.plan.gathering.domain.Session;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class is used to store active sessions of players in memory.
@@ -34,34 +37,82 @@ public class SessionCache {
 
     private static final Map<UUID, Session> ACTIVE_SESSIONS = new ConcurrentHashMap<>();
 
+    private static final long SNAPSHOT_MAX_AGE_MS = TimeUnit.SECONDS.toMillis(1L);
+    private static final AtomicLong VERSION = new AtomicLong();
+    private static final Object SNAPSHOT_LOCK = new Object();
+    private static volatile Snapshot published = null;
+
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
+
     @Inject
-    public SessionCache() {
-        // Dagger requires empty inject constructor
+    public SessionCache(LiveUpdateBroadcaster liveUpdateBroadcaster) {
+        this.liveUpdateBroadcaster = liveUpdateBroadcaster;
     }
 
+    /**
+     * Get a read-only view of the active sessions.
+     * <p>
+     * The view is shared between callers and republished when sessions start or end, or when it is older than a second,
+     * so reading does not copy or modify the sessions that are being updated by the server.
+     * The returned sessions must not be modified, use {@link #takeSnapshot(long)} for copies that can be.
+     *
+     * @return Unmodifiable Map: Player UUID - snapshot of the player's active Session.
+     */
     public static Map<UUID, Session> getActiveSessions() {
-        refreshActiveSessionsState();
-        return Collections.unmodifiableMap(new HashMap<>(ACTIVE_SESSIONS));
+        long now = System.currentTimeMillis();
+        Snapshot current = published;
+        if (current != null && current.isValid(VERSION.get(), now)) {
+            return current.sessions;
+        }
+        synchronized (SNAPSHOT_LOCK) {
+            long version = VERSION.get();
+            current = published;
+            if (current == null || !current.isValid(version, now)) {
+                current = new Snapshot(version, now, takeSnapshot(now));
+                published = current;
+            }
+            return current.sessions;
+        }
     }
 
-    public static void clear() {
-        ACTIVE_SESSIONS.clear();
+    /**
+     * Copy the active sessions.
+     *
+     * @param time Epoch ms to calculate world times of the sessions to.
+     * @return Unmodifiable Map: Player UUID - copy of the player's active Session.
+     */
+    public static Map<UUID, Session> takeSnapshot(long time) {
+        Map<UUID, Session> copies = new HashMap<>();
+        for (Map.Entry<UUID, Session> entry : ACTIVE_SESSIONS.entrySet()) {
+            copies.put(entry.getKey(), entry.getValue().snapshot(time));
+        }
+        return Collections.unmodifiableMap(copies);
     }
 
-    public static void refreshActiveSessionsState() {
-        ACTIVE_SESSIONS.values().forEach(Session::updateState);
+    public static Set<UUID> getActivePlayerUUIDs() {
+        return Collections.unmodifiableSet(ACTIVE_SESSIONS.keySet());
+    }
+
+    public static int getActiveSessionCount() {
+        return ACTIVE_SESSIONS.size();
+    }
+
+    public static void clear() {
+        ACTIVE_SESSIONS.clear();
+        VERSION.incrementAndGet();
     }
 
     /**
      * Used to get the Session of the player in the sessionCache.
+     * <p>
+     * The returned Session is the one the server is updating, use {@link Session#snapshot(long)} for reading it
+     * outside the server thread.
      *
      * @param playerUUID UUID of the player.
      * @return Optional with the session inside it if found.
      */
     public static Optional<Session> getCachedSession(UUID playerUUID) {
-        Optional<Session> found = Optional.ofNullable(ACTIVE_SESSIONS.get(playerUUID));
-        found.ifPresent(Session::updateState);
-        return found;
+        return Optional.ofNullable(ACTIVE_SESSIONS.get(playerUUID));
     }
 
     /**
@@ -74,9 +125,12 @@ public class SessionCache {
     public Optional<Session> cacheSession(UUID playerUUID, Session session) {
         Optional<Session> inProgress = Optional.empty();
         if (getCachedSession(playerUUID).isPresent()) {
-            inProgress = endSession(playerUUID, session.getUnsafe(SessionKeys.START));
+            inProgress = removeAndEnd(playerUUID, session.getUnsafe(SessionKeys.START));
+            inProgress.ifPresent(liveUpdateBroadcaster::sessionEnded);
         }
         ACTIVE_SESSIONS.put(playerUUID, session);
+        VERSION.incrementAndGet();
+        liveUpdateBroadcaster.playerJoined(session, ACTIVE_SESSIONS.size());
         return inProgress;
     }
 
@@ -88,12 +142,38 @@ public class SessionCache {
      * @return Optional: ended session. Recipients of this object should decide if it needs to be saved.
      */
     public Optional<Session> endSession(UUID playerUUID, long time) {
+        Optional<Session> ended = removeAndEnd(playerUUID, time);
+        ended.ifPresent(session -> {
+            liveUpdateBroadcaster.playerLeft(session, ACTIVE_SESSIONS.size());
+            liveUpdateBroadcaster.sessionEnded(session);
+        });
+        return ended;
+    }
+
+    private Optional<Session> removeAndEnd(UUID playerUUID, long time) {
         Session session = ACTIVE_SESSIONS.get(playerUUID);
         if (session == null || session.getUnsafe(SessionKeys.START) > time) {
             return Optional.empty();
         }
         ACTIVE_SESSIONS.remove(playerUUID);
+        VERSION.incrementAndGet();
         session.endSession(time);
         return Optional.of(session);
     }
+
+    private static class Snapshot {
+        final long version;
+        final long createdAt;
+        final Map<UUID, Session> sessions;
+
+        Snapshot(long version, long createdAt, Map<UUID, Session> sessions) {
+            this.version = version;
+            this.createdAt = createdAt;
+            this.sessions = sessions;
+        }
+
+        boolean isValid(long currentVersion, long now) {
+            return version == currentVersion && now - createdAt < SNAPSHOT_MAX_AGE_MS;
+        }
+    }
 }
@@ -18,6 +18,7 @@ package com.djrapitops.plan.gathering.domain;
 
 import com.djrapitops.plugin.utilities.Verify;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -111,6 +112,15 @@ public class GMTimes extends TimeKeeper {
         resetState(SPECTATOR);
     }
 
+    /**
+     * Create a copy that can be modified without affecting this object.
+     *
+     * @return New GMTimes with the same times and state.
+     */
+    public GMTimes copy() {
+        return new GMTimes(new HashMap<>(times), state, lastStateChange);
+    }
+
     @Override
     public String getState() {
         String state = super.getState();
@@ -0,0 +1,134 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Data class that contains the information stored when a player joins.
+ * <p>
+ * Proxy servers only store the player and their address, game servers also store the world and the display name.
+ *
+ * @author Rsl1122
+ */
+public class PlayerJoin {
+
+    private final UUID playerUUID;
+    private final String playerName;
+    private final LongSupplier registered;
+    private final long time;
+
+    private UUID serverUUID;
+    private String worldName;
+    private String displayName;
+    private String address;
+    private String geolocation;
+
+    public PlayerJoin(UUID playerUUID, String playerName, LongSupplier registered, long time) {
+        this.playerUUID = playerUUID;
+        this.playerName = playerName;
+        this.registered = registered;
+        this.time = time;
+    }
+
+    /**
+     * Add game server information to the join.
+     *
+     * @param serverUUID  UUID of the server the player joined.
+     * @param worldName   Name of the world the player joined to.
+     * @param displayName Display name of the player.
+     * @return this join.
+     */
+    public PlayerJoin onServer(UUID serverUUID, String worldName, String displayName) {
+        this.serverUUID = serverUUID;
+        this.worldName = worldName;
+        this.displayName = displayName;
+        return this;
+    }
+
+    /**
+     * Add the address the player joined from, for geolocation.
+     *
+     * @param address IP address of the player.
+     * @return this join.
+     */
+    public PlayerJoin fromAddress(String address) {
+        this.address = address;
+        return this;
+    }
+
+    /**
+     * Add the geolocation of the address, when it has already been resolved.
+     *
+     * @param geolocation Country of the player.
+     * @return this join.
+     */
+    public PlayerJoin withGeolocation(String geolocation) {
+        this.geolocation = geolocation;
+        return this;
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public long getRegistered() {
+        return registered.getAsLong();
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public Optional<UUID> getServerUUID() {
+        return Optional.ofNullable(serverUUID);
+    }
+
+    public Optional<String> getWorldName() {
+        return Optional.ofNullable(worldName);
+    }
+
+    public Optional<String> getDisplayName() {
+        return Optional.ofNullable(displayName);
+    }
+
+    public Optional<String> getAddress() {
+        return Optional.ofNullable(address);
+    }
+
+    public Optional<String> getGeolocation() {
+        return Optional.ofNullable(geolocation);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerJoin{" +
+                "playerUUID=" + playerUUID +
+                ", playerName='" + playerName + '\'' +
+                ", time=" + time +
+                ", serverUUID=" + serverUUID +
+                ", worldName='" + worldName + '\'' +
+                ", displayName='" + displayName + '\'' +
+                '}';
+    }
+}
@@ -129,7 +129,7 @@ public class Session extends DynamicDataContainer implements DateHolder {
      *
      * @param endOfSession Epoch millisecond the session ended.
      */
-    public void endSession(long endOfSession) {
+    public synchronized void endSession(long endOfSession) {
         putRawData(SessionKeys.END, endOfSession);
         worldTimes.updateState(endOfSession);
     }
@@ -141,19 +141,19 @@ public class Session extends DynamicDataContainer implements DateHolder {
      * @param gm    GameMode the player is in.
      * @param time  Epoch ms of the event.
      */
-    public void changeState(String world, String gm, long time) {
+    public synchronized void changeState(String world, String gm, long time) {
         worldTimes.updateState(world, gm, time);
     }
 
-    public void playerKilled(PlayerKill kill) {
+    public synchronized void playerKilled(PlayerKill kill) {
         playerKills.add(kill);
     }
 
-    public void mobKilled() {
+    public synchronized void mobKilled() {
         mobKills++;
     }
 
-    public void died() {
+    public synchronized void died() {
         deaths++;
     }
 
@@ -171,7 +171,7 @@ public class Session extends DynamicDataContainer implements DateHolder {
         return getUnsafe(SessionKeys.START);
     }
 
-    public void setWorldTimes(WorldTimes worldTimes) {
+    public synchronized void setWorldTimes(WorldTimes worldTimes) {
         this.worldTimes = worldTimes;
     }
 
@@ -192,7 +192,7 @@ public class Session extends DynamicDataContainer implements DateHolder {
         return supports(SessionKeys.DB_ID);
     }
 
-    public void addAFKTime(long timeAFK) {
+    public synchronized void addAFKTime(long timeAFK) {
         afkTime += timeAFK;
     }
 
@@ -200,7 +200,7 @@ public class Session extends DynamicDataContainer implements DateHolder {
         putRawData(SessionKeys.DB_ID, sessionID);
     }
 
-    public void setAsFirstSessionIfMatches(Long registerDate) {
+    public synchronized void setAsFirstSessionIfMatches(Long registerDate) {
         if (registerDate != null && Math.abs(sessionStart - registerDate) < TimeUnit.SECONDS.toMillis(15L)) {
             this.firstSession = true;
         }
@@ -210,7 +210,7 @@ public class Session extends DynamicDataContainer implements DateHolder {
         return firstSession;
     }
 
-    public List<PlayerKill> getPlayerKills() {
+    public synchronized List<PlayerKill> getPlayerKills() {
         playerKills.sort(new DateHolderRecentComparator());
         return playerKills;
     }
@@ -228,7 +228,7 @@ public class Session extends DynamicDataContainer implements DateHolder {
         return worldTimes;
     }
 
-    public void setPlayerKills(List<PlayerKill> playerKills) {
+    public synchronized void setPlayerKills(List<PlayerKill> playerKills) {
         this.playerKills = playerKills;
     }
 
@@ -257,7 +257,27 @@ public class Session extends DynamicDataContainer implements DateHolder {
                 '}';
     }
 
-    public void updateState() {
-        worldTimes.updateState(System.currentTimeMillis());
+    /**
+     * Create a copy of this session for reading on another thread.
+     * <p>
+     * World times of the copy are updated to the given time, this session is not modified.
+     *
+     * @param time Epoch ms to calculate the world times of an active session to.
+     * @return New Session that is not affected by further changes to this session.
+     */
+    public synchronized Session snapshot(long time) {
+        Session copy = new Session(getUnsafe(SessionKeys.UUID), getUnsafe(SessionKeys.SERVER_UUID), sessionStart, null, null);
+        copy.worldTimes = worldTimes.copy();
+        copy.playerKills.addAll(playerKills);
+        copy.mobKills = mobKills;
+        copy.deaths = deaths;
+        copy.afkTime = afkTime;
+        copy.firstSession = firstSession;
+        // Names and other values given by the listeners are raw data
+        copyRawDataTo(copy);
+        if (!copy.getValue(SessionKeys.END).isPresent()) {
+            copy.worldTimes.updateState(time);
+        }
+        return copy;
     }
 }
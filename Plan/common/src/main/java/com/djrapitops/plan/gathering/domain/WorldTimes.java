@@ -189,6 +189,22 @@ public class WorldTimes {
         }
     }
 
+    /**
+     * Create a copy that can be modified without affecting this object.
+     *
+     * @return New WorldTimes with copies of each World's GMTimes.
+     */
+    public WorldTimes copy() {
+        Map<String, GMTimes> copiedTimes = new HashMap<>();
+        for (Map.Entry<String, GMTimes> entry : times.entrySet()) {
+            copiedTimes.put(entry.getKey(), entry.getValue().copy());
+        }
+        WorldTimes copy = new WorldTimes(copiedTimes);
+        copy.currentWorld = currentWorld;
+        copy.currentGamemode = currentGamemode;
+        return copy;
+    }
+
     public boolean contains(String worldName) {
         return times.containsKey(worldName);
     }
@@ -20,10 +20,13 @@ import com.djrapitops.plan.exceptions.PreparationException;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.storage.file.PlanFiles;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.Network;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
-import com.maxmind.geoip2.record.Country;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.utils.IOUtils;
@@ -36,8 +39,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.URL;
+import java.net.UnknownHostException;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
@@ -46,6 +51,9 @@ import java.util.zip.GZIPInputStream;
  * <p>
  * This product includes GeoLite2 data created by MaxMind, available from
  * <a href="http://www.maxmind.com">http://www.maxmind.com</a>.
+ * <p>
+ * The database is opened once and kept open until the geolocator is prepared again or closed. Results are cached by
+ * the network the database returned them for, so other addresses of the same network are found without a lookup.
  *
  * @author Rsl1122
  * @see <a href="http://maxmind.com">http://maxmind.com</a>
@@ -56,12 +64,22 @@ public class GeoLite2Geolocator implements Geolocator {
     private final PlanFiles files;
     private final PlanConfig config;
 
+    private final Cache<String, String> countriesByNetwork;
+    private final Set<Integer> cachedPrefixLengths;
+
     private File geolocationDB;
+    private volatile DatabaseReader reader;
 
     @Inject
     public GeoLite2Geolocator(PlanFiles files, PlanConfig config) {
         this.files = files;
         this.config = config;
+
+        countriesByNetwork = Caffeine.newBuilder()
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .maximumSize(10000)
+                .build();
+        cachedPrefixLengths = new ConcurrentSkipListSet<>(Comparator.reverseOrder());
     }
 
     @Override
@@ -75,17 +93,53 @@ public class GeoLite2Geolocator implements Geolocator {
 
         if (geolocationDB.exists()) {
             if (geolocationDB.lastModified() >= System.currentTimeMillis() - TimeUnit.DAYS.toMillis(7L)) {
+                openReader();
                 return; // Database is new enough
             } else {
+                close(); // The file can not be deleted while it is mapped on Windows
                 Files.delete(geolocationDB.toPath()); // Delete old data according to restriction 3. in EULA
             }
         }
 
         downloadDatabase();
+        openReader();
         // Delete old Geolocation database file if it still exists (on success to avoid a no-file situation)
         Files.deleteIfExists(files.getFileFromPluginFolder("GeoIP.dat").toPath());
     }
 
+    private void openReader() throws IOException {
+        // Mapped files can not be deleted or replaced on Windows, so the database is read to memory there instead.
+        // See https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
+        boolean windows = System.getProperty("os.name", "").toLowerCase().contains("win");
+        DatabaseReader opened = new DatabaseReader.Builder(geolocationDB)
+                .fileMode(windows ? Reader.FileMode.MEMORY : Reader.FileMode.MEMORY_MAPPED)
+                .build();
+
+        DatabaseReader previous = reader;
+        reader = opened;
+        clearNetworkCache();
+        if (previous != null) previous.close();
+    }
+
+    @Override
+    public void close() {
+        DatabaseReader previous = reader;
+        reader = null;
+        clearNetworkCache();
+        if (previous != null) {
+            try {
+                previous.close();
+            } catch (IOException ignored) {
+                // Closing a memory mapped reader does not fail
+            }
+        }
+    }
+
+    private void clearNetworkCache() {
+        countriesByNetwork.invalidateAll();
+        cachedPrefixLengths.clear();
+    }
+
     private void downloadDatabase() throws IOException {
         // Avoid Socket leak with the parameters in case download url has proxy
         // https://rsl1122.github.io/mishaps/java_socket_leak_incident
@@ -132,19 +186,45 @@ public class GeoLite2Geolocator implements Geolocator {
         if (inetAddress == null) return Optional.empty();
         if (inetAddress.getHostAddress().contains("127.0.0.1")) return Optional.of("Local Machine");
 
-        try (
-                // See https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
-                // for why InputStream is being used here instead.
-                InputStream in = Files.newInputStream(geolocationDB.toPath());
-                DatabaseReader reader = new DatabaseReader.Builder(in).build()
-        ) {
-            CountryResponse response = reader.country(inetAddress);
-            Country country = response.getCountry();
-            String countryName = country.getName();
+        byte[] address = inetAddress.getAddress();
+        for (int prefixLength : cachedPrefixLengths) {
+            if (prefixLength > address.length * 8) continue;
+            String cached = countriesByNetwork.getIfPresent(getNetworkKey(address, prefixLength));
+            if (cached != null) return Optional.of(cached);
+        }
 
+        DatabaseReader databaseReader = reader;
+        if (databaseReader == null) return Optional.empty();
+        try {
+            Optional<CountryResponse> response = databaseReader.tryCountry(inetAddress);
+            if (!response.isPresent()) return Optional.empty();
+
+            String countryName = response.get().getCountry().getName();
+            Network network = response.get().getTraits().getNetwork();
+            if (countryName != null && network != null) {
+                byte[] networkAddress = network.getNetworkAddress().getAddress();
+                countriesByNetwork.put(getNetworkKey(networkAddress, network.getPrefixLength()), countryName);
+                cachedPrefixLengths.add(network.getPrefixLength());
+            }
             return Optional.ofNullable(countryName);
         } catch (IOException | GeoIp2Exception e) {
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    // VisibleForTesting
+    static String getNetworkKey(byte[] address, int prefixLength) {
+        byte[] masked = new byte[address.length];
+        int fullBytes = prefixLength / 8;
+        System.arraycopy(address, 0, masked, 0, fullBytes);
+        int remainingBits = prefixLength % 8;
+        if (remainingBits != 0) {
+            masked[fullBytes] = (byte) (address[fullBytes] & (0xFF << (8 - remainingBits)));
+        }
+        try {
+            return InetAddress.getByAddress(masked).getHostAddress() + '/' + prefixLength;
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Bad address length " + address.length, e);
+        }
+    }
+}
@@ -137,6 +137,7 @@ public class GeolocationCache implements SubSystem {
     @Override
     public void disable() {
         clearCache();
+        geoLite2Geolocator.close();
     }
 
     /**
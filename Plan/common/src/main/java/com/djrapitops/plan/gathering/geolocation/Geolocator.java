@@ -41,6 +41,13 @@ public interface Geolocator {
 
     Optional<String> getCountry(InetAddress inetAddress);
 
+    /**
+     * Release resources held by the geolocator.
+     */
+    default void close() {
+        // Nothing to release by default
+    }
+
     default Optional<String> getCountry(String address) {
         try {
             InetAddress inetAddress = InetAddress.getByName(address);
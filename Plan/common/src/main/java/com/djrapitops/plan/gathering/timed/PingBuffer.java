@@ -0,0 +1,100 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.utilities.Predicates;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Buffer for ping samples of a single player.
+ * <p>
+ * Samples are stored in primitive arrays that are reused after every aggregate, and min and max are kept up to date
+ * as samples are added, so sampling does not allocate.
+ *
+ * @author Rsl1122
+ */
+public class PingBuffer {
+
+    public static final int SAMPLE_COUNT = 30;
+
+    private final int[] samples;
+    private final int[] sortBuffer;
+    private int size;
+    private int min;
+    private int max;
+    private long lastDate;
+
+    public PingBuffer() {
+        samples = new int[SAMPLE_COUNT];
+        sortBuffer = new int[SAMPLE_COUNT];
+        clear();
+    }
+
+    /**
+     * Add a sample.
+     *
+     * @param date Epoch ms the sample was taken.
+     * @param ping Ping of the player in ms.
+     * @return true if the buffer is full and {@link #aggregate(UUID)} should be called.
+     */
+    public boolean add(long date, int ping) {
+        samples[size] = ping;
+        size++;
+        lastDate = date;
+        if (Predicates.pingInRange(ping)) {
+            if (min == -1 || ping < min) min = ping;
+            if (max == -1 || ping > max) max = ping;
+        }
+        return size >= SAMPLE_COUNT;
+    }
+
+    /**
+     * Calculate the aggregate of the samples and clear the buffer.
+     *
+     * @param serverUUID UUID of the server the samples were taken on.
+     * @return Ping with the date of the last sample, min and max of samples in range and median of all samples.
+     */
+    public Ping aggregate(UUID serverUUID) {
+        Ping ping = new Ping(lastDate, serverUUID, min, max, getMedian());
+        clear();
+        return ping;
+    }
+
+    // VisibleForTesting
+    int getMedian() {
+        if (size == 0) return -1;
+        System.arraycopy(samples, 0, sortBuffer, 0, size);
+        Arrays.sort(sortBuffer, 0, size);
+        int half = size / 2;
+        double median = size % 2 == 0 ? (sortBuffer[half] + sortBuffer[half - 1]) / 2.0 : sortBuffer[half];
+        return (int) median;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+        min = -1;
+        max = -1;
+        lastDate = 0L;
+    }
+}
@@ -16,7 +16,9 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
 import com.djrapitops.plan.gathering.ServerSensor;
+import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -30,6 +32,7 @@ import com.djrapitops.plugin.logging.console.PluginLogger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -45,6 +48,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
     private final SystemUsageBuffer systemUsage;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
     private TPSCalculator indirectTPS;
     private TimerAverage directTPS;
     private final Maximum.ForInteger playersOnline;
@@ -57,6 +61,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
             SystemUsageBuffer systemUsage,
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            LiveUpdateBroadcaster liveUpdateBroadcaster,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -66,6 +71,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
         this.serverSensor = serverSensor;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.liveUpdateBroadcaster = liveUpdateBroadcaster;
         this.systemUsage = systemUsage;
         if (noDirectTPS) {
             indirectTPS = new TPSCalculator();
@@ -92,27 +98,23 @@ public class ServerTPSCounter<W> extends TPSCounter {
         int maxPlayers = playersOnline.getMaxAndReset();
         double averageCPU = cpu.getAverageAndReset();
         long averageRAM = (long) ram.getAverageAndReset();
-        int entityCount = 0;
-        int chunkCount = 0;
-        for (W world : serverSensor.getWorlds()) {
-            entityCount += serverSensor.getEntityCount(world);
-            chunkCount += serverSensor.getChunkCount(world);
-        }
+        int entityCount = serverSensor.getEntityCount();
+        int chunkCount = serverSensor.getChunkCount();
         long freeDiskSpace = systemUsage.getFreeDiskSpace();
 
-        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
-                serverInfo.getServerUUID(),
-                TPSBuilder.get()
-                        .date(timeLastMinute)
-                        .tps(averageTPS)
-                        .playersOnline(maxPlayers)
-                        .usedCPU(averageCPU)
-                        .usedMemory(averageRAM)
-                        .entities(entityCount)
-                        .chunksLoaded(chunkCount)
-                        .freeDiskSpace(freeDiskSpace)
-                        .toTPS()
-        ));
+        TPS tps = TPSBuilder.get()
+                .date(timeLastMinute)
+                .tps(averageTPS)
+                .playersOnline(maxPlayers)
+                .usedCPU(averageCPU)
+                .usedMemory(averageRAM)
+                .entities(entityCount)
+                .chunksLoaded(chunkCount)
+                .freeDiskSpace(freeDiskSpace)
+                .toTPS();
+        UUID serverUUID = serverInfo.getServerUUID();
+        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(serverUUID, tps));
+        liveUpdateBroadcaster.tpsSaved(serverUUID, tps);
     }
 
     public Optional<Double> pulseTPS(long time) {
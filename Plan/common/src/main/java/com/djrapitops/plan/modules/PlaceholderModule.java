@@ -29,6 +29,10 @@ import dagger.multibindings.IntoSet;
 @Module
 public interface PlaceholderModule {
 
+    @Binds
+    @IntoSet
+    Placeholders bindLeaderboardPlaceHolders(LeaderboardPlaceHolders placeholders);
+
     @Binds
     @IntoSet
     Placeholders bindOperatorPlaceholders(OperatorPlaceholders placeholders);
@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import com.djrapitops.plan.delivery.domain.Leaderboard;
+import com.djrapitops.plan.delivery.domain.LeaderboardMetric;
+import com.djrapitops.plan.delivery.formatting.Formatter;
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.gathering.cache.LeaderboardCache;
+import com.djrapitops.plan.identification.ServerInfo;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Placeholders about top players, read from {@link LeaderboardCache} without database queries.
+ * <p>
+ * Format is top_%metric%_%rank%_name or top_%metric%_%rank%_value, e.g. "plan_top_playtime_1_name".
+ * Network wide leaderboards are prefixed with network_, e.g. "plan_network_top_player_kills_3_value".
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class LeaderboardPlaceHolders implements Placeholders {
+
+    private final ServerInfo serverInfo;
+    private final Formatters formatters;
+
+    @Inject
+    public LeaderboardPlaceHolders(
+            ServerInfo serverInfo,
+            Formatters formatters
+    ) {
+        this.serverInfo = serverInfo;
+        this.formatters = formatters;
+    }
+
+    @Override
+    public void register(
+            PlanPlaceholders placeholders
+    ) {
+        Formatter<Long> timeAmount = formatters.timeAmount();
+
+        placeholders.registerStaticRaw("top_", input -> getValue(input.substring("top_".length()), false, timeAmount));
+        placeholders.registerStaticRaw("network_top_", input -> getValue(input.substring("network_top_".length()), true, timeAmount));
+    }
+
+    private Serializable getValue(String input, boolean network, Formatter<Long> timeAmount) {
+        // e.g. "active_playtime_1_name" -> metric "active_playtime", rank 1, field "name"
+        int fieldSeparator = input.lastIndexOf('_');
+        int rankSeparator = fieldSeparator > 0 ? input.lastIndexOf('_', fieldSeparator - 1) : -1;
+        if (rankSeparator <= 0) return null;
+
+        String field = input.substring(fieldSeparator + 1);
+        int rank = NumberUtils.toInt(input.substring(rankSeparator + 1, fieldSeparator), 0);
+        Optional<LeaderboardMetric> metric = LeaderboardMetric.getForName(input.substring(0, rankSeparator));
+        if (!metric.isPresent() || rank <= 0) return null;
+
+        List<Leaderboard.Entry> ranking = network
+                ? LeaderboardCache.getNetworkRanking(metric.get())
+                : LeaderboardCache.getRanking(serverInfo.getServerUUID(), metric.get());
+        if (rank > ranking.size()) return "";
+
+        Leaderboard.Entry entry = ranking.get(rank - 1);
+        switch (field) {
+            case "name":
+                return entry.getPlayerName();
+            case "value":
+                return metric.get().isTimeAmount() ? timeAmount.apply(entry.getValue()) : entry.getValue();
+            default:
+                return null;
+        }
+    }
+}
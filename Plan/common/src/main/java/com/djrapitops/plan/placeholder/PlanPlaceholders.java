@@ -50,6 +50,7 @@ public final class PlanPlaceholders {
     private final Map<String, StaticPlaceholderLoader> staticPlaceholders;
 
     private final Map<String, BiFunction<String, PlayerContainer, Serializable>> rawHandlers;
+    private final Map<String, Function<String, Serializable>> staticRawHandlers;
 
     private final DBSystem dbSystem;
 
@@ -66,6 +67,7 @@ public final class PlanPlaceholders {
         this.playerPlaceholders = new HashMap<>();
         this.staticPlaceholders = new HashMap<>();
         this.rawHandlers = new HashMap<>();
+        this.staticRawHandlers = new HashMap<>();
 
         for (Placeholders registry : placeholderRegistries) {
             registry.register(this);
@@ -92,6 +94,10 @@ public final class PlanPlaceholders {
         rawHandlers.put(name, loader);
     }
 
+    public void registerStaticRaw(String name, Function<String, Serializable> loader) {
+        staticRawHandlers.put(name, loader);
+    }
+
     public Map<String, PlayerPlaceholderLoader> getPlaceholders() {
         return playerPlaceholders;
     }
@@ -103,9 +109,11 @@ public final class PlanPlaceholders {
     public String onPlaceholderRequest(UUID uuid, String placeholder, List<String> parameters) {
         PlayerContainer player;
 
-        if (uuid != null) {
+        if (uuid != null && !isStatic(placeholder)) {
             player = dbSystem.getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(uuid));
-            SessionCache.getCachedSession(uuid).ifPresent(session -> player.putRawData(PlayerKeys.ACTIVE_SESSION, session));
+            SessionCache.getCachedSession(uuid)
+                    .map(session -> session.snapshot(System.currentTimeMillis()))
+                    .ifPresent(session -> player.putRawData(PlayerKeys.ACTIVE_SESSION, session));
         } else {
             player = null;
         }
@@ -113,6 +121,14 @@ public final class PlanPlaceholders {
         return onPlaceholderRequest(player, placeholder, parameters);
     }
 
+    private boolean isStatic(String placeholder) {
+        if (staticPlaceholders.containsKey(placeholder)) return true;
+        for (String prefix : staticRawHandlers.keySet()) {
+            if (placeholder.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
     /**
      * Look up the placeholder and check if it is registered.
      *
@@ -130,6 +146,12 @@ public final class PlanPlaceholders {
             }
         }
 
+        for (Entry<String, Function<String, Serializable>> entry : staticRawHandlers.entrySet()) {
+            if (placeholder.startsWith(entry.getKey())) {
+                return Objects.toString(entry.getValue().apply(placeholder));
+            }
+        }
+
         StaticPlaceholderLoader staticLoader = staticPlaceholders.get(placeholder);
         if (staticLoader != null) {
             return Objects.toString(staticLoader.apply(parameters));
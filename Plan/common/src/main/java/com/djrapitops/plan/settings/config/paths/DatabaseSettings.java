@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.settings.config.paths;
 
+import com.djrapitops.plan.settings.config.paths.key.BooleanSetting;
+import com.djrapitops.plan.settings.config.paths.key.IntegerSetting;
 import com.djrapitops.plan.settings.config.paths.key.Setting;
 import com.djrapitops.plan.settings.config.paths.key.StringSetting;
 import com.djrapitops.plan.storage.database.DBType;
@@ -37,6 +39,8 @@ public class DatabaseSettings {
     public static final Setting<String> MYSQL_PASS = new StringSetting("Database.MySQL.Password");
     public static final Setting<String> MYSQL_DATABASE = new StringSetting("Database.MySQL.Database");
     public static final Setting<String> MYSQL_LAUNCH_OPTIONS = new StringSetting("Database.MySQL.Launch_options");
+    public static final Setting<Integer> MYSQL_MAINTENANCE_CONCURRENCY = new IntegerSetting("Database.MySQL.Max_concurrent_maintenance");
+    public static final Setting<Boolean> JOURNAL = new BooleanSetting("Database.Journal.Enabled");
 
     private DatabaseSettings() {
         /* static variable class */
@@ -35,7 +35,10 @@ public class DisplaySettings {
     public static final Setting<Integer> PLAYERS_PER_SERVER_PAGE = new IntegerSetting("Display_options.Players_table.Show_on_server_page");
     public static final Setting<Integer> PLAYERS_PER_PLAYERS_PAGE = new IntegerSetting("Display_options.Players_table.Show_on_players_page");
     public static final Setting<Boolean> OPEN_PLAYER_LINKS_IN_NEW_TAB = new BooleanSetting("Display_options.Open_player_links_in_new_tab");
+    public static final Setting<Boolean> EXACT_UNIQUE_PLAYER_COUNTS = new BooleanSetting("Display_options.Exact_unique_player_counts");
+    public static final Setting<Integer> LEADERBOARD_SIZE = new IntegerSetting("Display_options.Leaderboards.Show_top");
     public static final Setting<Boolean> GAPS_IN_GRAPH_DATA = new BooleanSetting("Display_options.Graphs.Show_gaps_in_data");
+    public static final Setting<Integer> GRAPH_POINT_LIMIT = new IntegerSetting("Display_options.Graphs.Max_points_per_series");
     public static final Setting<Integer> GRAPH_TPS_THRESHOLD_HIGH = new IntegerSetting("Display_options.Graphs.TPS.High_threshold");
     public static final Setting<Integer> GRAPH_TPS_THRESHOLD_MED = new IntegerSetting("Display_options.Graphs.TPS.Medium_threshold");
     public static final Setting<Integer> GRAPH_DISK_THRESHOLD_HIGH = new IntegerSetting("Display_options.Graphs.Disk_space.High_threshold");
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.settings.config.paths;
 
+import com.djrapitops.plan.delivery.webserver.http.WebServerBackend;
 import com.djrapitops.plan.settings.config.paths.key.*;
 
 import java.util.List;
@@ -41,6 +42,16 @@ public class WebserverSettings {
     public static final Setting<Boolean> DISABLED = new BooleanSetting("Webserver.Disable_Webserver");
     public static final Setting<Boolean> DISABLED_AUTHENTICATION = new BooleanSetting("Webserver.Security.Disable_authentication");
     public static final Setting<String> EXTERNAL_LINK = new StringSetting("Webserver.External_Webserver_address");
+    public static final Setting<String> BACKEND = new StringSetting("Webserver.Backend", WebServerBackend.Type::exists);
+    public static final Setting<Integer> STATIC_REQUEST_LIMIT = new IntegerSetting("Webserver.Load_limits.Static_resources");
+    public static final Setting<Integer> DATA_REQUEST_LIMIT = new IntegerSetting("Webserver.Load_limits.Pages_and_data");
+    public static final Setting<Integer> EXPENSIVE_REQUEST_LIMIT = new IntegerSetting("Webserver.Load_limits.Expensive_data");
+    public static final Setting<Integer> REQUEST_QUEUE_SIZE = new IntegerSetting("Webserver.Load_limits.Queue_size");
+    public static final Setting<Integer> RATE_LIMIT_PER_IP = new IntegerSetting("Webserver.Load_limits.Requests_per_second_per_IP");
+    public static final Setting<Integer> LIVE_UPDATE_CONNECTIONS = new IntegerSetting("Webserver.Load_limits.Live_update_connections");
+    public static final Setting<Integer> PARALLEL_NETWORK_QUERIES = new IntegerSetting("Webserver.Load_limits.Parallel_network_queries");
+    public static final Setting<Integer> SESSIONS_IN_MEMORY = new IntegerSetting("Webserver.Cache.Sessions_in_memory_per_server");
+    public static final Setting<Long> SESSIONS_IN_MEMORY_FOR = new TimeSetting("Webserver.Cache.Keep_sessions_in_memory_for");
 
     private WebserverSettings() {
         /* static variable class */
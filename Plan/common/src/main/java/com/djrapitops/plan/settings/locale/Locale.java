@@ -21,6 +21,7 @@ import com.djrapitops.plan.settings.locale.lang.JSLang;
 import com.djrapitops.plan.settings.locale.lang.Lang;
 import com.djrapitops.plan.storage.file.FileResource;
 import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.utilities.MultiPatternReplacer;
 
 import java.io.File;
 import java.io.IOException;
@@ -40,7 +41,41 @@ public class Locale extends HashMap<Lang, Message> {
         return forLangCode(LangCode.fromString(code), files);
     }
 
+    private static final Pattern SCRIPTS = Pattern.compile("(<script id=[\"|'].*[\"|']>[\\s\\S]*?</script>|<script>[\\s\\S]*?</script>|<script src=[\"|'].*[\"|']></script>|<link [\\s\\S]*?>)");
+    private static final Pattern LINKS = Pattern.compile("http(s|)://[\\w.\\-_%/?$#@!()&=]+");
+    private static final Comparator<Lang> IDENTIFIER_LENGTH_DESCENDING = (one, two) -> Integer.compare(
+            two.getIdentifier().length(),
+            one.getIdentifier().length()
+    );
+    // Html language that is also used inside javascript.
+    private static final Lang[] JAVASCRIPT_HTML_LANG = {
+            HtmlLang.UNIT_NO_DATA,
+            HtmlLang.TITLE_WORLD_PLAYTIME,
+            HtmlLang.LABEL_OPERATOR,
+            HtmlLang.LABEL_BANNED,
+            HtmlLang.SIDE_SESSIONS,
+            HtmlLang.LABEL_PLAYTIME,
+            HtmlLang.LABEL_AFK_TIME,
+            HtmlLang.LABEL_LONGEST_SESSION,
+            HtmlLang.LABEL_SESSION_MEDIAN,
+            HtmlLang.LABEL_PLAYER_KILLS,
+            HtmlLang.LABEL_MOB_KILLS,
+            HtmlLang.LABEL_DEATHS,
+            HtmlLang.LABEL_PLAYERS_ONLINE,
+            HtmlLang.LABEL_REGISTERED,
+            HtmlLang.TITLE_SERVER,
+            HtmlLang.TITLE_LENGTH,
+            HtmlLang.TITLE_AVG_PING,
+            HtmlLang.TITLE_BEST_PING,
+            HtmlLang.TITLE_WORST_PING,
+            HtmlLang.LABEL_FREE_DISK_SPACE,
+            HtmlLang.LABEL_NEW_PLAYERS,
+            HtmlLang.LABEL_UNIQUE_PLAYERS
+    };
+
     private LangCode langCode;
+    private transient volatile MultiPatternReplacer htmlReplacer;
+    private transient volatile MultiPatternReplacer javascriptReplacer;
 
     public Locale() {
         this(LangCode.EN);
@@ -107,35 +142,18 @@ public class Locale extends HashMap<Lang, Message> {
             return from;
         }
 
-        Pattern scripts = Pattern.compile("(<script id=[\"|'].*[\"|']>[\\s\\S]*?</script>|<script>[\\s\\S]*?</script>|<script src=[\"|'].*[\"|']></script>|<link [\\s\\S]*?>)");
+        MultiPatternReplacer html = getHtmlReplacer();
+        MultiPatternReplacer javascript = getJavascriptReplacer();
 
-        Matcher scriptMatcher = scripts.matcher(from);
-        List<String> foundScripts = new ArrayList<>();
+        StringBuilder complete = new StringBuilder(from.length() + from.length() / 8);
+        Matcher scriptMatcher = SCRIPTS.matcher(from);
+        int previousEnd = 0;
         while (scriptMatcher.find()) {
-            foundScripts.add(scriptMatcher.toMatchResult().group(0));
-        }
-
-        TranslatedString translated = new TranslatedString(from);
-        Arrays.stream(HtmlLang.values())
-                // Longest first so that entries that contain each other don't partially replace.
-                .sorted((one, two) -> Integer.compare(
-                        two.getIdentifier().length(),
-                        one.getIdentifier().length()
-                ))
-                .forEach(lang -> getNonDefault(lang).ifPresent(replacement ->
-                        translated.translate(lang.getDefault(), replacement.toString()))
-                );
-
-        StringBuilder complete = new StringBuilder(translated.length());
-
-        String[] parts = scripts.split(translated.toString());
-        for (int i = 0; i < parts.length; i++) {
-            complete.append(parts[i]);
-            if (i < parts.length - 1) {
-                complete.append(replaceLanguageInJavascript(foundScripts.get(i)));
-            }
+            replaceOutsideLinks(html, from, previousEnd, scriptMatcher.start(), complete);
+            replaceOutsideLinks(javascript, from, scriptMatcher.start(), scriptMatcher.end(), complete);
+            previousEnd = scriptMatcher.end();
         }
-
+        replaceOutsideLinks(html, from, previousEnd, from.length(), complete);
         return complete.toString();
     }
 
@@ -144,47 +162,84 @@ public class Locale extends HashMap<Lang, Message> {
             return from;
         }
 
-        TranslatedString translated = new TranslatedString(from);
-        Arrays.stream(JSLang.values())
-                // Longest first so that entries that contain each other don't partially replace.
-                .sorted((one, two) -> Integer.compare(
-                        two.getIdentifier().length(),
-                        one.getIdentifier().length()
-                ))
-                .forEach(lang -> getNonDefault(lang).ifPresent(replacement ->
-                        translated.translate(lang.getDefault(), replacement.toString()))
-                );
-
-        for (Lang extra : new Lang[]{
-                HtmlLang.UNIT_NO_DATA,
-                HtmlLang.TITLE_WORLD_PLAYTIME,
-                HtmlLang.LABEL_OPERATOR,
-                HtmlLang.LABEL_BANNED,
-                HtmlLang.SIDE_SESSIONS,
-                HtmlLang.LABEL_PLAYTIME,
-                HtmlLang.LABEL_AFK_TIME,
-                HtmlLang.LABEL_LONGEST_SESSION,
-                HtmlLang.LABEL_SESSION_MEDIAN,
-                HtmlLang.LABEL_PLAYER_KILLS,
-                HtmlLang.LABEL_MOB_KILLS,
-                HtmlLang.LABEL_DEATHS,
-                HtmlLang.LABEL_PLAYERS_ONLINE,
-                HtmlLang.LABEL_REGISTERED,
-                HtmlLang.TITLE_SERVER,
-                HtmlLang.TITLE_LENGTH,
-                HtmlLang.TITLE_AVG_PING,
-                HtmlLang.TITLE_BEST_PING,
-                HtmlLang.TITLE_WORST_PING,
-                HtmlLang.LABEL_FREE_DISK_SPACE,
-                HtmlLang.LABEL_NEW_PLAYERS,
-                HtmlLang.LABEL_UNIQUE_PLAYERS,
-
-        }) {
-            getNonDefault(extra).ifPresent(replacement ->
-                    translated.translate(extra.getDefault(), replacement.toString()));
+        StringBuilder complete = new StringBuilder(from.length() + from.length() / 8);
+        replaceOutsideLinks(getJavascriptReplacer(), from, 0, from.length(), complete);
+        return complete.toString();
+    }
+
+    private static void replaceOutsideLinks(MultiPatternReplacer replacer, String from, int start, int end, StringBuilder to) {
+        Matcher linkMatcher = LINKS.matcher(from).region(start, end);
+        int previousEnd = start;
+        while (linkMatcher.find()) {
+            replacer.replace(from, previousEnd, linkMatcher.start(), to);
+            to.append(from, linkMatcher.start(), linkMatcher.end());
+            previousEnd = linkMatcher.end();
+        }
+        replacer.replace(from, previousEnd, end, to);
+    }
+
+    private MultiPatternReplacer getHtmlReplacer() {
+        MultiPatternReplacer replacer = htmlReplacer;
+        if (replacer == null) {
+            MultiPatternReplacer.Builder builder = MultiPatternReplacer.builder();
+            // Longest first so that the same text is translated like before the replacer existed.
+            Arrays.stream(HtmlLang.values())
+                    .sorted(IDENTIFIER_LENGTH_DESCENDING)
+                    .forEach(lang -> getNonDefault(lang).ifPresent(replacement ->
+                            builder.add(lang.getDefault(), replacement.toString()))
+                    );
+            replacer = builder.build();
+            htmlReplacer = replacer;
+        }
+        return replacer;
+    }
+
+    private MultiPatternReplacer getJavascriptReplacer() {
+        MultiPatternReplacer replacer = javascriptReplacer;
+        if (replacer == null) {
+            MultiPatternReplacer.Builder builder = MultiPatternReplacer.builder();
+            Arrays.stream(JSLang.values())
+                    .sorted(IDENTIFIER_LENGTH_DESCENDING)
+                    .forEach(lang -> getNonDefault(lang).ifPresent(replacement ->
+                            builder.add(lang.getDefault(), replacement.toString()))
+                    );
+            for (Lang extra : JAVASCRIPT_HTML_LANG) {
+                getNonDefault(extra).ifPresent(replacement ->
+                        builder.add(extra.getDefault(), replacement.toString()));
+            }
+            replacer = builder.build();
+            javascriptReplacer = replacer;
         }
+        return replacer;
+    }
+
+    @Override
+    public Message put(Lang key, Message value) {
+        clearReplacers();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends Lang, ? extends Message> m) {
+        clearReplacers();
+        super.putAll(m);
+    }
+
+    @Override
+    public Message remove(Object key) {
+        clearReplacers();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        clearReplacers();
+        super.clear();
+    }
 
-        return translated.toString();
+    private void clearReplacers() {
+        htmlReplacer = null;
+        javascriptReplacer = null;
     }
 
     @Override
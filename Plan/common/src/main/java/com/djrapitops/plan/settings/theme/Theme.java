@@ -20,15 +20,14 @@ import com.djrapitops.plan.SubSystem;
 import com.djrapitops.plan.exceptions.EnableException;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.utilities.MultiPatternReplacer;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 import static com.djrapitops.plan.settings.theme.ThemeVal.*;
 
@@ -47,6 +46,7 @@ public class Theme implements SubSystem {
     private final PluginLogger logger;
 
     private ThemeConfig themeConfig;
+    private volatile MultiPatternReplacer colorReplacer;
 
     @Inject
     public Theme(PlanFiles files, PlanConfig config, PluginLogger logger) {
@@ -74,6 +74,7 @@ public class Theme implements SubSystem {
         try {
             themeConfig = new ThemeConfig(files, config, logger);
             themeConfig.save();
+            colorReplacer = null;
         } catch (IOException e) {
             throw new EnableException("theme.yml could not be saved.", e);
         }
@@ -95,31 +96,33 @@ public class Theme implements SubSystem {
     }
 
     public String replaceThemeColors(String resourceString) {
-        return replaceVariables(resourceString,
-                RED, PINK, PURPLE,
-                DEEP_PURPLE, INDIGO, BLUE, LIGHT_BLUE, CYAN, TEAL, GREEN, LIGHT_GREEN, LIME,
-                YELLOW, AMBER, ORANGE, DEEP_ORANGE, BROWN, GREY, BLUE_GREY, BLACK, WHITE,
-                GRAPH_PUNCHCARD, GRAPH_PLAYERS_ONLINE, GRAPH_TPS_HIGH, GRAPH_TPS_MED, GRAPH_TPS_LOW,
-                GRAPH_CPU, GRAPH_RAM, GRAPH_CHUNKS, GRAPH_ENTITIES, GRAPH_WORLD_PIE, FONT_STYLESHEET, FONT_FAMILY
-        );
+        MultiPatternReplacer replacer = colorReplacer;
+        if (replacer == null) {
+            replacer = createReplacer(
+                    RED, PINK, PURPLE,
+                    DEEP_PURPLE, INDIGO, BLUE, LIGHT_BLUE, CYAN, TEAL, GREEN, LIGHT_GREEN, LIME,
+                    YELLOW, AMBER, ORANGE, DEEP_ORANGE, BROWN, GREY, BLUE_GREY, BLACK, WHITE,
+                    GRAPH_PUNCHCARD, GRAPH_PLAYERS_ONLINE, GRAPH_TPS_HIGH, GRAPH_TPS_MED, GRAPH_TPS_LOW,
+                    GRAPH_CPU, GRAPH_RAM, GRAPH_CHUNKS, GRAPH_ENTITIES, GRAPH_WORLD_PIE, FONT_STYLESHEET, FONT_FAMILY
+            );
+            // Only cache after theme.yml has been loaded
+            if (themeConfig != null) colorReplacer = replacer;
+        }
+        return replacer.replace(resourceString);
     }
 
-    private String replaceVariables(String resourceString, ThemeVal... themeVariables) {
-        List<String> replace = new ArrayList<>();
-        List<String> with = new ArrayList<>();
+    private MultiPatternReplacer createReplacer(ThemeVal... themeVariables) {
+        MultiPatternReplacer.Builder replacer = MultiPatternReplacer.builder();
         for (ThemeVal variable : themeVariables) {
             String value = getColor(variable);
             String defaultValue = variable.getDefaultValue();
             if (defaultValue.equals(value)) {
                 continue;
             }
-            replace.add(defaultValue);
-            with.add(value);
+            replacer.add(defaultValue, value);
         }
-        replace.add("${defaultTheme}");
-        with.add(getValue(ThemeVal.THEME_DEFAULT));
-
-        return StringUtils.replaceEach(resourceString, replace.toArray(new String[0]), with.toArray(new String[0]));
+        replacer.add("${defaultTheme}", getValue(ThemeVal.THEME_DEFAULT));
+        return replacer.build();
     }
 
     private String getThemeValue(ThemeVal color) {
@@ -90,6 +90,9 @@ public class DBSystem implements SubSystem {
     public void enable() {
         try {
             db.init();
+            if (db instanceof SQLDB) {
+                ((SQLDB) db).enableJournal();
+            }
             logger.info(locale.getString(PluginLang.ENABLED_DATABASE, db.getType().getName()));
         } catch (DBInitException e) {
             Throwable cause = e.getCause();
@@ -23,6 +23,7 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
+import com.djrapitops.plan.storage.database.journal.TransactionJournal;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
@@ -56,10 +57,11 @@ public class MySQLDB extends SQLDB {
             PlanConfig config,
             Lazy<ServerInfo> serverInfo,
             RunnableFactory runnableFactory,
+            TransactionJournal journal,
             PluginLogger pluginLogger,
             ErrorLogger errorLogger
     ) {
-        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, pluginLogger, errorLogger);
+        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, journal, pluginLogger, errorLogger);
     }
 
     private static synchronized void increment() {
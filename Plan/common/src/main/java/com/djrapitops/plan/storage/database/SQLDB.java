@@ -21,9 +21,14 @@ import com.djrapitops.plan.exceptions.database.DBInitException;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.storage.database.journal.JournalBatchTransaction;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
+import com.djrapitops.plan.storage.database.journal.Journaled;
+import com.djrapitops.plan.storage.database.journal.TransactionJournal;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
@@ -40,6 +45,8 @@ import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
@@ -54,17 +61,25 @@ import java.util.function.Supplier;
  */
 public abstract class SQLDB extends AbstractDatabase {
 
+    private static final int JOURNAL_BATCH_SIZE = 500;
+    private static final int JOURNAL_ATTEMPT_LIMIT = 3;
+
     private final Supplier<UUID> serverUUIDSupplier;
 
     protected final Locale locale;
     protected final PlanConfig config;
     protected final RunnableFactory runnableFactory;
+    protected final TransactionJournal journal;
     protected final PluginLogger logger;
     protected final ErrorLogger errorLogger;
 
     private Supplier<ExecutorService> transactionExecutorServiceProvider;
     private ExecutorService transactionExecutor;
 
+    private volatile boolean journaling;
+    private final Object journalWriteLock = new Object();
+    private int journalHeadFailures; // Guarded by journalWriteLock
+
     private final boolean devMode;
 
     protected SQLDB(
@@ -72,6 +87,7 @@ public abstract class SQLDB extends AbstractDatabase {
             Locale locale,
             PlanConfig config,
             RunnableFactory runnableFactory,
+            TransactionJournal journal,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -79,6 +95,7 @@ public abstract class SQLDB extends AbstractDatabase {
         this.locale = locale;
         this.config = config;
         this.runnableFactory = runnableFactory;
+        this.journal = journal;
         this.logger = logger;
         this.errorLogger = errorLogger;
 
@@ -173,7 +190,9 @@ public abstract class SQLDB extends AbstractDatabase {
                 new BadNukkitRegisterValuePatch(),
                 new LinkedToSecurityTablePatch(),
                 new LinkUsersToPlayersSecurityTablePatch(),
-                new LitebansTableHeaderPatch()
+                new LitebansTableHeaderPatch(),
+                new UniquePlayerSketchPatch(),
+                new CohortActivityPatch()
         };
     }
 
@@ -217,6 +236,122 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
+    /**
+     * Start writing {@link Journaled} transactions to the {@link TransactionJournal} if it is enabled in the config.
+     * <p>
+     * Only the active database should use the journal, so this is not done in {@link #init()}.
+     * Entries left in the journal from a previous run are stored soon after this call.
+     */
+    public void enableJournal() {
+        if (journaling || config.isFalse(DatabaseSettings.JOURNAL)) return;
+        try {
+            journal.open();
+            journaling = true;
+            registerJournalWriteTask();
+        } catch (IOException e) {
+            errorLogger.log(L.WARN, e, ErrorContext.builder()
+                    .whatToDo("Check that Plan can write to the journal folder, data is stored directly to the database.")
+                    .build());
+        }
+    }
+
+    private void registerJournalWriteTask() {
+        long period = TimeAmount.toTicks(5L, TimeUnit.SECONDS);
+        runnableFactory.create("Database Journal Write", new AbsRunnable() {
+            @Override
+            public void run() {
+                if (getState() == State.CLOSED || getState() == State.CLOSING) {
+                    cancel();
+                    return;
+                }
+                writeJournal();
+            }
+        }).runTaskTimerAsynchronously(TimeAmount.toTicks(1L, TimeUnit.SECONDS), period);
+    }
+
+    /**
+     * Store entries of the journal in the database in batches.
+     * <p>
+     * If a batch fails, the entries are stored one by one. Entries are attempted again later if the database could
+     * not be reached, but an entry that fails {@link #JOURNAL_ATTEMPT_LIMIT} times is moved to the quarantine file
+     * so that it does not block the rest of the journal.
+     */
+    private void writeJournal() {
+        synchronized (journalWriteLock) {
+            try {
+                TransactionJournal.Batch batch = journal.readUnconsumed(JOURNAL_BATCH_SIZE);
+                while (!batch.isEmpty()) {
+                    int resolved = storeJournalBatch(batch.getEntries());
+                    if (resolved == batch.size()) {
+                        journal.checkpoint(batch.getEnd());
+                    } else {
+                        if (resolved > 0) journal.checkpoint(batch.getEnd(resolved - 1));
+                        return;
+                    }
+                    batch = journal.readUnconsumed(JOURNAL_BATCH_SIZE);
+                }
+            } catch (IOException | ExecutionException e) {
+                errorLogger.log(L.WARN, e, ErrorContext.builder().related("Writing journal to database").build());
+            } catch (DBOpException databaseClosed) {
+                // Entries are stored when the journal is opened again.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Store entries of the journal.
+     *
+     * @param entries Entries in the order they were written.
+     * @return How many entries from the start of the list were stored or quarantined.
+     */
+    private int storeJournalBatch(List<JournalEntry> entries) throws ExecutionException, InterruptedException, IOException {
+        if (entries.size() > 1) {
+            JournalBatchTransaction batchTransaction = new JournalBatchTransaction(entries);
+            executeTransaction(batchTransaction).get();
+            if (batchTransaction.wasSuccessful()) {
+                journalHeadFailures = 0;
+                quarantineMalformed(batchTransaction.getMalformedEntries());
+                return entries.size();
+            }
+            if (batchTransaction.isConnectionFailure()) return 0;
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            JournalEntry entry = entries.get(i);
+            JournalBatchTransaction transaction = new JournalBatchTransaction(Collections.singletonList(entry));
+            executeTransaction(transaction).get();
+            if (transaction.wasSuccessful()) {
+                journalHeadFailures = 0;
+                quarantineMalformed(transaction.getMalformedEntries());
+                continue;
+            }
+            if (transaction.isConnectionFailure()) return i;
+
+            journalHeadFailures++;
+            if (journalHeadFailures < JOURNAL_ATTEMPT_LIMIT) return i;
+            journalHeadFailures = 0;
+            Path quarantineFile = journal.quarantine(entry);
+            logger.warn("Journal entry (" + entry.getType() + ") failed to be stored " + JOURNAL_ATTEMPT_LIMIT
+                    + " times, it was moved to " + quarantineFile.toAbsolutePath());
+        }
+        return entries.size();
+    }
+
+    private void quarantineMalformed(List<JournalEntry> malformedEntries) {
+        for (JournalEntry entry : malformedEntries) {
+            try {
+                Path quarantineFile = journal.quarantine(entry);
+                logger.warn("Journal entry (" + entry.getType() + ") could not be read, it was moved to " + quarantineFile.toAbsolutePath());
+            } catch (IOException e) {
+                // Rest of the batch has been stored already, so the entry can not be left in the journal.
+                errorLogger.log(L.WARN, e, ErrorContext.builder()
+                        .related("Quarantining malformed journal entry", entry.getType()).build());
+            }
+        }
+    }
+
     /**
      * Set up the source for connections.
      *
@@ -227,6 +362,11 @@ public abstract class SQLDB extends AbstractDatabase {
     @Override
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
+        if (journaling) {
+            writeJournal();
+            journaling = false;
+            journal.close();
+        }
         closeTransactionExecutor(transactionExecutor);
         setState(State.CLOSED);
     }
@@ -246,6 +386,16 @@ public abstract class SQLDB extends AbstractDatabase {
         if (getState() == State.CLOSED) {
             throw new DBOpException("Transaction tried to execute although database is closed.");
         }
+        if (journaling && getState() != State.CLOSING && transaction instanceof Journaled) {
+            Optional<JournalEntry> entry = ((Journaled) transaction).toJournalEntry();
+            if (entry.isPresent()) {
+                try {
+                    return journal.append(entry.get());
+                } catch (IOException e) {
+                    logger.warn("Failed to write to journal, storing directly: " + e.getMessage());
+                }
+            }
+        }
 
         Exception origin = new Exception();
 
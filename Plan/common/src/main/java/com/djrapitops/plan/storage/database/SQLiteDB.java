@@ -21,6 +21,7 @@ import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
+import com.djrapitops.plan.storage.database.journal.TransactionJournal;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.storage.upkeep.DBKeepAliveTask;
 import com.djrapitops.plan.utilities.MiscUtils;
@@ -57,10 +58,11 @@ public class SQLiteDB extends SQLDB {
             PlanConfig config,
             Lazy<ServerInfo> serverInfo,
             RunnableFactory runnableFactory,
+            TransactionJournal journal,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
-        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, logger, errorLogger);
+        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, journal, logger, errorLogger);
         dbName = databaseFile.getName();
         this.databaseFile = databaseFile;
     }
@@ -177,6 +179,7 @@ public class SQLiteDB extends SQLDB {
         private final PlanConfig config;
         private final Lazy<ServerInfo> serverInfo;
         private final RunnableFactory runnableFactory;
+        private final TransactionJournal journal;
         private final PluginLogger logger;
         private final ErrorLogger errorLogger1;
         private final PlanFiles files;
@@ -188,6 +191,7 @@ public class SQLiteDB extends SQLDB {
                 PlanFiles files,
                 Lazy<ServerInfo> serverInfo,
                 RunnableFactory runnableFactory,
+                TransactionJournal journal,
                 PluginLogger logger,
                 ErrorLogger errorLogger1
         ) {
@@ -196,6 +200,7 @@ public class SQLiteDB extends SQLDB {
             this.files = files;
             this.serverInfo = serverInfo;
             this.runnableFactory = runnableFactory;
+            this.journal = journal;
             this.logger = logger;
             this.errorLogger1 = errorLogger1;
         }
@@ -211,7 +216,7 @@ public class SQLiteDB extends SQLDB {
         public SQLiteDB usingFile(File databaseFile) {
             return new SQLiteDB(databaseFile,
                     locale, config, serverInfo,
-                    runnableFactory, logger, errorLogger1
+                    runnableFactory, journal, logger, errorLogger1
             );
         }
 
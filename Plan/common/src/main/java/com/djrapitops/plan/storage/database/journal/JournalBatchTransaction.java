@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.journal;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.exceptions.database.FatalDBException;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transaction that stores a batch of {@link JournalEntry}s read from the {@link TransactionJournal}.
+ * <p>
+ * Entries that can not be read are skipped so that they don't prevent rest of the journal from being stored,
+ * they are available from {@link #getMalformedEntries()} so that they can be quarantined.
+ *
+ * @author Rsl1122
+ */
+public class JournalBatchTransaction extends Transaction {
+
+    private final List<JournalEntry> entries;
+    private final List<JournalEntry> malformed;
+    private DBOpException failure;
+
+    public JournalBatchTransaction(List<JournalEntry> entries) {
+        this.entries = entries;
+        this.malformed = new ArrayList<>();
+    }
+
+    @Override
+    public void executeTransaction(SQLDB db) {
+        try {
+            super.executeTransaction(db);
+        } catch (DBOpException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    @Override
+    protected void performOperations() {
+        malformed.clear();
+        for (JournalEntry entry : entries) {
+            Transaction transaction;
+            try {
+                transaction = entry.toTransaction();
+            } catch (IOException malformedEntry) {
+                malformed.add(entry);
+                continue;
+            }
+            executeOther(transaction);
+        }
+    }
+
+    public List<JournalEntry> getMalformedEntries() {
+        return malformed;
+    }
+
+    /**
+     * Check if the transaction failed because the database could not be reached.
+     * <p>
+     * Such failures are not caused by the entries, so the entries should be attempted again later.
+     *
+     * @return true if the transaction failed due to the connection, false if it succeeded or the statements failed.
+     */
+    public boolean isConnectionFailure() {
+        return failure instanceof FatalDBException || failure != null && failure.isConnectionFailure();
+    }
+}
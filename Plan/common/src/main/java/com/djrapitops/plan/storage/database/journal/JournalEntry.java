@@ -0,0 +1,349 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.journal;
+
+import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Data of a {@link Transaction} that can be written to the {@link TransactionJournal}.
+ * <p>
+ * The data is written in a binary format so that the Transaction can be created again after a restart.
+ *
+ * @author Rsl1122
+ */
+public class JournalEntry {
+
+    private final Type type;
+    private final byte[] data;
+
+    JournalEntry(Type type, byte[] data) {
+        this.type = type;
+        this.data = data;
+    }
+
+    public static JournalEntry session(Session session) {
+        return write(Type.SESSION, out -> {
+            writeUUID(out, session.getUnsafe(SessionKeys.UUID));
+            writeUUID(out, session.getUnsafe(SessionKeys.SERVER_UUID));
+            out.writeLong(session.getUnsafe(SessionKeys.START));
+            out.writeLong(session.getUnsafe(SessionKeys.END));
+            out.writeInt(session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0));
+            out.writeInt(session.getValue(SessionKeys.DEATH_COUNT).orElse(0));
+            out.writeLong(session.getValue(SessionKeys.AFK_TIME).orElse(0L));
+
+            Map<String, GMTimes> worldTimes = session.getValue(SessionKeys.WORLD_TIMES)
+                    .map(WorldTimes::getWorldTimes).orElse(Collections.emptyMap());
+            out.writeInt(worldTimes.size());
+            for (Map.Entry<String, GMTimes> world : worldTimes.entrySet()) {
+                out.writeUTF(world.getKey());
+                Map<String, Long> times = world.getValue().getTimes();
+                out.writeInt(times.size());
+                for (Map.Entry<String, Long> gmTime : times.entrySet()) {
+                    out.writeUTF(gmTime.getKey());
+                    out.writeLong(gmTime.getValue());
+                }
+            }
+
+            List<PlayerKill> kills = session.getPlayerKills();
+            out.writeInt(kills.size());
+            for (PlayerKill kill : kills) {
+                writeUUID(out, kill.getVictim());
+                out.writeUTF(kill.getWeapon() != null ? kill.getWeapon() : "");
+                out.writeLong(kill.getDate());
+            }
+        });
+    }
+
+    public static JournalEntry tps(UUID serverUUID, TPS tps) {
+        return write(Type.TPS, out -> {
+            writeUUID(out, serverUUID);
+            out.writeLong(tps.getDate());
+            out.writeDouble(tps.getTicksPerSecond());
+            out.writeInt(tps.getPlayers());
+            out.writeDouble(tps.getCPUUsage());
+            out.writeLong(tps.getUsedMemory());
+            out.writeInt(tps.getEntityCount());
+            out.writeInt(tps.getChunksLoaded());
+            out.writeLong(tps.getFreeDiskSpace());
+        });
+    }
+
+    public static JournalEntry pings(Map<UUID, List<Ping>> pings) {
+        return write(Type.PINGS, out -> {
+            out.writeInt(pings.size());
+            for (Map.Entry<UUID, List<Ping>> entry : pings.entrySet()) {
+                writeUUID(out, entry.getKey());
+                List<Ping> playerPings = entry.getValue();
+                out.writeInt(playerPings.size());
+                for (Ping ping : playerPings) {
+                    writeUUID(out, ping.getServerUUID());
+                    out.writeLong(ping.getDate());
+                    out.writeInt(ping.getMin());
+                    out.writeInt(ping.getMax());
+                    out.writeDouble(ping.getAverage());
+                }
+            }
+        });
+    }
+
+    public static JournalEntry nickname(UUID playerUUID, Nickname nickname) {
+        return write(Type.NICKNAME, out -> {
+            writeUUID(out, playerUUID);
+            out.writeUTF(nickname.getName());
+            out.writeLong(nickname.getDate());
+            writeUUID(out, nickname.getServerUUID());
+        });
+    }
+
+    public static JournalEntry joins(Collection<PlayerJoin> joins) {
+        return write(Type.JOIN, out -> {
+            out.writeInt(joins.size());
+            for (PlayerJoin join : joins) {
+                writeUUID(out, join.getPlayerUUID());
+                out.writeUTF(join.getPlayerName());
+                out.writeLong(join.getRegistered());
+                out.writeLong(join.getTime());
+                Optional<UUID> serverUUID = join.getServerUUID();
+                out.writeBoolean(serverUUID.isPresent());
+                if (serverUUID.isPresent()) {
+                    writeUUID(out, serverUUID.get());
+                    writeOptionalUTF(out, join.getWorldName());
+                    writeOptionalUTF(out, join.getDisplayName());
+                }
+                writeOptionalUTF(out, join.getGeolocation());
+            }
+        });
+    }
+
+    private static JournalEntry write(Type type, Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing to a byte array failed", e);
+        }
+        return new JournalEntry(type, bytes.toByteArray());
+    }
+
+    private static void writeUUID(DataOutput out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUUID(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeOptionalUTF(DataOutput out, Optional<String> value) throws IOException {
+        out.writeBoolean(value.isPresent());
+        if (value.isPresent()) out.writeUTF(value.get());
+    }
+
+    private static String readOptionalUTF(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Create the Transaction that stores the data of this entry.
+     *
+     * @return Transaction of the same kind that was written to the journal.
+     * @throws IOException If the data is malformed.
+     */
+    public Transaction toTransaction() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        switch (type) {
+            case SESSION:
+                return new SessionEndTransaction(readSession(in));
+            case TPS:
+                return readTPS(in);
+            case PINGS:
+                return new PingBatchStoreTransaction(readPings(in));
+            case NICKNAME:
+                UUID nicknameOwner = readUUID(in);
+                return new NicknameStoreTransaction(nicknameOwner, new Nickname(in.readUTF(), in.readLong(), readUUID(in)));
+            case JOIN:
+                // Geolocations were resolved when the entry was written
+                return new PlayerJoinTransaction(readJoins(in), null);
+            default:
+                throw new IOException("Unknown journal entry type " + type);
+        }
+    }
+
+    /**
+     * Read the Session of a {@link Type#SESSION} entry.
+     *
+     * @return Ended Session with world times and kills.
+     * @throws IOException If the entry is not a session or the data is malformed.
+     */
+    public Session toSession() throws IOException {
+        if (type != Type.SESSION) {
+            throw new IOException("Journal entry of type " + type + " does not contain a session");
+        }
+        return readSession(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    /**
+     * Write this entry to a stream, for files outside the {@link TransactionJournal}.
+     *
+     * @param out Stream to write to.
+     * @throws IOException If the write fails.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeByte(type.getId());
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    /**
+     * Read an entry written with {@link #writeTo(DataOutput)}.
+     *
+     * @param in Stream to read from.
+     * @return The entry.
+     * @throws IOException If the read fails or the entry is malformed.
+     */
+    public static JournalEntry readFrom(DataInput in) throws IOException {
+        byte typeID = in.readByte();
+        Type type = Type.getForID(typeID).orElseThrow(() -> new IOException("Unknown journal entry type " + typeID));
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Malformed journal entry length " + length);
+        }
+        byte[] data = new byte[length];
+        in.readFully(data);
+        return new JournalEntry(type, data);
+    }
+
+    private Session readSession(DataInput in) throws IOException {
+        UUID playerUUID = readUUID(in);
+        UUID serverUUID = readUUID(in);
+        long start = in.readLong();
+        long end = in.readLong();
+        int mobKills = in.readInt();
+        int deaths = in.readInt();
+        long afkTime = in.readLong();
+        Session session = new Session(-1, playerUUID, serverUUID, start, end, mobKills, deaths, afkTime);
+
+        int worldCount = in.readInt();
+        Map<String, GMTimes> worldTimes = new HashMap<>();
+        for (int i = 0; i < worldCount; i++) {
+            String worldName = in.readUTF();
+            int gmCount = in.readInt();
+            Map<String, Long> times = new HashMap<>();
+            for (int j = 0; j < gmCount; j++) {
+                times.put(in.readUTF(), in.readLong());
+            }
+            worldTimes.put(worldName, new GMTimes(times));
+        }
+        session.setWorldTimes(new WorldTimes(worldTimes));
+
+        int killCount = in.readInt();
+        List<PlayerKill> kills = new ArrayList<>(killCount);
+        for (int i = 0; i < killCount; i++) {
+            kills.add(new PlayerKill(readUUID(in), in.readUTF(), in.readLong()));
+        }
+        session.setPlayerKills(kills);
+        return session;
+    }
+
+    private TPSStoreTransaction readTPS(DataInput in) throws IOException {
+        UUID serverUUID = readUUID(in);
+        TPS tps = new TPS(
+                in.readLong(), in.readDouble(), in.readInt(), in.readDouble(),
+                in.readLong(), in.readInt(), in.readInt(), in.readLong()
+        );
+        return new TPSStoreTransaction(serverUUID, tps);
+    }
+
+    private Map<UUID, List<Ping>> readPings(DataInput in) throws IOException {
+        int playerCount = in.readInt();
+        Map<UUID, List<Ping>> pings = new HashMap<>();
+        for (int i = 0; i < playerCount; i++) {
+            UUID playerUUID = readUUID(in);
+            int pingCount = in.readInt();
+            List<Ping> playerPings = new ArrayList<>(pingCount);
+            for (int j = 0; j < pingCount; j++) {
+                UUID serverUUID = readUUID(in);
+                long date = in.readLong();
+                int min = in.readInt();
+                int max = in.readInt();
+                playerPings.add(new Ping(date, serverUUID, min, max, in.readDouble()));
+            }
+            pings.put(playerUUID, playerPings);
+        }
+        return pings;
+    }
+
+    private List<PlayerJoin> readJoins(DataInput in) throws IOException {
+        int joinCount = in.readInt();
+        List<PlayerJoin> joins = new ArrayList<>(joinCount);
+        for (int i = 0; i < joinCount; i++) {
+            UUID playerUUID = readUUID(in);
+            String playerName = in.readUTF();
+            long registered = in.readLong();
+            PlayerJoin join = new PlayerJoin(playerUUID, playerName, () -> registered, in.readLong());
+            if (in.readBoolean()) {
+                join.onServer(readUUID(in), readOptionalUTF(in), readOptionalUTF(in));
+            }
+            joins.add(join.withGeolocation(readOptionalUTF(in)));
+        }
+        return joins;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    public enum Type {
+        SESSION(1),
+        TPS(2),
+        PINGS(3),
+        NICKNAME(4),
+        JOIN(5);
+
+        private final byte id;
+
+        Type(int id) {
+            this.id = (byte) id;
+        }
+
+        public static Optional<Type> getForID(byte id) {
+            for (Type type : values()) {
+                if (type.id == id) return Optional.of(type);
+            }
+            return Optional.empty();
+        }
+
+        public byte getId() {
+            return id;
+        }
+    }
+
+    private interface Writer {
+        void write(DataOutput out) throws IOException;
+    }
+}
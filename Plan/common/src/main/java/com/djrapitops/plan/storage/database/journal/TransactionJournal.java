@@ -0,0 +1,408 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.journal;
+
+import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of gathered data that has not yet been stored in the database.
+ * <p>
+ * Entries are appended to segment files in the journal folder. Each entry is prefixed with its length,
+ * a checksum and its type so that a partially written entry at the end of a segment can be detected.
+ * The database consumes the entries in batches and writes a checkpoint after every stored batch,
+ * entries after the checkpoint are stored again on the next start.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class TransactionJournal {
+
+    private static final long SEGMENT_SIZE = 4L * 1024L * 1024L;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+    private static final int MAX_ENTRY_SIZE = 16 * 1024 * 1024;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String QUARANTINE_FILE = "quarantine.dat";
+    private static final String CORRUPTED_PREFIX = "corrupted-";
+
+    private final PlanFiles files;
+    private final PluginLogger logger;
+
+    private final Queue<PendingEntry> pending;
+
+    private Path directory;
+    private FileChannel appendChannel;
+    private long appendSegment;
+    private long appendOffset;
+    private Position checkpoint;
+
+    @Inject
+    public TransactionJournal(
+            PlanFiles files,
+            PluginLogger logger
+    ) {
+        this.files = files;
+        this.logger = logger;
+        pending = new ArrayDeque<>();
+    }
+
+    /**
+     * Open the journal for appending.
+     * <p>
+     * Entries are always appended to a new segment so that a partially written entry from a crash is left alone.
+     *
+     * @throws IOException If the journal folder or segment can not be created.
+     */
+    public synchronized void open() throws IOException {
+        if (isOpen()) return;
+
+        directory = files.getDataDirectory().resolve("journal");
+        Files.createDirectories(directory);
+        checkpoint = readCheckpoint();
+        long lastSegment = getSegmentNumbers().stream().mapToLong(Long::longValue).max().orElse(0L);
+        openSegment(Math.max(lastSegment + 1, checkpoint.segment));
+    }
+
+    public synchronized boolean isOpen() {
+        return appendChannel != null;
+    }
+
+    private void openSegment(long segment) throws IOException {
+        appendChannel = FileChannel.open(getSegmentFile(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        appendSegment = segment;
+        appendOffset = appendChannel.size();
+    }
+
+    /**
+     * Append an entry to the journal.
+     *
+     * @param entry Entry to append.
+     * @return Future that is completed when the entry has been stored in the database, or when the journal is closed.
+     * @throws IOException If the entry could not be written.
+     */
+    public synchronized Future<?> append(JournalEntry entry) throws IOException {
+        if (!isOpen()) throw new IOException("Journal is not open");
+
+        byte[] data = entry.getData();
+        byte type = entry.getType().getId();
+        CRC32 checksum = new CRC32();
+        checksum.update(type);
+        checksum.update(data);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + data.length);
+        buffer.putInt(data.length).putInt((int) checksum.getValue()).put(type).put(data);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            appendChannel.write(buffer);
+        }
+        appendOffset += buffer.capacity();
+
+        CompletableFuture<Void> stored = new CompletableFuture<>();
+        pending.add(new PendingEntry(new Position(appendSegment, appendOffset), stored));
+
+        if (appendOffset >= SEGMENT_SIZE) {
+            appendChannel.force(false);
+            appendChannel.close();
+            openSegment(appendSegment + 1);
+        }
+        return stored;
+    }
+
+    /**
+     * Read entries that have not been stored in the database yet.
+     *
+     * @param maxEntries Maximum amount of entries to read.
+     * @return Batch of entries after the last checkpoint.
+     * @throws IOException If the journal can not be read.
+     */
+    public synchronized Batch readUnconsumed(int maxEntries) throws IOException {
+        if (!isOpen()) throw new IOException("Journal is not open");
+        appendChannel.force(false);
+
+        List<JournalEntry> entries = new ArrayList<>();
+        List<Position> entryEnds = new ArrayList<>();
+        long segment = checkpoint.segment;
+        long offset = checkpoint.offset;
+        while (entries.size() < maxEntries) {
+            Path segmentFile = getSegmentFile(segment);
+            if (Files.exists(segmentFile)) {
+                offset = readSegment(segment, offset, entries, entryEnds, maxEntries);
+            }
+            if (entries.size() >= maxEntries || segment >= appendSegment) break;
+            segment++;
+            offset = 0L;
+        }
+        return new Batch(entries, entryEnds, new Position(segment, offset));
+    }
+
+    private long readSegment(long segment, long startOffset, List<JournalEntry> entries, List<Position> entryEnds, int maxEntries) throws IOException {
+        Path segmentFile = getSegmentFile(segment);
+        long offset = startOffset;
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+            channel.position(offset);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            while (entries.size() < maxEntries) {
+                Optional<JournalEntry> entry = readEntry(in, segment, offset);
+                if (!entry.isPresent()) break;
+                entries.add(entry.get());
+                offset += HEADER_SIZE + entry.get().getData().length;
+                entryEnds.add(new Position(segment, offset));
+            }
+        }
+        return offset;
+    }
+
+    private Optional<JournalEntry> readEntry(DataInputStream in, long segment, long offset) throws IOException {
+        try {
+            int length = in.readInt();
+            int expectedChecksum = in.readInt();
+            byte typeId = in.readByte();
+            if (length < 0 || length > MAX_ENTRY_SIZE) {
+                setAsideCorrupted(segment, offset);
+                return Optional.empty();
+            }
+            byte[] data = new byte[length];
+            in.readFully(data);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(typeId);
+            checksum.update(data);
+            Optional<JournalEntry.Type> type = JournalEntry.Type.getForID(typeId);
+            if ((int) checksum.getValue() != expectedChecksum || !type.isPresent()) {
+                setAsideCorrupted(segment, offset);
+                return Optional.empty();
+            }
+            return Optional.of(new JournalEntry(type.get(), data));
+        } catch (EOFException endOfSegmentOrPartialEntry) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copy the rest of a segment after a corrupted entry to a separate file.
+     * <p>
+     * The entries after a corrupted one can not be found without a valid length, but the segment is deleted
+     * once a later checkpoint passes it, so the bytes are kept for manual recovery.
+     *
+     * @param segment Number of the segment.
+     * @param offset  Offset of the corrupted entry.
+     * @throws IOException If the copy could not be written.
+     */
+    private void setAsideCorrupted(long segment, long offset) throws IOException {
+        Path segmentFile = getSegmentFile(segment);
+        Path copy = directory.resolve(CORRUPTED_PREFIX + String.format("%016d", segment) + "-" + offset + ".dat");
+        if (Files.exists(copy)) return; // Already copied when the segment was read before
+
+        try (FileChannel source = FileChannel.open(segmentFile, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(copy, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long size = source.size();
+            long position = offset;
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+        logger.warn("Journal segment " + segmentFile.getFileName() + " has a corrupted entry, rest of the segment was copied to " + copy.getFileName());
+    }
+
+    /**
+     * Mark entries up to the given position as stored in the database.
+     *
+     * @param position End position of the stored {@link Batch}.
+     * @throws IOException If the checkpoint could not be written.
+     */
+    public synchronized void checkpoint(Position position) throws IOException {
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.write(temporary, (position.segment + " " + position.offset).getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temporary, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING);
+        }
+        checkpoint = position;
+
+        for (Long segment : getSegmentNumbers()) {
+            if (segment < position.segment) {
+                Files.deleteIfExists(getSegmentFile(segment));
+            }
+        }
+        while (!pending.isEmpty() && !pending.peek().end.isAfter(position)) {
+            pending.poll().stored.complete(null);
+        }
+    }
+
+    /**
+     * Move an entry that can not be stored out of the journal.
+     * <p>
+     * Quarantined entries are appended to a separate file in the journal folder so that the data is not lost,
+     * the file is not read by Plan.
+     *
+     * @param entry Entry to quarantine.
+     * @return Path to the quarantine file.
+     * @throws IOException If the entry could not be written.
+     */
+    public synchronized Path quarantine(JournalEntry entry) throws IOException {
+        Path quarantineFile = directory.resolve(QUARANTINE_FILE);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(quarantineFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)))) {
+            entry.writeTo(out);
+        }
+        return quarantineFile;
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpointFile)) return new Position(0L, 0L);
+
+        String[] parts = new String(Files.readAllBytes(checkpointFile), StandardCharsets.UTF_8).trim().split(" ");
+        try {
+            return new Position(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            logger.warn("Journal checkpoint was corrupted, storing all journal entries again.");
+            return new Position(0L, 0L);
+        }
+    }
+
+    private List<Long> getSegmentNumbers() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (Stream<Path> list = Files.list(directory)) {
+            list.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))
+                    .forEach(number -> {
+                        try {
+                            segments.add(Long.parseLong(number));
+                        } catch (NumberFormatException ignore) {
+                            // Not a segment file
+                        }
+                    });
+        }
+        return segments;
+    }
+
+    private Path getSegmentFile(long segment) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%016d", segment) + SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Close the journal.
+     * <p>
+     * Entries that were not stored remain in the journal and are stored on next start.
+     */
+    public synchronized void close() {
+        if (!isOpen()) return;
+        try {
+            appendChannel.force(false);
+            appendChannel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close journal segment: " + e.getMessage());
+        }
+        appendChannel = null;
+        while (!pending.isEmpty()) {
+            pending.poll().stored.complete(null);
+        }
+    }
+
+    /**
+     * Position in the journal, after an entry.
+     */
+    public static class Position {
+        final long segment;
+        final long offset;
+
+        Position(long segment, long offset) {
+            this.segment = segment;
+            this.offset = offset;
+        }
+
+        boolean isAfter(Position other) {
+            return segment > other.segment || segment == other.segment && offset > other.offset;
+        }
+
+        @Override
+        public String toString() {
+            return "Position{segment=" + segment + ", offset=" + offset + '}';
+        }
+    }
+
+    /**
+     * Entries read from the journal, and the position after the last entry.
+     */
+    public static class Batch {
+        private final List<JournalEntry> entries;
+        private final List<Position> entryEnds;
+        private final Position end;
+
+        Batch(List<JournalEntry> entries, List<Position> entryEnds, Position end) {
+            this.entries = entries;
+            this.entryEnds = entryEnds;
+            this.end = end;
+        }
+
+        public List<JournalEntry> getEntries() {
+            return entries;
+        }
+
+        public Position getEnd() {
+            return end;
+        }
+
+        /**
+         * Get the position after an entry, to checkpoint only part of the batch.
+         *
+         * @param index Index of the entry in {@link #getEntries()}.
+         * @return Position after the entry.
+         */
+        public Position getEnd(int index) {
+            return entryEnds.get(index);
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+    }
+
+    private static class PendingEntry {
+        final Position end;
+        final CompletableFuture<Void> stored;
+
+        PendingEntry(Position end, CompletableFuture<Void> stored) {
+            this.end = end;
+            this.stored = stored;
+        }
+    }
+}
@@ -16,19 +16,23 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.CohortActivity;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plugin.utilities.Verify;
+import com.djrapitops.plan.utilities.analysis.HyperLogLog;
 import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.UUID;
+import java.util.*;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 
@@ -55,6 +59,8 @@ public class DataStoreQueries {
         return connection -> {
             storeSessionInformation(session).execute(connection);
             storeSessionKills(session).execute(connection);
+            addToUniquePlayerSketches(Collections.singletonList(session)).execute(connection);
+            updateCohortActivity(Collections.singletonList(session)).execute(connection);
             return storeSessionWorldTimes(session).execute(connection);
         };
     }
@@ -301,4 +307,198 @@ public class DataStoreQueries {
             }
         };
     }
+
+    /**
+     * Add players of stored sessions to the unique player sketches of the days the sessions started.
+     *
+     * @param sessions Sessions that have been stored.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable addToUniquePlayerSketches(Collection<Session> sessions) {
+        Map<UUID, Map<Long, HyperLogLog>> sketches = new HashMap<>();
+        for (Session session : sessions) {
+            UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
+            long day = UniquePlayerSketchTable.getDay(session.getUnsafe(SessionKeys.START));
+            sketches.computeIfAbsent(serverUUID, key -> new HashMap<>())
+                    .computeIfAbsent(day, key -> new HyperLogLog())
+                    .add(session.getUnsafe(SessionKeys.UUID));
+        }
+        return mergeUniquePlayerSketches(sketches);
+    }
+
+    /**
+     * Merge unique player sketches with the sketches stored in the database.
+     * <p>
+     * Rows are only updated if merging changes the stored sketch.
+     *
+     * @param sketches Map: Server UUID - Map: Epoch ms of the day (UTC) - Sketch.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable mergeUniquePlayerSketches(Map<UUID, Map<Long, HyperLogLog>> sketches) {
+        if (sketches.isEmpty()) return Executable.empty();
+
+        return connection -> {
+            try (
+                    PreparedStatement select = connection.prepareStatement(UniquePlayerSketchTable.SELECT_SKETCH_STATEMENT);
+                    PreparedStatement update = connection.prepareStatement(UniquePlayerSketchTable.UPDATE_STATEMENT);
+                    PreparedStatement insert = connection.prepareStatement(UniquePlayerSketchTable.INSERT_STATEMENT)
+            ) {
+                for (Map.Entry<UUID, Map<Long, HyperLogLog>> sketchesOfServer : sketches.entrySet()) {
+                    String serverUUID = sketchesOfServer.getKey().toString();
+                    for (Map.Entry<Long, HyperLogLog> sketchOfDay : sketchesOfServer.getValue().entrySet()) {
+                        long day = sketchOfDay.getKey();
+                        Optional<HyperLogLog> stored = fetchUniquePlayerSketch(select, serverUUID, day);
+                        if (!stored.isPresent()) {
+                            insert.setString(1, serverUUID);
+                            insert.setLong(2, day);
+                            insert.setString(3, sketchOfDay.getValue().serialize());
+                            insert.addBatch();
+                        } else if (stored.get().merge(sketchOfDay.getValue())) {
+                            update.setString(1, stored.get().serialize());
+                            update.setString(2, serverUUID);
+                            update.setLong(3, day);
+                            update.addBatch();
+                        }
+                    }
+                }
+                update.executeBatch();
+                insert.executeBatch();
+                return true;
+            } catch (SQLException e) {
+                throw DBOpException.forCause(UniquePlayerSketchTable.UPDATE_STATEMENT, e);
+            }
+        };
+    }
+
+    private static Optional<HyperLogLog> fetchUniquePlayerSketch(PreparedStatement select, String serverUUID, long day) throws SQLException {
+        select.setString(1, serverUUID);
+        select.setLong(2, day);
+        try (ResultSet set = select.executeQuery()) {
+            if (!set.next()) return Optional.empty();
+            try {
+                return Optional.of(HyperLogLog.deserialize(set.getString(UniquePlayerSketchTable.SKETCH)));
+            } catch (IllegalArgumentException corrupted) {
+                // Overwritten with the new sketch
+                return Optional.of(new HyperLogLog());
+            }
+        }
+    }
+
+    /**
+     * Store registration of a player on a server for cohort retention calculations.
+     *
+     * @param playerUUID UUID of the player.
+     * @param registered Epoch ms the player registered on the server.
+     * @param serverUUID UUID of the Plan server.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable registerCohortActivity(UUID playerUUID, long registered, UUID serverUUID) {
+        return storeCohortActivity(Collections.singletonList(new CohortActivity(playerUUID, serverUUID, registered, 0L)));
+    }
+
+    /**
+     * Insert new cohort activity rows.
+     *
+     * @param activities Activities of players that do not yet have a row on the server.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeCohortActivity(Collection<CohortActivity> activities) {
+        if (activities.isEmpty()) return Executable.empty();
+
+        return new ExecBatchStatement(CohortActivityTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (CohortActivity activity : activities) {
+                    statement.setString(1, activity.getPlayerUUID().toString());
+                    statement.setString(2, activity.getServerUUID().toString());
+                    statement.setLong(3, activity.getRegistered());
+                    statement.setLong(4, activity.getActivity());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    /**
+     * Mark the days of ended sessions as active in the cohort activity of the players.
+     * <p>
+     * Rows are only updated if the sessions played on a tracked day that was not yet marked.
+     * Players without a row are given one with their registration date on the server.
+     *
+     * @param sessions Ended sessions.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable updateCohortActivity(Collection<Session> sessions) {
+        if (sessions.isEmpty()) return Executable.empty();
+
+        return connection -> {
+            String selectRegistered = "SELECT MIN(" + UserInfoTable.REGISTERED + ") as registered" +
+                    " FROM " + UserInfoTable.TABLE_NAME +
+                    WHERE + UserInfoTable.USER_UUID + "=?" +
+                    " AND " + UserInfoTable.SERVER_UUID + "=?";
+            try (
+                    PreparedStatement select = connection.prepareStatement(CohortActivityTable.SELECT_STATEMENT);
+                    PreparedStatement selectRegisterDate = connection.prepareStatement(selectRegistered);
+                    PreparedStatement update = connection.prepareStatement(CohortActivityTable.UPDATE_STATEMENT)
+            ) {
+                Map<List<UUID>, CohortActivity> activities = new HashMap<>();
+                Map<List<UUID>, Long> storedActivity = new HashMap<>();
+                for (Session session : sessions) {
+                    UUID playerUUID = session.getUnsafe(SessionKeys.UUID);
+                    UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
+                    List<UUID> key = Arrays.asList(playerUUID, serverUUID);
+                    CohortActivity activity = activities.get(key);
+                    if (activity == null) {
+                        activity = fetchCohortActivity(select, playerUUID, serverUUID).orElse(null);
+                        if (activity != null) {
+                            storedActivity.put(key, activity.getActivity());
+                        } else {
+                            Optional<Long> registered = fetchRegisterDate(selectRegisterDate, playerUUID, serverUUID);
+                            if (!registered.isPresent()) continue; // Not registered on the server
+                            activity = new CohortActivity(playerUUID, serverUUID, registered.get(), 0L);
+                        }
+                    }
+                    activities.put(key, activity.withSession(session.getUnsafe(SessionKeys.START), session.getUnsafe(SessionKeys.END)));
+                }
+
+                List<CohortActivity> inserts = new ArrayList<>();
+                for (Map.Entry<List<UUID>, CohortActivity> entry : activities.entrySet()) {
+                    CohortActivity activity = entry.getValue();
+                    Long stored = storedActivity.get(entry.getKey());
+                    if (stored == null) {
+                        inserts.add(activity);
+                    } else if (stored != activity.getActivity()) {
+                        update.setLong(1, activity.getActivity());
+                        update.setString(2, activity.getPlayerUUID().toString());
+                        update.setString(3, activity.getServerUUID().toString());
+                        update.addBatch();
+                    }
+                }
+                update.executeBatch();
+                return storeCohortActivity(inserts).execute(connection);
+            } catch (SQLException e) {
+                throw DBOpException.forCause(CohortActivityTable.UPDATE_STATEMENT, e);
+            }
+        };
+    }
+
+    private static Optional<CohortActivity> fetchCohortActivity(PreparedStatement select, UUID playerUUID, UUID serverUUID) throws SQLException {
+        select.setString(1, playerUUID.toString());
+        select.setString(2, serverUUID.toString());
+        try (ResultSet set = select.executeQuery()) {
+            if (!set.next()) return Optional.empty();
+            return Optional.of(new CohortActivity(playerUUID, serverUUID,
+                    set.getLong(CohortActivityTable.REGISTERED), set.getLong(CohortActivityTable.ACTIVITY)));
+        }
+    }
+
+    private static Optional<Long> fetchRegisterDate(PreparedStatement select, UUID playerUUID, UUID serverUUID) throws SQLException {
+        select.setString(1, playerUUID.toString());
+        select.setString(2, serverUUID.toString());
+        try (ResultSet set = select.executeQuery()) {
+            if (!set.next()) return Optional.empty();
+            long registered = set.getLong("registered");
+            return set.wasNull() ? Optional.empty() : Optional.of(registered);
+        }
+    }
 }
\ No newline at end of file
@@ -314,6 +314,8 @@ public class LargeStoreQueries {
         return connection -> {
             storeAllSessionsWithoutKillOrWorldData(sessions).execute(connection);
             storeSessionKillData(sessions).execute(connection);
+            DataStoreQueries.addToUniquePlayerSketches(sessions).execute(connection);
+            DataStoreQueries.updateCohortActivity(sessions).execute(connection);
             return storeSessionWorldTimeData(sessions).execute(connection);
         };
     }
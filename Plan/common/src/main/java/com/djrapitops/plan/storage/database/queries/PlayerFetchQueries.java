@@ -22,8 +22,7 @@ import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -103,6 +102,44 @@ public class PlayerFetchQueries {
         };
     }
 
+    /**
+     * Check which of the given players have their BaseUser registered.
+     *
+     * @param playerUUIDs UUIDs of the players, at most 500 at a time.
+     * @return Set of UUIDs of the players that were found.
+     */
+    public static Query<Set<UUID>> fetchRegisteredPlayers(Collection<UUID> playerUUIDs) {
+        if (playerUUIDs.isEmpty()) return db -> new HashSet<>();
+
+        StringBuilder sql = new StringBuilder(SELECT + UsersTable.USER_UUID +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (");
+        for (int i = 0; i < playerUUIDs.size(); i++) {
+            sql.append(i > 0 ? ",?" : "?");
+        }
+        sql.append(')');
+
+        return new QueryStatement<Set<UUID>>(sql.toString()) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (UUID playerUUID : playerUUIDs) {
+                    statement.setString(index, playerUUID.toString());
+                    index++;
+                }
+            }
+
+            @Override
+            public Set<UUID> processResults(ResultSet set) throws SQLException {
+                Set<UUID> registered = new HashSet<>();
+                while (set.next()) {
+                    registered.add(UUID.fromString(set.getString(UsersTable.USER_UUID)));
+                }
+                return registered;
+            }
+        };
+    }
+
     public static Query<Optional<Long>> fetchRegisterDate(UUID playerUUID) {
         String sql = SELECT + UsersTable.REGISTERED +
                 FROM + UsersTable.TABLE_NAME +
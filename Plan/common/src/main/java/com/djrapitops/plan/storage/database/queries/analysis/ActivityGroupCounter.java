@@ -0,0 +1,165 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.DateMap;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculates activity index groupings for multiple dates from a single pass over sessions.
+ * <p>
+ * Uses the same rules as {@link ActivityIndexQueries#selectActivityIndexSQL()}:
+ * a session counts towards a week if it overlaps the week, and the whole active length of the session is counted.
+ * Weeks shared by multiple dates are summed only once.
+ *
+ * @author Rsl1122
+ */
+class ActivityGroupCounter {
+
+    private static final long WEEK_MS = TimeUnit.DAYS.toMillis(7L);
+
+    private final long[] dates;
+    private final long playtimeThreshold;
+
+    // Week i is between weekStarts[i] and weekEnds[i], both inclusive
+    private final long[] weekStarts;
+    private final long[] weekEnds;
+    // Indexes of the three weeks of each date
+    private final int[][] weeksOfDate;
+
+    private final Map<UUID, Player> players;
+
+    ActivityGroupCounter(Collection<Long> dates, long playtimeThreshold) {
+        this.dates = dates.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        this.playtimeThreshold = playtimeThreshold;
+
+        NavigableMap<Long, Integer> weekIndexByEnd = new TreeMap<>();
+        for (long date : this.dates) {
+            for (int week = 0; week < 3; week++) {
+                weekIndexByEnd.putIfAbsent(date - week * WEEK_MS, weekIndexByEnd.size());
+            }
+        }
+        weekStarts = new long[weekIndexByEnd.size()];
+        weekEnds = new long[weekIndexByEnd.size()];
+        for (Map.Entry<Long, Integer> week : weekIndexByEnd.entrySet()) {
+            weekEnds[week.getValue()] = week.getKey();
+            weekStarts[week.getValue()] = week.getKey() - WEEK_MS;
+        }
+        weeksOfDate = new int[this.dates.length][3];
+        for (int i = 0; i < this.dates.length; i++) {
+            for (int week = 0; week < 3; week++) {
+                weeksOfDate[i][week] = weekIndexByEnd.get(this.dates[i] - week * WEEK_MS);
+            }
+        }
+        players = new HashMap<>();
+    }
+
+    /**
+     * Get the earliest session end that can affect the groupings of the dates.
+     *
+     * @param dates Epoch ms of the dates.
+     * @return Epoch ms.
+     */
+    static long getWindowStart(Collection<Long> dates) {
+        return dates.stream().mapToLong(Long::longValue).min().orElse(0L) - 3L * WEEK_MS;
+    }
+
+    /**
+     * Get the latest session start that can affect the groupings of the dates.
+     *
+     * @param dates Epoch ms of the dates.
+     * @return Epoch ms.
+     */
+    static long getWindowEnd(Collection<Long> dates) {
+        return dates.stream().mapToLong(Long::longValue).max().orElse(0L);
+    }
+
+    /**
+     * Read rows of players joined with their sessions.
+     * <p>
+     * Players without sessions are expected to have null session columns.
+     *
+     * @param set              Result set with session_start, session_end and afk_time columns.
+     * @param uuidColumn       Name of the player UUID column.
+     * @param registeredColumn Name of the register date column.
+     * @throws SQLException If the result set can not be read.
+     */
+    void addRows(ResultSet set, String uuidColumn, String registeredColumn) throws SQLException {
+        while (set.next()) {
+            UUID playerUUID = UUID.fromString(set.getString(uuidColumn));
+            addPlayer(playerUUID, set.getLong(registeredColumn));
+
+            long sessionStart = set.getLong(SessionsTable.SESSION_START);
+            if (set.wasNull()) continue;
+            addSession(playerUUID, sessionStart, set.getLong(SessionsTable.SESSION_END), set.getLong(SessionsTable.AFK_TIME));
+        }
+    }
+
+    void addPlayer(UUID playerUUID, long registered) {
+        players.computeIfAbsent(playerUUID, uuid -> new Player(registered, weekEnds.length));
+    }
+
+    void addSession(UUID playerUUID, long sessionStart, long sessionEnd, long afkTime) {
+        Player player = players.get(playerUUID);
+        if (player == null) return;
+        long activePlaytime = sessionEnd - sessionStart - afkTime;
+        for (int week = 0; week < weekEnds.length; week++) {
+            if (sessionEnd >= weekStarts[week] && sessionStart <= weekEnds[week]) {
+                player.activePlaytimePerWeek[week] += activePlaytime;
+            }
+        }
+    }
+
+    DateMap<Map<String, Integer>> count() {
+        DateMap<Map<String, Integer>> groupingsByDate = new DateMap<>();
+        for (int i = 0; i < dates.length; i++) {
+            long date = dates[i];
+            Map<String, Integer> groups = new HashMap<>();
+            for (Player player : players.values()) {
+                if (player.registered > date) continue;
+                double activityIndex = calculateActivityIndex(player.activePlaytimePerWeek, weeksOfDate[i]);
+                groups.merge(ActivityIndex.getGroup(activityIndex), 1, Integer::sum);
+            }
+            groupingsByDate.put(date, groups);
+        }
+        return groupingsByDate;
+    }
+
+    private double calculateActivityIndex(long[] activePlaytimePerWeek, int[] weeks) {
+        double sum = 0.0;
+        for (int week : weeks) {
+            sum += 1.0 / (Math.PI / 2.0 * (activePlaytimePerWeek[week] * 1.0 / playtimeThreshold) + 1.0);
+        }
+        return 5.0 - 5.0 * (sum / weeks.length);
+    }
+
+    private static class Player {
+        final long registered;
+        final long[] activePlaytimePerWeek;
+
+        Player(long registered, int weekCount) {
+            this.registered = registered;
+            this.activePlaytimePerWeek = new long[weekCount];
+        }
+    }
+}
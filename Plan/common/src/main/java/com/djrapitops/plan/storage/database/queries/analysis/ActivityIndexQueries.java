@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries.analysis;
 
+import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -170,6 +171,47 @@ public class ActivityIndexQueries {
         };
     }
 
+    /**
+     * Fetch activity index groupings for multiple dates with a single query.
+     * <p>
+     * Sessions of the whole period are fetched once and activity indexes are calculated in memory,
+     * giving the same result as calling {@link #fetchActivityIndexGroupingsOn(long, UUID, long)} for each date.
+     *
+     * @param dates      Epoch ms of the dates to calculate the groupings for.
+     * @param serverUUID UUID of the server.
+     * @param threshold  Playtime threshold for activity index.
+     * @return Activity index groupings for each date.
+     */
+    public static Query<DateMap<Map<String, Integer>>> fetchActivityIndexGroupingsOn(Collection<Long> dates, UUID serverUUID, long threshold) {
+        String selectSessions = SELECT + "u." + UserInfoTable.USER_UUID + ",u." + UserInfoTable.REGISTERED + ',' +
+                "s." + SessionsTable.SESSION_START + ",s." + SessionsTable.SESSION_END + ",s." + SessionsTable.AFK_TIME +
+                FROM + UserInfoTable.TABLE_NAME + " u" +
+                LEFT_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.USER_UUID + "=u." + UserInfoTable.USER_UUID +
+                AND + "s." + SessionsTable.SERVER_UUID + "=?" +
+                AND + "s." + SessionsTable.SESSION_END + ">=?" +
+                AND + "s." + SessionsTable.SESSION_START + "<=?" +
+                WHERE + "u." + UserInfoTable.SERVER_UUID + "=?" +
+                AND + "u." + UserInfoTable.REGISTERED + "<=?";
+
+        return new QueryStatement<DateMap<Map<String, Integer>>>(selectSessions, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, ActivityGroupCounter.getWindowStart(dates));
+                statement.setLong(3, ActivityGroupCounter.getWindowEnd(dates));
+                statement.setString(4, serverUUID.toString());
+                statement.setLong(5, ActivityGroupCounter.getWindowEnd(dates));
+            }
+
+            @Override
+            public DateMap<Map<String, Integer>> processResults(ResultSet set) throws SQLException {
+                ActivityGroupCounter counter = new ActivityGroupCounter(dates, threshold);
+                counter.addRows(set, UserInfoTable.USER_UUID, UserInfoTable.REGISTERED);
+                return counter.count();
+            }
+        };
+    }
+
     public static Query<Integer> countNewPlayersTurnedRegular(long after, long before, UUID serverUUID, Long threshold) {
         String selectActivityIndex = selectActivityIndexSQL();
 
@@ -372,85 +414,4 @@ public class ActivityIndexQueries {
             }
         };
     }
-
-    public static Query<ActivityIndex> averageActivityIndexForRetainedPlayers(long after, long before, UUID serverUUID, Long threshold) {
-        String selectNewUUIDs = SELECT + UserInfoTable.USER_UUID +
-                FROM + UserInfoTable.TABLE_NAME +
-                WHERE + UserInfoTable.REGISTERED + "<=?" +
-                AND + UserInfoTable.REGISTERED + ">=?" +
-                AND + UserInfoTable.SERVER_UUID + "=?";
-
-        String selectUniqueUUIDs = SELECT + "DISTINCT " + SessionsTable.USER_UUID +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_START + ">=?" +
-                AND + SessionsTable.SESSION_END + "<=?" +
-                AND + SessionsTable.SERVER_UUID + "=?";
-
-        String sql = SELECT + "AVG(activity_index) as average" +
-                FROM + '(' + selectNewUUIDs + ") n" +
-                INNER_JOIN + '(' + selectUniqueUUIDs + ") u on n." + SessionsTable.USER_UUID + "=u." + SessionsTable.USER_UUID +
-                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_UUID + "=a." + SessionsTable.USER_UUID;
-
-        return new QueryStatement<ActivityIndex>(sql) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, before);
-                statement.setLong(2, after);
-                statement.setString(3, serverUUID.toString());
-
-                // Have played in the last half of the time frame
-                long half = before - (before - after) / 2;
-                statement.setLong(4, half);
-                statement.setLong(5, before);
-                statement.setString(6, serverUUID.toString());
-                setSelectActivityIndexSQLParameters(statement, 7, threshold, serverUUID, before);
-            }
-
-            @Override
-            public ActivityIndex processResults(ResultSet set) throws SQLException {
-                return set.next() ? new ActivityIndex(set.getDouble("average"), before) : new ActivityIndex(0.0, before);
-            }
-        };
-    }
-
-    public static Query<ActivityIndex> averageActivityIndexForNonRetainedPlayers(long after, long before, UUID serverUUID, Long threshold) {
-        String selectNewUUIDs = SELECT + UserInfoTable.USER_UUID +
-                FROM + UserInfoTable.TABLE_NAME +
-                WHERE + UserInfoTable.REGISTERED + "<=?" +
-                AND + UserInfoTable.REGISTERED + ">=?" +
-                AND + UserInfoTable.SERVER_UUID + "=?";
-
-        String selectUniqueUUIDs = SELECT + "DISTINCT " + SessionsTable.USER_UUID +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_START + ">=?" +
-                AND + SessionsTable.SESSION_END + "<=?" +
-                AND + SessionsTable.SERVER_UUID + "=?";
-
-        String sql = SELECT + "AVG(activity_index) as average" +
-                FROM + '(' + selectNewUUIDs + ") n" +
-                LEFT_JOIN + '(' + selectUniqueUUIDs + ") u on n." + SessionsTable.USER_UUID + "=u." + SessionsTable.USER_UUID +
-                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_UUID + "=a." + SessionsTable.USER_UUID +
-                WHERE + "n." + SessionsTable.USER_UUID + IS_NULL;
-
-        return new QueryStatement<ActivityIndex>(sql) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, before);
-                statement.setLong(2, after);
-                statement.setString(3, serverUUID.toString());
-
-                // Have played in the last half of the time frame
-                long half = before - (before - after) / 2;
-                statement.setLong(4, half);
-                statement.setLong(5, before);
-                statement.setString(6, serverUUID.toString());
-                setSelectActivityIndexSQLParameters(statement, 7, threshold, serverUUID, before);
-            }
-
-            @Override
-            public ActivityIndex processResults(ResultSet set) throws SQLException {
-                return set.next() ? new ActivityIndex(set.getDouble("average"), before) : new ActivityIndex(0.0, before);
-            }
-        };
-    }
-}
\ No newline at end of file
+}
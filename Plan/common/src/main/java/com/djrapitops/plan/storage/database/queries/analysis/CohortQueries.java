@@ -0,0 +1,239 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.CohortActivity;
+import com.djrapitops.plan.delivery.domain.RetentionMatrix;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.CohortActivityTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries for player retention calculated from {@link CohortActivityTable}.
+ * <p>
+ * Activity is tracked per day (UTC), so a player counts as having played during a range if they had a session
+ * during any day that overlaps the range.
+ *
+ * @author Rsl1122
+ */
+public class CohortQueries {
+
+    private CohortQueries() {
+        // Static method class
+    }
+
+    /**
+     * Fetch cohort activity of players who registered on a server within a time range.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param serverUUID UUID of the Plan server
+     * @return Activity of each player registered within the range.
+     */
+    public static Query<List<CohortActivity>> fetchCohortActivity(long after, long before, UUID serverUUID) {
+        String sql = SELECT + CohortActivityTable.USER_UUID + ',' + CohortActivityTable.REGISTERED + ',' + CohortActivityTable.ACTIVITY +
+                FROM + CohortActivityTable.TABLE_NAME +
+                WHERE + CohortActivityTable.SERVER_UUID + "=?" +
+                AND + CohortActivityTable.REGISTERED + ">=?" +
+                AND + CohortActivityTable.REGISTERED + "<=?";
+
+        return new QueryStatement<List<CohortActivity>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public List<CohortActivity> processResults(ResultSet set) throws SQLException {
+                List<CohortActivity> activities = new ArrayList<>();
+                while (set.next()) {
+                    activities.add(new CohortActivity(
+                            UUID.fromString(set.getString(CohortActivityTable.USER_UUID)),
+                            serverUUID,
+                            set.getLong(CohortActivityTable.REGISTERED),
+                            set.getLong(CohortActivityTable.ACTIVITY)
+                    ));
+                }
+                return activities;
+            }
+        };
+    }
+
+    /**
+     * Count players who registered within a time range and played during the last half of it.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param serverUUID UUID of the Plan server
+     * @return Amount of retained new players.
+     */
+    public static Query<Integer> retainedPlayerCount(long after, long before, UUID serverUUID) {
+        return db -> {
+            long half = before - (before - after) / 2;
+            int retained = 0;
+            for (CohortActivity activity : db.query(fetchCohortActivity(after, before, serverUUID))) {
+                if (activity.isActiveBetween(half, before)) retained++;
+            }
+            return retained;
+        };
+    }
+
+    /**
+     * Calculate retention of players who registered within a time range.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param serverUUID UUID of the Plan server
+     * @param periodDays Length of cohorts and periods in days, for example 1 or 7.
+     * @return Retention matrix.
+     */
+    public static Query<RetentionMatrix> retentionMatrix(long after, long before, UUID serverUUID, int periodDays) {
+        return db -> RetentionMatrix.calculate(db.query(fetchCohortActivity(after, before, serverUUID)), periodDays);
+    }
+
+    /**
+     * Average activity index of players who registered within a time range and played during the last half of it.
+     *
+     * @param after           After epoch ms
+     * @param before          Before epoch ms
+     * @param serverUUID      UUID of the Plan server
+     * @param activityIndexes Activity indexes on the date {@code before}, players that are missing have index 0.
+     * @return Average activity index on the date {@code before}.
+     */
+    public static Query<ActivityIndex> averageActivityIndexForRetainedPlayers(long after, long before, UUID serverUUID, Map<UUID, Double> activityIndexes) {
+        return averageActivityIndexOfNewPlayers(after, before, serverUUID, activityIndexes, true);
+    }
+
+    /**
+     * Average activity index of players who registered within a time range and did not play during the last half of it.
+     *
+     * @param after           After epoch ms
+     * @param before          Before epoch ms
+     * @param serverUUID      UUID of the Plan server
+     * @param activityIndexes Activity indexes on the date {@code before}, players that are missing have index 0.
+     * @return Average activity index on the date {@code before}.
+     */
+    public static Query<ActivityIndex> averageActivityIndexForNonRetainedPlayers(long after, long before, UUID serverUUID, Map<UUID, Double> activityIndexes) {
+        return averageActivityIndexOfNewPlayers(after, before, serverUUID, activityIndexes, false);
+    }
+
+    private static Query<ActivityIndex> averageActivityIndexOfNewPlayers(long after, long before, UUID serverUUID, Map<UUID, Double> activityIndexes, boolean retained) {
+        return db -> {
+            long half = before - (before - after) / 2;
+
+            double total = 0.0;
+            int count = 0;
+            for (CohortActivity activity : db.query(fetchCohortActivity(after, before, serverUUID))) {
+                if (activity.isActiveBetween(half, before) == retained) {
+                    total += activityIndexes.getOrDefault(activity.getPlayerUUID(), 0.0);
+                    count++;
+                }
+            }
+            return new ActivityIndex(count != 0 ? total / count : 0.0, before);
+        };
+    }
+
+    /**
+     * Fetch activity indexes of players who registered within a time range.
+     * <p>
+     * Scans sessions of the three weeks before {@code before}, prefer calculating the indexes from sessions in memory.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms, date of the activity indexes.
+     * @param serverUUID UUID of the Plan server
+     * @param threshold  Activity index playtime threshold
+     * @return Activity index of each player registered within the range.
+     */
+    public static Query<Map<UUID, Double>> activityIndexOfNewPlayers(long after, long before, UUID serverUUID, long threshold) {
+        String sql = SELECT + "n." + CohortActivityTable.USER_UUID + ",a.activity_index" +
+                FROM + CohortActivityTable.TABLE_NAME + " n" +
+                INNER_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") a on n." + CohortActivityTable.USER_UUID + "=a." + SessionsTable.USER_UUID +
+                WHERE + "n." + CohortActivityTable.SERVER_UUID + "=?" +
+                AND + "n." + CohortActivityTable.REGISTERED + ">=?" +
+                AND + "n." + CohortActivityTable.REGISTERED + "<=?";
+
+        return new QueryStatement<Map<UUID, Double>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 1, threshold, serverUUID, before);
+                statement.setString(12, serverUUID.toString());
+                statement.setLong(13, after);
+                statement.setLong(14, before);
+            }
+
+            @Override
+            public Map<UUID, Double> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Double> indexes = new HashMap<>();
+                while (set.next()) {
+                    indexes.put(UUID.fromString(set.getString(CohortActivityTable.USER_UUID)), set.getDouble("activity_index"));
+                }
+                return indexes;
+            }
+        };
+    }
+
+    /**
+     * Calculate cohort activity of every registered player from stored sessions.
+     * <p>
+     * Used for creating the cohort activity of players that were stored before the table existed.
+     *
+     * @return Activity of each player on each server they are registered on.
+     */
+    public static Query<Collection<CohortActivity>> createCohortActivityFromSessions() {
+        String sql = SELECT + "ui." + UserInfoTable.USER_UUID + ",ui." + UserInfoTable.SERVER_UUID + ",ui." + UserInfoTable.REGISTERED + ',' +
+                SessionsTable.SESSION_START + ',' + SessionsTable.SESSION_END +
+                FROM + UserInfoTable.TABLE_NAME + " ui" +
+                LEFT_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.USER_UUID + "=ui." + UserInfoTable.USER_UUID +
+                AND + "s." + SessionsTable.SERVER_UUID + "=ui." + UserInfoTable.SERVER_UUID +
+                AND + "s." + SessionsTable.SESSION_END + ">=ui." + UserInfoTable.REGISTERED +
+                AND + "s." + SessionsTable.SESSION_START + "<=ui." + UserInfoTable.REGISTERED + '+' + TimeUnit.DAYS.toMillis(CohortActivity.TRACKED_DAYS);
+
+        return new QueryAllStatement<Collection<CohortActivity>>(sql, 10000) {
+            @Override
+            public Collection<CohortActivity> processResults(ResultSet set) throws SQLException {
+                Map<List<UUID>, CohortActivity> activities = new HashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString(UserInfoTable.USER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(UserInfoTable.SERVER_UUID));
+                    long registered = set.getLong(UserInfoTable.REGISTERED);
+                    CohortActivity activity = activities.computeIfAbsent(Arrays.asList(playerUUID, serverUUID),
+                            key -> new CohortActivity(playerUUID, serverUUID, registered, 0L));
+
+                    long sessionStart = set.getLong(SessionsTable.SESSION_START);
+                    if (!set.wasNull()) {
+                        activities.put(Arrays.asList(playerUUID, serverUUID), activity.withSession(sessionStart, set.getLong(SessionsTable.SESSION_END)));
+                    }
+                }
+                return activities.values();
+            }
+        };
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.Leaderboard;
+import com.djrapitops.plan.delivery.domain.LeaderboardMetric;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.KillsTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries for calculating {@link Leaderboard}s.
+ *
+ * @author Rsl1122
+ */
+public class LeaderboardQueries {
+
+    private LeaderboardQueries() {
+        // Static method class
+    }
+
+    /**
+     * Fetch the top players of a server.
+     *
+     * @param metric     Metric to rank players by.
+     * @param serverUUID UUID of the Plan server.
+     * @param limit      How many players to fetch.
+     * @return Entries, highest value first.
+     */
+    public static Query<List<Leaderboard.Entry>> topPlayers(LeaderboardMetric metric, UUID serverUUID, int limit) {
+        return topPlayers(metric, serverUUID, limit, true);
+    }
+
+    /**
+     * Fetch the top players of the whole network.
+     *
+     * @param metric Metric to rank players by.
+     * @param limit  How many players to fetch.
+     * @return Entries, highest value first.
+     */
+    public static Query<List<Leaderboard.Entry>> topPlayers(LeaderboardMetric metric, int limit) {
+        return topPlayers(metric, null, limit, false);
+    }
+
+    private static Query<List<Leaderboard.Entry>> topPlayers(LeaderboardMetric metric, UUID serverUUID, int limit, boolean ofServer) {
+        String table = metric == LeaderboardMetric.PLAYER_KILLS ? KillsTable.TABLE_NAME : SessionsTable.TABLE_NAME;
+        String playerColumn = metric == LeaderboardMetric.PLAYER_KILLS ? KillsTable.KILLER_UUID : SessionsTable.USER_UUID;
+        String serverColumn = metric == LeaderboardMetric.PLAYER_KILLS ? KillsTable.SERVER_UUID : SessionsTable.SERVER_UUID;
+
+        String innerSQL = SELECT + playerColumn + ", " + valueOf(metric) + " as value" +
+                FROM + table +
+                (ofServer ? WHERE + serverColumn + "=?" : "") +
+                GROUP_BY + playerColumn;
+        String sql = SELECT + "q1." + playerColumn + ", u." + UsersTable.USER_NAME + ", q1.value" +
+                FROM + '(' + innerSQL + ") q1" +
+                LEFT_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=q1." + playerColumn +
+                ORDER_BY + "q1.value DESC LIMIT ?";
+
+        return new QueryStatement<List<Leaderboard.Entry>>(sql, limit) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                if (ofServer) statement.setString(index++, serverUUID.toString());
+                statement.setInt(index, limit);
+            }
+
+            @Override
+            public List<Leaderboard.Entry> processResults(ResultSet set) throws SQLException {
+                List<Leaderboard.Entry> entries = new ArrayList<>();
+                while (set.next()) {
+                    entries.add(new Leaderboard.Entry(
+                            UUID.fromString(set.getString(playerColumn)),
+                            set.getString(UsersTable.USER_NAME),
+                            set.getLong("value")
+                    ));
+                }
+                return entries;
+            }
+        };
+    }
+
+    private static String valueOf(LeaderboardMetric metric) {
+        switch (metric) {
+            case PLAYTIME:
+                return "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ')';
+            case ACTIVE_PLAYTIME:
+                return "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ')';
+            case PLAYER_KILLS:
+            case SESSIONS:
+                return "COUNT(1)";
+            default:
+                throw new IllegalArgumentException("Unsupported metric " + metric);
+        }
+    }
+
+    /**
+     * Fetch the current values of a single player on each server.
+     * <p>
+     * Uses the player indexes of the tables, so it is cheap enough to run whenever a session of the player ends.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Map: Server UUID - Values of each {@link LeaderboardMetric}.
+     */
+    public static Query<Map<UUID, Map<LeaderboardMetric, Long>>> valuesOfPlayer(UUID playerUUID) {
+        return db -> {
+            Map<UUID, Map<LeaderboardMetric, Long>> values = db.query(sessionValuesOfPlayer(playerUUID));
+            db.query(killCountsOfPlayer(playerUUID)).forEach((serverUUID, kills) ->
+                    values.computeIfAbsent(serverUUID, k -> new EnumMap<>(LeaderboardMetric.class))
+                            .put(LeaderboardMetric.PLAYER_KILLS, kills));
+            return values;
+        };
+    }
+
+    private static Query<Map<UUID, Map<LeaderboardMetric, Long>>> sessionValuesOfPlayer(UUID playerUUID) {
+        String sql = SELECT + SessionsTable.SERVER_UUID + ", " +
+                valueOf(LeaderboardMetric.PLAYTIME) + " as playtime, " +
+                valueOf(LeaderboardMetric.ACTIVE_PLAYTIME) + " as active_playtime, " +
+                valueOf(LeaderboardMetric.SESSIONS) + " as session_count" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_UUID + "=?" +
+                GROUP_BY + SessionsTable.SERVER_UUID;
+
+        return new QueryStatement<Map<UUID, Map<LeaderboardMetric, Long>>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, Map<LeaderboardMetric, Long>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Map<LeaderboardMetric, Long>> values = new HashMap<>();
+                while (set.next()) {
+                    Map<LeaderboardMetric, Long> ofServer = new EnumMap<>(LeaderboardMetric.class);
+                    ofServer.put(LeaderboardMetric.PLAYTIME, set.getLong("playtime"));
+                    ofServer.put(LeaderboardMetric.ACTIVE_PLAYTIME, set.getLong("active_playtime"));
+                    ofServer.put(LeaderboardMetric.SESSIONS, set.getLong("session_count"));
+                    values.put(UUID.fromString(set.getString(SessionsTable.SERVER_UUID)), ofServer);
+                }
+                return values;
+            }
+        };
+    }
+
+    private static Query<Map<UUID, Long>> killCountsOfPlayer(UUID playerUUID) {
+        String sql = SELECT + KillsTable.SERVER_UUID + ", COUNT(1) as kills" +
+                FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.KILLER_UUID + "=?" +
+                GROUP_BY + KillsTable.SERVER_UUID;
+
+        return new QueryStatement<Map<UUID, Long>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, Long> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Long> kills = new HashMap<>();
+                while (set.next()) {
+                    kills.put(UUID.fromString(set.getString(KillsTable.SERVER_UUID)), set.getLong("kills"));
+                }
+                return kills;
+            }
+        };
+    }
+}
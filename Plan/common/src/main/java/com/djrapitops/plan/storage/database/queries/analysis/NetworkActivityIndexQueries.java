@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries.analysis;
 
+import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -165,6 +166,42 @@ public class NetworkActivityIndexQueries {
         };
     }
 
+    /**
+     * Fetch activity index groupings for multiple dates with a single query.
+     * <p>
+     * Sessions of the whole period are fetched once and activity indexes are calculated in memory,
+     * giving the same result as calling {@link #fetchActivityIndexGroupingsOn(long, long)} for each date.
+     *
+     * @param dates     Epoch ms of the dates to calculate the groupings for.
+     * @param threshold Playtime threshold for activity index.
+     * @return Activity index groupings for each date.
+     */
+    public static Query<DateMap<Map<String, Integer>>> fetchActivityIndexGroupingsOn(Collection<Long> dates, long threshold) {
+        String selectSessions = SELECT + "u." + UsersTable.USER_UUID + ",u." + UsersTable.REGISTERED + ',' +
+                "s." + SessionsTable.SESSION_START + ",s." + SessionsTable.SESSION_END + ",s." + SessionsTable.AFK_TIME +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                LEFT_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.USER_UUID + "=u." + UsersTable.USER_UUID +
+                AND + "s." + SessionsTable.SESSION_END + ">=?" +
+                AND + "s." + SessionsTable.SESSION_START + "<=?" +
+                WHERE + "u." + UsersTable.REGISTERED + "<=?";
+
+        return new QueryStatement<DateMap<Map<String, Integer>>>(selectSessions, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, ActivityGroupCounter.getWindowStart(dates));
+                statement.setLong(2, ActivityGroupCounter.getWindowEnd(dates));
+                statement.setLong(3, ActivityGroupCounter.getWindowEnd(dates));
+            }
+
+            @Override
+            public DateMap<Map<String, Integer>> processResults(ResultSet set) throws SQLException {
+                ActivityGroupCounter counter = new ActivityGroupCounter(dates, threshold);
+                counter.addRows(set, UsersTable.USER_UUID, UsersTable.REGISTERED);
+                return counter.count();
+            }
+        };
+    }
+
     public static Query<Integer> countNewPlayersTurnedRegular(long after, long before, Long threshold) {
         String selectActivityIndex = selectActivityIndexSQL();
 
@@ -0,0 +1,209 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UniquePlayerSketchTable;
+import com.djrapitops.plan.utilities.analysis.HyperLogLog;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries for estimating unique player counts from {@link UniquePlayerSketchTable}.
+ * <p>
+ * Whole days inside the range are read from the daily sketches, and players of sessions that started during
+ * the partial days at the edges of the range are added from the sessions table, so the estimate does not depend on
+ * where the range starts or ends.
+ * <p>
+ * Estimates can differ from {@link PlayerCountQueries} by a couple of percent, and include players that have been
+ * removed from the database. Use {@link PlayerCountQueries} when exact counts are needed.
+ *
+ * @author Rsl1122
+ */
+public class UniquePlayerSketchQueries {
+
+    private UniquePlayerSketchQueries() {
+        // Static method class
+    }
+
+    /**
+     * Estimate unique player count of a server.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param serverUUID UUID of the Plan server
+     * @return Estimated amount of players who played on the server within the range.
+     */
+    public static Query<Integer> estimatedUniquePlayerCount(long after, long before, UUID serverUUID) {
+        return db -> {
+            HyperLogLog sketch = db.query(fetchSketches(after, before, serverUUID)).get(serverUUID);
+            return sketch != null ? sketch.estimate() : 0;
+        };
+    }
+
+    /**
+     * Estimate unique player count of the whole network.
+     *
+     * @param after  After epoch ms
+     * @param before Before epoch ms
+     * @return Estimated amount of players who played on any server within the range.
+     */
+    public static Query<Integer> estimatedUniquePlayerCount(long after, long before) {
+        return db -> {
+            HyperLogLog merged = new HyperLogLog();
+            for (HyperLogLog sketch : db.query(fetchSketches(after, before, null)).values()) {
+                merged.merge(sketch);
+            }
+            return merged.estimate();
+        };
+    }
+
+    /**
+     * Estimate unique player counts of each server.
+     *
+     * @param after  After epoch ms
+     * @param before Before epoch ms
+     * @return Map: Server UUID - Estimated amount of players who played on the server within the range.
+     */
+    public static Query<Map<UUID, Integer>> estimatedUniquePlayerCounts(long after, long before) {
+        return db -> {
+            Map<UUID, Integer> byServer = new HashMap<>();
+            for (Map.Entry<UUID, HyperLogLog> entry : db.query(fetchSketches(after, before, null)).entrySet()) {
+                byServer.put(entry.getKey(), entry.getValue().estimate());
+            }
+            return byServer;
+        };
+    }
+
+    private static Query<Map<UUID, HyperLogLog>> fetchSketches(long after, long before, UUID serverUUID) {
+        long fullDaysStart = UniquePlayerSketchTable.getDay(after) == after ? after : UniquePlayerSketchTable.getNextDay(after);
+        long fullDaysEnd = UniquePlayerSketchTable.getDay(before);
+        if (fullDaysStart >= fullDaysEnd) {
+            // No whole days in the range, everything is read from sessions.
+            fullDaysStart = after;
+            fullDaysEnd = after;
+        }
+        long sketchesAfter = fullDaysStart;
+        long sketchesBefore = fullDaysEnd;
+        return db -> {
+            Map<UUID, HyperLogLog> sketches = new HashMap<>();
+            if (sketchesAfter < sketchesBefore) {
+                db.query(fetchDaySketches(sketchesAfter, sketchesBefore, serverUUID, sketches));
+            }
+            db.query(fetchPlayersOfPartialDays(after, before, sketchesAfter, sketchesBefore, serverUUID, sketches));
+            return sketches;
+        };
+    }
+
+    private static Query<Map<UUID, HyperLogLog>> fetchDaySketches(long after, long before, UUID serverUUID, Map<UUID, HyperLogLog> sketches) {
+        String sql = SELECT + UniquePlayerSketchTable.SERVER_UUID + ',' + UniquePlayerSketchTable.SKETCH +
+                FROM + UniquePlayerSketchTable.TABLE_NAME +
+                WHERE + UniquePlayerSketchTable.DATE + ">=?" +
+                AND + UniquePlayerSketchTable.DATE + "<?" +
+                (serverUUID != null ? AND + UniquePlayerSketchTable.SERVER_UUID + "=?" : "");
+
+        return new QueryStatement<Map<UUID, HyperLogLog>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, after);
+                statement.setLong(2, before);
+                if (serverUUID != null) statement.setString(3, serverUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, HyperLogLog> processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    UUID server = UUID.fromString(set.getString(UniquePlayerSketchTable.SERVER_UUID));
+                    try {
+                        HyperLogLog sketch = HyperLogLog.deserialize(set.getString(UniquePlayerSketchTable.SKETCH));
+                        sketches.computeIfAbsent(server, key -> new HyperLogLog()).merge(sketch);
+                    } catch (IllegalArgumentException corrupted) {
+                        // Skip, the row is overwritten when sessions of the day are stored
+                    }
+                }
+                return sketches;
+            }
+        };
+    }
+
+    private static Query<Map<UUID, HyperLogLog>> fetchPlayersOfPartialDays(
+            long after, long before, long fullDaysStart, long fullDaysEnd, UUID serverUUID, Map<UUID, HyperLogLog> sketches
+    ) {
+        String sql = SELECT + DISTINCT + SessionsTable.SERVER_UUID + ',' + SessionsTable.USER_UUID +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SESSION_START + ">=?" +
+                AND + SessionsTable.SESSION_END + "<=?" +
+                AND + '(' + SessionsTable.SESSION_START + "<?" + OR + SessionsTable.SESSION_START + ">=?)" +
+                (serverUUID != null ? AND + SessionsTable.SERVER_UUID + "=?" : "");
+
+        return new QueryStatement<Map<UUID, HyperLogLog>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, after);
+                statement.setLong(2, before);
+                statement.setLong(3, fullDaysStart);
+                statement.setLong(4, fullDaysEnd);
+                if (serverUUID != null) statement.setString(5, serverUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, HyperLogLog> processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    UUID server = UUID.fromString(set.getString(SessionsTable.SERVER_UUID));
+                    UUID player = UUID.fromString(set.getString(SessionsTable.USER_UUID));
+                    sketches.computeIfAbsent(server, key -> new HyperLogLog()).add(player);
+                }
+                return sketches;
+            }
+        };
+    }
+
+    /**
+     * Create unique player sketches of every day from the sessions table.
+     *
+     * @return Map: Server UUID - Map: Epoch ms of the day (UTC) - Sketch.
+     */
+    public static Query<Map<UUID, Map<Long, HyperLogLog>>> createSketchesFromSessions() {
+        String sql = SELECT + SessionsTable.SERVER_UUID + ',' + SessionsTable.USER_UUID + ',' + SessionsTable.SESSION_START +
+                FROM + SessionsTable.TABLE_NAME;
+
+        return new QueryAllStatement<Map<UUID, Map<Long, HyperLogLog>>>(sql, 10000) {
+            @Override
+            public Map<UUID, Map<Long, HyperLogLog>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Map<Long, HyperLogLog>> sketches = new HashMap<>();
+                while (set.next()) {
+                    UUID server = UUID.fromString(set.getString(SessionsTable.SERVER_UUID));
+                    long day = UniquePlayerSketchTable.getDay(set.getLong(SessionsTable.SESSION_START));
+                    sketches.computeIfAbsent(server, key -> new HashMap<>())
+                            .computeIfAbsent(day, key -> new HyperLogLog())
+                            .add(UUID.fromString(set.getString(SessionsTable.USER_UUID)));
+                }
+                return sketches;
+            }
+        };
+    }
+}
@@ -111,6 +111,57 @@ public class NicknameQueries {
         };
     }
 
+    /**
+     * Query the last seen nicknames of many players on a server at once.
+     *
+     * @param playerUUIDs UUIDs of the players, at most 500 at a time.
+     * @param serverUUID  UUID of the Plan server.
+     * @return Map: Player UUID - Last seen nickname on the server.
+     */
+    public static Query<Map<UUID, Nickname>> fetchLastSeenNicknamesOfPlayers(Collection<UUID> playerUUIDs, UUID serverUUID) {
+        if (playerUUIDs.isEmpty()) return db -> new HashMap<>();
+
+        StringBuilder sql = new StringBuilder(SELECT +
+                NicknamesTable.USER_UUID + ',' + NicknamesTable.LAST_USED + ',' + NicknamesTable.NICKNAME +
+                FROM + NicknamesTable.TABLE_NAME +
+                WHERE + NicknamesTable.SERVER_UUID + "=?" +
+                AND + NicknamesTable.USER_UUID + " IN (");
+        for (int i = 0; i < playerUUIDs.size(); i++) {
+            sql.append(i > 0 ? ",?" : "?");
+        }
+        sql.append(')');
+
+        return new QueryStatement<Map<UUID, Nickname>>(sql.toString()) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                int index = 2;
+                for (UUID playerUUID : playerUUIDs) {
+                    statement.setString(index, playerUUID.toString());
+                    index++;
+                }
+            }
+
+            @Override
+            public Map<UUID, Nickname> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Nickname> lastSeen = new HashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
+                    Nickname nickname = new Nickname(
+                            set.getString(NicknamesTable.NICKNAME),
+                            set.getLong(NicknamesTable.LAST_USED),
+                            serverUUID
+                    );
+                    Nickname previous = lastSeen.get(playerUUID);
+                    if (previous == null || previous.getDate() < nickname.getDate()) {
+                        lastSeen.put(playerUUID, nickname);
+                    }
+                }
+                return lastSeen;
+            }
+        };
+    }
+
     public static Query<List<Nickname>> fetchNicknameDataOfPlayer(UUID playerUUID) {
         String sql = SELECT +
                 NicknamesTable.NICKNAME + ',' +
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.delivery.domain.DateHolder;
+import com.djrapitops.plan.delivery.domain.SessionColumns;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.GMTimes;
@@ -307,6 +308,55 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Fetch sessions of a server into columns.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param endAfter   Epoch ms, only sessions that ended after this are fetched.
+     * @param afterID    Only sessions with a higher ID are fetched, -1 for all sessions.
+     * @return Sessions in columns, that include every session of the server that ended after endAfter.
+     */
+    public static Query<SessionColumns> fetchSessionColumns(UUID serverUUID, long endAfter, int afterID) {
+        String sql = SELECT +
+                SessionsTable.ID + ',' +
+                SessionsTable.USER_UUID + ',' +
+                SessionsTable.SESSION_START + ',' +
+                SessionsTable.SESSION_END + ',' +
+                SessionsTable.AFK_TIME + ',' +
+                SessionsTable.MOB_KILLS + ',' +
+                SessionsTable.DEATHS +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_END + ">=?" +
+                AND + SessionsTable.ID + ">?";
+
+        return new QueryStatement<SessionColumns>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, endAfter);
+                statement.setInt(3, afterID);
+            }
+
+            @Override
+            public SessionColumns processResults(ResultSet set) throws SQLException {
+                SessionColumns.Builder columns = SessionColumns.builder();
+                while (set.next()) {
+                    columns.add(
+                            set.getInt(SessionsTable.ID),
+                            UUID.fromString(set.getString(SessionsTable.USER_UUID)),
+                            set.getLong(SessionsTable.SESSION_START),
+                            set.getLong(SessionsTable.SESSION_END),
+                            set.getLong(SessionsTable.AFK_TIME),
+                            set.getInt(SessionsTable.MOB_KILLS),
+                            set.getInt(SessionsTable.DEATHS)
+                    );
+                }
+                return columns.build(endAfter);
+            }
+        };
+    }
+
     public static Query<List<Session>> fetchLatestSessionsOfServer(UUID serverUUID, int limit) {
         String sql = SELECT_SESSIONS_STATEMENT +
                 WHERE + "s." + SessionsTable.SERVER_UUID + "=?" +
@@ -19,11 +19,33 @@ package com.djrapitops.plan.storage.database.sql.building;
 public class Insert extends SqlBuilder {
 
     public Insert(String table) {
-        super("INSERT INTO " + table + ' ');
+        this("INSERT INTO ", table);
+    }
+
+    private Insert(String insert, String table) {
+        super(insert + table + ' ');
     }
 
     public static String values(String table, String... columns) {
-        Insert builder = new Insert(table);
+        return values(new Insert(table), columns);
+    }
+
+    /**
+     * Create an INSERT statement that skips rows that would duplicate a unique key.
+     * <p>
+     * Unlike {@link #valuesIfNotExists(Sql, String, String, String...)} this is safe when another connection
+     * inserts the same row at the same time, but the table needs a unique key for the duplicate to be detected.
+     *
+     * @param sql     Sql of the database the statement is for.
+     * @param table   Table to insert into.
+     * @param columns Inserted columns.
+     * @return INSERT IGNORE statement of the database.
+     */
+    public static String valuesIgnoringDuplicates(Sql sql, String table, String... columns) {
+        return values(new Insert(sql.insertIgnore(), table), columns);
+    }
+
+    private static String values(Insert builder, String... columns) {
         builder.append('(');
         int size = columns.length;
         for (int i = 0; i < size; i++) {
@@ -42,4 +64,39 @@ public class Insert extends SqlBuilder {
         builder.append(')');
         return builder.toString();
     }
+
+    /**
+     * Create an INSERT statement that only inserts the row if a matching row does not exist yet.
+     * <p>
+     * The check is done by the database in the same statement, so no SELECT round trip is needed before inserting.
+     * Parameters of the inserted columns come first, followed by the parameters of the condition.
+     *
+     * @param sql               Sql of the database the statement is for.
+     * @param table             Table to insert into.
+     * @param existingCondition WHERE condition that matches an existing row, eg. "uuid=?"
+     * @param columns           Inserted columns.
+     * @return INSERT ... SELECT ... WHERE NOT EXISTS statement.
+     */
+    public static String valuesIfNotExists(Sql sql, String table, String existingCondition, String... columns) {
+        Insert builder = new Insert(table);
+        builder.append('(');
+        int size = columns.length;
+        for (int i = 0; i < size; i++) {
+            if (size > 1 && i > 0) {
+                builder.append(',');
+            }
+            builder.append(columns[i]);
+        }
+        builder.append(") SELECT ");
+        for (int i = 0; i < size; i++) {
+            if (size > 1 && i > 0) {
+                builder.append(',');
+            }
+            builder.append("?");
+        }
+        builder.append(sql.fromDual())
+                .append(" WHERE NOT EXISTS (SELECT 1 FROM ").append(table)
+                .append(" WHERE ").append(existingCondition).append(')');
+        return builder.toString();
+    }
 }
@@ -73,6 +73,22 @@ public abstract class Sql {
         }
     }
 
+    /**
+     * Get the FROM clause needed for a SELECT without a table that has a WHERE clause.
+     *
+     * @return FROM clause with a dummy table, or empty String if none is needed.
+     */
+    public String fromDual() {
+        return "";
+    }
+
+    /**
+     * Get the start of an INSERT statement that skips rows with a duplicate unique key instead of failing.
+     *
+     * @return INSERT clause that ends before the table name.
+     */
+    public abstract String insertIgnore();
+
     public abstract String epochSecondToDate(String sql);
 
     public abstract String dateToEpochSecond(String sql);
@@ -88,6 +104,16 @@ public abstract class Sql {
     // https://dev.mysql.com/doc/refman/5.7/en/date-and-time-functions.html
     public static class MySQL extends Sql {
 
+        @Override
+        public String insertIgnore() {
+            return "INSERT IGNORE INTO ";
+        }
+
+        @Override
+        public String fromDual() {
+            return " FROM DUAL";
+        }
+
         @Override
         public String epochSecondToDate(String sql) {
             return "FROM_UNIXTIME(" + sql + ')';
@@ -151,6 +177,11 @@ public abstract class Sql {
     // https://sqlite.org/lang_datefunc.html
     public static class SQLite extends Sql {
 
+        @Override
+        public String insertIgnore() {
+            return "INSERT OR IGNORE INTO ";
+        }
+
         @Override
         public String epochSecondToDate(String sql) {
             return "datetime(" + sql + ", 'unixepoch')";
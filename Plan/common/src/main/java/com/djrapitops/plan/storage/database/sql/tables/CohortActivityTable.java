@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.delivery.domain.CohortActivity;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.CohortActivityPatch;
+
+/**
+ * Table information about 'plan_cohort_activity'.
+ * <p>
+ * Each row holds the registration date of a player on a server and a bitmap of the days they played on after
+ * registering, see {@link CohortActivity}.
+ * <p>
+ * Patches related to this table:
+ * {@link CohortActivityPatch}
+ *
+ * @author Rsl1122
+ */
+public class CohortActivityTable {
+
+    public static final String TABLE_NAME = "plan_cohort_activity";
+
+    public static final String ID = "id";
+    public static final String USER_UUID = "uuid";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String REGISTERED = "registered";
+    public static final String ACTIVITY = "activity";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_UUID + ',' +
+            SERVER_UUID + ',' +
+            REGISTERED + ',' +
+            ACTIVITY +
+            ") VALUES (?, ?, ?, ?)";
+
+    public static final String UPDATE_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            ACTIVITY + "=?" +
+            " WHERE " + USER_UUID + "=?" +
+            " AND " + SERVER_UUID + "=?";
+
+    public static final String SELECT_STATEMENT = "SELECT " + REGISTERED + ',' + ACTIVITY +
+            " FROM " + TABLE_NAME +
+            " WHERE " + USER_UUID + "=?" +
+            " AND " + SERVER_UUID + "=?";
+
+    private CohortActivityTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_UUID, Sql.varchar(36)).notNull()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(REGISTERED, Sql.LONG).notNull()
+                .column(ACTIVITY, Sql.LONG).notNull()
+                .toString();
+    }
+}
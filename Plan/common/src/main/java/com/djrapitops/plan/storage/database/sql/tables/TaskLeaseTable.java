@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+/**
+ * Table information about 'plan_task_leases'.
+ * <p>
+ * Each row is one slot for running a heavy maintenance task, servers sharing the database lease a slot before
+ * running the task so that only a limited amount of them run it at the same time.
+ *
+ * @author Rsl1122
+ */
+public class TaskLeaseTable {
+
+    public static final String TABLE_NAME = "plan_task_leases";
+
+    public static final String ID = "id";
+    public static final String TASK_NAME = "task_name";
+    public static final String SLOT = "slot";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String EXPIRES = "expires";
+
+    public static final String ACQUIRE_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            SERVER_UUID + "=?," +
+            EXPIRES + "=?" +
+            " WHERE " + TASK_NAME + "=?" +
+            " AND " + SLOT + "=?" +
+            " AND " + EXPIRES + "<?";
+
+    public static final String RELEASE_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            EXPIRES + "=0" +
+            " WHERE " + TASK_NAME + "=?" +
+            " AND " + SLOT + "=?" +
+            " AND " + SERVER_UUID + "=?";
+
+    private TaskLeaseTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(TASK_NAME, Sql.varchar(50)).notNull()
+                .column(SLOT, Sql.INT).notNull()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(EXPIRES, Sql.LONG).notNull()
+                .uniqueKey(TASK_NAME, SLOT)
+                .toString();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.UniquePlayerSketchPatch;
+import com.djrapitops.plan.utilities.analysis.HyperLogLog;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table information about 'plan_unique_player_sketches'.
+ * <p>
+ * Each row holds a {@link HyperLogLog} sketch of players whose sessions started on a server during a day (UTC).
+ * <p>
+ * Patches related to this table:
+ * {@link UniquePlayerSketchPatch}
+ *
+ * @author Rsl1122
+ */
+public class UniquePlayerSketchTable {
+
+    public static final String TABLE_NAME = "plan_unique_player_sketches";
+
+    public static final String ID = "id";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String DATE = "date";
+    public static final String SKETCH = "sketch";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_UUID + ',' +
+            DATE + ',' +
+            SKETCH +
+            ") VALUES (?, ?, ?)";
+
+    public static final String UPDATE_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            SKETCH + "=?" +
+            " WHERE " + SERVER_UUID + "=?" +
+            " AND " + DATE + "=?";
+
+    public static final String SELECT_SKETCH_STATEMENT = "SELECT " + SKETCH +
+            " FROM " + TABLE_NAME +
+            " WHERE " + SERVER_UUID + "=?" +
+            " AND " + DATE + "=?";
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+
+    private UniquePlayerSketchTable() {
+        /* Static information class */
+    }
+
+    /**
+     * Get the day a sketch row of a date belongs to.
+     *
+     * @param date Epoch ms.
+     * @return Epoch ms of the start of the day in UTC.
+     */
+    public static long getDay(long date) {
+        return date - Math.floorMod(date, DAY_MS);
+    }
+
+    public static long getNextDay(long date) {
+        return getDay(date) + DAY_MS;
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(SKETCH, Sql.varchar(HyperLogLog.MAX_SERIALIZED_LENGTH)).notNull()
+                .toString();
+    }
+}
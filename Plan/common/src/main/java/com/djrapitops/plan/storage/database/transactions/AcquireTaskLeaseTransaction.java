@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.sql.building.Insert;
+import com.djrapitops.plan.storage.database.sql.tables.TaskLeaseTable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
+
+/**
+ * Transaction that attempts to lease one of the slots for running a maintenance task.
+ *
+ * @author Rsl1122
+ * @see ReleaseTaskLeaseTransaction
+ */
+public class AcquireTaskLeaseTransaction extends Transaction {
+
+    private final String taskName;
+    private final UUID serverUUID;
+    private final int slots;
+    private final long expires;
+
+    private Integer leasedSlot;
+
+    /**
+     * Create the transaction.
+     *
+     * @param taskName   Name of the task.
+     * @param serverUUID UUID of the server that runs the task.
+     * @param slots      How many servers can run the task at the same time.
+     * @param expires    Epoch ms after which the lease can be taken by another server, in case this server does not release it.
+     */
+    public AcquireTaskLeaseTransaction(String taskName, UUID serverUUID, int slots, long expires) {
+        this.taskName = taskName;
+        this.serverUUID = serverUUID;
+        this.slots = slots;
+        this.expires = expires;
+    }
+
+    @Override
+    protected void performOperations() {
+        long now = System.currentTimeMillis();
+        for (int slot = 0; slot < slots; slot++) {
+            if (insertSlotIfMissing(slot) || execute(acquireExpiredSlot(slot, now))) {
+                leasedSlot = slot;
+                return;
+            }
+        }
+    }
+
+    private boolean insertSlotIfMissing(int slot) {
+        try {
+            return execute(insertSlot(slot));
+        } catch (DBOpException failed) {
+            // Another server inserted the slot at the same time, so the slot is taken.
+            if (failed.isDuplicateKey()) return false;
+            throw failed;
+        }
+    }
+
+    private ExecStatement insertSlot(int slot) {
+        String sql = Insert.valuesIfNotExists(dbType.getSql(), TaskLeaseTable.TABLE_NAME,
+                TaskLeaseTable.TASK_NAME + "=?" + AND + TaskLeaseTable.SLOT + "=?",
+                TaskLeaseTable.TASK_NAME, TaskLeaseTable.SLOT, TaskLeaseTable.SERVER_UUID, TaskLeaseTable.EXPIRES);
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, taskName);
+                statement.setInt(2, slot);
+                statement.setString(3, serverUUID.toString());
+                statement.setLong(4, expires);
+                statement.setString(5, taskName);
+                statement.setInt(6, slot);
+            }
+        };
+    }
+
+    private ExecStatement acquireExpiredSlot(int slot, long now) {
+        return new ExecStatement(TaskLeaseTable.ACQUIRE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, expires);
+                statement.setString(3, taskName);
+                statement.setInt(4, slot);
+                statement.setLong(5, now);
+            }
+        };
+    }
+
+    /**
+     * Get the slot that was leased.
+     *
+     * @return Slot number, empty if all slots are leased by other servers or the transaction failed.
+     */
+    public OptionalInt getLeasedSlot() {
+        return leasedSlot != null ? OptionalInt.of(leasedSlot) : OptionalInt.empty();
+    }
+}
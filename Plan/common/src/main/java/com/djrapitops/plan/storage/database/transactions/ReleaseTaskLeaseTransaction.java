@@ -0,0 +1,53 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import com.djrapitops.plan.storage.database.sql.tables.TaskLeaseTable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Transaction that releases a slot leased with {@link AcquireTaskLeaseTransaction}.
+ *
+ * @author Rsl1122
+ */
+public class ReleaseTaskLeaseTransaction extends Transaction {
+
+    private final String taskName;
+    private final UUID serverUUID;
+    private final int slot;
+
+    public ReleaseTaskLeaseTransaction(String taskName, UUID serverUUID, int slot) {
+        this.taskName = taskName;
+        this.serverUUID = serverUUID;
+        this.slot = slot;
+    }
+
+    @Override
+    protected void performOperations() {
+        execute(new ExecStatement(TaskLeaseTable.RELEASE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, taskName);
+                statement.setInt(2, slot);
+                statement.setString(3, serverUUID.toString());
+            }
+        });
+    }
+}
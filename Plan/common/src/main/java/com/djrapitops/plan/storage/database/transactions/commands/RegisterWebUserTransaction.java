@@ -17,6 +17,8 @@
 package com.djrapitops.plan.storage.database.transactions.commands;
 
 import com.djrapitops.plan.delivery.domain.auth.User;
+import com.djrapitops.plan.delivery.webserver.auth.VerifiedCredentialCache;
+import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.sql.tables.SecurityTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -38,6 +40,14 @@ public class RegisterWebUserTransaction extends Transaction {
         this.user = user;
     }
 
+    @Override
+    public void executeTransaction(SQLDB db) {
+        super.executeTransaction(db);
+        if (wasSuccessful()) {
+            VerifiedCredentialCache.invalidate(user.getUsername());
+        }
+    }
+
     @Override
     protected void performOperations() {
         execute(new ExecStatement(SecurityTable.INSERT_STATEMENT) {
@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.storage.database.transactions.commands;
 
+import com.djrapitops.plan.delivery.webserver.auth.VerifiedCredentialCache;
+import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
@@ -28,6 +30,14 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
  */
 public class RemoveEverythingTransaction extends ThrowawayTransaction {
 
+    @Override
+    public void executeTransaction(SQLDB db) {
+        super.executeTransaction(db);
+        if (wasSuccessful()) {
+            VerifiedCredentialCache.invalidateAll();
+        }
+    }
+
     @Override
     protected void performOperations() {
         // Delete statements are run in a specific order as some tables have foreign keys,
@@ -37,6 +47,9 @@ public class RemoveEverythingTransaction extends ThrowawayTransaction {
         clearTable(NicknamesTable.TABLE_NAME);
         clearTable(KillsTable.TABLE_NAME);
         clearTable(WorldTimesTable.TABLE_NAME);
+        clearTable(UniquePlayerSketchTable.TABLE_NAME);
+        clearTable(CohortActivityTable.TABLE_NAME);
+        clearTable(TaskLeaseTable.TABLE_NAME);
         clearTable(SessionsTable.TABLE_NAME);
         clearTable(WorldTable.TABLE_NAME);
         clearTable(PingTable.TABLE_NAME);
@@ -55,6 +55,7 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         deleteFromTable(WorldTimesTable.TABLE_NAME);
         deleteFromTable(SessionsTable.TABLE_NAME);
         deleteFromTable(PingTable.TABLE_NAME);
+        deleteFromTable(CohortActivityTable.TABLE_NAME);
         deleteFromTable(UserInfoTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
 
@@ -18,6 +18,8 @@ package com.djrapitops.plan.storage.database.transactions.commands;
 
 import com.djrapitops.plan.delivery.domain.WebUser;
 import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieStore;
+import com.djrapitops.plan.delivery.webserver.auth.VerifiedCredentialCache;
+import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.objects.WebUserQueries;
 import com.djrapitops.plan.storage.database.sql.tables.SecurityTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
@@ -42,6 +44,15 @@ public class RemoveWebUserTransaction extends Transaction {
         this.username = username;
     }
 
+    @Override
+    public void executeTransaction(SQLDB db) {
+        super.executeTransaction(db);
+        if (wasSuccessful()) {
+            // Invalidated after commit so that a concurrent login can not cache the old credentials again
+            VerifiedCredentialCache.invalidate(username);
+        }
+    }
+
     @Override
     protected void performOperations() {
         // Logout the user
@@ -17,9 +17,12 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
+import com.djrapitops.plan.storage.database.journal.Journaled;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 
@@ -28,12 +31,24 @@ import java.util.function.BiPredicate;
  *
  * @author Rsl1122
  */
-public class NicknameStoreTransaction extends ThrowawayTransaction {
+public class NicknameStoreTransaction extends ThrowawayTransaction implements Journaled {
 
     private final UUID playerUUID;
     private final Nickname nickname;
     private final BiPredicate<UUID, String> isNicknameCachedCheck;
 
+    /**
+     * Create a transaction that always stores the nickname.
+     * <p>
+     * Use when the nickname is already known to have changed, eg. with {@link com.djrapitops.plan.gathering.cache.NicknameCache#updateDisplayName(UUID, String)}.
+     *
+     * @param playerUUID UUID of the player.
+     * @param nickname   Nickname of the player.
+     */
+    public NicknameStoreTransaction(UUID playerUUID, Nickname nickname) {
+        this(playerUUID, nickname, (uuid, name) -> false);
+    }
+
     public NicknameStoreTransaction(UUID playerUUID, Nickname nickname, BiPredicate<UUID, String> isNicknameCachedCheck) {
         this.playerUUID = playerUUID;
         this.nickname = nickname;
@@ -45,6 +60,12 @@ public class NicknameStoreTransaction extends ThrowawayTransaction {
         return !isNicknameCachedCheck.test(playerUUID, nickname.getName());
     }
 
+    @Override
+    public Optional<JournalEntry> toJournalEntry() {
+        if (!shouldBeExecuted()) return Optional.empty();
+        return Optional.of(JournalEntry.nickname(playerUUID, nickname));
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storePlayerNickname(playerUUID, nickname));
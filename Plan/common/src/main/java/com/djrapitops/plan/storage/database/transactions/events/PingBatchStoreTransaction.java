@@ -0,0 +1,52 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
+import com.djrapitops.plan.storage.database.journal.Journaled;
+import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transaction to store aggregated Ping values of many players at once.
+ *
+ * @author Rsl1122
+ */
+public class PingBatchStoreTransaction extends Transaction implements Journaled {
+
+    private final Map<UUID, List<Ping>> pings;
+
+    public PingBatchStoreTransaction(Map<UUID, List<Ping>> pings) {
+        this.pings = pings;
+    }
+
+    @Override
+    public Optional<JournalEntry> toJournalEntry() {
+        return Optional.of(JournalEntry.pings(pings));
+    }
+
+    @Override
+    protected void performOperations() {
+        execute(LargeStoreQueries.storeAllPingData(pings));
+    }
+}
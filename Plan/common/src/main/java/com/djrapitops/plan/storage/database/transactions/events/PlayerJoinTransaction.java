@@ -0,0 +1,368 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.delivery.webserver.cache.DataID;
+import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.PlayerJoin;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
+import com.djrapitops.plan.storage.database.journal.Journaled;
+import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.sql.building.Insert;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
+
+/**
+ * Transaction that stores everything related to players joining, for many joins at once.
+ * <p>
+ * Replaces {@link PlayerServerRegisterTransaction}, {@link WorldNameStoreTransaction}, {@link GeoInfoStoreTransaction}
+ * and {@link NicknameStoreTransaction} on join. Rows are inserted with statements that check for existing rows
+ * themselves, so each kind of row is stored with one batch instead of a query and an insert for every player.
+ *
+ * @author Rsl1122
+ */
+public class PlayerJoinTransaction extends Transaction implements Journaled {
+
+    private static final int QUERY_PARTITION_SIZE = 500;
+
+    private final Collection<PlayerJoin> joins;
+    private final UnaryOperator<String> geolocationFunction;
+
+    /**
+     * Create a new PlayerJoinTransaction.
+     *
+     * @param joins               Joins to store.
+     * @param geolocationFunction Function that geolocates IP addresses, null if geolocations are not gathered or
+     *                            the joins already contain them.
+     */
+    public PlayerJoinTransaction(Collection<PlayerJoin> joins, UnaryOperator<String> geolocationFunction) {
+        // Only the latest join of each player is stored if they have rejoined during the batch.
+        Map<UUID, PlayerJoin> latestJoins = new LinkedHashMap<>();
+        for (PlayerJoin join : joins) {
+            if (join.getPlayerUUID() != null && join.getPlayerName() != null) {
+                latestJoins.put(join.getPlayerUUID(), join);
+            }
+        }
+        this.joins = latestJoins.values();
+        this.geolocationFunction = geolocationFunction;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !joins.isEmpty();
+    }
+
+    @Override
+    public Optional<JournalEntry> toJournalEntry() {
+        if (!shouldBeExecuted()) return Optional.empty();
+        // The geolocation function is not available when the entry is read after a restart
+        for (PlayerJoin join : joins) {
+            geolocate(join).ifPresent(join::withGeolocation);
+        }
+        return Optional.of(JournalEntry.joins(joins));
+    }
+
+    @Override
+    protected void performOperations() {
+        Map<UUID, Long> registerDates = new HashMap<>();
+        for (PlayerJoin join : joins) {
+            registerDates.put(join.getPlayerUUID(), join.getRegistered());
+        }
+
+        Set<UUID> newPlayers = new HashSet<>(registerDates.keySet());
+        newPlayers.removeAll(fetchRegisteredPlayers(registerDates.keySet()));
+
+        Sql sql = dbType.getSql();
+        execute(registerBaseUsers(sql, newPlayers, registerDates));
+        execute(updatePlayerNames());
+        execute(updateRegisterDates(registerDates));
+        for (UUID newPlayer : newPlayers) {
+            Long registerDate = registerDates.get(newPlayer);
+            SessionCache.getCachedSession(newPlayer).ifPresent(session -> session.setAsFirstSessionIfMatches(registerDate));
+        }
+
+        execute(registerUserInfo(sql, registerDates));
+        execute(registerCohortActivity(sql, registerDates));
+        execute(storeWorldNames(sql));
+        storeGeoInfo(sql);
+        storeNicknames(sql);
+
+        JSONCache.invalidateMatching(DataID.PLAYERS);
+    }
+
+    private Set<UUID> fetchRegisteredPlayers(Set<UUID> playerUUIDs) {
+        Set<UUID> registered = new HashSet<>();
+        List<UUID> partition = new ArrayList<>();
+        for (UUID playerUUID : playerUUIDs) {
+            partition.add(playerUUID);
+            if (partition.size() >= QUERY_PARTITION_SIZE) {
+                registered.addAll(query(PlayerFetchQueries.fetchRegisteredPlayers(partition)));
+                partition = new ArrayList<>();
+            }
+        }
+        registered.addAll(query(PlayerFetchQueries.fetchRegisteredPlayers(partition)));
+        return registered;
+    }
+
+    private Executable registerBaseUsers(Sql sql, Set<UUID> newPlayers, Map<UUID, Long> registerDates) {
+        if (newPlayers.isEmpty()) return Executable.empty();
+
+        // Another server of the network might register the player at the same time, the unique uuid skips the row.
+        String insert = Insert.valuesIgnoringDuplicates(sql, UsersTable.TABLE_NAME,
+                UsersTable.USER_UUID, UsersTable.USER_NAME, UsersTable.REGISTERED, UsersTable.TIMES_KICKED);
+        return new ExecBatchStatement(insert) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerJoin join : joins) {
+                    UUID playerUUID = join.getPlayerUUID();
+                    if (!newPlayers.contains(playerUUID)) continue;
+                    statement.setString(1, playerUUID.toString());
+                    statement.setString(2, join.getPlayerName());
+                    statement.setLong(3, registerDates.get(playerUUID));
+                    statement.setInt(4, 0); // times kicked
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable updatePlayerNames() {
+        String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET " + UsersTable.USER_NAME + "=?" +
+                WHERE + UsersTable.USER_UUID + "=?";
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerJoin join : joins) {
+                    statement.setString(1, join.getPlayerName());
+                    statement.setString(2, join.getPlayerUUID().toString());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable updateRegisterDates(Map<UUID, Long> registerDates) {
+        List<PlayerJoin> serverJoins = getServerJoins();
+        if (serverJoins.isEmpty()) return Executable.empty();
+
+        // Updates register date to smallest possible value, proxies only know the join time so they are skipped.
+        String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET " + UsersTable.REGISTERED + "=?" +
+                WHERE + UsersTable.USER_UUID + "=?" +
+                AND + UsersTable.REGISTERED + ">?";
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerJoin join : serverJoins) {
+                    Long registerDate = registerDates.get(join.getPlayerUUID());
+                    statement.setLong(1, registerDate);
+                    statement.setString(2, join.getPlayerUUID().toString());
+                    statement.setLong(3, registerDate);
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private List<PlayerJoin> getServerJoins() {
+        List<PlayerJoin> serverJoins = new ArrayList<>();
+        for (PlayerJoin join : joins) {
+            if (join.getServerUUID().isPresent()) serverJoins.add(join);
+        }
+        return serverJoins;
+    }
+
+    private Executable registerUserInfo(Sql sql, Map<UUID, Long> registerDates) {
+        List<PlayerJoin> serverJoins = getServerJoins();
+        if (serverJoins.isEmpty()) return Executable.empty();
+
+        String insert = Insert.valuesIfNotExists(sql, UserInfoTable.TABLE_NAME,
+                UserInfoTable.USER_UUID + "=?" + AND + UserInfoTable.SERVER_UUID + "=?",
+                UserInfoTable.USER_UUID, UserInfoTable.REGISTERED, UserInfoTable.SERVER_UUID,
+                UserInfoTable.BANNED, UserInfoTable.OP);
+        return new ExecBatchStatement(insert) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerJoin join : serverJoins) {
+                    String playerUUID = join.getPlayerUUID().toString();
+                    String serverUUID = join.getServerUUID().map(UUID::toString).orElse(null);
+                    statement.setString(1, playerUUID);
+                    statement.setLong(2, registerDates.get(join.getPlayerUUID()));
+                    statement.setString(3, serverUUID);
+                    statement.setBoolean(4, false); // Banned
+                    statement.setBoolean(5, false); // Operator
+                    statement.setString(6, playerUUID);
+                    statement.setString(7, serverUUID);
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable registerCohortActivity(Sql sql, Map<UUID, Long> registerDates) {
+        List<PlayerJoin> serverJoins = getServerJoins();
+        if (serverJoins.isEmpty()) return Executable.empty();
+
+        String insert = Insert.valuesIfNotExists(sql, CohortActivityTable.TABLE_NAME,
+                CohortActivityTable.USER_UUID + "=?" + AND + CohortActivityTable.SERVER_UUID + "=?",
+                CohortActivityTable.USER_UUID, CohortActivityTable.SERVER_UUID,
+                CohortActivityTable.REGISTERED, CohortActivityTable.ACTIVITY);
+        return new ExecBatchStatement(insert) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerJoin join : serverJoins) {
+                    String playerUUID = join.getPlayerUUID().toString();
+                    String serverUUID = join.getServerUUID().map(UUID::toString).orElse(null);
+                    statement.setString(1, playerUUID);
+                    statement.setString(2, serverUUID);
+                    statement.setLong(3, registerDates.get(join.getPlayerUUID()));
+                    statement.setLong(4, 0L);
+                    statement.setString(5, playerUUID);
+                    statement.setString(6, serverUUID);
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable storeWorldNames(Sql sql) {
+        Set<List<String>> worlds = new HashSet<>();
+        for (PlayerJoin join : joins) {
+            Optional<UUID> serverUUID = join.getServerUUID();
+            Optional<String> worldName = join.getWorldName();
+            if (serverUUID.isPresent() && worldName.isPresent()) {
+                worlds.add(Arrays.asList(serverUUID.get().toString(), StringUtils.truncate(worldName.get(), 100)));
+            }
+        }
+        if (worlds.isEmpty()) return Executable.empty();
+
+        String insert = Insert.valuesIfNotExists(sql, WorldTable.TABLE_NAME,
+                WorldTable.NAME + "=?" + AND + WorldTable.SERVER_UUID + "=?",
+                WorldTable.NAME, WorldTable.SERVER_UUID);
+        return new ExecBatchStatement(insert) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (List<String> world : worlds) {
+                    statement.setString(1, world.get(1));
+                    statement.setString(2, world.get(0));
+                    statement.setString(3, world.get(1));
+                    statement.setString(4, world.get(0));
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private void storeGeoInfo(Sql sql) {
+        Map<PlayerJoin, String> geolocations = new HashMap<>();
+        for (PlayerJoin join : joins) {
+            geolocate(join).ifPresent(geolocation -> geolocations.put(join, geolocation));
+        }
+        if (geolocations.isEmpty()) return;
+
+        execute(new ExecBatchStatement(GeoInfoTable.UPDATE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<PlayerJoin, String> entry : geolocations.entrySet()) {
+                    statement.setLong(1, entry.getKey().getTime());
+                    statement.setString(2, entry.getKey().getPlayerUUID().toString());
+                    statement.setString(3, entry.getValue());
+                    statement.addBatch();
+                }
+            }
+        });
+        String insert = Insert.valuesIfNotExists(sql, GeoInfoTable.TABLE_NAME,
+                GeoInfoTable.USER_UUID + "=?" + AND + GeoInfoTable.GEOLOCATION + "=?",
+                GeoInfoTable.USER_UUID, GeoInfoTable.GEOLOCATION, GeoInfoTable.LAST_USED);
+        execute(new ExecBatchStatement(insert) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<PlayerJoin, String> entry : geolocations.entrySet()) {
+                    String playerUUID = entry.getKey().getPlayerUUID().toString();
+                    statement.setString(1, playerUUID);
+                    statement.setString(2, entry.getValue());
+                    statement.setLong(3, entry.getKey().getTime());
+                    statement.setString(4, playerUUID);
+                    statement.setString(5, entry.getValue());
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+
+    private Optional<String> geolocate(PlayerJoin join) {
+        if (join.getGeolocation().isPresent() || geolocationFunction == null) return join.getGeolocation();
+        return join.getAddress().map(geolocationFunction);
+    }
+
+    private void storeNicknames(Sql sql) {
+        // Last used date of the nickname is updated on every join
+        List<PlayerJoin> nicknameChanges = new ArrayList<>();
+        for (PlayerJoin join : joins) {
+            if (join.getDisplayName().isPresent() && join.getServerUUID().isPresent()) {
+                nicknameChanges.add(join);
+            }
+        }
+        if (nicknameChanges.isEmpty()) return;
+
+        execute(new ExecBatchStatement(NicknamesTable.UPDATE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerJoin join : nicknameChanges) {
+                    statement.setLong(1, join.getTime());
+                    statement.setString(2, join.getDisplayName().orElse(null));
+                    statement.setString(3, join.getPlayerUUID().toString());
+                    statement.setString(4, join.getServerUUID().map(UUID::toString).orElse(null));
+                    statement.addBatch();
+                }
+            }
+        });
+        String insert = Insert.valuesIfNotExists(sql, NicknamesTable.TABLE_NAME,
+                NicknamesTable.NICKNAME + "=?" + AND + NicknamesTable.USER_UUID + "=?" + AND + NicknamesTable.SERVER_UUID + "=?",
+                NicknamesTable.USER_UUID, NicknamesTable.SERVER_UUID, NicknamesTable.NICKNAME, NicknamesTable.LAST_USED);
+        execute(new ExecBatchStatement(insert) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerJoin join : nicknameChanges) {
+                    String playerUUID = join.getPlayerUUID().toString();
+                    String serverUUID = join.getServerUUID().map(UUID::toString).orElse(null);
+                    String nickname = join.getDisplayName().orElse(null);
+                    statement.setString(1, playerUUID);
+                    statement.setString(2, serverUUID);
+                    statement.setString(3, nickname);
+                    statement.setLong(4, join.getTime());
+                    statement.setString(5, nickname);
+                    statement.setString(6, playerUUID);
+                    statement.setString(7, serverUUID);
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+}
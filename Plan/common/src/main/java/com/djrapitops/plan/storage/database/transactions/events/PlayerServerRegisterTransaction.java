@@ -43,6 +43,7 @@ public class PlayerServerRegisterTransaction extends PlayerRegisterTransaction {
         long registerDate = registered.getAsLong();
         if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID)))) {
             execute(DataStoreQueries.registerUserInfo(playerUUID, registerDate, serverUUID));
+            execute(DataStoreQueries.registerCohortActivity(playerUUID, registerDate, serverUUID));
         }
 
         // Updates register date to smallest possible value.
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
@@ -30,9 +31,25 @@ import java.util.Collection;
 public class ServerShutdownTransaction extends Transaction {
 
     private final Collection<Session> unsavedSessions;
+    private final Runnable afterStore;
 
-    public ServerShutdownTransaction(Collection<Session> unsavedSessions) {
+    /**
+     * Create the transaction.
+     *
+     * @param unsavedSessions Ended sessions to store in a single batch.
+     * @param afterStore      Run after the sessions have been committed to the database.
+     */
+    public ServerShutdownTransaction(Collection<Session> unsavedSessions, Runnable afterStore) {
         this.unsavedSessions = unsavedSessions;
+        this.afterStore = afterStore;
+    }
+
+    @Override
+    public void executeTransaction(SQLDB db) {
+        super.executeTransaction(db);
+        if (wasSuccessful()) {
+            afterStore.run();
+        }
     }
 
     @Override
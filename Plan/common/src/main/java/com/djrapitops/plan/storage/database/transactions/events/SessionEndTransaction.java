@@ -16,29 +16,58 @@
  */
 package com.djrapitops.plan.storage.database.transactions.events;
 
+import com.djrapitops.plan.delivery.domain.LeaderboardMetric;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.gathering.cache.LeaderboardCache;
 import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
+import com.djrapitops.plan.storage.database.journal.Journaled;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.LeaderboardQueries;
+import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * Transaction for storing a session after a session has ended.
  *
  * @author Rsl1122
  */
-public class SessionEndTransaction extends Transaction {
+public class SessionEndTransaction extends Transaction implements Journaled {
 
     private final Session session;
 
+    private String playerName;
+    private Map<UUID, Map<LeaderboardMetric, Long>> leaderboardValues;
+
     public SessionEndTransaction(Session session) {
         this.session = session;
     }
 
+    @Override
+    public Optional<JournalEntry> toJournalEntry() {
+        if (!session.supports(SessionKeys.END)) return Optional.empty();
+        return Optional.of(JournalEntry.session(session));
+    }
+
+    @Override
+    public void executeTransaction(SQLDB db) {
+        super.executeTransaction(db);
+        if (wasSuccessful() && leaderboardValues != null) {
+            LeaderboardCache.offer(session.getUnsafe(SessionKeys.UUID), playerName, leaderboardValues);
+        }
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storeSession(session));
+        fetchLeaderboardValues();
 
         session.getValue(SessionKeys.SERVER_UUID)
                 .ifPresent(serverUUID -> JSONCache.invalidate(
@@ -54,4 +83,13 @@ public class SessionEndTransaction extends Transaction {
                         DataID.GRAPH_CALENDAR
                 ));
     }
+
+    private void fetchLeaderboardValues() {
+        if (!LeaderboardCache.isEnabled()) return;
+
+        // Offered to the cache only after commit, so a rolled back session never reaches the leaderboards.
+        UUID playerUUID = session.getUnsafe(SessionKeys.UUID);
+        playerName = query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID)).orElse(null);
+        leaderboardValues = query(LeaderboardQueries.valuesOfPlayer(playerUUID));
+    }
 }
\ No newline at end of file
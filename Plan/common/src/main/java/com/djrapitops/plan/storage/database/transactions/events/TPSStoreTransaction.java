@@ -17,9 +17,12 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
+import com.djrapitops.plan.storage.database.journal.Journaled;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -27,7 +30,7 @@ import java.util.UUID;
  *
  * @author Rsl1122
  */
-public class TPSStoreTransaction extends Transaction {
+public class TPSStoreTransaction extends Transaction implements Journaled {
 
     private final UUID serverUUID;
     private final TPS tps;
@@ -37,6 +40,11 @@ public class TPSStoreTransaction extends Transaction {
         this.tps = tps;
     }
 
+    @Override
+    public Optional<JournalEntry> toJournalEntry() {
+        return Optional.of(JournalEntry.tps(serverUUID, tps));
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storeTPS(serverUUID, tps));
@@ -67,6 +67,18 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
+        createIndex(UniquePlayerSketchTable.TABLE_NAME, "plan_unique_player_sketches_date_index",
+                UniquePlayerSketchTable.DATE,
+                UniquePlayerSketchTable.SERVER_UUID
+        );
+        createIndex(CohortActivityTable.TABLE_NAME, "plan_cohort_activity_uuid_index",
+                CohortActivityTable.USER_UUID,
+                CohortActivityTable.SERVER_UUID
+        );
+        createIndex(CohortActivityTable.TABLE_NAME, "plan_cohort_activity_registered_index",
+                CohortActivityTable.SERVER_UUID,
+                CohortActivityTable.REGISTERED
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
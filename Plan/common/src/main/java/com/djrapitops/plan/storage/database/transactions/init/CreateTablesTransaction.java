@@ -44,6 +44,9 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(WorldTimesTable.createTableSQL(dbType));
         execute(SecurityTable.createTableSQL(dbType));
         execute(SettingsTable.createTableSQL(dbType));
+        execute(UniquePlayerSketchTable.createTableSQL(dbType));
+        execute(CohortActivityTable.createTableSQL(dbType));
+        execute(TaskLeaseTable.createTableSQL(dbType));
 
         // DataExtension tables
         execute(ExtensionIconTable.createTableSQL(dbType));
@@ -0,0 +1,56 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.analysis.UniquePlayerSketchQueries;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UniquePlayerSketchTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
+
+/**
+ * Patch that creates unique player sketches for sessions stored before the sketches existed.
+ *
+ * @author Rsl1122
+ */
+public class UniquePlayerSketchPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasRows(UniquePlayerSketchTable.TABLE_NAME) || !hasRows(SessionsTable.TABLE_NAME);
+    }
+
+    private boolean hasRows(String tableName) {
+        return query(new QueryAllStatement<Boolean>(SELECT + "1" + FROM + tableName + " LIMIT 1") {
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next();
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        execute(DataStoreQueries.mergeUniquePlayerSketches(query(UniquePlayerSketchQueries.createSketchesFromSessions())));
+    }
+}
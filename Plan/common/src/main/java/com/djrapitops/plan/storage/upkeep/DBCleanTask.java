@@ -47,6 +47,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -63,6 +66,7 @@ public class DBCleanTask extends AbsRunnable {
     private final PlanConfig config;
     private final QuerySvc queryService;
     private final ServerInfo serverInfo;
+    private final MaintenanceLease maintenanceLease;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
@@ -77,6 +81,7 @@ public class DBCleanTask extends AbsRunnable {
             DBSystem dbSystem,
             QuerySvc queryService,
             ServerInfo serverInfo,
+            MaintenanceLease maintenanceLease,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -86,6 +91,7 @@ public class DBCleanTask extends AbsRunnable {
         this.config = config;
         this.queryService = queryService;
         this.serverInfo = serverInfo;
+        this.maintenanceLease = maintenanceLease;
         this.logger = logger;
         this.errorLogger = errorLogger;
 
@@ -97,22 +103,7 @@ public class DBCleanTask extends AbsRunnable {
         Database database = dbSystem.getDatabase();
         try {
             if (database.getState() != Database.State.CLOSED) {
-                database.executeTransaction(new RemoveOldSampledDataTransaction(
-                        serverInfo.getServerUUID(),
-                        config.get(TimeSettings.DELETE_TPS_DATA_AFTER),
-                        config.get(TimeSettings.DELETE_PING_DATA_AFTER)
-                ));
-                database.executeTransaction(new RemoveDuplicateUserInfoTransaction());
-                database.executeTransaction(new RemoveUnsatisfiedConditionalPlayerResultsTransaction());
-                database.executeTransaction(new RemoveUnsatisfiedConditionalServerResultsTransaction());
-                int removed = cleanOldPlayers(database);
-                if (removed > 0) {
-                    logger.info(locale.getString(PluginLang.DB_NOTIFY_CLEAN, removed));
-                }
-                Long deleteExtensionDataAfter = config.get(TimeSettings.DELETE_EXTENSION_DATA_AFTER);
-                if (System.currentTimeMillis() - lastReload <= deleteExtensionDataAfter) {
-                    database.executeTransaction(new RemoveOldExtensionsTransaction(deleteExtensionDataAfter, serverInfo.getServerUUID()));
-                }
+                maintenanceLease.runIfLeased("database_clean", TimeUnit.MINUTES.toMillis(30L), () -> clean(database));
             }
         } catch (DBOpException e) {
             errorLogger.log(L.ERROR, e);
@@ -120,6 +111,36 @@ public class DBCleanTask extends AbsRunnable {
         }
     }
 
+    private void clean(Database database) {
+        database.executeTransaction(new RemoveOldSampledDataTransaction(
+                serverInfo.getServerUUID(),
+                config.get(TimeSettings.DELETE_TPS_DATA_AFTER),
+                config.get(TimeSettings.DELETE_PING_DATA_AFTER)
+        ));
+        database.executeTransaction(new RemoveDuplicateUserInfoTransaction());
+        database.executeTransaction(new RemoveUnsatisfiedConditionalPlayerResultsTransaction());
+        int removed = cleanOldPlayers(database);
+        if (removed > 0) {
+            logger.info(locale.getString(PluginLang.DB_NOTIFY_CLEAN, removed));
+        }
+        Long deleteExtensionDataAfter = config.get(TimeSettings.DELETE_EXTENSION_DATA_AFTER);
+        if (System.currentTimeMillis() - lastReload <= deleteExtensionDataAfter) {
+            database.executeTransaction(new RemoveOldExtensionsTransaction(deleteExtensionDataAfter, serverInfo.getServerUUID()));
+        }
+        // Transactions are executed in order, so the lease is held until the cleaning has finished.
+        waitFor(database.executeTransaction(new RemoveUnsatisfiedConditionalServerResultsTransaction()));
+    }
+
+    private void waitFor(Future<?> transaction) {
+        try {
+            transaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            errorLogger.log(L.ERROR, e);
+        }
+    }
+
     // VisibleForTesting
     public int cleanOldPlayers(Database database) {
         long now = System.currentTimeMillis();
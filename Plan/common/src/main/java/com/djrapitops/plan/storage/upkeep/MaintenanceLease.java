@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.upkeep;
+
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.AcquireTaskLeaseTransaction;
+import com.djrapitops.plan.storage.database.transactions.ReleaseTaskLeaseTransaction;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Limits how many servers sharing a MySQL database run heavy maintenance tasks at the same time.
+ * <p>
+ * Servers lease one of {@link DatabaseSettings#MYSQL_MAINTENANCE_CONCURRENCY} slots of a task from the database
+ * before running it. Other database types are only used by one server, so the lease is always given.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class MaintenanceLease {
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+
+    @Inject
+    public MaintenanceLease(
+            PlanConfig config,
+            DBSystem dbSystem,
+            ServerInfo serverInfo
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+    }
+
+    /**
+     * Attempt to lease a slot for running a task.
+     * <p>
+     * Blocks until the lease transaction has been executed, so this should not be called on the server thread.
+     *
+     * @param taskName  Name of the task, servers running a task with the same name share the slots.
+     * @param leaseTime How long the task can take at most in ms, after which the slot can be leased by other servers.
+     * @return Lease that should be closed after the task finishes, or empty if every slot is leased.
+     */
+    public Optional<Lease> acquire(String taskName, long leaseTime) {
+        Database database = dbSystem.getDatabase();
+        if (database.getType() != DBType.MYSQL) {
+            return Optional.of(() -> { /* Nothing to release */ });
+        }
+
+        UUID serverUUID = serverInfo.getServerUUID();
+        int slots = Math.max(config.get(DatabaseSettings.MYSQL_MAINTENANCE_CONCURRENCY), 1);
+        AcquireTaskLeaseTransaction acquire = new AcquireTaskLeaseTransaction(
+                taskName, serverUUID, slots, System.currentTimeMillis() + leaseTime
+        );
+        try {
+            database.executeTransaction(acquire).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+
+        OptionalInt slot = acquire.getLeasedSlot();
+        if (!slot.isPresent()) {
+            return Optional.empty();
+        }
+        int leasedSlot = slot.getAsInt();
+        return Optional.of(() -> database.executeTransaction(new ReleaseTaskLeaseTransaction(taskName, serverUUID, leasedSlot)));
+    }
+
+    /**
+     * Run a task if a slot can be leased for it.
+     *
+     * @param taskName  Name of the task, see {@link #acquire(String, long)}.
+     * @param leaseTime How long the task can take at most in ms.
+     * @param task      Task to run.
+     * @return true if the task was run, false if every slot was leased.
+     */
+    public boolean runIfLeased(String taskName, long leaseTime, Runnable task) {
+        Optional<Lease> lease = acquire(taskName, leaseTime);
+        if (!lease.isPresent()) {
+            return false;
+        }
+        try (Lease held = lease.get()) {
+            task.run();
+        }
+        return true;
+    }
+
+    /**
+     * Leased slot, closing releases the slot for other servers.
+     */
+    public interface Lease extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities;
+
+import java.util.*;
+
+/**
+ * Replaces many different Strings in a text with a single scan over the text.
+ * <p>
+ * The patterns are compiled into an Aho-Corasick automaton once, so replacing is linear to the length of the text
+ * instead of doing one full pass per pattern. When matches overlap, the match that starts first wins, and from matches
+ * that start at the same position the longest one wins. Replaced text is not scanned again.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author Rsl1122
+ */
+public class MultiPatternReplacer {
+
+    private static final MultiPatternReplacer EMPTY = new Builder().build();
+
+    private final char[][] childKeys;
+    private final int[][] childNodes;
+    private final int[] failure;
+    // Closest node in the failure chain that ends a pattern, -1 if none
+    private final int[] dictionary;
+    // Index of the pattern that ends at the node, -1 if none
+    private final int[] endingPattern;
+
+    private final int[] patternLengths;
+    private final String[] replacements;
+
+    private MultiPatternReplacer(
+            char[][] childKeys, int[][] childNodes, int[] failure, int[] dictionary, int[] endingPattern,
+            int[] patternLengths, String[] replacements
+    ) {
+        this.childKeys = childKeys;
+        this.childNodes = childNodes;
+        this.failure = failure;
+        this.dictionary = dictionary;
+        this.endingPattern = endingPattern;
+        this.patternLengths = patternLengths;
+        this.replacements = replacements;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a replacer from a Map.
+     *
+     * @param replacements Map of pattern - replacement.
+     * @return New replacer.
+     */
+    public static MultiPatternReplacer of(Map<String, String> replacements) {
+        Builder builder = new Builder();
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            builder.add(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    public static MultiPatternReplacer empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return replacements.length == 0;
+    }
+
+    /**
+     * Replace all patterns in the text.
+     *
+     * @param text Text to replace patterns in.
+     * @return Text with the patterns replaced, or the same String if nothing matched.
+     */
+    public String replace(String text) {
+        if (text == null || isEmpty()) return text;
+        int[] matchesByStart = findLongestMatches(text, 0, text.length());
+        if (matchesByStart == null) return text;
+
+        StringBuilder replaced = new StringBuilder(text.length() + text.length() / 8);
+        appendReplaced(text, 0, text.length(), matchesByStart, replaced);
+        return replaced.toString();
+    }
+
+    /**
+     * Replace all patterns in a part of the text and append the result.
+     *
+     * @param text  Text to replace patterns in.
+     * @param start Start index of the part, inclusive.
+     * @param end   End index of the part, exclusive.
+     * @param to    StringBuilder to append the result to.
+     */
+    public void replace(String text, int start, int end, StringBuilder to) {
+        int[] matchesByStart = isEmpty() ? null : findLongestMatches(text, start, end);
+        if (matchesByStart == null) {
+            to.append(text, start, end);
+        } else {
+            appendReplaced(text, start, end, matchesByStart, to);
+        }
+    }
+
+    private void appendReplaced(String text, int start, int end, int[] matchesByStart, StringBuilder to) {
+        int copiedUntil = start;
+        int i = start;
+        while (i < end) {
+            int pattern = matchesByStart[i - start] - 1;
+            if (pattern == -1) {
+                i++;
+                continue;
+            }
+            to.append(text, copiedUntil, i).append(replacements[pattern]);
+            i += patternLengths[pattern];
+            copiedUntil = i;
+        }
+        to.append(text, copiedUntil, end);
+    }
+
+    /**
+     * Run the text through the automaton.
+     *
+     * @return Array of (longest pattern index + 1) for each start index relative to start, or null if nothing matched.
+     */
+    private int[] findLongestMatches(String text, int start, int end) {
+        int[] matchesByStart = null;
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            node = next(node, text.charAt(i));
+
+            int match = endingPattern[node] != -1 ? node : dictionary[node];
+            while (match != -1) {
+                int pattern = endingPattern[match];
+                int matchStart = i - patternLengths[pattern] + 1 - start;
+                if (matchesByStart == null) matchesByStart = new int[end - start];
+                int previous = matchesByStart[matchStart] - 1;
+                if (previous == -1 || patternLengths[previous] < patternLengths[pattern]) {
+                    matchesByStart[matchStart] = pattern + 1;
+                }
+                match = dictionary[match];
+            }
+        }
+        return matchesByStart;
+    }
+
+    private int next(int node, char c) {
+        int current = node;
+        while (true) {
+            int child = child(current, c);
+            if (child != -1) return child;
+            if (current == 0) return 0;
+            current = failure[current];
+        }
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(childKeys[node], c);
+        return index >= 0 ? childNodes[node][index] : -1;
+    }
+
+    /**
+     * Builder for {@link MultiPatternReplacer}.
+     */
+    public static class Builder {
+        private final Map<String, String> patterns;
+
+        private Builder() {
+            patterns = new LinkedHashMap<>();
+        }
+
+        /**
+         * Add a pattern.
+         * <p>
+         * If the same pattern is added twice, the first replacement is used. Empty patterns are ignored.
+         *
+         * @param pattern     String to replace.
+         * @param replacement String to replace it with.
+         * @return This builder.
+         */
+        public Builder add(String pattern, String replacement) {
+            if (pattern != null && !pattern.isEmpty() && replacement != null) {
+                patterns.putIfAbsent(pattern, replacement);
+            }
+            return this;
+        }
+
+        public MultiPatternReplacer build() {
+            List<Map<Character, Integer>> children = new ArrayList<>();
+            List<Integer> endingPatterns = new ArrayList<>();
+            children.add(new HashMap<>());
+            endingPatterns.add(-1);
+
+            int[] patternLengths = new int[patterns.size()];
+            String[] replacements = new String[patterns.size()];
+            int patternIndex = 0;
+            for (Map.Entry<String, String> entry : patterns.entrySet()) {
+                String pattern = entry.getKey();
+                int node = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    Map<Character, Integer> nodeChildren = children.get(node);
+                    Integer child = nodeChildren.get(pattern.charAt(i));
+                    if (child == null) {
+                        child = children.size();
+                        nodeChildren.put(pattern.charAt(i), child);
+                        children.add(new HashMap<>());
+                        endingPatterns.add(-1);
+                    }
+                    node = child;
+                }
+                endingPatterns.set(node, patternIndex);
+                patternLengths[patternIndex] = pattern.length();
+                replacements[patternIndex] = entry.getValue();
+                patternIndex++;
+            }
+
+            int nodeCount = children.size();
+            char[][] childKeys = new char[nodeCount][];
+            int[][] childNodes = new int[nodeCount][];
+            int[] endingPattern = new int[nodeCount];
+            for (int node = 0; node < nodeCount; node++) {
+                Map<Character, Integer> nodeChildren = children.get(node);
+                char[] keys = new char[nodeChildren.size()];
+                int i = 0;
+                for (Character key : nodeChildren.keySet()) {
+                    keys[i++] = key;
+                }
+                Arrays.sort(keys);
+                int[] nodes = new int[keys.length];
+                for (i = 0; i < keys.length; i++) {
+                    nodes[i] = nodeChildren.get(keys[i]);
+                }
+                childKeys[node] = keys;
+                childNodes[node] = nodes;
+                endingPattern[node] = endingPatterns.get(node);
+            }
+
+            int[] failure = new int[nodeCount];
+            int[] dictionary = new int[nodeCount];
+            Arrays.fill(dictionary, -1);
+            // Breadth first so that failure links of shorter prefixes are ready
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : childNodes[0]) {
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int i = 0; i < childKeys[node].length; i++) {
+                    char c = childKeys[node][i];
+                    int child = childNodes[node][i];
+
+                    int fallback = failure[node];
+                    int fallbackChild;
+                    while ((fallbackChild = findChild(childKeys, childNodes, fallback, c)) == -1 && fallback != 0) {
+                        fallback = failure[fallback];
+                    }
+                    failure[child] = fallbackChild != -1 ? fallbackChild : 0;
+                    dictionary[child] = endingPattern[failure[child]] != -1 ? failure[child] : dictionary[failure[child]];
+                    queue.add(child);
+                }
+            }
+
+            return new MultiPatternReplacer(childKeys, childNodes, failure, dictionary, endingPattern, patternLengths, replacements);
+        }
+
+        private static int findChild(char[][] childKeys, int[][] childNodes, int node, char c) {
+            int index = Arrays.binarySearch(childKeys[node], c);
+            return index >= 0 ? childNodes[node][index] : -1;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.analysis;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * HyperLogLog sketch for estimating the amount of unique players.
+ * <p>
+ * Sketches of different days or servers can be merged, the estimate of a merged sketch is the estimate of the
+ * union of players. The standard error of the estimate is about 2.3%, small amounts of players are counted
+ * almost exactly.
+ *
+ * @author Rsl1122
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 11;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1.0 + 1.079 / REGISTER_COUNT);
+
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+
+    /**
+     * Maximum length of {@link #serialize()} output.
+     */
+    public static final int MAX_SERIALIZED_LENGTH = 4 * ((REGISTER_COUNT + 1 + 2) / 3);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * Read a sketch written by {@link #serialize()}.
+     *
+     * @param serialized Base64 String.
+     * @return the sketch.
+     * @throws IllegalArgumentException If the String is not a serialized sketch.
+     */
+    public static HyperLogLog deserialize(String serialized) {
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.getDecoder().decode(serialized));
+        if (!bytes.hasRemaining()) throw new IllegalArgumentException("Empty sketch");
+
+        byte format = bytes.get();
+        byte[] registers = new byte[REGISTER_COUNT];
+        if (format == DENSE && bytes.remaining() == REGISTER_COUNT) {
+            bytes.get(registers);
+        } else if (format == SPARSE && bytes.remaining() % 3 == 0) {
+            while (bytes.hasRemaining()) {
+                int index = bytes.getShort() & 0xFFFF;
+                if (index >= REGISTER_COUNT) throw new IllegalArgumentException("Register out of bounds: " + index);
+                registers[index] = bytes.get();
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown sketch format " + format + " with " + bytes.remaining() + " bytes");
+        }
+        return new HyperLogLog(registers);
+    }
+
+    private static long hash(UUID uuid) {
+        return mix(uuid.getMostSignificantBits() ^ mix(uuid.getLeastSignificantBits()));
+    }
+
+    // Finalization step of MurmurHash3, spreads the bits of UUIDs that are not random (offline mode).
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Add a player to the sketch.
+     *
+     * @param playerUUID UUID of the player.
+     * @return true if the sketch changed.
+     */
+    public boolean add(UUID playerUUID) {
+        long hash = hash(playerUUID);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Merge another sketch into this one.
+     *
+     * @param other Sketch to merge.
+     * @return true if this sketch changed.
+     */
+    public boolean merge(HyperLogLog other) {
+        boolean changed = false;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Estimate the amount of unique players added to the sketch.
+     *
+     * @return Estimated count.
+     */
+    public int estimate() {
+        double sum = 0.0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeroRegisters++;
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeroRegisters > 0) {
+            // Linear counting is more accurate for small cardinalities
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisters);
+        }
+        return (int) Math.round(estimate);
+    }
+
+    /**
+     * Write the sketch as a Base64 String.
+     * <p>
+     * Sketches with few players only store the registers in use.
+     *
+     * @return Base64 String at most {@link #MAX_SERIALIZED_LENGTH} long.
+     */
+    public String serialize() {
+        int used = 0;
+        for (byte register : registers) {
+            if (register != 0) used++;
+        }
+
+        ByteBuffer bytes;
+        if (used * 3 < REGISTER_COUNT) {
+            bytes = ByteBuffer.allocate(1 + used * 3);
+            bytes.put(SPARSE);
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                if (registers[i] != 0) {
+                    bytes.putShort((short) i);
+                    bytes.put(registers[i]);
+                }
+            }
+        } else {
+            bytes = ByteBuffer.allocate(1 + REGISTER_COUNT);
+            bytes.put(DENSE);
+            bytes.put(registers);
+        }
+        return Base64.getEncoder().encodeToString(bytes.array());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link TaskSystem#getPhaseOffset(UUID, long)}.
+ *
+ * @author Rsl1122
+ */
+class TaskSystemTest {
+
+    @Test
+    void phaseOffsetIsStableForSameServer() {
+        UUID serverUUID = UUID.randomUUID();
+        assertEquals(TaskSystem.getPhaseOffset(serverUUID, 1200L), TaskSystem.getPhaseOffset(serverUUID, 1200L));
+    }
+
+    @Test
+    void phaseOffsetIsWithinPeriod() {
+        for (int i = 0; i < 1000; i++) {
+            long offset = TaskSystem.getPhaseOffset(UUID.randomUUID(), 40L);
+            assertTrue(0L <= offset && offset < 40L, () -> "Offset outside period: " + offset);
+        }
+    }
+
+    @Test
+    void phaseOffsetsAreSpreadBetweenServers() {
+        Set<Long> offsets = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            offsets.add(TaskSystem.getPhaseOffset(UUID.randomUUID(), 1200L));
+        }
+        assertTrue(offsets.size() > 50, () -> "Offsets were not spread: " + offsets.size() + " unique");
+    }
+
+    @Test
+    void noOffsetWithoutPeriod() {
+        assertEquals(0L, TaskSystem.getPhaseOffset(UUID.randomUUID(), 0L));
+        assertEquals(0L, TaskSystem.getPhaseOffset(null, 1200L));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CohortActivity} and {@link RetentionMatrix}.
+ *
+ * @author Rsl1122
+ */
+class CohortActivityTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1L);
+    private static final long REGISTERED = 1001L * DAY + TimeUnit.HOURS.toMillis(20L);
+    private static final UUID SERVER_UUID = UUID.randomUUID();
+
+    private static CohortActivity registered(long registered) {
+        return new CohortActivity(UUID.randomUUID(), SERVER_UUID, registered, 0L);
+    }
+
+    @Test
+    void sessionOnRegistrationDaySetsFirstBit() {
+        CohortActivity activity = registered(REGISTERED).withSession(REGISTERED, REGISTERED + 1000L);
+        assertEquals(1L, activity.getActivity());
+    }
+
+    @Test
+    void sessionOverMidnightSetsBothDays() {
+        CohortActivity activity = registered(REGISTERED).withSession(REGISTERED, REGISTERED + TimeUnit.HOURS.toMillis(5L));
+        assertEquals(0b11L, activity.getActivity());
+    }
+
+    @Test
+    void sessionsOutsideTrackedDaysAreIgnored() {
+        CohortActivity activity = registered(REGISTERED)
+                .withSession(REGISTERED - 2 * DAY, REGISTERED - DAY)
+                .withSession(REGISTERED + 64 * DAY, REGISTERED + 65 * DAY);
+        assertEquals(0L, activity.getActivity());
+    }
+
+    @Test
+    void lastTrackedDaySetsHighestBit() {
+        CohortActivity activity = registered(REGISTERED).withSession(REGISTERED + 63 * DAY, REGISTERED + 70 * DAY);
+        assertEquals(Long.MIN_VALUE, activity.getActivity());
+    }
+
+    @Test
+    void activeBetweenMatchesDays() {
+        CohortActivity activity = registered(REGISTERED).withSession(REGISTERED + 5 * DAY, REGISTERED + 5 * DAY);
+
+        assertTrue(activity.isActiveBetween(REGISTERED + 3 * DAY, REGISTERED + 7 * DAY));
+        assertFalse(activity.isActiveBetween(REGISTERED, REGISTERED + 3 * DAY));
+        assertFalse(activity.isActiveBetween(REGISTERED + 7 * DAY, REGISTERED + 100 * DAY));
+    }
+
+    @Test
+    void retentionMatrixGroupsPlayersByRegistrationPeriod() {
+        CohortActivity first = registered(REGISTERED).withSession(REGISTERED + 8 * DAY, REGISTERED + 8 * DAY);
+        CohortActivity second = registered(REGISTERED + DAY);
+        CohortActivity third = registered(REGISTERED + 7 * DAY).withSession(REGISTERED + 7 * DAY, REGISTERED + 7 * DAY);
+
+        RetentionMatrix matrix = RetentionMatrix.calculate(Arrays.asList(first, second, third), 7);
+        assertEquals(9, matrix.getPeriodCount());
+
+        Iterator<RetentionMatrix.Cohort> cohorts = matrix.getCohorts().iterator();
+        RetentionMatrix.Cohort firstWeek = cohorts.next();
+        assertEquals(2, firstWeek.getSize());
+        assertEquals(0, firstWeek.getActivePlayers(0));
+        assertEquals(1, firstWeek.getActivePlayers(1));
+        assertEquals(0.5, firstWeek.getRetention(1), 0.001);
+
+        RetentionMatrix.Cohort secondWeek = cohorts.next();
+        assertEquals(1, secondWeek.getSize());
+        assertEquals(1, secondWeek.getActivePlayers(0));
+        assertTrue(secondWeek.getStart() > firstWeek.getStart());
+        assertFalse(cohorts.hasNext());
+    }
+
+    @Test
+    void invalidPeriodLengthIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RetentionMatrix.calculate(Arrays.asList(), 65));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link Leaderboard}.
+ *
+ * @author Rsl1122
+ */
+class LeaderboardTest {
+
+    private static final UUID PLAYER_1 = UUID.randomUUID();
+    private static final UUID PLAYER_2 = UUID.randomUUID();
+    private static final UUID PLAYER_3 = UUID.randomUUID();
+
+    private static List<Long> valuesOf(Leaderboard leaderboard) {
+        List<Long> values = new ArrayList<>();
+        for (Leaderboard.Entry entry : leaderboard.getRanking()) {
+            values.add(entry.getValue());
+        }
+        return values;
+    }
+
+    @Test
+    void rankingIsHighestFirst() {
+        Leaderboard leaderboard = new Leaderboard(3);
+        leaderboard.offer(PLAYER_1, "Player1", 10L);
+        leaderboard.offer(PLAYER_2, "Player2", 30L);
+        leaderboard.offer(PLAYER_3, "Player3", 20L);
+
+        assertEquals(Arrays.asList(30L, 20L, 10L), valuesOf(leaderboard));
+        assertEquals("Player2", leaderboard.getEntry(1).map(Leaderboard.Entry::getPlayerName).orElse(null));
+        assertFalse(leaderboard.getEntry(4).isPresent());
+    }
+
+    @Test
+    void lowestValueIsDroppedWhenFull() {
+        Leaderboard leaderboard = new Leaderboard(2);
+        leaderboard.offer(PLAYER_1, "Player1", 10L);
+        leaderboard.offer(PLAYER_2, "Player2", 30L);
+
+        assertTrue(leaderboard.offer(PLAYER_3, "Player3", 20L));
+        assertFalse(leaderboard.offer(PLAYER_1, "Player1", 5L));
+
+        assertEquals(Arrays.asList(30L, 20L), valuesOf(leaderboard));
+    }
+
+    @Test
+    void newValueOfPlayerReplacesOldEntry() {
+        Leaderboard leaderboard = new Leaderboard(3);
+        leaderboard.offer(PLAYER_1, "Player1", 10L);
+        leaderboard.offer(PLAYER_2, "Player2", 30L);
+        leaderboard.offer(PLAYER_1, "Player1", 40L);
+
+        assertEquals(Arrays.asList(40L, 30L), valuesOf(leaderboard));
+        assertEquals(PLAYER_1, leaderboard.getRanking().get(0).getPlayerUUID());
+    }
+
+    @Test
+    void sameValueDoesNotChangeBoard() {
+        Leaderboard leaderboard = new Leaderboard(3);
+        leaderboard.offer(PLAYER_1, "Player1", 10L);
+        List<Leaderboard.Entry> before = leaderboard.getRanking();
+
+        assertFalse(leaderboard.offer(PLAYER_1, "Player1", 10L));
+        assertSame(before, leaderboard.getRanking());
+    }
+
+    @Test
+    void replaceKeepsOnlyHighestValues() {
+        Leaderboard leaderboard = new Leaderboard(2);
+        leaderboard.offer(PLAYER_3, "Player3", 100L);
+        leaderboard.replaceWith(Arrays.asList(
+                new Leaderboard.Entry(PLAYER_1, "Player1", 10L),
+                new Leaderboard.Entry(PLAYER_2, "Player2", 30L),
+                new Leaderboard.Entry(PLAYER_3, "Player3", 20L)
+        ));
+
+        assertEquals(Arrays.asList(30L, 20L), valuesOf(leaderboard));
+    }
+}
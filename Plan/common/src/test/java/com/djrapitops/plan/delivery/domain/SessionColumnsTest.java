@@ -0,0 +1,95 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SessionColumns}.
+ *
+ * @author Rsl1122
+ */
+class SessionColumnsTest {
+
+    private static final UUID PLAYER_1 = UUID.randomUUID();
+    private static final UUID PLAYER_2 = UUID.randomUUID();
+
+    private static SessionColumns createSessions() {
+        return SessionColumns.builder()
+                .add(1, PLAYER_1, 100L, 200L, 10L, 1, 0)
+                .add(2, PLAYER_2, 150L, 300L, 20L, 2, 1)
+                .add(3, PLAYER_1, 400L, 500L, 30L, 3, 2)
+                .build(0L);
+    }
+
+    @Test
+    void sumsIncludeOverlappingSessions() {
+        SessionColumns sessions = createSessions();
+
+        assertEquals(2L, sessions.sessionCount(250L, 450L));
+        assertEquals(250L, sessions.playtime(250L, 450L));
+        assertEquals(50L, sessions.afkTime(250L, 450L));
+        assertEquals(5L, sessions.mobKillCount(250L, 450L));
+        assertEquals(3L, sessions.deathCount(250L, 450L));
+    }
+
+    @Test
+    void playerCalculationsIncludeOnlySessionsWithinRange() {
+        SessionColumns sessions = createSessions();
+
+        assertEquals(2, sessions.uniquePlayerCount(100L, 300L));
+        assertEquals(1, sessions.uniquePlayerCount(120L, 350L));
+        assertEquals(125L, sessions.averagePlaytimePerPlayer(100L, 300L));
+        assertEquals(15L, sessions.averageAfkPerPlayer(100L, 300L));
+        assertEquals(0L, sessions.averagePlaytimePerPlayer(600L, 700L));
+    }
+
+    @Test
+    void mergeDropsOldSessions() {
+        SessionColumns newer = SessionColumns.builder()
+                .add(4, PLAYER_2, 600L, 700L, 0L, 0, 0)
+                .build(0L);
+        SessionColumns merged = createSessions().merge(newer, 250L, 100);
+
+        assertEquals(3, merged.size());
+        assertEquals(4, merged.getMaxId());
+        assertTrue(merged.covers(250L));
+        assertFalse(merged.covers(249L));
+        assertEquals(2, merged.uniquePlayerCount(0L, 1000L));
+    }
+
+    @Test
+    void sessionsThatEndedFirstAreDroppedOverLimit() {
+        SessionColumns retained = createSessions().retain(0L, 2);
+
+        assertEquals(2, retained.size());
+        assertEquals(201L, retained.getRetainedAfter());
+        assertEquals(250L, retained.playtime(201L, 1000L));
+    }
+
+    @Test
+    void emptyCoversNothing() {
+        SessionColumns empty = SessionColumns.empty();
+
+        assertFalse(empty.covers(System.currentTimeMillis()));
+        assertFalse(empty.merge(empty, 0L, 10).covers(System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.mutators;
+
+import com.djrapitops.plan.delivery.domain.container.DataContainer;
+import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
+import com.djrapitops.plan.delivery.domain.keys.PerServerKeys;
+import com.djrapitops.plan.gathering.domain.GMTimes;
+import com.djrapitops.plan.gathering.domain.PlayerKill;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.WorldTimes;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SessionsAggregate}.
+ *
+ * @author Rsl1122
+ */
+class SessionsAggregateTest {
+
+    private static final UUID PLAYER_UUID = UUID.randomUUID();
+    private static final UUID SERVER_1 = UUID.randomUUID();
+    private static final UUID SERVER_2 = UUID.randomUUID();
+
+    private final long now = System.currentTimeMillis();
+    private final long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
+    private final long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
+    private long blackhole;
+
+    private static List<Session> randomSessions(long now, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long start = now - random.nextLong(TimeUnit.DAYS.toMillis(60L));
+            long end = start + random.nextLong(TimeUnit.HOURS.toMillis(5L));
+            long afkTime = random.nextLong(end - start + 1);
+            UUID serverUUID = random.nextBoolean() ? SERVER_1 : SERVER_2;
+            Session session = new Session(i, PLAYER_UUID, serverUUID, start, end, random.nextInt(20), random.nextInt(5), afkTime);
+            List<PlayerKill> kills = new ArrayList<>();
+            for (int j = random.nextInt(3); j > 0; j--) {
+                kills.add(new PlayerKill(UUID.randomUUID(), "Weapon", start));
+            }
+            session.setPlayerKills(kills);
+            Map<String, GMTimes> times = new HashMap<>();
+            GMTimes gmTimes = new GMTimes();
+            gmTimes.setAllGMTimes(end - start);
+            times.put(random.nextBoolean() ? "World" : "Nether", gmTimes);
+            session.setWorldTimes(new WorldTimes(times));
+            sessions.add(session);
+        }
+        return sessions;
+    }
+
+    private static void assertSameTotals(SessionsMutator expected, SessionsAggregate.Totals result) {
+        assertEquals(expected.count(), result.count());
+        assertEquals(expected.toPlaytime(), result.toPlaytime());
+        assertEquals(expected.toActivePlaytime(), result.toActivePlaytime());
+        assertEquals(expected.toAfkTime(), result.toAfkTime());
+        assertEquals(expected.toAverageSessionLength(), result.toAverageSessionLength());
+        assertEquals(expected.toMedianSessionLength(), result.toMedianSessionLength());
+        assertEquals(expected.toLongestSessionLength(), result.toLongestSessionLength());
+        assertEquals(expected.toLastSeen(), result.toLastSeen());
+        assertEquals(expected.toMobKillCount(), result.toMobKillCount());
+        assertEquals(expected.toDeathCount(), result.toDeathCount());
+        assertEquals(expected.toPlayerKillCount(), result.toPlayerKillCount());
+    }
+
+    @Test
+    void totalsMatchSessionsMutator() {
+        for (int count : new int[]{1, 2, 51, 200}) {
+            List<Session> sessions = randomSessions(now, count);
+            SessionsMutator mutator = new SessionsMutator(sessions);
+            SessionsMutator mutator30d = mutator.filterSessionsBetween(monthAgo, now);
+
+            SessionsAggregate result = SessionsAggregate.aggregate(sessions, monthAgo, weekAgo, now);
+
+            assertSameTotals(mutator, result.total());
+            assertSameTotals(mutator30d, result.last30d());
+            assertSameTotals(mutator30d.filterSessionsBetween(weekAgo, now), result.last7d());
+        }
+    }
+
+    @Test
+    void emptySessionsMatchSessionsMutator() {
+        SessionsAggregate result = SessionsAggregate.aggregate(Collections.emptyList(), monthAgo, weekAgo, now);
+        SessionsMutator empty = new SessionsMutator(Collections.emptyList());
+
+        assertSameTotals(empty, result.total());
+        assertSameTotals(empty, result.last7d());
+        assertFalse(result.favoriteServer().isPresent());
+    }
+
+    @Test
+    void favoriteServerHasMostPlaytime() {
+        List<Session> sessions = Arrays.asList(
+                new Session(1, PLAYER_UUID, SERVER_1, 0L, 1000L, 0, 0, 0L),
+                new Session(2, PLAYER_UUID, SERVER_2, 0L, 600L, 0, 0, 0L),
+                new Session(3, PLAYER_UUID, SERVER_2, 1000L, 1500L, 0, 0, 0L)
+        );
+        SessionsAggregate result = SessionsAggregate.aggregate(sessions, monthAgo, weekAgo, now);
+
+        assertEquals(Optional.of(SERVER_2), result.favoriteServer());
+        assertEquals(1100L, result.ofServer(SERVER_2).toPlaytime());
+    }
+
+    @Test
+    void perServerValuesMatchPerServerContainer() {
+        List<Session> sessions = randomSessions(now, 200);
+        PerServerContainer perServer = new PerServerContainer();
+        perServer.putSessions(sessions);
+        perServer.putCalculatingSuppliers();
+
+        SessionsAggregate result = SessionsAggregate.aggregate(sessions, monthAgo, weekAgo, now);
+
+        assertEquals(new PerServerMutator(perServer).favoriteServer(), result.favoriteServer());
+        for (Map.Entry<UUID, DataContainer> entry : perServer.entrySet()) {
+            UUID serverUUID = entry.getKey();
+            assertSameTotals(SessionsMutator.forContainer(entry.getValue()), result.ofServer(serverUUID));
+
+            WorldTimes expected = entry.getValue().getUnsafe(PerServerKeys.WORLD_TIMES);
+            WorldTimes worldTimes = result.worldTimesPerServer().get(serverUUID);
+            assertEquals(expected.getTotal(), worldTimes.getTotal());
+            for (String world : Arrays.asList("World", "Nether")) {
+                assertEquals(expected.getWorldPlaytime(world), worldTimes.getWorldPlaytime(world));
+            }
+        }
+        assertSameTotals(new SessionsMutator(Collections.emptyList()), result.ofServer(UUID.randomUUID()));
+    }
+
+    @Test
+    void aggregateIsFasterThanSeparateMutatorPasses() {
+        List<Session> sessions = randomSessions(now, 20000);
+
+        long mutatorTime = Long.MAX_VALUE;
+        long aggregateTime = Long.MAX_VALUE;
+        // Best of several rounds to leave out JIT warm up and GC pauses.
+        for (int round = 0; round < 10; round++) {
+            PerServerContainer perServer = new PerServerContainer();
+            perServer.putSessions(sessions);
+            perServer.putCalculatingSuppliers();
+
+            long start = System.nanoTime();
+            blackhole += calculateWithMutators(sessions, perServer);
+            mutatorTime = Math.min(mutatorTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            blackhole += calculateWithAggregate(sessions);
+            aggregateTime = Math.min(aggregateTime, System.nanoTime() - start);
+        }
+
+        assertTrue(aggregateTime < mutatorTime,
+                "Aggregate took " + aggregateTime + "ns, mutators took " + mutatorTime + "ns");
+    }
+
+    private long calculateWithMutators(List<Session> sessions, PerServerContainer perServer) {
+        long sum = 0;
+        SessionsMutator all = new SessionsMutator(sessions);
+        SessionsMutator last30d = all.filterSessionsBetween(monthAgo, now);
+        SessionsMutator last7d = last30d.filterSessionsBetween(weekAgo, now);
+        for (SessionsMutator mutator : Arrays.asList(all, last30d, last7d)) {
+            sum += sumOf(mutator);
+        }
+        PerServerMutator perServerMutator = new PerServerMutator(perServer);
+        sum += perServerMutator.favoriteServer().map(UUID::hashCode).orElse(0);
+        for (WorldTimes worldTimes : perServerMutator.worldTimesPerServer().values()) {
+            sum += worldTimes.getTotal();
+        }
+        for (DataContainer ofServer : perServer.values()) {
+            sum += sumOf(SessionsMutator.forContainer(ofServer));
+            sum += ofServer.getUnsafe(PerServerKeys.WORLD_TIMES).getTotal();
+        }
+        return sum;
+    }
+
+    private long sumOf(SessionsMutator mutator) {
+        return mutator.count() + mutator.toPlaytime() + mutator.toActivePlaytime() + mutator.toAfkTime()
+                + mutator.toAverageSessionLength() + mutator.toMedianSessionLength() + mutator.toLongestSessionLength()
+                + mutator.toLastSeen() + mutator.toMobKillCount() + mutator.toDeathCount() + mutator.toPlayerKillCount();
+    }
+
+    private long calculateWithAggregate(List<Session> sessions) {
+        long sum = 0;
+        SessionsAggregate aggregate = SessionsAggregate.aggregate(sessions, monthAgo, weekAgo, now);
+        for (SessionsAggregate.Totals totals : Arrays.asList(aggregate.total(), aggregate.last30d(), aggregate.last7d())) {
+            sum += sumOf(totals);
+        }
+        sum += aggregate.favoriteServer().map(UUID::hashCode).orElse(0);
+        for (Map.Entry<UUID, WorldTimes> entry : aggregate.worldTimesPerServer().entrySet()) {
+            sum += entry.getValue().getTotal();
+            sum += sumOf(aggregate.ofServer(entry.getKey()));
+            sum += entry.getValue().getTotal();
+        }
+        return sum;
+    }
+
+    private long sumOf(SessionsAggregate.Totals totals) {
+        return totals.count() + totals.toPlaytime() + totals.toActivePlaytime() + totals.toAfkTime()
+                + totals.toAverageSessionLength() + totals.toMedianSessionLength() + totals.toLongestSessionLength()
+                + totals.toLastSeen() + totals.toMobKillCount() + totals.toDeathCount() + totals.toPlayerKillCount();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.formatting;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link PlaceholderReplacer}.
+ *
+ * @author Rsl1122
+ */
+class PlaceholderReplacerTest {
+
+    private static final String TEMPLATE = "${first} ${second}";
+
+    private PlaceholderReplacer replacerWithValues() {
+        PlaceholderReplacer placeholders = new PlaceholderReplacer();
+        placeholders.put("first", "a");
+        placeholders.put("second", "${first}");
+        assertEquals("a a", placeholders.apply(TEMPLATE));
+        return placeholders;
+    }
+
+    @Test
+    void placeholdersInValuesAreReplaced() {
+        assertEquals("a a", replacerWithValues().apply(TEMPLATE));
+    }
+
+    @Test
+    void putIfAbsentUpdatesReplacement() {
+        PlaceholderReplacer placeholders = replacerWithValues();
+        placeholders.remove("second");
+        placeholders.putIfAbsent("second", "b");
+        assertEquals("a b", placeholders.apply(TEMPLATE));
+    }
+
+    @Test
+    void computeUpdatesReplacement() {
+        PlaceholderReplacer placeholders = replacerWithValues();
+        placeholders.compute("first", (key, value) -> value + "b");
+        assertEquals("ab ab", placeholders.apply(TEMPLATE));
+        placeholders.computeIfPresent("second", (key, value) -> null);
+        assertEquals("ab ${second}", placeholders.apply(TEMPLATE));
+    }
+
+    @Test
+    void mergeUpdatesReplacement() {
+        PlaceholderReplacer placeholders = replacerWithValues();
+        placeholders.merge("first", "c", (previous, value) -> previous.toString() + value);
+        assertEquals("ac ac", placeholders.apply(TEMPLATE));
+    }
+
+    @Test
+    void replaceUpdatesReplacement() {
+        PlaceholderReplacer placeholders = replacerWithValues();
+        placeholders.replace("second", "d");
+        assertEquals("a d", placeholders.apply(TEMPLATE));
+        placeholders.replaceAll((key, value) -> key);
+        assertEquals("first second", placeholders.apply(TEMPLATE));
+    }
+
+    @Test
+    void entriesCanNotBeModified() {
+        PlaceholderReplacer placeholders = replacerWithValues();
+        Map.Entry<String, Serializable> entry = placeholders.entrySet().iterator().next();
+        assertThrows(UnsupportedOperationException.class, () -> entry.setValue("e"));
+        assertThrows(UnsupportedOperationException.class, () -> placeholders.keySet().remove("first"));
+        assertEquals("a a", placeholders.apply(TEMPLATE));
+    }
+
+    @Test
+    void clearingViewsUpdatesReplacement() {
+        PlaceholderReplacer placeholders = replacerWithValues();
+        placeholders.values().clear();
+        assertEquals(TEMPLATE, placeholders.apply(TEMPLATE));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.html.template;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for {@link CompiledTemplate}.
+ *
+ * @author Rsl1122
+ */
+class CompiledTemplateTest {
+
+    @Test
+    void slotsAreFilled() {
+        CompiledTemplate template = CompiledTemplate.compile("<h1>${title}</h1><p>${text}</p>", UnaryOperator.identity());
+        Map<String, Serializable> placeholders = new HashMap<>();
+        placeholders.put("title", "Title");
+        placeholders.put("text", 5);
+
+        assertEquals(2, template.getSlotCount());
+        assertEquals("<h1>Title</h1><p>5</p>", template.render(placeholders));
+    }
+
+    @Test
+    void unknownSlotsAreLeftAsIs() {
+        CompiledTemplate template = CompiledTemplate.compile("a ${unknown} b", UnaryOperator.identity());
+        assertEquals("a ${unknown} b", template.render(new HashMap<>()));
+    }
+
+    @Test
+    void staticTransformIsNotAppliedToSlotsOrValues() {
+        UnaryOperator<String> translate = html -> StringUtils.replace(html, "Name", "Nimi");
+        CompiledTemplate template = CompiledTemplate.compile("<b>Name</b> ${playerName}", translate);
+        Map<String, Serializable> placeholders = new HashMap<>();
+        placeholders.put("playerName", "Name");
+
+        assertEquals("<b>Nimi</b> Name", template.render(placeholders));
+    }
+
+    @Test
+    void placeholdersInValuesAreFilled() {
+        CompiledTemplate template = CompiledTemplate.compile("${tabs}", UnaryOperator.identity());
+        Map<String, Serializable> placeholders = new HashMap<>();
+        placeholders.put("tabs", "<h1>${serverName}</h1>${backButton}");
+        placeholders.put("serverName", "Server 1");
+        placeholders.put("backButton", "");
+
+        assertEquals("<h1>Server 1</h1>", template.render(placeholders));
+    }
+
+    @Test
+    void templateWithoutSlotsIsUnchanged() {
+        String html = "<html><body>No placeholders {}$</body></html>";
+        assertEquals(html, CompiledTemplate.compile(html, UnaryOperator.identity()).render(new HashMap<>()));
+    }
+}
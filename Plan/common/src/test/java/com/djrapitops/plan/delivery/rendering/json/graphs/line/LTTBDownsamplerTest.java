@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs.line;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link LTTBDownsampler}.
+ *
+ * @author Rsl1122
+ */
+class LTTBDownsamplerTest {
+
+    private static List<Point> createPoints(int count) {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(new Point(i, i % 10));
+        }
+        return points;
+    }
+
+    @Test
+    void smallSeriesIsNotDownsampled() {
+        List<Point> points = createPoints(100);
+        assertSame(points, LTTBDownsampler.downsample(points, 100));
+    }
+
+    @Test
+    void disabledThresholdDoesNotDownsample() {
+        List<Point> points = createPoints(100);
+        assertSame(points, LTTBDownsampler.downsample(points, 0));
+    }
+
+    @Test
+    void downsampledSeriesHasThresholdAmountOfPoints() {
+        List<Point> points = createPoints(10000);
+        List<Point> result = LTTBDownsampler.downsample(points, 500);
+
+        assertEquals(500, result.size());
+        assertEquals(points.get(0), result.get(0));
+        assertEquals(points.get(9999), result.get(499));
+    }
+
+    @Test
+    void downsampledSeriesIsInOrder() {
+        List<Point> result = LTTBDownsampler.downsample(createPoints(10000), 333);
+
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).getX() < result.get(i).getX());
+        }
+    }
+
+    @Test
+    void spikeIsPreserved() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            points.add(new Point(i, i == 4321 ? 1000.0 : 20.0));
+        }
+        List<Point> result = LTTBDownsampler.downsample(points, 100);
+
+        assertTrue(result.contains(new Point(4321, 1000.0)));
+    }
+}
@@ -48,13 +48,13 @@ class LineGraphTest {
     void testLineGraphsForBracketErrors() {
         TPSMutator mutator = new TPSMutator(DATA);
         LineGraph[] graphs = new LineGraph[]{
-                new CPUGraph(mutator, true),
-                new PlayersOnlineGraph(mutator, false),
-                new RamGraph(mutator, true),
-                new TPSGraph(mutator, false),
-                new EntityGraph(mutator, true),
-                new ChunkGraph(mutator, false),
-                new DiskGraph(mutator, false)
+                new CPUGraph(mutator, true, 0),
+                new PlayersOnlineGraph(mutator, false, 0),
+                new RamGraph(mutator, true, 0),
+                new TPSGraph(mutator, false, 0),
+                new EntityGraph(mutator, true, 0),
+                new ChunkGraph(mutator, false, 0),
+                new DiskGraph(mutator, false, 0)
         };
 
         for (LineGraph graph : graphs) {
@@ -0,0 +1,79 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.network;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link NetworkAggregationExecutor}.
+ *
+ * @author Rsl1122
+ */
+class NetworkAggregationExecutorTest {
+
+    @Test
+    void resultIsReturned() {
+        assertEquals(5, NetworkAggregationExecutor.join(CompletableFuture.completedFuture(5)));
+    }
+
+    @Test
+    void originalExceptionIsThrown() {
+        DBOpException thrown = new DBOpException("Query failed");
+        CompletableFuture<Integer> failing = CompletableFuture.supplyAsync(() -> {
+            throw thrown;
+        });
+
+        DBOpException caught = assertThrows(DBOpException.class, () -> NetworkAggregationExecutor.join(failing));
+        assertSame(thrown, caught);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DBType.class, names = {"SQLITE", "H2"})
+    void queriesOfSingleConnectionDatabasesRunOnCallingThread(DBType dbType) {
+        PlanConfig config = mock(PlanConfig.class);
+        when(config.get(WebserverSettings.PARALLEL_NETWORK_QUERIES)).thenReturn(4);
+        Database db = mock(Database.class);
+        when(db.getType()).thenReturn(dbType);
+        when(db.query(any())).thenAnswer(invocation -> ((Query<?>) invocation.getArgument(0)).executeQuery(null));
+        DBSystem dbSystem = mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(db);
+
+        NetworkAggregationExecutor underTest = new NetworkAggregationExecutor(config, dbSystem);
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> queriedOn = underTest.query(database -> Thread.currentThread());
+
+        assertTrue(queriedOn.isDone());
+        assertSame(caller, NetworkAggregationExecutor.join(queriedOn));
+        underTest.close();
+    }
+}
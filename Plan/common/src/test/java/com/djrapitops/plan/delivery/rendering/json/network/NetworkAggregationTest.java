@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.network;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link NetworkAggregation}.
+ *
+ * @author Rsl1122
+ */
+class NetworkAggregationTest {
+
+    @Test
+    void sumIgnoresMissingPartials() {
+        assertEquals(15L, NetworkAggregation.sum(Arrays.asList(5, null, 10L)));
+    }
+
+    @Test
+    void maxPicksHighestPeak() {
+        Optional<DateObj<Integer>> max = NetworkAggregation.max(Arrays.asList(
+                Optional.of(new DateObj<>(100L, 5)),
+                Optional.empty(),
+                Optional.of(new DateObj<>(300L, 12)),
+                Optional.of(new DateObj<>(200L, 12))
+        ));
+        assertTrue(max.isPresent());
+        assertEquals(200L, max.get().getDate());
+        assertEquals(12, (int) max.get().getValue());
+    }
+
+    @Test
+    void maxOfNoDataIsEmpty() {
+        assertFalse(NetworkAggregation.max(Collections.singletonList(Optional.empty())).isPresent());
+    }
+
+    @Test
+    void histogramBucketsAreSummed() {
+        NavigableMap<Long, Integer> first = new TreeMap<>();
+        first.put(1L, 3);
+        first.put(2L, 4);
+        NavigableMap<Long, Integer> second = new TreeMap<>();
+        second.put(2L, 1);
+        second.put(3L, 7);
+
+        Map<Long, Integer> merged = NetworkAggregation.histogram(Arrays.asList(first, second));
+
+        Map<Long, Integer> expected = new TreeMap<>();
+        expected.put(1L, 3);
+        expected.put(2L, 5);
+        expected.put(3L, 7);
+        assertEquals(expected, merged);
+        assertTrue(merged instanceof SortedMap);
+    }
+
+    @Test
+    void playersOnMultipleServersAreCountedOnce() {
+        UUID shared = UUID.randomUUID();
+        List<Set<UUID>> partials = Arrays.asList(
+                new HashSet<>(Arrays.asList(shared, UUID.randomUUID())),
+                new HashSet<>(Arrays.asList(shared, UUID.randomUUID()))
+        );
+        assertEquals(3, NetworkAggregation.uniqueCount(partials));
+    }
+}
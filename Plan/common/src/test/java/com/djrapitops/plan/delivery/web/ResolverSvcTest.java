@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web;
+
+import com.djrapitops.plan.delivery.web.resolver.NoAuthResolver;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ResolverSvc} routing.
+ *
+ * @author Rsl1122
+ */
+class ResolverSvcTest {
+
+    private final Resolver players = (NoAuthResolver) request -> Optional.empty();
+    private final Resolver player = (NoAuthResolver) request -> Optional.empty();
+    private final Resolver staticResources = (NoAuthResolver) request -> Optional.empty();
+
+    private ResolverSvc underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ResolverSvc();
+        underTest.registerResolver("Plan", "/player", player);
+        underTest.registerResolver("Plan", "/players", players);
+        underTest.registerResolverForMatches("Plan", Pattern.compile("^.*/(vendor|css|js|img)/.*"), staticResources);
+    }
+
+    @Test
+    void longestPrefixIsFirst() {
+        assertEquals(Arrays.asList(players, player), underTest.getResolvers("/players/table"));
+    }
+
+    @Test
+    void basicResolversBeforeRegexResolvers() {
+        assertEquals(Arrays.asList(player, staticResources), underTest.getResolvers("/player/js/script.js"));
+    }
+
+    @Test
+    void regexResolverMatches() {
+        assertEquals(Optional.of(staticResources), underTest.getResolver("/css/style.css"));
+    }
+
+    @Test
+    void unknownTargetHasNoResolvers() {
+        assertTrue(underTest.getResolvers("/unknown").isEmpty());
+        assertEquals(Optional.empty(), underTest.getPluginInChargeOf("/unknown"));
+    }
+
+    @Test
+    void laterRegistrationIsRouted() {
+        assertTrue(underTest.getResolvers("/example/target").isEmpty());
+
+        Resolver example = (NoAuthResolver) request -> Optional.empty();
+        underTest.registerResolver("Example", "/example", example);
+
+        assertEquals(Collections.singletonList(example), underTest.getResolvers("/example/target"));
+        assertEquals(Optional.of("Example"), underTest.getPluginInChargeOf("/example/target"));
+    }
+}
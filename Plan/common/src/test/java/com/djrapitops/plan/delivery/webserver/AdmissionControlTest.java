@@ -0,0 +1,91 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AdmissionControl}.
+ *
+ * @author Rsl1122
+ */
+class AdmissionControlTest {
+
+    private AdmissionControl underTest;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(WebserverSettings.STATIC_REQUEST_LIMIT)).thenReturn(2);
+        when(config.get(WebserverSettings.DATA_REQUEST_LIMIT)).thenReturn(1);
+        when(config.get(WebserverSettings.EXPENSIVE_REQUEST_LIMIT)).thenReturn(1);
+        when(config.get(WebserverSettings.REQUEST_QUEUE_SIZE)).thenReturn(0);
+        when(config.get(WebserverSettings.RATE_LIMIT_PER_IP)).thenReturn(0);
+
+        underTest = new AdmissionControl(config);
+    }
+
+    @Test
+    void requestsAreCategorized() {
+        assertEquals(AdmissionControl.Category.STATIC, AdmissionControl.Category.of("/js/sessionsOverview.js"));
+        assertEquals(AdmissionControl.Category.STATIC, AdmissionControl.Category.of("/server/vendor/jquery.min.js"));
+        assertEquals(AdmissionControl.Category.EXPENSIVE, AdmissionControl.Category.of("/v1/players"));
+        assertEquals(AdmissionControl.Category.EXPENSIVE, AdmissionControl.Category.of("/v1/network/overview"));
+        assertEquals(AdmissionControl.Category.DATA, AdmissionControl.Category.of("/v1/serverOverview"));
+        assertEquals(AdmissionControl.Category.DATA, AdmissionControl.Category.of("/server/Server"));
+    }
+
+    @Test
+    void requestsOverLimitAreRefusedWhenQueueIsFull() {
+        assertTrue(underTest.admit(AdmissionControl.Category.EXPENSIVE));
+        assertFalse(underTest.admit(AdmissionControl.Category.EXPENSIVE));
+        assertEquals(1, underTest.getActiveCount(AdmissionControl.Category.EXPENSIVE));
+    }
+
+    @Test
+    void fullCategoryDoesNotBlockOtherCategories() {
+        assertTrue(underTest.admit(AdmissionControl.Category.EXPENSIVE));
+        assertTrue(underTest.admit(AdmissionControl.Category.STATIC));
+        assertTrue(underTest.admit(AdmissionControl.Category.STATIC));
+    }
+
+    @Test
+    void releasedSlotCanBeReused() {
+        assertTrue(underTest.admit(AdmissionControl.Category.DATA));
+        underTest.release(AdmissionControl.Category.DATA);
+        assertTrue(underTest.admit(AdmissionControl.Category.DATA));
+    }
+
+    @Test
+    void tokenBucketLimitsRate() {
+        AdmissionControl.TokenBucket bucket = new AdmissionControl.TokenBucket(2);
+        long now = System.nanoTime();
+        assertTrue(bucket.tryConsume(now));
+        assertTrue(bucket.tryConsume(now));
+        assertFalse(bucket.tryConsume(now));
+        assertTrue(bucket.tryConsume(now + TimeUnit.SECONDS.toNanos(1L)));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.auth;
+
+import com.djrapitops.plan.delivery.domain.auth.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests for {@link VerifiedCredentialCache}.
+ *
+ * @author Rsl1122
+ */
+class VerifiedCredentialCacheTest {
+
+    private static final String PASSWORD = "testPass";
+    private final User user = new User("test", "console", null, "hash", 0, Collections.emptyList());
+
+    @BeforeEach
+    void clearCache() {
+        VerifiedCredentialCache.invalidateAll();
+    }
+
+    @Test
+    void verifiedCredentialsAreCached() {
+        VerifiedCredentialCache.storeVerified(user, PASSWORD, VerifiedCredentialCache.getGeneration(), 0L);
+        assertEquals(Optional.of(user), VerifiedCredentialCache.checkCredentials("test", PASSWORD));
+    }
+
+    @Test
+    void wrongPasswordIsNotAccepted() {
+        VerifiedCredentialCache.storeVerified(user, PASSWORD, VerifiedCredentialCache.getGeneration(), 0L);
+        assertFalse(VerifiedCredentialCache.checkCredentials("test", "wrongPass").isPresent());
+    }
+
+    @Test
+    void invalidatedCredentialsAreNotAccepted() {
+        VerifiedCredentialCache.storeVerified(user, PASSWORD, VerifiedCredentialCache.getGeneration(), 0L);
+        VerifiedCredentialCache.invalidate("test");
+        assertFalse(VerifiedCredentialCache.checkCredentials("test", PASSWORD).isPresent());
+    }
+
+    @Test
+    void credentialsVerifiedBeforeInvalidationAreNotCached() {
+        long generation = VerifiedCredentialCache.getGeneration();
+        VerifiedCredentialCache.invalidate("test");
+        VerifiedCredentialCache.storeVerified(user, PASSWORD, generation, 0L);
+        assertFalse(VerifiedCredentialCache.checkCredentials("test", PASSWORD).isPresent());
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.delivery.webserver.cache;
 
+import com.djrapitops.plan.delivery.web.resolver.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -111,4 +112,15 @@ class JSONCacheTest {
         assertNotContains();
         assertNotContainsUUID();
     }
-}
\ No newline at end of file
+
+    @Test
+    void variantsInvalidatedWithServerUUID() {
+        cachedByServerUUID();
+        JSONCache.getOrCacheVariant(TEST_ID, TEST_UUID, "points512", () -> Response.builder().setContent(CACHED).build());
+        assertTrue(JSONCache.getCachedIDs().contains(TEST_ID.of(TEST_UUID, "points512")));
+
+        JSONCache.invalidate(TEST_ID, TEST_UUID);
+        assertNotContainsUUID();
+        assertFalse(JSONCache.getCachedIDs().contains(TEST_ID.of(TEST_UUID, "points512")));
+    }
+}
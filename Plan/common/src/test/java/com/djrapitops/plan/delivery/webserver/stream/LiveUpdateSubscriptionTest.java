@@ -0,0 +1,80 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link LiveUpdateSubscription}.
+ *
+ * @author Rsl1122
+ */
+class LiveUpdateSubscriptionTest {
+
+    @Test
+    void eventIsFormattedAsServerSentEvent() {
+        byte[] formatted = LiveUpdateBroadcaster.format("tps", "{\"tps\":20.0}");
+        assertEquals("event: tps\ndata: {\"tps\":20.0}\n\n", new String(formatted, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fullBufferClosesSubscription() {
+        AtomicBoolean removed = new AtomicBoolean(false);
+        LiveUpdateSubscription subscription = new LiveUpdateSubscription(3, closed -> removed.set(true));
+        byte[] event = LiveUpdateBroadcaster.format("tps", "{}");
+
+        assertTrue(subscription.offer(event));
+        assertTrue(subscription.offer(event));
+        assertTrue(subscription.offer(event));
+        assertFalse(subscription.offer(event));
+
+        assertTrue(subscription.isClosed());
+        assertTrue(removed.get());
+        assertTrue(subscription.getBufferedCount() <= 1, () -> "Buffer was not cleared: " + subscription.getBufferedCount());
+    }
+
+    @Test
+    void bufferedEventsAreWrittenUntilClosed() throws IOException {
+        LiveUpdateSubscription subscription = new LiveUpdateSubscription(10, closed -> {});
+        subscription.offer(LiveUpdateBroadcaster.format("a", "1"));
+        subscription.offer(LiveUpdateBroadcaster.format("b", "2"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                subscription.close();
+            }
+        };
+        subscription.sendTo(out);
+
+        assertEquals("event: a\ndata: 1\n\nevent: b\ndata: 2\n\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void closedSubscriptionDoesNotAcceptEvents() {
+        LiveUpdateSubscription subscription = new LiveUpdateSubscription(10, closed -> {});
+        subscription.close();
+        assertFalse(subscription.offer(LiveUpdateBroadcaster.format("a", "1")));
+    }
+}
@@ -44,6 +44,7 @@ import utilities.dagger.PlanPluginComponent;
 import utilities.mocks.PlanPluginMocker;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -63,6 +64,7 @@ class ShutdownSaveTest {
     private ServerShutdownSave underTest;
     private Database database;
     private SessionCache sessionCache;
+    private UnsavedSessionsFile unsavedSessionsFile;
 
     @BeforeEach
     void setupShutdownSaveObject(@TempDir Path temporaryFolder) throws Exception {
@@ -88,7 +90,8 @@ class ShutdownSaveTest {
         when(dbSystemMock.getDatabase()).thenReturn(database);
 
         TestPluginLogger logger = new TestPluginLogger();
-        underTest = new ServerShutdownSave(new Locale(), dbSystemMock, logger, system.getErrorLogger()) {
+        unsavedSessionsFile = new UnsavedSessionsFile(system.getPlanFiles());
+        underTest = new ServerShutdownSave(new Locale(), dbSystemMock, logger, system.getErrorLogger(), unsavedSessionsFile) {
             @Override
             protected boolean checkServerShuttingDownStatus() {
                 return shutdownStatus;
@@ -167,10 +170,53 @@ class ShutdownSaveTest {
             sessionCache.cacheSession(playerUUID, session);
         }
         long endTime = System.currentTimeMillis();
-        Map<UUID, Session> activeSessions = SessionCache.getActiveSessions();
+        Map<UUID, Session> activeSessions = SessionCache.takeSnapshot(endTime);
         underTest.prepareSessionsForStorage(activeSessions, endTime);
         for (Session session : activeSessions.values()) {
             assertEquals(endTime, session.getUnsafe(SessionKeys.END), () -> "One of the sessions had differing end time");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void unsavedSessionsFileIsRemovedAfterSave() throws Exception {
+        shutdownStatus = true;
+        underTest.performSave().orElseThrow(AssertionError::new).get();
+
+        assertTrue(unsavedSessionsFile.read().isEmpty());
+    }
+
+    @Test
+    void sessionsLeftUnsavedAreStoredOnNextEnable() throws Exception {
+        Map<UUID, Session> activeSessions = SessionCache.takeSnapshot(System.currentTimeMillis());
+        underTest.prepareSessionsForStorage(activeSessions, System.currentTimeMillis());
+        unsavedSessionsFile.write(activeSessions.values());
+        SessionCache.clear();
+
+        underTest.storeSessionsLeftUnsaved().orElseThrow(AssertionError::new).get();
+
+        database.init();
+        List<Session> stored = database.query(SessionQueries.fetchAllSessions());
+        assertEquals(1, stored.size());
+        assertTrue(unsavedSessionsFile.read().isEmpty());
+        database.close();
+    }
+
+    @Test
+    void sessionsLeftUnsavedAreNotStoredTwiceIfShutdownHappensDuringEnable() throws Exception {
+        Map<UUID, Session> activeSessions = SessionCache.takeSnapshot(System.currentTimeMillis());
+        underTest.prepareSessionsForStorage(activeSessions, System.currentTimeMillis());
+        unsavedSessionsFile.write(activeSessions.values());
+        SessionCache.clear();
+
+        underTest.storeSessionsLeftUnsaved();
+        placeSessionToCache();
+        shutdownStatus = true;
+        underTest.performSave().orElseThrow(AssertionError::new).get();
+
+        database.init();
+        List<Session> stored = database.query(SessionQueries.fetchAllSessions());
+        assertEquals(2, stored.size());
+        assertTrue(unsavedSessionsFile.read().isEmpty());
+        database.close();
+    }
+}
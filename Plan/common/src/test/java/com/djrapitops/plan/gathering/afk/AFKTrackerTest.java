@@ -0,0 +1,109 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.afk;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link AFKTracker}.
+ *
+ * @author Rsl1122
+ */
+class AFKTrackerTest {
+
+    private static final long THRESHOLD = TimeUnit.MINUTES.toMillis(3L);
+
+    private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
+    private AFKTracker underTest;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = mock(PlanConfig.class);
+        when(config.get(TimeSettings.AFK_THRESHOLD)).thenReturn(THRESHOLD);
+        underTest = new AFKTracker(config);
+
+        session = new Session(uuid, TestConstants.SERVER_UUID, 0L, "World1", "SURVIVAL");
+        new SessionCache(new LiveUpdateBroadcaster(mock(PlanConfig.class))).cacheSession(uuid, session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionCache.clear();
+    }
+
+    @Test
+    void afkTimeIsAddedToSessionByAccrual() {
+        underTest.performedAction(uuid, 0L);
+        underTest.performedAction(uuid, THRESHOLD + 5000L);
+        assertEquals(0L, session.getUnsafe(SessionKeys.AFK_TIME));
+
+        underTest.addAFKTimeToSessions();
+        assertEquals(THRESHOLD + 5000L, session.getUnsafe(SessionKeys.AFK_TIME));
+
+        underTest.addAFKTimeToSessions();
+        assertEquals(THRESHOLD + 5000L, session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    void actionsWithinThresholdAreNotAFK() {
+        underTest.performedAction(uuid, 0L);
+        underTest.performedAction(uuid, THRESHOLD - 1L);
+        underTest.loggedOut(uuid, 2 * THRESHOLD - 2L);
+        assertEquals(0L, session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    void afkTimeIsAddedToSessionOnLogout() {
+        underTest.performedAction(uuid, 0L);
+        underTest.loggedOut(uuid, 2 * THRESHOLD);
+        assertEquals(2 * THRESHOLD, session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    void afkCommandDoesNotCountThreshold() {
+        underTest.performedAction(uuid, 0L);
+        underTest.usedAfkCommand(uuid, 1000L);
+        underTest.loggedOut(uuid, 1000L + 5000L);
+        assertEquals(5000L, session.getUnsafe(SessionKeys.AFK_TIME));
+    }
+
+    @Test
+    void ignoredPlayerIsNeverAFK() {
+        underTest.hasIgnorePermission(uuid);
+        underTest.performedAction(uuid, 0L);
+        underTest.loggedOut(uuid, 2 * THRESHOLD);
+        assertEquals(0L, session.getUnsafe(SessionKeys.AFK_TIME));
+        assertFalse(underTest.isAfk(uuid));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link NicknameCache}.
+ *
+ * @author Rsl1122
+ */
+class NicknameCacheTest {
+
+    private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
+    private NicknameCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new NicknameCache(mock(DBSystem.class), mock(ServerInfo.class), mock(ErrorLogger.class));
+    }
+
+    @Test
+    void firstDisplayNameIsAChange() {
+        assertTrue(underTest.updateDisplayName(uuid, "Nick"));
+        assertEquals(Optional.of("Nick"), underTest.getDisplayName(uuid));
+    }
+
+    @Test
+    void sameDisplayNameIsNotAChange() {
+        underTest.updateDisplayName(uuid, "Nick");
+        assertFalse(underTest.updateDisplayName(uuid, "Nick"));
+    }
+
+    @Test
+    void differentDisplayNameIsAChange() {
+        underTest.updateDisplayName(uuid, "Nick");
+        assertTrue(underTest.updateDisplayName(uuid, "Other"));
+        assertEquals(Optional.of("Other"), underTest.getDisplayName(uuid));
+    }
+
+    @Test
+    void displayNameIsForgottenOnLogout() {
+        underTest.updateDisplayName(uuid, "Nick");
+        underTest.removeDisplayName(uuid);
+        assertFalse(underTest.getDisplayName(uuid).isPresent());
+        assertTrue(underTest.updateDisplayName(uuid, "Nick"));
+    }
+}
@@ -16,7 +16,10 @@
  */
 package com.djrapitops.plan.gathering.cache;
 
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.webserver.stream.LiveUpdateBroadcaster;
 import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.settings.config.PlanConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,19 +29,21 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 class SessionCacheTest {
 
     private Session session;
     private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
     private final UUID serverUUID = TestConstants.SERVER_UUID;
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster = new LiveUpdateBroadcaster(mock(PlanConfig.class));
     private SessionCache sessionCache;
 
     @BeforeEach
     void setUp() {
         session = new Session(uuid, serverUUID, 12345L, "World1", "SURVIVAL");
 
-        sessionCache = new SessionCache();
+        sessionCache = new SessionCache(liveUpdateBroadcaster);
         sessionCache.cacheSession(uuid, session);
     }
 
@@ -56,7 +61,7 @@ class SessionCacheTest {
 
     @Test
     void sessionsAreRemovedFromCacheOnEnd() {
-        Optional<Session> ended = new SessionCache().endSession(uuid, System.currentTimeMillis());
+        Optional<Session> ended = new SessionCache(liveUpdateBroadcaster).endSession(uuid, System.currentTimeMillis());
         assertTrue(ended.isPresent());
         for (Session session : SessionCache.getActiveSessions().values()) {
             fail("Session was still in cache: " + session);
@@ -65,7 +70,7 @@ class SessionCacheTest {
 
     @Test
     void sessionsAreRemovedFromCacheOnStart() {
-        Optional<Session> ended = new SessionCache().cacheSession(uuid, new Session(uuid, serverUUID, 52345L, "World1", "SURVIVAL"));
+        Optional<Session> ended = new SessionCache(liveUpdateBroadcaster).cacheSession(uuid, new Session(uuid, serverUUID, 52345L, "World1", "SURVIVAL"));
         assertTrue(ended.isPresent());
         for (Session session : SessionCache.getActiveSessions().values()) {
             if (session.getDate() == 12345L) {
@@ -73,4 +78,49 @@ class SessionCacheTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void activeSessionsAreSnapshots() {
+        Session snapshot = SessionCache.getActiveSessions().get(uuid);
+        assertNotSame(session, snapshot);
+
+        snapshot.endSession(23456L);
+        assertFalse(session.supports(SessionKeys.END));
+    }
+
+    @Test
+    void snapshotIsUnaffectedByChanges() {
+        Session snapshot = session.snapshot(22345L);
+
+        session.changeState("World2", "CREATIVE", 32345L);
+        session.mobKilled();
+
+        assertEquals(10000L, snapshot.getUnsafe(SessionKeys.WORLD_TIMES).getTotal());
+        assertEquals(0, snapshot.getUnsafe(SessionKeys.MOB_KILL_COUNT));
+        assertEquals(20000L, session.getUnsafe(SessionKeys.WORLD_TIMES).getTotal());
+    }
+
+    @Test
+    void activeSessionsKeepNames() {
+        UUID otherUUID = TestConstants.PLAYER_TWO_UUID;
+        Session named = new Session(otherUUID, serverUUID, 12345L, "World1", "SURVIVAL");
+        named.putRawData(SessionKeys.NAME, TestConstants.PLAYER_TWO_NAME);
+        named.putRawData(SessionKeys.SERVER_NAME, "ServerName");
+        sessionCache.cacheSession(otherUUID, named);
+
+        Session snapshot = SessionCache.getActiveSessions().get(otherUUID);
+        assertEquals(Optional.of(TestConstants.PLAYER_TWO_NAME), snapshot.getValue(SessionKeys.NAME));
+        assertEquals(Optional.of("ServerName"), snapshot.getValue(SessionKeys.SERVER_NAME));
+    }
+
+    @Test
+    void activeSessionsArePublishedAgainAfterChange() {
+        Session snapshot = SessionCache.getActiveSessions().get(uuid);
+        assertSame(snapshot, SessionCache.getActiveSessions().get(uuid));
+
+        UUID otherUUID = TestConstants.PLAYER_TWO_UUID;
+        sessionCache.cacheSession(otherUUID, new Session(otherUUID, serverUUID, 12345L, "World1", "SURVIVAL"));
+
+        assertEquals(2, SessionCache.getActiveSessions().size());
+    }
+}
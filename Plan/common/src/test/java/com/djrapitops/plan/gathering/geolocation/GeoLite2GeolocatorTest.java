@@ -0,0 +1,54 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.geolocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for network keys of {@link GeoLite2Geolocator}.
+ *
+ * @author Rsl1122
+ */
+class GeoLite2GeolocatorTest {
+
+    private static String networkKey(String address, int prefixLength) throws UnknownHostException {
+        return GeoLite2Geolocator.getNetworkKey(InetAddress.getByName(address).getAddress(), prefixLength);
+    }
+
+    @Test
+    void hostBitsAreMasked() throws UnknownHostException {
+        assertEquals("208.67.220.0/22", networkKey("208.67.222.222", 22));
+        assertEquals("208.67.220.0/22", networkKey("208.67.220.220", 22));
+    }
+
+    @Test
+    void wholeBytePrefixesAreMasked() throws UnknownHostException {
+        assertEquals("156.53.0.0/16", networkKey("156.53.159.86", 16));
+        assertEquals("156.53.159.86/32", networkKey("156.53.159.86", 32));
+        assertEquals("0.0.0.0/0", networkKey("156.53.159.86", 0));
+    }
+
+    @Test
+    void ipv6AddressesAreMasked() throws UnknownHostException {
+        assertEquals("2001:db8:0:0:0:0:0:0/32", networkKey("2001:db8:85a3::8a2e:370:7334", 32));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.utilities.analysis.Median;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link PingBuffer}.
+ *
+ * @author Rsl1122
+ */
+class PingBufferTest {
+
+    @Test
+    void bufferIsFullAfterSampleCount() {
+        PingBuffer buffer = new PingBuffer();
+        for (int i = 1; i < PingBuffer.SAMPLE_COUNT; i++) {
+            assertFalse(buffer.add(i, 50));
+        }
+        assertTrue(buffer.add(PingBuffer.SAMPLE_COUNT, 50));
+    }
+
+    @Test
+    void aggregateMatchesSamples() {
+        PingBuffer buffer = new PingBuffer();
+        List<DateObj<Integer>> samples = new ArrayList<>();
+        for (int i = 0; i < PingBuffer.SAMPLE_COUNT; i++) {
+            int ping = RandomData.randomInt(1, 4000);
+            samples.add(new DateObj<>(i, ping));
+            buffer.add(i, ping);
+        }
+        List<Integer> values = samples.stream().map(DateObj::getValue).collect(Collectors.toList());
+        int expectedMedian = (int) Median.forList(new ArrayList<>(values)).calculate();
+
+        Ping ping = buffer.aggregate(TestConstants.SERVER_UUID);
+
+        assertEquals(PingBuffer.SAMPLE_COUNT - 1, ping.getDate());
+        assertEquals(values.stream().mapToInt(Integer::intValue).min().orElse(-1), ping.getMin());
+        assertEquals(values.stream().mapToInt(Integer::intValue).max().orElse(-1), ping.getMax());
+        assertEquals(expectedMedian, ping.getAverage(), 0.001);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void valuesOutOfRangeAreNotMinOrMax() {
+        PingBuffer buffer = new PingBuffer();
+        buffer.add(0L, -1);
+        buffer.add(1L, 5000);
+        buffer.add(2L, 100);
+
+        Ping ping = buffer.aggregate(TestConstants.SERVER_UUID);
+        assertEquals(100, ping.getMin());
+        assertEquals(100, ping.getMax());
+    }
+
+    @Test
+    void medianForNoSamplesIsMinusOne() {
+        assertEquals(-1, new PingBuffer().getMedian());
+    }
+}
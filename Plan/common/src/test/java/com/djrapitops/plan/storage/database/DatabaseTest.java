@@ -21,6 +21,7 @@ import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.BaseUser;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.gathering.domain.Session;
@@ -32,8 +33,13 @@ import com.djrapitops.plan.storage.database.queries.*;
 import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.storage.database.queries.containers.ServerPlayerContainersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.sql.building.Insert;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.TaskLeaseTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.transactions.AcquireTaskLeaseTransaction;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.ReleaseTaskLeaseTransaction;
 import com.djrapitops.plan.storage.database.transactions.StoreConfigTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
@@ -48,9 +54,11 @@ import utilities.RandomData;
 import utilities.TestConstants;
 import utilities.TestData;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
@@ -136,6 +144,7 @@ public interface DatabaseTest extends DatabaseTestPreparer {
                 dbSystem(),
                 new QuerySvc(dbSystem(), serverInfo(), null),
                 serverInfo(),
+                null,
                 logger,
                 null
         ).cleanOldPlayers(db());
@@ -317,4 +326,69 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         List<TablePlayer> result = db().query(new NetworkTablePlayersQuery(System.currentTimeMillis(), 10L, 1));
         assertEquals(1, result.size(), () -> "Incorrect query result: " + result);
     }
+
+    default OptionalInt acquireTaskLease(String taskName, UUID serverUUID, int slots, long expires) throws Exception {
+        AcquireTaskLeaseTransaction transaction = new AcquireTaskLeaseTransaction(taskName, serverUUID, slots, expires);
+        db().executeTransaction(transaction).get(); // get to ensure transaction is finished
+        return transaction.getLeasedSlot();
+    }
+
+    @Test
+    default void taskLeaseSlotsAreLeasedUpToTheLimit() throws Exception {
+        long expires = System.currentTimeMillis() + 60000L;
+
+        assertEquals(OptionalInt.of(0), acquireTaskLease("test_task", serverUUID(), 2, expires));
+        assertEquals(OptionalInt.of(1), acquireTaskLease("test_task", UUID.randomUUID(), 2, expires));
+        assertEquals(OptionalInt.empty(), acquireTaskLease("test_task", UUID.randomUUID(), 2, expires));
+    }
+
+    @Test
+    default void releasedTaskLeaseCanBeLeasedAgain() throws Exception {
+        long expires = System.currentTimeMillis() + 60000L;
+        assertEquals(OptionalInt.of(0), acquireTaskLease("test_task", serverUUID(), 1, expires));
+        UUID otherServerUUID = UUID.randomUUID();
+        assertEquals(OptionalInt.empty(), acquireTaskLease("test_task", otherServerUUID, 1, expires));
+
+        db().executeTransaction(new ReleaseTaskLeaseTransaction("test_task", serverUUID(), 0)).get();
+
+        assertEquals(OptionalInt.of(0), acquireTaskLease("test_task", otherServerUUID, 1, expires));
+    }
+
+    @Test
+    default void expiredTaskLeaseIsTakenOver() throws Exception {
+        long now = System.currentTimeMillis();
+        assertEquals(OptionalInt.of(0), acquireTaskLease("test_task", serverUUID(), 1, now - 1000L));
+
+        assertEquals(OptionalInt.of(0), acquireTaskLease("test_task", UUID.randomUUID(), 1, now + 60000L));
+        assertEquals(OptionalInt.empty(), acquireTaskLease("test_task", serverUUID(), 1, now + 60000L));
+    }
+
+    @Test
+    default void taskLeaseSlotCanNotBeInsertedTwice() throws Exception {
+        assertEquals(OptionalInt.of(0), acquireTaskLease("test_task", serverUUID(), 1, System.currentTimeMillis() + 60000L));
+
+        AtomicBoolean duplicateKey = new AtomicBoolean(false);
+        String sql = Insert.values(TaskLeaseTable.TABLE_NAME,
+                TaskLeaseTable.TASK_NAME, TaskLeaseTable.SLOT, TaskLeaseTable.SERVER_UUID, TaskLeaseTable.EXPIRES);
+        db().executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                try {
+                    execute(new ExecStatement(sql) {
+                        @Override
+                        public void prepare(PreparedStatement statement) throws SQLException {
+                            statement.setString(1, "test_task");
+                            statement.setInt(2, 0);
+                            statement.setString(3, UUID.randomUUID().toString());
+                            statement.setLong(4, System.currentTimeMillis() + 60000L);
+                        }
+                    });
+                } catch (DBOpException e) {
+                    duplicateKey.set(e.isDuplicateKey());
+                }
+            }
+        }).get();
+
+        assertTrue(duplicateKey.get());
+    }
 }
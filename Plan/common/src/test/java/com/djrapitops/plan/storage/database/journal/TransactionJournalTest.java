@@ -0,0 +1,195 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.journal;
+
+import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.storage.database.transactions.events.NicknameStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link TransactionJournal}.
+ *
+ * @author Rsl1122
+ */
+class TransactionJournalTest {
+
+    private static final UUID SERVER_UUID = UUID.randomUUID();
+
+    private PlanFiles files;
+    private TransactionJournal underTest;
+
+    @BeforeEach
+    void openJournal(@TempDir Path dir) throws IOException {
+        files = mock(PlanFiles.class);
+        when(files.getDataDirectory()).thenReturn(dir);
+        underTest = new TransactionJournal(files, mock(PluginLogger.class));
+        underTest.open();
+    }
+
+    @AfterEach
+    void closeJournal() {
+        underTest.close();
+    }
+
+    private JournalEntry tpsEntry(long date) {
+        return JournalEntry.tps(SERVER_UUID, new TPS(date, 20.0, 5, 12.5, 1024L, 300, 400, 50000L));
+    }
+
+    private TransactionJournal reopen() throws IOException {
+        underTest.close();
+        underTest = new TransactionJournal(files, mock(PluginLogger.class));
+        underTest.open();
+        return underTest;
+    }
+
+    @Test
+    void appendedEntriesAreRead() throws IOException {
+        underTest.append(tpsEntry(1L));
+        underTest.append(JournalEntry.nickname(UUID.randomUUID(), new Nickname("Name", 2L, SERVER_UUID)));
+
+        TransactionJournal.Batch batch = underTest.readUnconsumed(10);
+
+        assertEquals(2, batch.getEntries().size());
+        assertTrue(batch.getEntries().get(0).toTransaction() instanceof TPSStoreTransaction);
+        assertTrue(batch.getEntries().get(1).toTransaction() instanceof NicknameStoreTransaction);
+    }
+
+    @Test
+    void batchSizeIsLimited() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            underTest.append(tpsEntry(i));
+        }
+
+        assertEquals(3, underTest.readUnconsumed(3).getEntries().size());
+    }
+
+    @Test
+    void checkpointedEntriesAreNotReadAgain() throws IOException {
+        underTest.append(tpsEntry(1L));
+        Future<?> stored = underTest.append(tpsEntry(2L));
+        underTest.checkpoint(underTest.readUnconsumed(1).getEnd());
+
+        assertFalse(stored.isDone());
+        TransactionJournal.Batch batch = underTest.readUnconsumed(10);
+        assertEquals(1, batch.getEntries().size());
+
+        underTest.checkpoint(batch.getEnd());
+        assertTrue(stored.isDone());
+        assertTrue(underTest.readUnconsumed(10).isEmpty());
+    }
+
+    @Test
+    void unconsumedEntriesAreReadAfterRestart() throws IOException {
+        underTest.append(tpsEntry(1L));
+        underTest.append(tpsEntry(2L));
+        underTest.checkpoint(underTest.readUnconsumed(1).getEnd());
+
+        TransactionJournal.Batch batch = reopen().readUnconsumed(10);
+
+        assertEquals(1, batch.getEntries().size());
+    }
+
+    @Test
+    void partiallyWrittenEntryIsIgnored() throws IOException {
+        underTest.append(tpsEntry(1L));
+        underTest.close();
+
+        Path journalDir = files.getDataDirectory().resolve("journal");
+        try (Stream<Path> segments = Files.list(journalDir)) {
+            Path segment = segments.filter(path -> path.toString().endsWith(".journal")).findFirst()
+                    .orElseThrow(AssertionError::new);
+            Files.write(segment, new byte[]{0, 0, 0, 50, 1, 2}, StandardOpenOption.APPEND);
+        }
+
+        TransactionJournal.Batch batch = reopen().readUnconsumed(10);
+        assertEquals(1, batch.getEntries().size());
+    }
+
+    @Test
+    void restOfSegmentAfterCorruptedEntryIsCopiedAside() throws IOException {
+        underTest.append(tpsEntry(1L));
+        underTest.append(tpsEntry(2L));
+        underTest.close();
+
+        Path journalDir = files.getDataDirectory().resolve("journal");
+        byte[] corrupted;
+        try (Stream<Path> segments = Files.list(journalDir)) {
+            Path segment = segments.filter(path -> path.toString().endsWith(".journal")).findFirst()
+                    .orElseThrow(AssertionError::new);
+            corrupted = Files.readAllBytes(segment);
+            corrupted[4] ^= 1; // Checksum of the first entry
+            Files.write(segment, corrupted);
+        }
+
+        TransactionJournal reopened = reopen();
+        TransactionJournal.Batch batch = reopened.readUnconsumed(10);
+        assertTrue(batch.isEmpty());
+        reopened.checkpoint(batch.getEnd());
+
+        try (Stream<Path> list = Files.list(journalDir)) {
+            Path copy = list.filter(path -> path.getFileName().toString().startsWith("corrupted-")).findFirst()
+                    .orElseThrow(AssertionError::new);
+            assertArrayEquals(corrupted, Files.readAllBytes(copy));
+        }
+    }
+
+    @Test
+    void partOfBatchCanBeCheckpointed() throws IOException {
+        underTest.append(tpsEntry(1L));
+        underTest.append(tpsEntry(2L));
+        underTest.append(tpsEntry(3L));
+        underTest.checkpoint(underTest.readUnconsumed(10).getEnd(0));
+
+        TransactionJournal.Batch batch = underTest.readUnconsumed(10);
+
+        assertEquals(2, batch.size());
+        assertArrayEquals(tpsEntry(2L).getData(), batch.getEntries().get(0).getData());
+    }
+
+    @Test
+    void quarantinedEntryIsReadable() throws IOException {
+        JournalEntry entry = tpsEntry(1L);
+        Path quarantineFile = underTest.quarantine(entry);
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(quarantineFile))) {
+            JournalEntry read = JournalEntry.readFrom(in);
+            assertEquals(entry.getType(), read.getType());
+            assertArrayEquals(entry.getData(), read.getData());
+        }
+        assertTrue(underTest.readUnconsumed(10).isEmpty());
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
@@ -38,9 +39,7 @@ import utilities.TestConstants;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -245,4 +244,24 @@ public interface ActivityIndexQueriesTest extends DatabaseTestPreparer {
         assertNotNull(result);
     }
 
+    @Test
+    default void batchedActivityGroupingsMatchGroupingsOfEachDate() {
+        storeSessions(session -> true);
+
+        long date = System.currentTimeMillis();
+        long playtimeThreshold = TimeUnit.HOURS.toMillis(5L);
+        List<Long> dates = new ArrayList<>();
+        for (int week = 0; week < 9; week++) {
+            dates.add(date - TimeUnit.DAYS.toMillis(7L * week));
+        }
+
+        DateMap<Map<String, Integer>> expected = new DateMap<>();
+        for (Long time : dates) {
+            expected.put(time, db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID(), playtimeThreshold)));
+        }
+        DateMap<Map<String, Integer>> result = db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(dates, serverUUID(), playtimeThreshold));
+
+        assertEquals(expected, result);
+    }
+
 }
\ No newline at end of file
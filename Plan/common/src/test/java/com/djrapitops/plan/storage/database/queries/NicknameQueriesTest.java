@@ -28,7 +28,9 @@ import org.junit.jupiter.api.Test;
 import utilities.RandomData;
 import utilities.TestConstants;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,6 +74,24 @@ public interface NicknameQueriesTest extends DatabaseTestPreparer {
         assertEquals(userName, result.get(0));
     }
 
+    @Test
+    default void lastSeenNicknamesAreFetchedForManyPlayers() {
+        db().executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> 0L, TestConstants.PLAYER_ONE_NAME, serverUUID()));
+        db().executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> 0L, TestConstants.PLAYER_TWO_NAME, serverUUID()));
+
+        db().executeTransaction(new NicknameStoreTransaction(playerUUID, new Nickname("Old", 1000L, serverUUID())));
+        db().executeTransaction(new NicknameStoreTransaction(playerUUID, new Nickname("New", 2000L, serverUUID())));
+        db().executeTransaction(new NicknameStoreTransaction(player2UUID, new Nickname("Other", 1500L, serverUUID())));
+
+        Map<UUID, Nickname> result = db().query(NicknameQueries.fetchLastSeenNicknamesOfPlayers(
+                Arrays.asList(playerUUID, player2UUID, UUID.randomUUID()), serverUUID()
+        ));
+
+        assertEquals(2, result.size());
+        assertEquals("New", result.get(playerUUID).getName());
+        assertEquals("Other", result.get(player2UUID).getName());
+    }
+
     @Test
     default void removeEverythingRemovesNicknames() {
         allNicknamesAreSaved();
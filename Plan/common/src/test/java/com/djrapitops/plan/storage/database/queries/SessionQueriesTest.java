@@ -16,6 +16,9 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.Leaderboard;
+import com.djrapitops.plan.delivery.domain.LeaderboardMetric;
+import com.djrapitops.plan.delivery.domain.RetentionMatrix;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
@@ -24,6 +27,10 @@ import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.analysis.CohortQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.LeaderboardQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.UniquePlayerSketchQueries;
 import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerQuery;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.ServerTablePlayersQuery;
@@ -235,6 +242,91 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, got);
     }
 
+    @Test
+    default void estimatedUniquePlayerCountsMatchExactCounts() {
+        prepareForSessionSave();
+        long now = System.currentTimeMillis();
+        long dayMs = TimeUnit.DAYS.toMillis(1L);
+        List<Session> sessions = new ArrayList<>();
+        sessions.add(new Session(playerUUID, serverUUID(), now - 10L * dayMs, worlds[0], "SURVIVAL"));
+        sessions.add(new Session(playerUUID, serverUUID(), now - 3L * dayMs, worlds[0], "SURVIVAL"));
+        sessions.add(new Session(player2UUID, serverUUID(), now - 3L * dayMs, worlds[0], "SURVIVAL"));
+        sessions.add(new Session(player2UUID, serverUUID(), now - TimeUnit.HOURS.toMillis(2L), worlds[0], "SURVIVAL"));
+        for (Session session : sessions) {
+            session.endSession(session.getDate() + TimeUnit.MINUTES.toMillis(30L));
+            execute(DataStoreQueries.storeSession(session));
+        }
+
+        assertEstimateMatchesUniquePlayerCount(now - 30L * dayMs, now);
+        assertEstimateMatchesUniquePlayerCount(now - 7L * dayMs, now);
+        assertEstimateMatchesUniquePlayerCount(now - dayMs, now);
+        assertEstimateMatchesUniquePlayerCount(now - 11L * dayMs, now - 5L * dayMs);
+    }
+
+    @Test
+    default void leaderboardValuesOfPlayerMatchTopPlayers() {
+        prepareForSessionSave();
+        long now = System.currentTimeMillis();
+        Session session = new Session(playerUUID, serverUUID(), now - TimeUnit.HOURS.toMillis(2L), worlds[0], "SURVIVAL");
+        session.endSession(now);
+        execute(DataStoreQueries.storeSession(session));
+        Session session2 = new Session(player2UUID, serverUUID(), now - TimeUnit.HOURS.toMillis(1L), worlds[0], "SURVIVAL");
+        session2.endSession(now);
+        execute(DataStoreQueries.storeSession(session2));
+
+        List<Leaderboard.Entry> top = db().query(LeaderboardQueries.topPlayers(LeaderboardMetric.PLAYTIME, serverUUID(), 10));
+        assertEquals(2, top.size());
+        assertEquals(playerUUID, top.get(0).getPlayerUUID());
+
+        Map<LeaderboardMetric, Long> values = db().query(LeaderboardQueries.valuesOfPlayer(playerUUID)).get(serverUUID());
+        assertEquals(top.get(0).getValue(), values.get(LeaderboardMetric.PLAYTIME));
+        assertEquals(db().query(SessionQueries.playtime(0L, now, serverUUID())), top.get(0).getValue() + top.get(1).getValue());
+        assertEquals(1L, values.get(LeaderboardMetric.SESSIONS));
+        assertEquals(top, db().query(LeaderboardQueries.topPlayers(LeaderboardMetric.PLAYTIME, 10)));
+    }
+
+    @Test
+    default void cohortActivityIsUpdatedBySessions() {
+        long now = System.currentTimeMillis();
+        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
+        db().executeTransaction(new WorldNameStoreTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> weekAgo + 1000L, TestConstants.PLAYER_ONE_NAME, serverUUID()));
+        db().executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> weekAgo + 1000L, TestConstants.PLAYER_TWO_NAME, serverUUID()));
+
+        Session firstDay = new Session(playerUUID, serverUUID(), weekAgo + 1000L, worlds[0], "SURVIVAL");
+        firstDay.endSession(weekAgo + 2000L);
+        execute(DataStoreQueries.storeSession(firstDay));
+        Session lastDay = new Session(player2UUID, serverUUID(), now - 2000L, worlds[0], "SURVIVAL");
+        lastDay.endSession(now - 1000L);
+        execute(DataStoreQueries.storeSession(lastDay));
+
+        assertEquals(2, db().query(CohortQueries.fetchCohortActivity(weekAgo, now, serverUUID())).size());
+        assertEquals(1, db().query(CohortQueries.retainedPlayerCount(weekAgo, now, serverUUID())));
+
+        RetentionMatrix matrix = db().query(CohortQueries.retentionMatrix(weekAgo, now, serverUUID(), 1));
+        int registeredPlayers = 0;
+        for (RetentionMatrix.Cohort cohort : matrix.getCohorts()) {
+            registeredPlayers += cohort.getSize();
+        }
+        assertEquals(2, registeredPlayers);
+
+        long threshold = TimeUnit.SECONDS.toMillis(1L);
+        Map<UUID, Double> expected = db().query(CohortQueries.activityIndexOfNewPlayers(weekAgo, now, serverUUID(), threshold));
+        Map<UUID, Double> inMemory = db().query(SessionQueries.fetchSessionColumns(serverUUID(), now - TimeUnit.DAYS.toMillis(21L), -1))
+                .activityIndexes(now, threshold);
+        assertEquals(2, expected.size());
+        for (Map.Entry<UUID, Double> index : expected.entrySet()) {
+            assertEquals(index.getValue(), inMemory.getOrDefault(index.getKey(), 0.0), 0.001);
+        }
+    }
+
+    default void assertEstimateMatchesUniquePlayerCount(long after, long before) {
+        Integer expected = db().query(PlayerCountQueries.uniquePlayerCount(after, before, serverUUID()));
+        assertEquals(expected, db().query(UniquePlayerSketchQueries.estimatedUniquePlayerCount(after, before, serverUUID())));
+        assertEquals(expected, db().query(UniquePlayerSketchQueries.estimatedUniquePlayerCount(after, before)));
+        assertEquals(expected, db().query(UniquePlayerSketchQueries.estimatedUniquePlayerCounts(after, before)).getOrDefault(serverUUID(), 0));
+    }
+
     @Test
     default void removeEverythingRemovesSessions() {
         sessionsAreStoredWithAllData();
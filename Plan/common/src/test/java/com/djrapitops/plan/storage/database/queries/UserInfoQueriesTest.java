@@ -16,10 +16,16 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.gathering.domain.BaseUser;
+import com.djrapitops.plan.gathering.domain.GeoInfo;
+import com.djrapitops.plan.gathering.domain.PlayerJoin;
 import com.djrapitops.plan.gathering.domain.UserInfo;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.journal.JournalEntry;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.storage.database.queries.objects.GeoInfoQueries;
+import com.djrapitops.plan.storage.database.queries.objects.NicknameQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -32,6 +38,7 @@ import utilities.RandomData;
 import utilities.TestConstants;
 import utilities.TestData;
 
+import java.io.IOException;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -152,6 +159,85 @@ public interface UserInfoQueriesTest extends DatabaseTestPreparer {
         assertTrue(db().query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID())));
     }
 
+    @Test
+    default void playerJoinTransactionRegistersPlayersToBothTables() {
+        db().executeTransaction(new PlayerJoinTransaction(Arrays.asList(
+                new PlayerJoin(playerUUID, TestConstants.PLAYER_ONE_NAME, () -> TestConstants.REGISTER_TIME, TestConstants.REGISTER_TIME)
+                        .onServer(serverUUID(), worlds[0], "Nick"),
+                new PlayerJoin(player2UUID, TestConstants.PLAYER_TWO_NAME, () -> TestConstants.REGISTER_TIME, TestConstants.REGISTER_TIME)
+        ), null));
+
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID())));
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(player2UUID)));
+        assertFalse(db().query(PlayerFetchQueries.isPlayerRegisteredOnServer(player2UUID, serverUUID())));
+
+        assertEquals(
+                Collections.singletonList(new UserInfo(playerUUID, serverUUID(), TestConstants.REGISTER_TIME, false, false)),
+                db().query(UserInfoQueries.fetchUserInformationOfUser(playerUUID))
+        );
+        assertEquals(
+                Collections.singletonList(worlds[0]),
+                new ArrayList<>(db().query(LargeFetchQueries.fetchAllWorldNames()).get(serverUUID()))
+        );
+        assertEquals(
+                Collections.singletonList(new Nickname("Nick", TestConstants.REGISTER_TIME, serverUUID())),
+                db().query(NicknameQueries.fetchNicknameDataOfPlayer(playerUUID))
+        );
+    }
+
+    @Test
+    default void playerJoinTransactionDoesNotDuplicateRowsOnRejoin() {
+        for (int i = 0; i < 2; i++) {
+            long time = TestConstants.REGISTER_TIME + i;
+            db().executeTransaction(new PlayerJoinTransaction(Collections.singletonList(
+                    new PlayerJoin(playerUUID, TestConstants.PLAYER_ONE_NAME, () -> time, time)
+                            .onServer(serverUUID(), worlds[0], "Nick")
+                            .fromAddress("1.2.3.4")
+            ), ip -> "Finland"));
+        }
+
+        assertEquals(1, db().query(UserInfoQueries.fetchUserInformationOfUser(playerUUID)).size());
+        assertEquals(1, db().query(LargeFetchQueries.fetchAllWorldNames()).get(serverUUID()).size());
+        assertEquals(1, db().query(NicknameQueries.fetchNicknameDataOfPlayer(playerUUID)).size());
+        List<GeoInfo> geoInfo = db().query(GeoInfoQueries.fetchAllGeoInformation()).get(playerUUID);
+        assertEquals(Collections.singletonList(new GeoInfo("Finland", 0L)), geoInfo);
+        assertEquals(TestConstants.REGISTER_TIME + 1, geoInfo.get(0).getDate());
+        // Register date is not changed to a later one
+        OptionalAssert.equals(TestConstants.REGISTER_TIME, db().query(PlayerFetchQueries.fetchRegisterDate(playerUUID)));
+    }
+
+    @Test
+    default void proxyJoinDoesNotChangeRegisterDate() {
+        long registered = TestConstants.REGISTER_TIME + 1000L;
+        db().executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> registered, TestConstants.PLAYER_ONE_NAME, serverUUID()));
+        db().executeTransaction(new PlayerJoinTransaction(Collections.singletonList(
+                new PlayerJoin(playerUUID, TestConstants.PLAYER_ONE_NAME, () -> TestConstants.REGISTER_TIME, TestConstants.REGISTER_TIME)
+        ), null));
+
+        OptionalAssert.equals(registered, db().query(PlayerFetchQueries.fetchRegisterDate(playerUUID)));
+    }
+
+    @Test
+    default void playerJoinIsStoredFromJournalEntry() throws IOException {
+        PlayerJoinTransaction transaction = new PlayerJoinTransaction(Collections.singletonList(
+                new PlayerJoin(playerUUID, TestConstants.PLAYER_ONE_NAME, () -> TestConstants.REGISTER_TIME, TestConstants.REGISTER_TIME)
+                        .onServer(serverUUID(), worlds[0], null)
+                        .fromAddress("1.2.3.4")
+        ), ip -> "Finland");
+        JournalEntry entry = transaction.toJournalEntry().orElseThrow(AssertionError::new);
+
+        db().executeTransaction(entry.toTransaction());
+
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID())));
+        OptionalAssert.equals(TestConstants.REGISTER_TIME, db().query(PlayerFetchQueries.fetchRegisterDate(playerUUID)));
+        assertTrue(db().query(NicknameQueries.fetchNicknameDataOfPlayer(playerUUID)).isEmpty());
+        assertEquals(
+                Collections.singletonList(new GeoInfo("Finland", TestConstants.REGISTER_TIME)),
+                db().query(GeoInfoQueries.fetchAllGeoInformation()).get(playerUUID)
+        );
+    }
+
     @Test
     default void removeEverythingRemovesBaseUsers() {
         playerIsRegisteredToUsersTable();
@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.DateMap;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ActivityGroupCounter}.
+ *
+ * @author Rsl1122
+ */
+class ActivityGroupCounterTest {
+
+    private static final long WEEK = TimeUnit.DAYS.toMillis(7L);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1L);
+    private static final long THRESHOLD = 2L * HOUR;
+    private static final long DATE = WEEK * 1000L;
+
+    private final UUID playerUUID = UUID.randomUUID();
+
+    private static double activityIndex(long week1, long week2, long week3) {
+        double sum = 0.0;
+        for (long playtime : new long[]{week1, week2, week3}) {
+            sum += 1.0 / (Math.PI / 2.0 * (playtime * 1.0 / THRESHOLD) + 1.0);
+        }
+        return 5.0 - 5.0 * (sum / 3.0);
+    }
+
+    private static Map<String, Integer> groupOf(double activityIndex) {
+        return Collections.singletonMap(ActivityIndex.getGroup(activityIndex), 1);
+    }
+
+    @Test
+    void playerWithoutSessionsIsInactive() {
+        ActivityGroupCounter counter = new ActivityGroupCounter(Collections.singletonList(DATE), THRESHOLD);
+        counter.addPlayer(playerUUID, 0L);
+
+        assertEquals(groupOf(0.0), counter.count().get(DATE));
+    }
+
+    @Test
+    void playersRegisteredAfterDateAreNotCounted() {
+        ActivityGroupCounter counter = new ActivityGroupCounter(Arrays.asList(DATE, DATE - WEEK), THRESHOLD);
+        counter.addPlayer(playerUUID, DATE - HOUR);
+
+        DateMap<Map<String, Integer>> result = counter.count();
+        assertEquals(groupOf(0.0), result.get(DATE));
+        assertTrue(result.get(DATE - WEEK).isEmpty());
+    }
+
+    @Test
+    void sessionOverlappingWeeksCountsTowardsBoth() {
+        ActivityGroupCounter counter = new ActivityGroupCounter(Collections.singletonList(DATE), THRESHOLD);
+        counter.addPlayer(playerUUID, 0L);
+        long start = DATE - WEEK - HOUR;
+        counter.addSession(playerUUID, start, start + 4L * HOUR, HOUR);
+
+        assertEquals(groupOf(activityIndex(3L * HOUR, 3L * HOUR, 0L)), counter.count().get(DATE));
+    }
+
+    @Test
+    void sharedWeeksAreCountedForEachDate() {
+        ActivityGroupCounter counter = new ActivityGroupCounter(Arrays.asList(DATE, DATE - WEEK, DATE - 2L * WEEK), THRESHOLD);
+        counter.addPlayer(playerUUID, 0L);
+        long start = DATE - 2L * WEEK - 3L * 24L * HOUR;
+        counter.addSession(playerUUID, start, start + 10L * HOUR, 0L);
+
+        DateMap<Map<String, Integer>> result = counter.count();
+        assertEquals(groupOf(activityIndex(0L, 0L, 10L * HOUR)), result.get(DATE));
+        assertEquals(groupOf(activityIndex(0L, 10L * HOUR, 0L)), result.get(DATE - WEEK));
+        assertEquals(groupOf(activityIndex(10L * HOUR, 0L, 0L)), result.get(DATE - 2L * WEEK));
+    }
+
+    @Test
+    void windowCoversThreeWeeksBeforeEarliestDate() {
+        assertEquals(DATE - 5L * WEEK, ActivityGroupCounter.getWindowStart(Arrays.asList(DATE, DATE - 2L * WEEK)));
+        assertEquals(DATE, ActivityGroupCounter.getWindowEnd(Arrays.asList(DATE, DATE - 2L * WEEK)));
+    }
+}
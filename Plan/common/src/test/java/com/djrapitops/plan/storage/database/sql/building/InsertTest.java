@@ -0,0 +1,47 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.building;
+
+import com.djrapitops.plan.storage.database.DBType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link Insert}.
+ *
+ * @author Rsl1122
+ */
+class InsertTest {
+
+    @Test
+    void valuesIfNotExistsSelectsFromDualOnMySQL() {
+        String expected = "INSERT INTO plan_worlds (world_name,server_uuid) SELECT ?,? FROM DUAL" +
+                " WHERE NOT EXISTS (SELECT 1 FROM plan_worlds WHERE world_name=? AND server_uuid=?)";
+        String result = Insert.valuesIfNotExists(DBType.MYSQL.getSql(), "plan_worlds",
+                "world_name=? AND server_uuid=?", "world_name", "server_uuid");
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void valuesIfNotExistsSelectsWithoutTableOnSQLite() {
+        String expected = "INSERT INTO plan_users (uuid) SELECT ?" +
+                " WHERE NOT EXISTS (SELECT 1 FROM plan_users WHERE uuid=?)";
+        String result = Insert.valuesIfNotExists(DBType.SQLITE.getSql(), "plan_users", "uuid=?", "uuid");
+        assertEquals(expected, result);
+    }
+}
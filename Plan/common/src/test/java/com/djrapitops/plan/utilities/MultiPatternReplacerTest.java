@@ -0,0 +1,126 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for {@link MultiPatternReplacer}.
+ *
+ * @author Rsl1122
+ */
+class MultiPatternReplacerTest {
+
+    @Test
+    void patternsAreReplaced() {
+        MultiPatternReplacer replacer = MultiPatternReplacer.builder()
+                .add("Players", "Pelaajat")
+                .add("Sessions", "Sessiot")
+                .build();
+        assertEquals("<h1>Pelaajat</h1><p>Sessiot, Pelaajat</p>", replacer.replace("<h1>Players</h1><p>Sessions, Players</p>"));
+    }
+
+    @Test
+    void longestMatchWins() {
+        MultiPatternReplacer replacer = MultiPatternReplacer.builder()
+                .add("Player", "A")
+                .add("Player Kills", "B")
+                .build();
+        assertEquals("A, B", replacer.replace("Player, Player Kills"));
+    }
+
+    @Test
+    void replacedTextIsNotReplacedAgain() {
+        MultiPatternReplacer replacer = MultiPatternReplacer.builder()
+                .add("a", "b")
+                .add("b", "c")
+                .build();
+        assertEquals("bc", replacer.replace("ab"));
+    }
+
+    @Test
+    void firstReplacementOfDuplicatePatternIsUsed() {
+        MultiPatternReplacer replacer = MultiPatternReplacer.builder()
+                .add("a", "1")
+                .add("a", "2")
+                .build();
+        assertEquals("1", replacer.replace("a"));
+    }
+
+    @Test
+    void unchangedTextIsReturnedAsIs() {
+        String text = "Nothing to replace";
+        assertSame(text, MultiPatternReplacer.builder().add("x", "y").build().replace(text));
+        assertSame(text, MultiPatternReplacer.empty().replace(text));
+    }
+
+    @Test
+    void partOfTextIsReplaced() {
+        MultiPatternReplacer replacer = MultiPatternReplacer.builder().add("a", "b").build();
+        StringBuilder result = new StringBuilder();
+        replacer.replace("aaaa", 1, 3, result);
+        assertEquals("bb", result.toString());
+    }
+
+    @Test
+    void matchesNaiveReplacement() {
+        Random random = new Random(5L);
+        for (int test = 0; test < 500; test++) {
+            Map<String, String> patterns = new LinkedHashMap<>();
+            for (int i = 0; i < 1 + random.nextInt(8); i++) {
+                patterns.putIfAbsent(randomString(random, 1 + random.nextInt(4)), "[" + i + "]");
+            }
+            String text = randomString(random, random.nextInt(60));
+
+            assertEquals(naiveReplace(text, patterns), MultiPatternReplacer.of(patterns).replace(text), () -> text + " " + patterns);
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+
+    private static String naiveReplace(String text, Map<String, String> patterns) {
+        StringBuilder result = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            String longest = null;
+            for (String pattern : patterns.keySet()) {
+                if (text.startsWith(pattern, i) && (longest == null || pattern.length() > longest.length())) {
+                    longest = pattern;
+                }
+            }
+            if (longest != null) {
+                result.append(patterns.get(longest));
+                i += longest.length();
+            } else {
+                result.append(text.charAt(i));
+                i++;
+            }
+        }
+        return result.toString();
+    }
+}
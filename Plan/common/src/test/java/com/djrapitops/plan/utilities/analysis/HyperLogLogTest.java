@@ -0,0 +1,104 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HyperLogLog}.
+ *
+ * @author Rsl1122
+ */
+class HyperLogLogTest {
+
+    private static List<UUID> randomUUIDs(int count) {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            uuids.add(UUID.randomUUID());
+        }
+        return uuids;
+    }
+
+    private static HyperLogLog sketchOf(List<UUID> uuids) {
+        HyperLogLog sketch = new HyperLogLog();
+        uuids.forEach(sketch::add);
+        return sketch;
+    }
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void smallCountsAreExact() {
+        List<UUID> uuids = randomUUIDs(20);
+        HyperLogLog sketch = sketchOf(uuids);
+        uuids.forEach(sketch::add);
+
+        assertEquals(20, sketch.estimate());
+    }
+
+    @Test
+    void addingSamePlayerDoesNotChangeSketch() {
+        UUID uuid = UUID.randomUUID();
+        HyperLogLog sketch = new HyperLogLog();
+
+        assertTrue(sketch.add(uuid));
+        assertFalse(sketch.add(uuid));
+    }
+
+    @Test
+    void largeCountIsWithinErrorBounds() {
+        int estimate = sketchOf(randomUUIDs(100000)).estimate();
+        assertTrue(Math.abs(estimate - 100000) < 100000 * 0.1, () -> "Estimate was " + estimate);
+    }
+
+    @Test
+    void mergedSketchEstimatesUnion() {
+        List<UUID> first = randomUUIDs(3000);
+        List<UUID> second = new ArrayList<>(first.subList(0, 1000));
+        second.addAll(randomUUIDs(2000));
+
+        HyperLogLog merged = sketchOf(first);
+        merged.merge(sketchOf(second));
+
+        int estimate = merged.estimate();
+        assertTrue(Math.abs(estimate - 5000) < 5000 * 0.1, () -> "Estimate was " + estimate);
+    }
+
+    @Test
+    void serializedSketchesAreEqual() {
+        HyperLogLog sparse = sketchOf(randomUUIDs(10));
+        HyperLogLog dense = sketchOf(randomUUIDs(10000));
+
+        assertEquals(sparse.estimate(), HyperLogLog.deserialize(sparse.serialize()).estimate());
+        assertEquals(dense.estimate(), HyperLogLog.deserialize(dense.serialize()).estimate());
+        assertTrue(dense.serialize().length() <= HyperLogLog.MAX_SERIALIZED_LENGTH);
+    }
+
+    @Test
+    void invalidSketchIsNotDeserialized() {
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.deserialize("AQID"));
+    }
+}
@@ -81,6 +81,8 @@ public class PluginSuperClassBindingModule {
         when(mock.getWorlds()).thenCallRealMethod();
         when(mock.getChunkCount(Mockito.any())).thenCallRealMethod();
         when(mock.getEntityCount(Mockito.any())).thenCallRealMethod();
+        when(mock.getChunkCount()).thenCallRealMethod();
+        when(mock.getEntityCount()).thenCallRealMethod();
         when(mock.getTPS()).thenCallRealMethod();
         return mock;
     }
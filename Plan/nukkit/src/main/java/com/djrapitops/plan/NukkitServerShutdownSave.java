@@ -17,6 +17,7 @@
 package com.djrapitops.plan;
 
 import com.djrapitops.plan.gathering.ServerShutdownSave;
+import com.djrapitops.plan.gathering.UnsavedSessionsFile;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -38,9 +39,10 @@ public class NukkitServerShutdownSave extends ServerShutdownSave {
             Locale locale,
             DBSystem dbSystem,
             PluginLogger logger,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            UnsavedSessionsFile unsavedSessionsFile
     ) {
-        super(locale, dbSystem, logger, errorLogger);
+        super(locale, dbSystem, logger, errorLogger, unsavedSessionsFile);
     }
 
     @Override
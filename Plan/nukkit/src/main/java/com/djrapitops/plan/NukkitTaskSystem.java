@@ -21,10 +21,12 @@ import cn.nukkit.level.Level;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.ExtensionServerMethodCallerTask;
 import com.djrapitops.plan.gathering.ShutdownHook;
+import com.djrapitops.plan.gathering.listeners.nukkit.NukkitAFKListener;
 import com.djrapitops.plan.gathering.timed.NukkitPingCounter;
 import com.djrapitops.plan.gathering.timed.ServerTPSCounter;
 import com.djrapitops.plan.gathering.timed.SystemUsageBuffer;
 import com.djrapitops.plan.gathering.timed.TPSCounter;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
@@ -49,11 +51,13 @@ public class NukkitTaskSystem extends TaskSystem {
 
     private final PlanNukkit plugin;
     private final PlanConfig config;
+    private final ServerInfo serverInfo;
     private final ShutdownHook shutdownHook;
     private final JSONCache.CleanTask jsonCacheCleanTask;
     private final LogsFolderCleanTask logsFolderCleanTask;
     private final TPSCounter tpsCounter;
     private final NukkitPingCounter pingCounter;
+    private final NukkitAFKListener afkListener;
     private final ConfigStoreTask configStoreTask;
     private final DBCleanTask dbCleanTask;
     private final SystemUsageBuffer.RamAndCpuTask ramAndCpuTask;
@@ -66,9 +70,11 @@ public class NukkitTaskSystem extends TaskSystem {
             PlanConfig config,
             ShutdownHook shutdownHook,
             RunnableFactory runnableFactory,
+            ServerInfo serverInfo,
 
             ServerTPSCounter<Level> tpsCounter,
             NukkitPingCounter pingCounter,
+            NukkitAFKListener afkListener,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask,
 
             LogsFolderCleanTask logsFolderCleanTask,
@@ -81,11 +87,13 @@ public class NukkitTaskSystem extends TaskSystem {
         super(runnableFactory);
         this.plugin = plugin;
         this.config = config;
+        this.serverInfo = serverInfo;
         this.shutdownHook = shutdownHook;
         this.jsonCacheCleanTask = jsonCacheCleanTask;
 
         this.tpsCounter = tpsCounter;
         this.pingCounter = pingCounter;
+        this.afkListener = afkListener;
         this.extensionServerMethodCallerTask = extensionServerMethodCallerTask;
 
         this.logsFolderCleanTask = logsFolderCleanTask;
@@ -99,6 +107,7 @@ public class NukkitTaskSystem extends TaskSystem {
     public void enable() {
         registerTPSCounter();
         registerPingCounter();
+        registerAFKTimeAccrualTask();
         registerExtensionDataGatheringTask();
         registerUpkeepTasks();
 
@@ -107,11 +116,13 @@ public class NukkitTaskSystem extends TaskSystem {
 
     private void registerUpkeepTasks() {
         // +40 ticks / 2 seconds so that update check task runs first.
-        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40;
+        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40
+                + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(1L, TimeUnit.MINUTES));
         registerTask(configStoreTask).runTaskLaterAsynchronously(storeDelay);
         registerTask(logsFolderCleanTask).runTaskLaterAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS));
+        // Offset up to 10 minutes so that servers of a network do not clean the database at the same time.
         registerTask(dbCleanTask).runTaskTimerAsynchronously(
-                TimeAmount.toTicks(20, TimeUnit.SECONDS),
+                TimeAmount.toTicks(20, TimeUnit.SECONDS) + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(10, TimeUnit.MINUTES)),
                 TimeAmount.toTicks(config.get(TimeSettings.CLEAN_DATABASE_PERIOD), TimeUnit.MILLISECONDS)
         );
         long minute = TimeAmount.toTicks(1, TimeUnit.MINUTES);
@@ -122,20 +133,27 @@ public class NukkitTaskSystem extends TaskSystem {
         long halfSecondTicks = TimeAmount.toTicks(500L, TimeUnit.MILLISECONDS);
         long secondTicks = TimeAmount.toTicks(1L, TimeUnit.SECONDS);
         long minuteTicks = TimeAmount.toTicks(1L, TimeUnit.MINUTES);
-        registerTask(tpsCounter).runTaskTimer(minuteTicks, secondTicks);
-        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks, secondTicks);
-        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks, minuteTicks);
+        // Offset within the minute so that servers of a network do not store their TPS at the same time.
+        long phaseOffset = getPhaseOffset(serverInfo.getServerUUID(), minuteTicks);
+        registerTask(tpsCounter).runTaskTimer(minuteTicks + phaseOffset, secondTicks);
+        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks + phaseOffset, secondTicks);
+        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks + phaseOffset, minuteTicks);
     }
 
     private void registerPingCounter() {
         Long pingDelay = config.get(TimeSettings.PING_SERVER_ENABLE_DELAY);
         if (pingDelay < TimeUnit.HOURS.toMillis(1L) && config.isTrue(DataGatheringSettings.PING)) {
             plugin.registerListener(pingCounter);
-            long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS);
-            registerTask(pingCounter).runTaskTimer(startDelay, 40L);
+            long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS) + getPhaseOffset(serverInfo.getServerUUID(), 40L);
+            registerTask(pingCounter).runTaskTimerAsynchronously(startDelay, 40L);
         }
     }
 
+    private void registerAFKTimeAccrualTask() {
+        long tenSecondTicks = TimeAmount.toTicks(10L, TimeUnit.SECONDS);
+        registerTask(afkListener.createAccrualTask()).runTaskTimerAsynchronously(tenSecondTicks, tenSecondTicks);
+    }
+
     private void registerExtensionDataGatheringTask() {
         long extensionRefreshPeriod = TimeAmount.toTicks(config.get(TimeSettings.EXTENSION_DATA_REFRESH_PERIOD), TimeUnit.MILLISECONDS);
         registerTask(extensionServerMethodCallerTask).runTaskTimerAsynchronously(
@@ -147,5 +165,6 @@ public class NukkitTaskSystem extends TaskSystem {
     public void disable() {
         super.disable();
         Optional.ofNullable(Server.getInstance().getScheduler()).ifPresent(scheduler -> scheduler.cancelTask(plugin));
+        pingCounter.storeAggregates();
     }
 }
@@ -84,7 +84,9 @@ public class NukkitPlaceholderRegistrar {
         UUID uuid = player.getUniqueId();
 
         PlayerContainer container = system.getDatabaseSystem().getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(uuid));
-        SessionCache.getCachedSession(uuid).ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
+        SessionCache.getCachedSession(uuid)
+                .map(session -> session.snapshot(System.currentTimeMillis()))
+                .ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
 
         return container;
     }
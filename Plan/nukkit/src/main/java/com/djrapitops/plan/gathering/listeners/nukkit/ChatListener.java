@@ -77,9 +77,10 @@ public class ChatListener implements Listener {
         UUID uuid = player.getUniqueId();
         String displayName = player.getDisplayName();
 
-        dbSystem.getDatabase().executeTransaction(new NicknameStoreTransaction(
-                uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
-                (playerUUID, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+        if (nicknameCache.updateDisplayName(uuid, displayName)) {
+            dbSystem.getDatabase().executeTransaction(new NicknameStoreTransaction(
+                    uuid, new Nickname(displayName, time, serverInfo.getServerUUID())
+            ));
+        }
     }
 }
@@ -29,9 +29,10 @@ import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
 
 import javax.inject.Inject;
-import java.util.HashMap;
+import javax.inject.Singleton;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -41,6 +42,7 @@ import java.util.UUID;
  * @author Rsl1122
  * @see PlayerOnlineListener
  */
+@Singleton
 public class NukkitAFKListener implements Listener {
 
     // Static so that /reload does not cause afk tracking to fail.
@@ -55,7 +57,7 @@ public class NukkitAFKListener implements Listener {
             ErrorLogger errorLogger
     ) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new HashMap<>();
+        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         NukkitAFKListener.assignAFKTracker(config);
     }
@@ -66,19 +68,31 @@ public class NukkitAFKListener implements Listener {
         }
     }
 
+    /**
+     * Create a task that adds AFK time of online players to their sessions.
+     *
+     * @return Task to run periodically.
+     */
+    public AFKTracker.AccrualTask createAccrualTask() {
+        return new AFKTracker.AccrualTask(AFK_TRACKER);
+    }
+
     private void event(PlayerEvent event) {
         try {
             Player player = event.getPlayer();
             UUID uuid = player.getUniqueId();
             long time = System.currentTimeMillis();
 
-            boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
+            Boolean ignored = ignorePermissionInfo.get(uuid);
+            if (ignored == null) {
+                ignored = player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+                ignorePermissionInfo.put(uuid, ignored);
+                if (ignored) {
+                    AFK_TRACKER.hasIgnorePermission(uuid);
+                }
+            }
             if (ignored) {
-                AFK_TRACKER.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
                 return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
             AFK_TRACKER.performedAction(uuid, time);
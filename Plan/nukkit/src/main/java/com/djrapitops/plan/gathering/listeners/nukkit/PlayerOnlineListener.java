@@ -24,26 +24,24 @@ import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerKickEvent;
 import cn.nukkit.event.player.PlayerLoginEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
-import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.export.Exporter;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.gathering.PlayerJoinQueue;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.GMTimes;
+import com.djrapitops.plan.gathering.domain.PlayerJoin;
 import com.djrapitops.plan.gathering.domain.Session;
-import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
 import com.djrapitops.plan.gathering.listeners.Status;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
-import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -66,7 +64,7 @@ public class PlayerOnlineListener implements Listener {
     private final DBSystem dbSystem;
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
-    private final GeolocationCache geolocationCache;
+    private final PlayerJoinQueue joinQueue;
     private final NicknameCache nicknameCache;
     private final SessionCache sessionCache;
     private final ErrorLogger errorLogger;
@@ -80,7 +78,7 @@ public class PlayerOnlineListener implements Listener {
             DBSystem dbSystem,
             ExtensionSvc extensionService,
             Exporter exporter,
-            GeolocationCache geolocationCache,
+            PlayerJoinQueue joinQueue,
             NicknameCache nicknameCache,
             SessionCache sessionCache,
             Status status,
@@ -92,7 +90,7 @@ public class PlayerOnlineListener implements Listener {
         this.dbSystem = dbSystem;
         this.extensionService = extensionService;
         this.exporter = exporter;
-        this.geolocationCache = geolocationCache;
+        this.joinQueue = joinQueue;
         this.nicknameCache = nicknameCache;
         this.sessionCache = sessionCache;
         this.status = status;
@@ -158,33 +156,20 @@ public class PlayerOnlineListener implements Listener {
         String world = player.getLevel().getName();
         String gm = GMTimes.magicNumberToGMName(player.getGamemode());
 
-        Database database = dbSystem.getDatabase();
-        database.executeTransaction(new WorldNameStoreTransaction(serverUUID, world));
-
         String address = player.getAddress();
 
         String playerName = player.getName();
         String displayName = player.getDisplayName();
 
-        boolean gatheringGeolocations = config.isTrue(DataGatheringSettings.GEOLOCATIONS);
-        if (gatheringGeolocations) {
-            database.executeTransaction(
-                    new GeoInfoStoreTransaction(playerUUID, address, time, geolocationCache::getCountry)
-            );
-        }
-
         long registerDate = TimeUnit.SECONDS.toMillis(player.getFirstPlayed());
-        database.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> registerDate, playerName, serverUUID));
+        joinQueue.queue(new PlayerJoin(playerUUID, playerName, () -> registerDate, time)
+                .onServer(serverUUID, world, displayName)
+                .fromAddress(address));
         Session session = new Session(playerUUID, serverUUID, time, world, gm);
         session.putRawData(SessionKeys.NAME, playerName);
         session.putRawData(SessionKeys.SERVER_NAME, serverInfo.getServer().getIdentifiableName());
         sessionCache.cacheSession(playerUUID, session)
-                .ifPresent(previousSession -> database.executeTransaction(new SessionEndTransaction(previousSession)));
-
-        database.executeTransaction(new NicknameStoreTransaction(
-                playerUUID, new Nickname(displayName, time, serverUUID),
-                (uuid, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+                .ifPresent(previousSession -> dbSystem.getDatabase().executeTransaction(new SessionEndTransaction(previousSession)));
 
         processing.submitNonCritical(() -> extensionService.updatePlayerValues(playerUUID, playerName, CallEvents.PLAYER_JOIN));
         if (config.isTrue(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
@@ -223,6 +208,7 @@ public class PlayerOnlineListener implements Listener {
         NukkitAFKListener.AFK_TRACKER.loggedOut(playerUUID, time);
 
         nicknameCache.removeDisplayName(playerUUID);
+        joinQueue.storeQueued(); // Join of the player is stored before the session
 
         dbSystem.getDatabase().executeTransaction(new BanStatusTransaction(playerUUID, player::isBanned));
 
@@ -19,10 +19,12 @@ package com.djrapitops.plan;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.ExtensionServerMethodCallerTask;
 import com.djrapitops.plan.gathering.ShutdownHook;
+import com.djrapitops.plan.gathering.listeners.sponge.SpongeAFKListener;
 import com.djrapitops.plan.gathering.timed.ServerTPSCounter;
 import com.djrapitops.plan.gathering.timed.SpongePingCounter;
 import com.djrapitops.plan.gathering.timed.SystemUsageBuffer;
 import com.djrapitops.plan.gathering.timed.TPSCounter;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
@@ -44,12 +46,14 @@ public class SpongeTaskSystem extends TaskSystem {
 
     private final PlanSponge plugin;
     private final PlanConfig config;
+    private final ServerInfo serverInfo;
     private final ShutdownHook shutdownHook;
     private final TPSCounter tpsCounter;
     private final JSONCache.CleanTask jsonCacheCleanTask;
     private final SystemUsageBuffer.RamAndCpuTask ramAndCpuTask;
     private final SystemUsageBuffer.DiskTask diskTask;
     private final SpongePingCounter pingCounter;
+    private final SpongeAFKListener afkListener;
     private final LogsFolderCleanTask logsFolderCleanTask;
     private final ConfigStoreTask configStoreTask;
     private final DBCleanTask dbCleanTask;
@@ -61,9 +65,11 @@ public class SpongeTaskSystem extends TaskSystem {
             PlanConfig config,
             ShutdownHook shutdownHook,
             RunnableFactory runnableFactory,
+            ServerInfo serverInfo,
 
             ServerTPSCounter<World> tpsCounter,
             SpongePingCounter pingCounter,
+            SpongeAFKListener afkListener,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask,
 
             LogsFolderCleanTask logsFolderCleanTask,
@@ -76,10 +82,12 @@ public class SpongeTaskSystem extends TaskSystem {
         super(runnableFactory);
         this.plugin = plugin;
         this.config = config;
+        this.serverInfo = serverInfo;
         this.shutdownHook = shutdownHook;
 
         this.tpsCounter = tpsCounter;
         this.pingCounter = pingCounter;
+        this.afkListener = afkListener;
         this.extensionServerMethodCallerTask = extensionServerMethodCallerTask;
 
         this.logsFolderCleanTask = logsFolderCleanTask;
@@ -95,6 +103,7 @@ public class SpongeTaskSystem extends TaskSystem {
     public void enable() {
         registerTPSCounter();
         registerPingCounter();
+        registerAFKTimeAccrualTask();
         registerExtensionDataGatheringTask();
         registerUpkeepTasks();
 
@@ -103,11 +112,13 @@ public class SpongeTaskSystem extends TaskSystem {
 
     private void registerUpkeepTasks() {
         // +40 ticks / 2 seconds so that update check task runs first.
-        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40;
+        long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40
+                + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(1L, TimeUnit.MINUTES));
         registerTask(configStoreTask).runTaskLaterAsynchronously(storeDelay);
         registerTask(logsFolderCleanTask).runTaskLaterAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS));
+        // Offset up to 10 minutes so that servers of a network do not clean the database at the same time.
         registerTask(dbCleanTask).runTaskTimerAsynchronously(
-                TimeAmount.toTicks(20, TimeUnit.SECONDS),
+                TimeAmount.toTicks(20, TimeUnit.SECONDS) + getPhaseOffset(serverInfo.getServerUUID(), TimeAmount.toTicks(10, TimeUnit.MINUTES)),
                 TimeAmount.toTicks(config.get(TimeSettings.CLEAN_DATABASE_PERIOD), TimeUnit.MILLISECONDS)
         );
         long minute = TimeAmount.toTicks(1, TimeUnit.MINUTES);
@@ -118,20 +129,27 @@ public class SpongeTaskSystem extends TaskSystem {
         long halfSecondTicks = TimeAmount.toTicks(500L, TimeUnit.MILLISECONDS);
         long secondTicks = TimeAmount.toTicks(1L, TimeUnit.SECONDS);
         long minuteTicks = TimeAmount.toTicks(1L, TimeUnit.MINUTES);
-        registerTask(tpsCounter).runTaskTimer(minuteTicks, secondTicks);
-        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks, secondTicks);
-        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks, minuteTicks);
+        // Offset within the minute so that servers of a network do not store their TPS at the same time.
+        long phaseOffset = getPhaseOffset(serverInfo.getServerUUID(), minuteTicks);
+        registerTask(tpsCounter).runTaskTimer(minuteTicks + phaseOffset, secondTicks);
+        registerTask(ramAndCpuTask).runTaskTimerAsynchronously(minuteTicks - halfSecondTicks + phaseOffset, secondTicks);
+        registerTask(diskTask).runTaskTimerAsynchronously(50L * secondTicks + phaseOffset, minuteTicks);
     }
 
     private void registerPingCounter() {
         Long pingDelay = config.get(TimeSettings.PING_SERVER_ENABLE_DELAY);
         if (pingDelay < TimeUnit.HOURS.toMillis(1L) && config.isTrue(DataGatheringSettings.PING)) {
             plugin.registerListener(pingCounter);
-            long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS);
+            long startDelay = TimeAmount.toTicks(pingDelay, TimeUnit.MILLISECONDS) + getPhaseOffset(serverInfo.getServerUUID(), 40L);
             registerTask(pingCounter).runTaskTimer(startDelay, 40L);
         }
     }
 
+    private void registerAFKTimeAccrualTask() {
+        long tenSecondTicks = TimeAmount.toTicks(10L, TimeUnit.SECONDS);
+        registerTask(afkListener.createAccrualTask()).runTaskTimerAsynchronously(tenSecondTicks, tenSecondTicks);
+    }
+
     private void registerExtensionDataGatheringTask() {
         long extensionRefreshPeriod = TimeAmount.toTicks(config.get(TimeSettings.EXTENSION_DATA_REFRESH_PERIOD), TimeUnit.MILLISECONDS);
         registerTask(extensionServerMethodCallerTask).runTaskTimerAsynchronously(
@@ -145,5 +163,6 @@ public class SpongeTaskSystem extends TaskSystem {
         for (Task task : Sponge.getScheduler().getScheduledTasks(plugin)) {
             task.cancel();
         }
+        pingCounter.storeAggregates();
     }
 }
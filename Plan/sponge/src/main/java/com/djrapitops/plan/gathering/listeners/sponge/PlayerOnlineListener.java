@@ -16,25 +16,23 @@
  */
 package com.djrapitops.plan.gathering.listeners.sponge;
 
-import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.export.Exporter;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.gathering.PlayerJoinQueue;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.PlayerJoin;
 import com.djrapitops.plan.gathering.domain.Session;
-import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
 import com.djrapitops.plan.gathering.listeners.Status;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
-import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -52,7 +50,6 @@ import org.spongepowered.api.service.ProviderRegistration;
 import org.spongepowered.api.service.ban.BanService;
 
 import javax.inject.Inject;
-import java.net.InetAddress;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -69,7 +66,7 @@ public class PlayerOnlineListener {
     private final DBSystem dbSystem;
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
-    private final GeolocationCache geolocationCache;
+    private final PlayerJoinQueue joinQueue;
     private final NicknameCache nicknameCache;
     private final SessionCache sessionCache;
     private final Status status;
@@ -82,7 +79,7 @@ public class PlayerOnlineListener {
             ServerInfo serverInfo,
             DBSystem dbSystem,
             ExtensionSvc extensionService,
-            Exporter exporter, GeolocationCache geolocationCache,
+            Exporter exporter, PlayerJoinQueue joinQueue,
             NicknameCache nicknameCache,
             SessionCache sessionCache,
             Status status,
@@ -94,7 +91,7 @@ public class PlayerOnlineListener {
         this.dbSystem = dbSystem;
         this.extensionService = extensionService;
         this.exporter = exporter;
-        this.geolocationCache = geolocationCache;
+        this.joinQueue = joinQueue;
         this.nicknameCache = nicknameCache;
         this.sessionCache = sessionCache;
         this.status = status;
@@ -163,32 +160,19 @@ public class PlayerOnlineListener {
         Optional<GameMode> gameMode = player.getGameModeData().get(Keys.GAME_MODE);
         String gm = gameMode.map(mode -> mode.getName().toUpperCase()).orElse("ADVENTURE");
 
-        Database database = dbSystem.getDatabase();
-        database.executeTransaction(new WorldNameStoreTransaction(serverUUID, world));
-
-        InetAddress address = player.getConnection().getAddress().getAddress();
+        String address = player.getConnection().getAddress().getAddress().getHostAddress();
 
         String playerName = player.getName();
         String displayName = player.getDisplayNameData().displayName().get().toPlain();
 
-        boolean gatheringGeolocations = config.isTrue(DataGatheringSettings.GEOLOCATIONS);
-        if (gatheringGeolocations) {
-            database.executeTransaction(
-                    new GeoInfoStoreTransaction(playerUUID, address, time, geolocationCache::getCountry)
-            );
-        }
-
-        database.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> time, playerName, serverUUID));
+        joinQueue.queue(new PlayerJoin(playerUUID, playerName, () -> time, time)
+                .onServer(serverUUID, world, displayName)
+                .fromAddress(address));
         Session session = new Session(playerUUID, serverUUID, time, world, gm);
         session.putRawData(SessionKeys.NAME, playerName);
         session.putRawData(SessionKeys.SERVER_NAME, serverInfo.getServer().getIdentifiableName());
         sessionCache.cacheSession(playerUUID, session)
-                .ifPresent(previousSession -> database.executeTransaction(new SessionEndTransaction(previousSession)));
-
-        database.executeTransaction(new NicknameStoreTransaction(
-                playerUUID, new Nickname(displayName, time, serverUUID),
-                (uuid, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+                .ifPresent(previousSession -> dbSystem.getDatabase().executeTransaction(new SessionEndTransaction(previousSession)));
 
         processing.submitNonCritical(() -> extensionService.updatePlayerValues(playerUUID, playerName, CallEvents.PLAYER_JOIN));
         if (config.isTrue(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
@@ -225,6 +209,7 @@ public class PlayerOnlineListener {
         SpongeAFKListener.AFK_TRACKER.loggedOut(playerUUID, time);
 
         nicknameCache.removeDisplayName(playerUUID);
+        joinQueue.storeQueued(); // Join of the player is stored before the session
 
         boolean banned = isBanned(player.getProfile());
         dbSystem.getDatabase().executeTransaction(new BanStatusTransaction(playerUUID, () -> banned));
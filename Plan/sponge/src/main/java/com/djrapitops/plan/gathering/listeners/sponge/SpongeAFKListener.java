@@ -34,9 +34,10 @@ import org.spongepowered.api.event.message.MessageChannelEvent;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 
 import javax.inject.Inject;
-import java.util.HashMap;
+import javax.inject.Singleton;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -46,6 +47,7 @@ import java.util.UUID;
  * @author Rsl1122
  * @see PlayerOnlineListener
  */
+@Singleton
 public class SpongeAFKListener {
 
     // Static so that /reload does not cause afk tracking to fail.
@@ -57,7 +59,7 @@ public class SpongeAFKListener {
     @Inject
     public SpongeAFKListener(PlanConfig config, ErrorLogger errorLogger) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new HashMap<>();
+        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         SpongeAFKListener.assignAFKTracker(config);
     }
@@ -68,6 +70,15 @@ public class SpongeAFKListener {
         }
     }
 
+    /**
+     * Create a task that adds AFK time of online players to their sessions.
+     *
+     * @return Task to run periodically.
+     */
+    public AFKTracker.AccrualTask createAccrualTask() {
+        return new AFKTracker.AccrualTask(AFK_TRACKER);
+    }
+
     private void event(TargetPlayerEvent event) {
         try {
             performedAction(event.getTargetEntity());
@@ -90,13 +101,16 @@ public class SpongeAFKListener {
         UUID uuid = player.getUniqueId();
         long time = System.currentTimeMillis();
 
-        boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
+        Boolean ignored = ignorePermissionInfo.get(uuid);
+        if (ignored == null) {
+            ignored = player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+            ignorePermissionInfo.put(uuid, ignored);
+            if (ignored) {
+                AFK_TRACKER.hasIgnorePermission(uuid);
+            }
+        }
         if (ignored) {
-            AFK_TRACKER.hasIgnorePermission(uuid);
-            ignorePermissionInfo.put(uuid, true);
             return;
-        } else {
-            ignorePermissionInfo.put(uuid, false);
         }
 
         AFK_TRACKER.performedAction(uuid, time);
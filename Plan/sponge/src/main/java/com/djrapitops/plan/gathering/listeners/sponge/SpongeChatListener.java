@@ -76,9 +76,10 @@ public class SpongeChatListener {
         UUID uuid = player.getUniqueId();
         String displayName = player.getDisplayNameData().displayName().get().toPlain();
 
-        dbSystem.getDatabase().executeTransaction(new NicknameStoreTransaction(
-                uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
-                (playerUUID, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+        if (nicknameCache.updateDisplayName(uuid, displayName)) {
+            dbSystem.getDatabase().executeTransaction(new NicknameStoreTransaction(
+                    uuid, new Nickname(displayName, time, serverInfo.getServerUUID())
+            ));
+        }
     }
 }
\ No newline at end of file
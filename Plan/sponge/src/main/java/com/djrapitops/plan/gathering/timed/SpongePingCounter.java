@@ -23,12 +23,12 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -39,6 +39,7 @@ import org.spongepowered.api.event.network.ClientConnectionEvent;
 
 import javax.inject.Inject;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -48,7 +49,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class SpongePingCounter extends AbsRunnable {
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingBuffer> playerHistory;
+    private final Map<UUID, List<Ping>> aggregates;
+    private int samplingRounds;
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
@@ -66,18 +69,19 @@ public class SpongePingCounter extends AbsRunnable {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.runnableFactory = runnableFactory;
-        playerHistory = new HashMap<>();
+        playerHistory = new ConcurrentHashMap<>();
+        aggregates = new HashMap<>();
     }
 
     @Override
-    public void run() {
+    public synchronized void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingBuffer>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingBuffer> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingBuffer history = entry.getValue();
             Optional<Player> player = Sponge.getServer().getPlayer(uuid);
             if (player.isPresent()) {
                 int ping = getPing(player.get());
@@ -85,21 +89,36 @@ public class SpongePingCounter extends AbsRunnable {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                if (history.add(time, ping)) {
+                    aggregates.computeIfAbsent(uuid, key -> new ArrayList<>()).add(history.aggregate(serverInfo.getServerUUID()));
                 }
             } else {
                 iterator.remove();
             }
         }
+
+        samplingRounds++;
+        if (samplingRounds >= PingBuffer.SAMPLE_COUNT) {
+            storeAggregates();
+        }
+    }
+
+    /**
+     * Store the finished ping aggregates that have not been stored yet.
+     * <p>
+     * Called when the task is cancelled so that up to a minute of ping data is not lost on shutdown.
+     */
+    public synchronized void storeAggregates() {
+        samplingRounds = 0;
+        if (aggregates.isEmpty()) {
+            return;
+        }
+        dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(new HashMap<>(aggregates)));
+        aggregates.clear();
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player.getUniqueId(), new PingBuffer());
     }
 
     public void removePlayer(Player player) {
@@ -22,18 +22,14 @@ import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.gathering.PlayerJoinQueue;
 import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.PlayerJoin;
 import com.djrapitops.plan.gathering.domain.Session;
-import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
-import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.events.GeoInfoStoreTransaction;
-import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
@@ -46,7 +42,6 @@ import com.velocitypowered.api.proxy.Player;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.net.InetAddress;
 import java.util.UUID;
 
 /**
@@ -61,10 +56,9 @@ public class PlayerOnlineListener {
 
     private final PlanConfig config;
     private final Processing processing;
-    private final DBSystem dbSystem;
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
-    private final GeolocationCache geolocationCache;
+    private final PlayerJoinQueue joinQueue;
     private final SessionCache sessionCache;
     private final ServerInfo serverInfo;
     private final ErrorLogger errorLogger;
@@ -73,20 +67,18 @@ public class PlayerOnlineListener {
     public PlayerOnlineListener(
             PlanConfig config,
             Processing processing,
-            DBSystem dbSystem,
             ExtensionSvc extensionService,
             Exporter exporter,
-            GeolocationCache geolocationCache,
+            PlayerJoinQueue joinQueue,
             SessionCache sessionCache,
             ServerInfo serverInfo,
             ErrorLogger errorLogger
     ) {
         this.config = config;
         this.processing = processing;
-        this.dbSystem = dbSystem;
         this.extensionService = extensionService;
         this.exporter = exporter;
-        this.geolocationCache = geolocationCache;
+        this.joinQueue = joinQueue;
         this.sessionCache = sessionCache;
         this.serverInfo = serverInfo;
         this.errorLogger = errorLogger;
@@ -105,7 +97,7 @@ public class PlayerOnlineListener {
         Player player = event.getPlayer();
         UUID playerUUID = player.getUniqueId();
         String playerName = player.getUsername();
-        InetAddress address = player.getRemoteAddress().getAddress();
+        String address = player.getRemoteAddress().getAddress().getHostAddress();
         long time = System.currentTimeMillis();
 
         Session session = new Session(playerUUID, serverInfo.getServerUUID(), time, null, null);
@@ -113,16 +105,7 @@ public class PlayerOnlineListener {
         session.putRawData(SessionKeys.SERVER_NAME, "Proxy Server");
         sessionCache.cacheSession(playerUUID, session);
 
-        Database database = dbSystem.getDatabase();
-
-        boolean gatheringGeolocations = config.isTrue(DataGatheringSettings.GEOLOCATIONS);
-        if (gatheringGeolocations) {
-            database.executeTransaction(
-                    new GeoInfoStoreTransaction(playerUUID, address, time, geolocationCache::getCountry)
-            );
-        }
-
-        database.executeTransaction(new PlayerRegisterTransaction(playerUUID, () -> time, playerName));
+        joinQueue.queue(new PlayerJoin(playerUUID, playerName, () -> time, time).fromAddress(address));
         processing.submitNonCritical(() -> extensionService.updatePlayerValues(playerUUID, playerName, CallEvents.PLAYER_JOIN));
         if (config.isTrue(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
             processing.submitNonCritical(() -> exporter.exportPlayerPage(playerUUID, playerName));
@@ -157,6 +140,7 @@ public class PlayerOnlineListener {
         String playerName = player.getUsername();
         UUID playerUUID = player.getUniqueId();
 
+        joinQueue.storeQueued(); // Join of the player is stored before the session
         sessionCache.endSession(playerUUID, System.currentTimeMillis());
         if (config.isTrue(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
             processing.submitNonCritical(() -> exporter.exportPlayerPage(playerUUID, playerName));